@@ -0,0 +1,59 @@
+#!/usr/bin/env bash
+#
+# Mede a vazão do download de imagens: envia uma imagem para um jogo e a baixa repetidamente pela URL versionada,
+# com vários clientes concorrentes, cada um com a sua conexão. O limite de taxa é desligado durante a medição.
+#
+# Pré-requisito:
+#   mvn -DskipTests package
+#
+# Uso: scripts/image-benchmark.sh [requisições, padrão 400] [clientes, padrão 8] [tamanho da imagem em KiB, padrão 256]
+
+set -euo pipefail
+
+REQUESTS="${1:-400}"
+CLIENTS="${2:-8}"
+SIZE_KIB="${3:-256}"
+PORT=18081
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+TARGET="$ROOT/target"
+JAR="$(ls "$TARGET"/dslist-*.jar | grep -v original | head -1)"
+WORK="$(mktemp -d)"
+BASE="http://localhost:$PORT"
+
+java -jar "$JAR" --server.port=$PORT --dslist.images.dir="$WORK/images" --dslist.rate-limit.enabled=false \
+	> "$TARGET/image-benchmark.log" 2>&1 &
+pid=$!
+trap 'kill "$pid" 2> /dev/null || true; rm -rf "$WORK"' EXIT
+until curl -sf "$BASE/actuator/health" > /dev/null; do
+	if ! kill -0 "$pid" 2> /dev/null; then
+		echo "falha ao iniciar; veja $TARGET/image-benchmark.log" >&2
+		exit 1
+	fi
+	sleep 0.1
+done
+
+head -c $(( SIZE_KIB * 1024 )) /dev/urandom > "$WORK/image.png"
+location=$(curl -sf -X PUT -H "Content-Type: image/png" --data-binary "@$WORK/image.png" -o /dev/null -D - \
+	"$BASE/games/2/image" | awk 'tolower($1) == "location:" { print $2 }' | tr -d '\r')
+
+# Aquecimento, para que o JIT compile o caminho do download antes da medição.
+for _ in $(seq 50); do
+	curl -sf -o /dev/null "$BASE$location"
+done
+
+# Baixa a URL várias vezes em um único curl, que reaproveita a conexão entre as requisições.
+download() {
+	for _ in $(seq "$1"); do
+		printf 'url = "%s"\noutput = /dev/null\n' "$2"
+	done | curl -sf -K -
+}
+export -f download
+
+# Cada cliente baixa a sua parte das requisições em sequência; uma resposta de erro interrompe a medição.
+start=$(date +%s%N)
+seq "$CLIENTS" | xargs -P "$CLIENTS" -I{} bash -c 'download "$0" "$1"' "$(( REQUESTS / CLIENTS ))" "$BASE$location"
+end=$(date +%s%N)
+
+seconds=$(awk "BEGIN { print ($end - $start) / 1e9 }")
+awk "BEGIN { printf \"Imagens: %d clientes, %d requisições de %d KiB em %.2f s (%.0f req/s, %.1f MB/s)\n\", \
+	$CLIENTS, $REQUESTS, $SIZE_KIB, $seconds, $REQUESTS / $seconds, $REQUESTS * $SIZE_KIB * 1024 / $seconds / 1e6 }"
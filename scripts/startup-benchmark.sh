@@ -0,0 +1,70 @@
+#!/usr/bin/env bash
+#
+# Mede o tempo até a aplicação estar pronta e a memória residente (RSS) em cada modo de inicialização.
+# O tempo é medido do lançamento do processo até `/actuator/health` responder, ou seja, depois da
+# criação do contexto, da carga do import.sql e da reconstrução da visão das listas.
+#
+# Pré-requisitos:
+#   mvn -Pfast-startup -DskipTests package            (modos jar, extracted, aot e aot-cds)
+#   mvn -Pnative -DskipTests native:compile           (opcional, modo native; requer GraalVM)
+#
+# Uso: scripts/startup-benchmark.sh [execuções por modo, padrão 3]
+
+set -euo pipefail
+
+RUNS="${1:-3}"
+PORT=18080
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+TARGET="$ROOT/target"
+JAR="$(ls "$TARGET"/dslist-*.jar | grep -v original | head -1)"
+EXTRACTED="$TARGET/fast-startup"
+
+# Inicia o comando, espera o health check, registra tempo e RSS e encerra o processo.
+measure() {
+	local start ready pid rss
+	start=$(date +%s%N)
+	"$@" --server.port=$PORT > "$TARGET/startup-benchmark.log" 2>&1 &
+	pid=$!
+	until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+		if ! kill -0 "$pid" 2> /dev/null; then
+			echo "falha ao iniciar; veja $TARGET/startup-benchmark.log" >&2
+			exit 1
+		fi
+		sleep 0.02
+	done
+	ready=$(date +%s%N)
+	rss=$(awk '/VmRSS/ { print $2 }' "/proc/$pid/status")
+	kill "$pid"
+	wait "$pid" 2> /dev/null || true
+	echo "$(( (ready - start) / 1000000 )) $(( rss / 1024 ))"
+}
+
+# Executa um modo várias vezes e imprime a mediana do tempo e da RSS.
+run_mode() {
+	local name="$1"
+	shift
+	local times=() rsss=()
+	for _ in $(seq "$RUNS"); do
+		read -r time rss < <(measure "$@")
+		times+=("$time")
+		rsss+=("$rss")
+	done
+	printf "%-10s %10s ms %8s MB\n" "$name" \
+		"$(printf '%s\n' "${times[@]}" | sort -n | sed -n "$(( (RUNS + 1) / 2 ))p")" \
+		"$(printf '%s\n' "${rsss[@]}" | sort -n | sed -n "$(( (RUNS + 1) / 2 ))p")"
+}
+
+printf "%-10s %13s %11s\n" "modo" "até pronto" "RSS"
+run_mode jar java -jar "$JAR"
+if [ -f "$EXTRACTED/dslist.jsa" ]; then
+	cd "$EXTRACTED"
+	run_mode extracted java -jar dslist.jar
+	run_mode aot java -Dspring.aot.enabled=true -jar dslist.jar
+	run_mode aot-cds java -XX:SharedArchiveFile=dslist.jsa -Dspring.aot.enabled=true -jar dslist.jar
+	cd "$ROOT"
+else
+	echo "perfil fast-startup não construído: modos extracted, aot e aot-cds ignorados" >&2
+fi
+if [ -x "$TARGET/dslist" ]; then
+	run_mode native "$TARGET/dslist"
+fi
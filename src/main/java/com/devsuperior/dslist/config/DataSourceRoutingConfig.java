@@ -0,0 +1,126 @@
+/**
+ * Configuração do roteamento de leituras para uma réplica.
+ * Ativada somente quando `dslist.datasource.replica.url` é informado; sem essa propriedade a
+ * aplicação usa o DataSource único configurado pelo Spring Boot.
+ * Cria um pool para o primário (a partir de `spring.datasource.*`) e outro para a réplica, cada um
+ * com suas métricas `hikaricp.*` identificadas pelo nome do pool, e expõe como DataSource principal
+ * o {@link ReadWriteRoutingDataSource} envolvido por um {@link LazyConnectionDataSourceProxy}.
+ * Com `dslist.datasource.replica.stand-in=true`, a réplica é mantida pelo {@link StandInReplicaSynchronizer},
+ * o que permite usar duas instâncias H2 localmente.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration // Indica que esta classe declara beans do Spring.
+@ConditionalOnProperty(name = "dslist.datasource.replica.url") // Ativa o roteamento somente se houver uma réplica configurada.
+public class DataSourceRoutingConfig {
+
+	@Value("${dslist.datasource.replica.url}") // URL JDBC da réplica de leitura.
+	private String replicaUrl;
+
+	@Value("${dslist.datasource.replica.username:sa}") // Usuário da réplica.
+	private String replicaUsername;
+
+	@Value("${dslist.datasource.replica.password:}") // Senha da réplica.
+	private String replicaPassword;
+
+	@Value("${dslist.datasource.replica.max-lag:1000}") // Atraso máximo, em milissegundos, para que a réplica atenda leituras.
+	private long maxLag;
+
+	@Value("${dslist.datasource.replica.heartbeat-interval:250}") // Intervalo, em milissegundos, entre as medições de atraso.
+	private long heartbeatInterval;
+
+	@Value("${dslist.datasource.replica.stand-in-interval:200}") // Intervalo, em milissegundos, entre as cópias da réplica substituta.
+	private long standInInterval;
+
+	/**
+	 * Pool de conexões do banco primário, configurado por `spring.datasource.*`.
+	 */
+	@Bean
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	/**
+	 * Pool de conexões da réplica de leitura.
+	 */
+	@Bean
+	public HikariDataSource replicaDataSource() {
+		HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class)
+				.url(replicaUrl).username(replicaUsername).password(replicaPassword).build();
+		dataSource.setPoolName("replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	/**
+	 * Monitor do atraso da réplica, usado pelo roteador.
+	 */
+	@Bean(destroyMethod = "stop")
+	public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+			@Qualifier("replicaDataSource") DataSource replica, MeterRegistry meterRegistry) {
+		return new ReplicaLagMonitor(primary, replica, maxLag, heartbeatInterval, meterRegistry);
+	}
+
+	/**
+	 * DataSource principal da aplicação: escolhe o pool no momento do primeiro comando de cada transação.
+	 * Não é instrumentado para o rastreamento (`jdbc.excluded-data-source-bean-names`), pois ler os
+	 * metadados da conexão obteria a conexão antes de se saber se a transação é somente leitura;
+	 * os spans de conexão e de SQL são criados pelos pools.
+	 */
+	@Bean
+	@Primary
+	public DataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primary, @Qualifier("replicaDataSource") DataSource replica,
+			ReplicaLagMonitor monitor, MeterRegistry meterRegistry) {
+		ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, monitor, meterRegistry);
+		routing.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routing);
+	}
+
+	/**
+	 * Réplica substituta mantida pela própria aplicação, para uso local com duas instâncias H2.
+	 */
+	@Bean(destroyMethod = "stop")
+	@ConditionalOnProperty(name = "dslist.datasource.replica.stand-in", havingValue = "true")
+	public StandInReplicaSynchronizer standInReplicaSynchronizer(@Qualifier("primaryDataSource") DataSource primary) {
+		SimpleDriverDataSource replicaWriter = DataSourceBuilder.create().type(SimpleDriverDataSource.class)
+				.url(replicaUrl).username(replicaUsername).password(replicaPassword).build();
+		return new StandInReplicaSynchronizer(primary, replicaWriter, standInInterval);
+	}
+
+	/**
+	 * Inicia a medição de atraso e a réplica substituta depois que o esquema e os dados iniciais foram criados.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	void start(ApplicationReadyEvent event) {
+		ReplicaLagMonitor monitor = event.getApplicationContext().getBean(ReplicaLagMonitor.class);
+		ObjectProvider<StandInReplicaSynchronizer> synchronizer = event.getApplicationContext().getBeanProvider(StandInReplicaSynchronizer.class);
+		monitor.start();
+		synchronizer.ifAvailable(StandInReplicaSynchronizer::start);
+		monitor.check();
+	}
+}
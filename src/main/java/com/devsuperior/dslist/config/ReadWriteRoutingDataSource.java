@@ -0,0 +1,145 @@
+/**
+ * DataSource que encaminha cada conexão para o banco primário ou para a réplica de leitura.
+ * Transações marcadas como somente leitura (`@Transactional(readOnly = true)`) usam a réplica,
+ * desde que o {@link ReplicaLagMonitor} indique que ela está disponível, dentro do atraso máximo
+ * e já contém as escritas confirmadas por esta instância e as recebidas das demais. Caso contrário, e em
+ * qualquer transação de escrita, a conexão vem do primário.
+ * Leituras que não podem ver dados antigos nem contar como escrita (a consulta das invalidações, as versões
+ * e a ordem de partida das movimentações acumuladas) são executadas em {@link #readFromPrimary}.
+ * Deve ser envolvido por um {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * pois o indicador de somente leitura só é definido depois que a transação obtém a conexão lógica.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+	static final String PRIMARY = "primary"; // Chave do banco primário.
+	static final String REPLICA = "replica"; // Chave da réplica de leitura.
+
+	private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>(); // Marca as leituras fixadas no primário.
+
+	private final DataSource primary;
+	private final DataSource replica;
+	private final ReplicaLagMonitor monitor;
+
+	private final Counter writes; // Conexões de transações de escrita (ou sem transação), sempre no primário.
+	private final Counter replicaReads; // Conexões somente leitura atendidas pela réplica.
+	private final Counter fallbackReads; // Conexões somente leitura desviadas ou fixadas no primário.
+
+	private volatile long lastWriteCommit; // Instante da última escrita confirmada por esta instância.
+
+	/**
+	 * Cria o roteador com os dois pools e registra os contadores de roteamento.
+	 *
+	 * @param primary O pool do banco primário.
+	 * @param replica O pool da réplica de leitura.
+	 * @param monitor O monitor de atraso da réplica.
+	 * @param meterRegistry O registro onde os contadores são publicados.
+	 */
+	public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor monitor, MeterRegistry meterRegistry) {
+		this.primary = primary;
+		this.replica = replica;
+		this.monitor = monitor;
+		setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+		writes = routed(meterRegistry, PRIMARY, false);
+		replicaReads = routed(meterRegistry, REPLICA, true);
+		fallbackReads = routed(meterRegistry, PRIMARY, true);
+	}
+
+	/**
+	 * Executa uma leitura no primário, mesmo em transações somente leitura, sem tratá-la como uma escrita desta
+	 * instância. A transação da leitura deve ser aberta dentro da chamada; uma transação já iniciada mantém a sua
+	 * conexão. Sem o roteamento para réplicas, apenas executa a leitura.
+	 *
+	 * @param <T> O tipo do resultado.
+	 * @param read A leitura.
+	 * @return O resultado da leitura.
+	 */
+	public static <T> T readFromPrimary(Supplier<T> read) {
+		if (PRIMARY_READS.get() != null) {
+			return read.get();
+		}
+		PRIMARY_READS.set(Boolean.TRUE);
+		try {
+			return read.get();
+		}
+		finally {
+			PRIMARY_READS.remove();
+		}
+	}
+
+	/**
+	 * Escolhe o pool da conexão a partir do indicador de somente leitura da transação corrente.
+	 */
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if (PRIMARY_READS.get() == null && monitor.isReplicaUsable(lastWriteCommit)) {
+				replicaReads.increment();
+				return REPLICA;
+			}
+			fallbackReads.increment();
+			return PRIMARY;
+		}
+		writes.increment();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					lastWriteCommit = System.currentTimeMillis();
+				}
+			});
+		}
+		else {
+			// Sem transação, o comando é confirmado ao ser executado.
+			lastWriteCommit = System.currentTimeMillis();
+		}
+		return PRIMARY;
+	}
+
+	/**
+	 * Obtém a conexão do pool escolhido. Se a réplica não puder fornecer a conexão,
+	 * ela é marcada como indisponível e a leitura é atendida pelo primário.
+	 */
+	@Override
+	public Connection getConnection() throws SQLException {
+		DataSource target = determineTargetDataSource();
+		try {
+			return target.getConnection();
+		}
+		catch (SQLException e) {
+			if (target != replica) {
+				throw e;
+			}
+			monitor.markUnavailable();
+			fallbackReads.increment();
+			return primary.getConnection();
+		}
+	}
+
+	private static Counter routed(MeterRegistry meterRegistry, String pool, boolean readOnly) {
+		return Counter.builder("dslist.datasource.routed")
+				.description("Conexões entregues por pool e tipo de transação")
+				.tag("pool", pool)
+				.tag("readOnly", String.valueOf(readOnly))
+				.register(meterRegistry);
+	}
+}
@@ -0,0 +1,97 @@
+/**
+ * Exportador de spans que mantém os mais recentes em memória, em um buffer circular.
+ * Permite inspecionar os rastreamentos localmente (pelos endpoints `/admin/traces`) e nos testes,
+ * sem depender de um coletor externo. É registrado pelo {@link TracingConfig} e recebe os spans
+ * amostrados do processador em lote configurado pelo Spring Boot, junto com qualquer outro exportador.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import com.devsuperior.dslist.dto.TraceSpanDTO;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+public class RecentSpanExporter implements SpanExporter {
+
+	private final SpanData[] buffer; // Buffer circular com os spans mais recentes, em ordem de exportação.
+	private long appended; // Total de spans já adicionados ao buffer.
+
+	/**
+	 * Cria o exportador com a capacidade informada.
+	 *
+	 * @param capacity A quantidade de spans mantidos em memória.
+	 */
+	public RecentSpanExporter(int capacity) {
+		buffer = new SpanData[capacity];
+	}
+
+	/**
+	 * Adiciona os spans ao buffer, descartando os mais antigos quando ele está cheio.
+	 */
+	@Override
+	public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+		for (SpanData span : spans) {
+			buffer[(int) (appended % buffer.length)] = span;
+			appended++;
+		}
+		return CompletableResultCode.ofSuccess();
+	}
+
+	@Override
+	public CompletableResultCode flush() {
+		return CompletableResultCode.ofSuccess();
+	}
+
+	@Override
+	public CompletableResultCode shutdown() {
+		return CompletableResultCode.ofSuccess();
+	}
+
+	/**
+	 * Busca os spans raiz mais recentes, um por rastreamento, do mais novo para o mais antigo.
+	 *
+	 * @param limit A quantidade máxima de spans retornados.
+	 * @return Os spans raiz.
+	 */
+	public List<TraceSpanDTO> findRoots(int limit) {
+		return spans().stream()
+				.filter(span -> !span.getParentSpanContext().isValid())
+				.sorted(Comparator.comparingLong(SpanData::getStartEpochNanos).reversed())
+				.limit(limit)
+				.map(TraceSpanDTO::new)
+				.toList();
+	}
+
+	/**
+	 * Busca os spans ainda em memória de um rastreamento, em ordem de início.
+	 *
+	 * @param traceId O ID do rastreamento.
+	 * @return Os spans do rastreamento, ou uma lista vazia se ele não estiver mais no buffer.
+	 */
+	public List<TraceSpanDTO> findByTraceId(String traceId) {
+		return spans().stream()
+				.filter(span -> span.getTraceId().equals(traceId))
+				.sorted(Comparator.comparingLong(SpanData::getStartEpochNanos))
+				.map(TraceSpanDTO::new)
+				.toList();
+	}
+
+	private synchronized List<SpanData> spans() {
+		List<SpanData> result = new ArrayList<>(buffer.length);
+		for (SpanData span : buffer) {
+			if (span != null) {
+				result.add(span);
+			}
+		}
+		return result;
+	}
+}
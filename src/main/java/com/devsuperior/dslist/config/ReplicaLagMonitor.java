@@ -0,0 +1,163 @@
+/**
+ * Monitor do atraso de replicação da réplica de leitura.
+ * Em intervalos fixos grava no primário um batimento (`tb_replica_heartbeat`) com o instante corrente
+ * e lê da réplica o último batimento replicado. O atraso é a diferença entre o instante atual e esse
+ * batimento. A réplica só é usada se estiver acessível, com atraso dentro do limite configurado e se já
+ * tiver recebido um batimento gravado depois da última escrita confirmada pela instância, o que garante
+ * que uma leitura nunca volte a ver dados anteriores a uma escrita feita pela própria aplicação.
+ * As escritas das demais instâncias chegam pelas invalidações do barramento: cada invalidação recebida
+ * marca o instante em que a escrita já estava confirmada no primário, e a réplica só volta a ser usada
+ * depois de receber um batimento posterior a ele. O monitor é avisado antes dos demais ouvintes, para que
+ * nenhum cache descartado pela invalidação seja recarregado da réplica antiga.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.config;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.Ordered;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.devsuperior.dslist.services.invalidation.Invalidation;
+import com.devsuperior.dslist.services.invalidation.InvalidationListener;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class ReplicaLagMonitor implements InvalidationListener, Ordered {
+
+	private final JdbcTemplate primary; // Acesso direto ao primário, fora do roteamento.
+	private final JdbcTemplate replica; // Acesso direto à réplica, fora do roteamento.
+	private final long maxLag; // Atraso máximo tolerado, em milissegundos.
+	private final long interval; // Intervalo entre batimentos, em milissegundos.
+
+	private volatile boolean available; // Indica se a última leitura da réplica teve sucesso.
+	private volatile long replicatedBeat = -1; // Último batimento visto na réplica (instante no relógio da aplicação).
+	private volatile long remoteCommit; // Instante em que a última invalidação de outra instância foi recebida.
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread thread = new Thread(r, "replica-lag-monitor");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Cria o monitor e registra as métricas de atraso e disponibilidade da réplica.
+	 *
+	 * @param primary O pool do banco primário.
+	 * @param replica O pool da réplica de leitura.
+	 * @param maxLag O atraso máximo tolerado, em milissegundos.
+	 * @param interval O intervalo entre batimentos, em milissegundos.
+	 * @param meterRegistry O registro onde as métricas são publicadas.
+	 */
+	public ReplicaLagMonitor(DataSource primary, DataSource replica, long maxLag, long interval, MeterRegistry meterRegistry) {
+		this.primary = new JdbcTemplate(primary);
+		this.replica = new JdbcTemplate(replica);
+		this.maxLag = maxLag;
+		this.interval = interval;
+		Gauge.builder("dslist.datasource.replica.lag", this, ReplicaLagMonitor::lag)
+				.description("Atraso da réplica de leitura, em milissegundos (-1 se desconhecido)")
+				.register(meterRegistry);
+		Gauge.builder("dslist.datasource.replica.available", this, m -> m.available ? 1 : 0)
+				.description("Indica se a réplica de leitura está acessível")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Cria a tabela de batimentos no primário, grava o primeiro batimento e agenda as verificações.
+	 */
+	public void start() {
+		primary.execute("CREATE TABLE IF NOT EXISTS tb_replica_heartbeat (id INT PRIMARY KEY, beat BIGINT NOT NULL)");
+		beat();
+		scheduler.scheduleWithFixedDelay(this::check, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Interrompe as verificações.
+	 */
+	public void stop() {
+		scheduler.shutdownNow();
+	}
+
+	/**
+	 * Grava um novo batimento no primário e lê o último batimento replicado.
+	 */
+	void check() {
+		try {
+			beat();
+		}
+		catch (DataAccessException e) {
+			// Sem primário não há o que comparar; a réplica mantém o último estado conhecido.
+		}
+		try {
+			Long beat = replica.queryForObject("SELECT beat FROM tb_replica_heartbeat WHERE id = 1", Long.class);
+			replicatedBeat = beat;
+			available = true;
+		}
+		catch (DataAccessException e) {
+			available = false;
+		}
+	}
+
+	/**
+	 * Indica se a réplica pode atender uma leitura.
+	 *
+	 * @param lastWriteCommit O instante da última escrita confirmada pela instância.
+	 * @return true se a réplica está acessível, dentro do atraso máximo e já contém a última escrita desta e das
+	 *         demais instâncias.
+	 */
+	public boolean isReplicaUsable(long lastWriteCommit) {
+		long beat = replicatedBeat;
+		return available && beat >= lastWriteCommit && beat >= remoteCommit && System.currentTimeMillis() - beat <= maxLag;
+	}
+
+	/**
+	 * Registra o recebimento de uma invalidação de outra instância: a escrita invalidada já está confirmada no
+	 * primário, mas a réplica pode ainda não contê-la.
+	 *
+	 * @param invalidation A invalidação confirmada.
+	 */
+	@Override
+	public void onInvalidation(Invalidation invalidation) {
+		if (invalidation.remote()) {
+			remoteCommit = System.currentTimeMillis();
+		}
+	}
+
+	/**
+	 * Avisa o monitor antes dos ouvintes que descartam caches.
+	 *
+	 * @return A maior precedência.
+	 */
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+
+	/**
+	 * Marca a réplica como indisponível até a próxima verificação bem-sucedida.
+	 */
+	public void markUnavailable() {
+		available = false;
+	}
+
+	/**
+	 * Retorna o atraso atual da réplica.
+	 * @return O atraso em milissegundos, ou -1 se nenhum batimento foi replicado.
+	 */
+	public long lag() {
+		long beat = replicatedBeat;
+		return beat < 0 ? -1 : System.currentTimeMillis() - beat;
+	}
+
+	private void beat() {
+		primary.update("MERGE INTO tb_replica_heartbeat KEY (id) VALUES (1, ?)", System.currentTimeMillis());
+	}
+}
@@ -0,0 +1,149 @@
+/**
+ * Replicação simplificada entre duas instâncias H2, usada como réplica substituta em desenvolvimento e testes.
+ * Na primeira execução copia o esquema do primário (`SCRIPT NODATA`, sem chaves estrangeiras);
+ * depois, em intervalos fixos, copia o conteúdo de todas as tabelas em uma única transação na réplica,
+ * de modo que os leitores da réplica sempre veem um estado completo. A tabela de batimentos é lida
+ * primeiro, para que o atraso medido nunca seja menor que o real.
+ * Não se destina a produção, onde a réplica é mantida pela replicação do próprio banco de dados.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.config;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class StandInReplicaSynchronizer {
+
+	private static final String HEARTBEAT_TABLE = "TB_REPLICA_HEARTBEAT";
+
+	private final JdbcTemplate primary; // Acesso direto ao primário.
+	private final DataSource replica; // Conexões de escrita na réplica, fora do pool de leitura.
+	private final long interval; // Intervalo entre cópias, em milissegundos.
+
+	private boolean schemaCopied; // Indica se o esquema já foi criado na réplica.
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread thread = new Thread(r, "stand-in-replica");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Cria o sincronizador entre o primário e a réplica.
+	 *
+	 * @param primary O pool do banco primário.
+	 * @param replica Um DataSource com permissão de escrita na réplica.
+	 * @param interval O intervalo entre cópias, em milissegundos.
+	 */
+	public StandInReplicaSynchronizer(DataSource primary, DataSource replica, long interval) {
+		this.primary = new JdbcTemplate(primary);
+		this.replica = replica;
+		this.interval = interval;
+	}
+
+	/**
+	 * Faz a primeira cópia e agenda as seguintes.
+	 */
+	public void start() {
+		synchronize();
+		scheduler.scheduleWithFixedDelay(this::synchronize, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Interrompe as cópias.
+	 */
+	public void stop() {
+		scheduler.shutdownNow();
+	}
+
+	/**
+	 * Copia o estado atual do primário para a réplica.
+	 */
+	synchronized void synchronize() {
+		if (!schemaCopied) {
+			copySchema();
+			schemaCopied = true;
+		}
+		// Lê todas as tabelas do primário, começando pelos batimentos.
+		List<String> tables = new ArrayList<>(primary.queryForList(
+				"SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'", String.class));
+		tables.sort(Comparator.comparing((String table) -> !table.equals(HEARTBEAT_TABLE)));
+		Map<String, List<Map<String, Object>>> snapshot = new LinkedHashMap<>();
+		for (String table : tables) {
+			snapshot.put(table, primary.queryForList("SELECT * FROM \"" + table + "\""));
+		}
+		try (Connection con = replica.getConnection()) {
+			con.setAutoCommit(false);
+			try {
+				for (Map.Entry<String, List<Map<String, Object>>> entry : snapshot.entrySet()) {
+					replace(con, entry.getKey(), entry.getValue());
+				}
+				con.commit();
+			}
+			catch (SQLException e) {
+				con.rollback();
+				throw e;
+			}
+		}
+		catch (SQLException e) {
+			throw new IllegalStateException("Falha ao sincronizar a réplica", e);
+		}
+	}
+
+	/**
+	 * Cria na réplica as tabelas, sequências e índices do primário, sem chaves estrangeiras.
+	 */
+	private void copySchema() {
+		List<String> script = primary.queryForList("SCRIPT NODATA", String.class);
+		try (Connection con = replica.getConnection(); Statement st = con.createStatement()) {
+			for (String sql : script) {
+				if (!sql.startsWith("--") && !sql.startsWith("CREATE USER") && !sql.contains("FOREIGN KEY")) {
+					st.execute(sql);
+				}
+			}
+		}
+		catch (SQLException e) {
+			throw new IllegalStateException("Falha ao criar o esquema da réplica", e);
+		}
+	}
+
+	/**
+	 * Substitui o conteúdo de uma tabela da réplica pelas linhas lidas do primário.
+	 */
+	private static void replace(Connection con, String table, List<Map<String, Object>> rows) throws SQLException {
+		try (Statement st = con.createStatement()) {
+			st.executeUpdate("DELETE FROM \"" + table + "\"");
+		}
+		if (rows.isEmpty()) {
+			return;
+		}
+		List<String> columns = new ArrayList<>(rows.get(0).keySet());
+		String sql = "INSERT INTO \"" + table + "\" (\"" + String.join("\", \"", columns) + "\") VALUES ("
+				+ String.join(", ", columns.stream().map(c -> "?").toList()) + ")";
+		try (PreparedStatement ps = con.prepareStatement(sql)) {
+			for (Map<String, Object> row : rows) {
+				for (int i = 0; i < columns.size(); i++) {
+					ps.setObject(i + 1, row.get(columns.get(i)));
+				}
+				ps.addBatch();
+			}
+			ps.executeBatch();
+		}
+	}
+}
@@ -0,0 +1,243 @@
+/**
+ * Configuração do rastreamento distribuído das requisições.
+ * O Spring Boot cria, com a ponte Micrometer Tracing para o OpenTelemetry, o span da requisição HTTP;
+ * esta configuração acrescenta os spans de cada método de controlador e, envolvendo o gerenciador de
+ * transações, os de cada transação (`@Transactional` ou TransactionTemplate). A biblioteca datasource-micrometer
+ * cria os spans da obtenção de conexões e de cada comando SQL, e o {@link WireFormatConfig}, os da serialização
+ * da resposta.
+ * A amostragem é controlada por `management.tracing.sampling.probability`. Os spans de conexão, SQL e
+ * transação criados fora de uma requisição (como a consulta periódica do barramento de invalidação) são
+ * descartados, para que não ocupem a amostragem com rastreamentos de um único span.
+ * Os spans amostrados são mantidos em memória pelo {@link RecentSpanExporter}; um exportador OTLP
+ * pode ser acrescentado ao classpath para enviá-los também a um coletor.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.config;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.ResourceTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationPredicate;
+import io.micrometer.observation.ObservationRegistry;
+
+@Configuration // Indica que esta classe declara beans do Spring.
+public class TracingConfig {
+
+	/**
+	 * Exportador que mantém os spans mais recentes em memória.
+	 *
+	 * @param capacity A quantidade de spans mantidos.
+	 * @return O exportador, usado pelo processador de spans do Spring Boot.
+	 */
+	@Bean
+	public RecentSpanExporter recentSpanExporter(@Value("${dslist.tracing.buffer-size:4096}") int capacity) {
+		return new RecentSpanExporter(capacity);
+	}
+
+	/**
+	 * Cria um span para cada método dos controladores REST.
+	 *
+	 * @param registry O registro de observações.
+	 * @return O aspecto aplicado aos controladores.
+	 */
+	@Bean
+	public ControllerObservationAspect controllerObservationAspect(ObservationRegistry registry) {
+		return new ControllerObservationAspect(registry);
+	}
+
+	/**
+	 * Envolve o gerenciador de transações para criar um span para cada transação iniciada.
+	 *
+	 * @param registry O registro de observações, obtido somente ao envolver o gerenciador.
+	 * @return O pós-processador que envolve o gerenciador de transações.
+	 */
+	@Bean
+	public static BeanPostProcessor observedTransactionManagerPostProcessor(ObjectProvider<ObservationRegistry> registry) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				return bean instanceof ResourceTransactionManager manager ? new ObservedTransactionManager(manager, registry.getObject()) : bean;
+			}
+		};
+	}
+
+	/**
+	 * Descarta os spans de conexão, SQL e transação que não fazem parte de outra operação observada.
+	 *
+	 * @param registry O registro de observações, consultado a cada nova observação.
+	 * @return O predicado aplicado ao registro de observações.
+	 */
+	@Bean
+	public ObservationPredicate nestedDatabaseObservations(ObjectProvider<ObservationRegistry> registry) {
+		return (name, context) -> {
+			if (!name.startsWith("jdbc.") && !name.equals(ObservedTransactionManager.NAME)) {
+				return true;
+			}
+			// Dentro de uma transação descartada, a observação corrente é a descartada, e não conta como operação observada.
+			Observation current = registry.getObject().getCurrentObservation();
+			return current != null && !current.isNoop();
+		};
+	}
+
+	/**
+	 * Aspecto que observa os métodos das classes anotadas com `@RestController`.
+	 * O span termina quando o método retorna, antes da serialização da resposta.
+	 */
+	@Aspect
+	public static class ControllerObservationAspect {
+
+		static final String NAME = "dslist.controller"; // Nome da observação dos métodos de controlador.
+
+		private final ObservationRegistry registry; // Registro onde as observações são criadas.
+
+		ControllerObservationAspect(ObservationRegistry registry) {
+			this.registry = registry;
+		}
+
+		@Around("@within(org.springframework.web.bind.annotation.RestController)")
+		public Object observe(ProceedingJoinPoint joinPoint) throws Throwable {
+			MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+			String controller = signature.getDeclaringType().getSimpleName();
+			Observation observation = Observation.createNotStarted(NAME, registry)
+					.contextualName(controller + "." + signature.getName())
+					.lowCardinalityKeyValue("controller", controller)
+					.lowCardinalityKeyValue("method", signature.getName())
+					.start();
+			try (Observation.Scope scope = observation.openScope()) {
+				return joinPoint.proceed();
+			}
+			catch (Throwable e) {
+				observation.error(e);
+				throw e;
+			}
+			finally {
+				observation.stop();
+			}
+		}
+	}
+
+	/**
+	 * Gerenciador de transações que observa cada transação iniciada, do pedido da transação até o fim da
+	 * confirmação ou do desfazimento, delegando todo o resto ao gerenciador original.
+	 * O span envolve a obtenção e a devolução da conexão, de modo que os escopos abertos pela instrumentação
+	 * JDBC durante a vida da conexão são fechados antes do escopo da transação. Chamadas que apenas participam
+	 * de uma transação existente não criam spans; as transações da mesma thread são aninhadas
+	 * (ex.: `REQUIRES_NEW`), então os escopos formam uma pilha.
+	 */
+	static class ObservedTransactionManager implements ResourceTransactionManager {
+
+		static final String NAME = "dslist.transaction"; // Nome da observação das transações.
+
+		/**
+		 * Escopo aberto para uma transação.
+		 */
+		private record Open(TransactionStatus status, Observation.Scope scope) {
+		}
+
+		private final ResourceTransactionManager delegate; // Gerenciador de transações original.
+		private final ObservationRegistry registry; // Registro onde as observações são criadas.
+		private final ThreadLocal<Deque<Open>> open = ThreadLocal.withInitial(ArrayDeque::new); // Transações abertas na thread.
+
+		ObservedTransactionManager(ResourceTransactionManager delegate, ObservationRegistry registry) {
+			this.delegate = delegate;
+			this.registry = registry;
+		}
+
+		@Override
+		public TransactionStatus getTransaction(TransactionDefinition definition) {
+			TransactionDefinition effective = definition != null ? definition : TransactionDefinition.withDefaults();
+			if (TransactionSynchronizationManager.isActualTransactionActive()
+					&& effective.getPropagationBehavior() != TransactionDefinition.PROPAGATION_REQUIRES_NEW) {
+				return delegate.getTransaction(definition); // Participa da transação corrente.
+			}
+			// Transações sem nome são as criadas por um TransactionTemplate.
+			String name = effective.getName() == null ? "template" : shortName(effective.getName());
+			Observation observation = Observation.createNotStarted(NAME, registry)
+					.contextualName("tx " + name)
+					.lowCardinalityKeyValue("name", name)
+					.lowCardinalityKeyValue("read-only", String.valueOf(effective.isReadOnly()))
+					.start();
+			Observation.Scope scope = observation.openScope();
+			try {
+				TransactionStatus status = delegate.getTransaction(definition);
+				open.get().push(new Open(status, scope));
+				return status;
+			}
+			catch (RuntimeException e) {
+				end(scope, "begin-failed", e);
+				throw e;
+			}
+		}
+
+		@Override
+		public void commit(TransactionStatus status) {
+			complete(status, "commit", () -> delegate.commit(status));
+		}
+
+		@Override
+		public void rollback(TransactionStatus status) {
+			complete(status, "rollback", () -> delegate.rollback(status));
+		}
+
+		@Override
+		public Object getResourceFactory() {
+			return delegate.getResourceFactory();
+		}
+
+		/**
+		 * Conclui a transação e, se ela foi aberta por este gerenciador, encerra o seu span.
+		 */
+		private void complete(TransactionStatus status, String outcome, Runnable completion) {
+			Deque<Open> stack = open.get();
+			if (stack.isEmpty() || stack.peek().status() != status) {
+				completion.run(); // Participação em uma transação existente.
+				return;
+			}
+			Observation.Scope scope = stack.pop().scope();
+			try {
+				completion.run();
+			}
+			catch (RuntimeException e) {
+				end(scope, outcome, e);
+				throw e;
+			}
+			end(scope, outcome, null);
+		}
+
+		private static void end(Observation.Scope scope, String outcome, Throwable failure) {
+			Observation observation = scope.getCurrentObservation();
+			scope.close();
+			observation.lowCardinalityKeyValue("outcome", outcome);
+			if (failure != null) {
+				observation.error(failure);
+			}
+			observation.stop();
+		}
+
+		/**
+		 * Reduz "com.devsuperior.dslist.services.GameService.findAll" a "GameService.findAll".
+		 */
+		private static String shortName(String name) {
+			int method = name.lastIndexOf('.');
+			int type = method > 0 ? name.lastIndexOf('.', method - 1) : -1;
+			return name.substring(type + 1);
+		}
+	}
+}
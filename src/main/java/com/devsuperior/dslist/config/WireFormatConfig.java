@@ -0,0 +1,226 @@
+/**
+ * Configuração dos formatos binários das respostas.
+ * Além de JSON, os endpoints de leitura passam a responder em CBOR (`application/cbor`) e em Smile
+ * (`application/x-jackson-smile`), escolhidos pelo cabeçalho `Accept`. Os conversores usam o mesmo
+ * ObjectMapper configurado pelo Spring Boot, apenas com outra fábrica de geradores, de modo que os
+ * DTOs e os mapas do parâmetro `fields` são serializados com os mesmos nomes de campos e as mesmas regras do JSON.
+ * Como a representação passa a depender do `Accept`, as leituras de jogos e de listas informam `Vary: Accept`
+ * para que caches intermediários não entreguem um formato a quem pediu outro, e as ETags das respostas
+ * condicionais levam o formato negociado, para que a versão de um formato não revalide a cópia de outro.
+ * Os três conversores criam um span de rastreamento para a serialização de cada resposta.
+ * As respostas {@link GameMinStream} são escritas por um conversor próprio, que entrega ao serviço um gerador
+ * do formato negociado para que os jogos, já lidos em colunas compactas, sejam escritos sem DTOs intermediários.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.config;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.devsuperior.dslist.dto.GameMinStream;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Configuration // Indica que esta classe declara beans do Spring.
+public class WireFormatConfig implements WebMvcConfigurer {
+
+	private static final MediaType SMILE = new MediaType("application", "x-jackson-smile"); // Tipo de mídia do formato Smile.
+	private static final List<MediaType> FORMATS = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, SMILE); // Formatos produzidos, na ordem dos conversores.
+
+	/**
+	 * Conversor JSON, que substitui o conversor padrão do Spring MVC para observar a serialização.
+	 *
+	 * @param objectMapper O ObjectMapper configurado pelo Spring Boot.
+	 * @param registry O registro de observações.
+	 * @return O conversor JSON.
+	 */
+	@Bean
+	public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper, ObservationRegistry registry) {
+		return new MappingJackson2HttpMessageConverter(objectMapper) {
+			@Override
+			protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+				serialization(registry, "json").observeChecked(() -> super.writeInternal(object, type, outputMessage));
+			}
+		};
+	}
+
+	/**
+	 * Conversor CBOR, que substitui o conversor padrão do Spring MVC para usar o ObjectMapper da aplicação.
+	 *
+	 * @param builder O construtor de ObjectMapper configurado pelo Spring Boot.
+	 * @param registry O registro de observações.
+	 * @return O conversor CBOR.
+	 */
+	@Bean
+	public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder, ObservationRegistry registry) {
+		return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build()) {
+			@Override
+			protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+				serialization(registry, "cbor").observeChecked(() -> super.writeInternal(object, type, outputMessage));
+			}
+		};
+	}
+
+	/**
+	 * Conversor Smile, que substitui o conversor padrão do Spring MVC para usar o ObjectMapper da aplicação.
+	 *
+	 * @param builder O construtor de ObjectMapper configurado pelo Spring Boot.
+	 * @param registry O registro de observações.
+	 * @return O conversor Smile.
+	 */
+	@Bean
+	public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder, ObservationRegistry registry) {
+		return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build()) {
+			@Override
+			protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+				serialization(registry, "smile").observeChecked(() -> super.writeInternal(object, type, outputMessage));
+			}
+		};
+	}
+
+	/**
+	 * Conversor das respostas {@link GameMinStream}, que não são serializadas por reflexão:
+	 * o gerador do formato negociado é entregue aos jogos já lidos pelo serviço, que escrevem seus campos como tokens.
+	 * Os geradores vêm dos mesmos ObjectMappers dos demais conversores. Em caso de falha, o gerador não é
+	 * fechado, de modo que o conteúdo ainda em buffer é descartado em vez de enviado como uma resposta parcial.
+	 *
+	 * @param objectMapper O ObjectMapper configurado pelo Spring Boot.
+	 * @param builder O construtor de ObjectMapper configurado pelo Spring Boot.
+	 * @param registry O registro de observações.
+	 * @return O conversor das respostas escritas sem DTOs intermediários.
+	 */
+	@Bean
+	public HttpMessageConverter<GameMinStream> gameMinStreamHttpMessageConverter(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder builder, ObservationRegistry registry) {
+		JsonFactory json = objectMapper.getFactory();
+		JsonFactory cbor = builder.factory(new CBORFactory()).build().getFactory();
+		JsonFactory smile = builder.factory(new SmileFactory()).build().getFactory();
+		return new AbstractHttpMessageConverter<GameMinStream>(FORMATS.toArray(MediaType[]::new)) {
+			@Override
+			protected boolean supports(Class<?> clazz) {
+				return GameMinStream.class.isAssignableFrom(clazz);
+			}
+
+			@Override
+			public boolean canRead(Class<?> clazz, MediaType mediaType) {
+				return false; // Usado apenas nas respostas.
+			}
+
+			@Override
+			protected GameMinStream readInternal(Class<? extends GameMinStream> clazz, HttpInputMessage inputMessage) {
+				throw new HttpMessageNotReadableException("Leitura não suportada.", inputMessage);
+			}
+
+			@Override
+			protected void writeInternal(GameMinStream stream, HttpOutputMessage outputMessage) throws IOException {
+				MediaType type = outputMessage.getHeaders().getContentType();
+				boolean isCbor = MediaType.APPLICATION_CBOR.isCompatibleWith(type);
+				boolean isSmile = SMILE.isCompatibleWith(type);
+				JsonFactory factory = isCbor ? cbor : isSmile ? smile : json;
+				serialization(registry, isCbor ? "cbor" : isSmile ? "smile" : "json").observeChecked(() -> {
+					JsonGenerator generator = factory.createGenerator(StreamUtils.nonClosing(outputMessage.getBody()));
+					stream.writeTo(generator);
+					generator.close();
+				});
+			}
+		};
+	}
+
+	/**
+	 * Observação da escrita de uma resposta, do início da serialização até a escrita do último byte no corpo.
+	 */
+	private static Observation serialization(ObservationRegistry registry, String format) {
+		return Observation.createNotStarted("dslist.serialization", registry)
+				.contextualName("serialize " + format)
+				.lowCardinalityKeyValue("format", format);
+	}
+
+	/**
+	 * Acrescenta à ETag de uma versão o formato que será negociado para a requisição, de modo que JSON, CBOR e Smile
+	 * da mesma versão tenham ETags diferentes.
+	 * O formato é escolhido como na negociação do Spring MVC: cada formato produzido que um tipo aceito inclui recebe a
+	 * qualidade (`q`) desse tipo, e vence o de maior qualidade; no empate, vale a ordem do `Accept` e, para os curingas,
+	 * a ordem dos conversores, com JSON primeiro. Sem `Accept`, ou com um cabeçalho inválido, o formato é JSON.
+	 *
+	 * @param eTag A ETag da versão, entre aspas.
+	 * @param request A requisição corrente.
+	 * @return A ETag da versão no formato negociado.
+	 */
+	public static String formatETag(String eTag, WebRequest request) {
+		return eTag.substring(0, eTag.length() - 1) + "-" + format(request.getHeader(HttpHeaders.ACCEPT)) + "\"";
+	}
+
+	/**
+	 * Retorna o nome do formato negociado para o cabeçalho `Accept` informado.
+	 */
+	private static String format(String accept) {
+		if (accept == null || accept.isBlank()) {
+			return "json";
+		}
+		List<MediaType> types;
+		try {
+			types = MediaType.parseMediaTypes(accept);
+		}
+		catch (InvalidMediaTypeException e) {
+			return "json";
+		}
+		MediaType selected = MediaType.APPLICATION_JSON;
+		double quality = -1;
+		for (MediaType type : types) {
+			for (MediaType format : FORMATS) {
+				// Só uma qualidade maior troca o formato, o que preserva a ordem nos empates.
+				if (type.includes(format) && type.getQualityValue() > quality) {
+					selected = format;
+					quality = type.getQualityValue();
+				}
+			}
+		}
+		return selected == MediaType.APPLICATION_CBOR ? "cbor" : selected == SMILE ? "smile" : "json";
+	}
+
+	/**
+	 * Informa `Vary: Accept` em todas as leituras de jogos e listas, cuja representação depende do formato pedido.
+	 */
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new HandlerInterceptor() {
+			@Override
+			public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+				response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+				return true;
+			}
+		}).addPathPatterns("/games", "/games/**", "/lists", "/lists/**")
+				// As imagens não dependem do Accept e são servidas sempre no tipo em que foram enviadas.
+				.excludePathPatterns("/games/*/image");
+	}
+}
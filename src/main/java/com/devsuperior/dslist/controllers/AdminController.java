@@ -0,0 +1,97 @@
+/**
+ * Controlador REST para operações administrativas.
+ * Expõe a reconstrução e a verificação da visão materializada das listas de jogos
+ * e a consulta dos rastreamentos e dos comandos SQL lentos mantidos em memória.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.controllers;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.devsuperior.dslist.config.RecentSpanExporter;
+import com.devsuperior.dslist.dto.ListViewReportDTO;
+import com.devsuperior.dslist.dto.SlowQueryDTO;
+import com.devsuperior.dslist.dto.TraceSpanDTO;
+import com.devsuperior.dslist.services.ListViewService;
+import com.devsuperior.dslist.services.SlowQueryService;
+
+@RestController // Indica que esta classe é um controlador REST, capaz de lidar com requisições HTTP.
+@RequestMapping(value = "/admin") // Mapeia todas as requisições que começam com "/admin" para este controlador.
+public class AdminController {
+
+	@Autowired // Realiza a injeção de dependência do ListViewService.
+	private ListViewService listViewService;
+
+	@Autowired // Exportador que mantém em memória os spans de rastreamento mais recentes.
+	private RecentSpanExporter recentSpanExporter;
+
+	@Autowired // Realiza a injeção de dependência do SlowQueryService, que mantém os comandos SQL lentos capturados.
+	private SlowQueryService slowQueryService;
+
+	/**
+	 * Reconstrói a visão materializada das listas a partir das tabelas normalizadas.
+	 * Este endpoint responde a requisições POST para `/admin/list-views/rebuild`.
+	 *
+	 * @return O relatório com a quantidade de linhas gravadas.
+	 */
+	@PostMapping(value = "/list-views/rebuild") // Mapeia requisições POST para `/admin/list-views/rebuild`.
+	public ListViewReportDTO rebuildListViews() {
+		return listViewService.rebuild();
+	}
+
+	/**
+	 * Verifica se a visão materializada das listas está consistente com as tabelas normalizadas.
+	 * Este endpoint responde a requisições GET para `/admin/list-views/check`.
+	 *
+	 * @return O relatório com a quantidade de linhas e as listas divergentes.
+	 */
+	@GetMapping(value = "/list-views/check") // Mapeia requisições GET para `/admin/list-views/check`.
+	public ListViewReportDTO checkListViews() {
+		return listViewService.check();
+	}
+
+	/**
+	 * Busca os rastreamentos mais recentes mantidos em memória, pelo span raiz de cada um.
+	 * Este endpoint responde a requisições GET para `/admin/traces`.
+	 *
+	 * @param limit A quantidade máxima de rastreamentos.
+	 * @return Os spans raiz, do mais novo para o mais antigo.
+	 */
+	@GetMapping(value = "/traces") // Mapeia requisições GET para `/admin/traces`.
+	public List<TraceSpanDTO> findTraces(@RequestParam(defaultValue = "20") int limit) {
+		return recentSpanExporter.findRoots(limit);
+	}
+
+	/**
+	 * Busca os spans de um rastreamento mantido em memória.
+	 * Este endpoint responde a requisições GET para `/admin/traces/{traceId}`.
+	 *
+	 * @param traceId O ID do rastreamento.
+	 * @return Os spans do rastreamento, em ordem de início.
+	 */
+	@GetMapping(value = "/traces/{traceId}") // Mapeia requisições GET para `/admin/traces/{traceId}`.
+	public List<TraceSpanDTO> findTrace(@PathVariable String traceId) {
+		return recentSpanExporter.findByTraceId(traceId);
+	}
+
+	/**
+	 * Busca os comandos SQL lentos capturados, com os parâmetros, a duração e o plano de execução.
+	 * Este endpoint responde a requisições GET para `/admin/slow-queries`.
+	 *
+	 * @return As capturas, da mais recente para a mais antiga.
+	 */
+	@GetMapping(value = "/slow-queries") // Mapeia requisições GET para `/admin/slow-queries`.
+	public List<SlowQueryDTO> findSlowQueries() {
+		return slowQueryService.findAll();
+	}
+}
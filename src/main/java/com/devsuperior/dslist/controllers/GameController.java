@@ -1,24 +1,38 @@
 /**
  * Controlador REST para operações relacionadas a jogos.
  * Esta classe expõe endpoints HTTP para que os clientes possam interagir
- * com os dados dos jogos, como buscar todos os jogos ou um jogo específico por ID.
+ * com os dados dos jogos, como buscar todos os jogos ou um jogo específico por ID,
+ * e importar catálogos de jogos em lote.
  *
  * @author lacerdagb (mantido como autor original, conforme instrução)
  * @version 1.0.0
  */
 package com.devsuperior.dslist.controllers;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.devsuperior.dslist.config.WireFormatConfig;
+import com.devsuperior.dslist.dto.BulkResultDTO;
 import com.devsuperior.dslist.dto.GameDTO;
 import com.devsuperior.dslist.dto.GameMinDTO;
+import com.devsuperior.dslist.dto.GameMinStream;
+import com.devsuperior.dslist.dto.SimilarGameDTO;
+import com.devsuperior.dslist.services.GameIngestionService;
 import com.devsuperior.dslist.services.GameService;
+import com.devsuperior.dslist.services.SimilarityService;
+import com.devsuperior.dslist.services.VersionService;
 
 @RestController // Indica que esta classe é um controlador REST, capaz de lidar com requisições HTTP.
 @RequestMapping(value = "/games") // Mapeia todas as requisições que começam com "/games" para este controlador.
@@ -27,32 +41,114 @@ public class GameController {
 	@Autowired // Realiza a injeção de dependência do GameService, permitindo que o controlador utilize os serviços de negócio.
 	private GameService gameService;	
 
+	@Autowired // Realiza a injeção de dependência do VersionService, usado para responder requisições condicionais.
+	private VersionService versionService;
+
+	@Autowired // Realiza a injeção de dependência do GameIngestionService, responsável pela importação em lote.
+	private GameIngestionService gameIngestionService;
+
+	@Autowired // Realiza a injeção de dependência do SimilarityService, que mantém a tabela de jogos similares.
+	private SimilarityService similarityService;
+
 	/**
 	 * Busca um jogo específico pelo seu ID.
 	 * Este endpoint responde a requisições GET para `/games/{id}`.
+	 * Responde `304 Not Modified`, sem consultar o banco de dados, se o catálogo não mudou.
 	 *
 	 * @param id O ID único do jogo a ser buscado.
+	 * @param request A requisição corrente, usada para avaliar os cabeçalhos condicionais.
 	 * @return Um objeto {@link GameDTO} contendo os detalhes completos do jogo encontrado.
 	 */
 	@GetMapping(value = "/{id}") // Mapeia requisições GET para `/games/{id}`, onde `{id}` é uma variável de caminho.
-	public GameDTO findById(@PathVariable Long id) {
+	public GameDTO findById(@PathVariable Long id, WebRequest request) {
+		// Responde 304 se o cliente já possui a versão atual do catálogo.
+		if (request.checkNotModified(WireFormatConfig.formatETag(versionService.catalogETag(), request), versionService.catalogLastModified())) {
+			return null;
+		}
 		// Chama o serviço para buscar o jogo pelo ID e mapeia o resultado para um DTO.
 		GameDTO result = gameService.findById(id);
 		return result;
 	}
 
+	/**
+	 * Busca os jogos mais similares a um jogo, pelo gênero, plataformas, ano e listas em comum.
+	 * Este endpoint responde a requisições GET para `/games/{id}/similar`.
+	 * A resposta é lida de uma tabela pré-calculada em memória, que é atualizada em segundo plano
+	 * após as alterações e pode refleti-las com um pequeno atraso.
+	 *
+	 * @param id O ID do jogo.
+	 * @return Os jogos similares, da maior para a menor pontuação.
+	 */
+	@GetMapping(value = "/{id}/similar") // Mapeia requisições GET para `/games/{id}/similar`.
+	public List<SimilarGameDTO> findSimilar(@PathVariable Long id) {
+		return similarityService.findSimilar(id);
+	}
+
 	/**
 	 * Busca todos os jogos com informações mínimas.
 	 * Este endpoint responde a requisições GET para `/games`.
+	 * Responde `304 Not Modified`, sem consultar o banco de dados, se o catálogo não mudou.
+	 * Os jogos são lidos do ResultSet para colunas compactas e escritos na resposta, com os mesmos campos de {@link GameMinDTO}.
 	 *
-	 * @return Uma lista de objetos {@link GameMinDTO} contendo informações resumidas de todos os jogos.
+	 * @param request A requisição corrente, usada para avaliar os cabeçalhos condicionais.
+	 * @return Todos os jogos com informações resumidas, prontos para a escrita da resposta.
 	 */
 	@GetMapping // Mapeia requisições GET para `/games`.
-	public List<GameMinDTO> findAll() {
-		// Chama o serviço para buscar todos os jogos e mapeia a lista para DTOs mínimos.
-		List<GameMinDTO> result = gameService.findAll();
-		return result;
+	public GameMinStream findAll(WebRequest request) {
+		// Responde 304 se o cliente já possui a versão atual do catálogo.
+		if (request.checkNotModified(WireFormatConfig.formatETag(versionService.catalogETag(), request), versionService.catalogLastModified())) {
+			return null;
+		}
+		// Chama o serviço para preparar a escrita de todos os jogos.
+		return gameService.streamAll();
 	}
-}
 
+	/**
+	 * Busca um jogo específico pelo seu ID, retornando apenas os campos pedidos.
+	 * Este endpoint responde a requisições GET para `/games/{id}?fields=id,title,year`.
+	 *
+	 * @param id O ID único do jogo a ser buscado.
+	 * @param fields Os nomes dos campos separados por vírgula.
+	 * @param request A requisição corrente, usada para avaliar os cabeçalhos condicionais.
+	 * @return Um mapa com os campos pedidos do jogo encontrado.
+	 */
+	@GetMapping(value = "/{id}", params = "fields") // Mapeia requisições GET para `/games/{id}` que informam o parâmetro `fields`.
+	public Map<String, Object> findById(@PathVariable Long id, @RequestParam String fields, WebRequest request) {
+		// Responde 304 se o cliente já possui a versão atual do catálogo.
+		if (request.checkNotModified(WireFormatConfig.formatETag(versionService.catalogETag(), request), versionService.catalogLastModified())) {
+			return null;
+		}
+		return gameService.findById(id, fields);
+	}
+
+	/**
+	 * Busca todos os jogos, retornando apenas os campos pedidos.
+	 * Este endpoint responde a requisições GET para `/games?fields=id,title`.
+	 *
+	 * @param fields Os nomes dos campos separados por vírgula.
+	 * @param request A requisição corrente, usada para avaliar os cabeçalhos condicionais.
+	 * @return Uma lista de mapas com os campos pedidos de cada jogo.
+	 */
+	@GetMapping(params = "fields") // Mapeia requisições GET para `/games` que informam o parâmetro `fields`.
+	public List<Map<String, Object>> findAll(@RequestParam String fields, WebRequest request) {
+		// Responde 304 se o cliente já possui a versão atual do catálogo.
+		if (request.checkNotModified(WireFormatConfig.formatETag(versionService.catalogETag(), request), versionService.catalogLastModified())) {
+			return null;
+		}
+		return gameService.findAll(fields);
+	}
 
+	/**
+	 * Importa um catálogo de jogos em lote, inserindo ou atualizando cada jogo.
+	 * Este endpoint responde a requisições POST para `/games/bulk`.
+	 * O corpo é lido como fluxo e pode ser um array JSON ou NDJSON (`application/x-ndjson`) de {@link GameDTO}.
+	 * Os jogos são gravados em blocos, cada um em sua própria transação; blocos que falham são informados na resposta.
+	 *
+	 * @param body O corpo da requisição.
+	 * @return Um objeto {@link BulkResultDTO} com os totais da importação e os blocos que falharam.
+	 */
+	@PostMapping(value = "/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE }) // Mapeia requisições POST para `/games/bulk`.
+	public BulkResultDTO bulkInsert(InputStream body) {
+		return gameIngestionService.ingest(body);
+	}
+}
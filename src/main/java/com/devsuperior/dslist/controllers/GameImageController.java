@@ -0,0 +1,212 @@
+/**
+ * Controlador REST das imagens de capa dos jogos mantidas pelo {@link ImageStoreService}.
+ * As imagens são enviadas sem cópia para a memória da aplicação: no Tomcat, pelo mecanismo de sendfile
+ * do conector, que transfere o arquivo diretamente para o socket; nos demais casos, por
+ * {@link FileChannel#transferTo}. As respostas suportam `Range` (um intervalo), `If-Range`,
+ * `If-None-Match` e, nas URLs versionadas, cache de longa duração.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.controllers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.devsuperior.dslist.services.ImageStoreService;
+import com.devsuperior.dslist.services.ImageStoreService.StoredImage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@RestController // Indica que esta classe é um controlador REST, capaz de lidar com requisições HTTP.
+@RequestMapping(value = "/games/{id}/image") // Mapeia todas as requisições para a imagem de um jogo.
+public class GameImageController {
+
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support"; // Indica que o conector do Tomcat aceita sendfile.
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename"; // Arquivo a ser enviado pelo conector.
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start"; // Primeiro byte enviado.
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end"; // Byte seguinte ao último enviado.
+
+	private static final String IMMUTABLE = "public, max-age=31536000, immutable"; // Cache das URLs versionadas.
+	private static final String REVALIDATE = "public, no-cache"; // Cache das URLs sem versão, revalidado pela ETag.
+
+	@Autowired // Realiza a injeção de dependência do ImageStoreService.
+	private ImageStoreService imageStoreService;
+
+	/**
+	 * Envia a imagem de um jogo, inteira ou no intervalo pedido em `Range`.
+	 * Este endpoint responde a requisições GET (e HEAD) para `/games/{id}/image`.
+	 *
+	 * @param id O ID do jogo.
+	 * @param version A versão da imagem, presente nas URLs retornadas pela API.
+	 * @param request A requisição corrente.
+	 * @param response A resposta, escrita diretamente a partir do arquivo.
+	 */
+	@GetMapping // Mapeia requisições GET para `/games/{id}/image`.
+	public void findImage(@PathVariable Long id, @RequestParam(name = "v", required = false) String version,
+			HttpServletRequest request, HttpServletResponse response) throws IOException {
+		Optional<StoredImage> found = imageStoreService.find(id);
+		if (found.isEmpty()) {
+			response.setStatus(HttpStatus.NOT_FOUND.value());
+			return;
+		}
+		StoredImage image = found.get();
+		response.setHeader(HttpHeaders.ETAG, image.etag());
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+		// Impede que o navegador interprete o conteúdo com um tipo diferente do declarado.
+		response.setHeader("X-Content-Type-Options", "nosniff");
+		// Uma URL com a versão atual nunca muda de conteúdo; as demais devem ser revalidadas.
+		response.setHeader(HttpHeaders.CACHE_CONTROL, image.version().equals(version) ? IMMUTABLE : REVALIDATE);
+		if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), image.etag())) {
+			response.setStatus(HttpStatus.NOT_MODIFIED.value());
+			return;
+		}
+
+		long start = 0;
+		long length = image.size();
+		String range = request.getHeader(HttpHeaders.RANGE);
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		// O intervalo é ignorado se a imagem mudou desde a versão que o cliente tem (If-Range).
+		if (range != null && (ifRange == null || ifRange.equals(image.etag()))) {
+			long[] bounds = parseRange(range, image.size());
+			if (bounds == null) {
+				response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + image.size());
+				return;
+			}
+			if (bounds.length == 2) {
+				start = bounds[0];
+				length = bounds[1] - bounds[0] + 1;
+				response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + bounds[0] + "-" + bounds[1] + "/" + image.size());
+			}
+		}
+		response.setContentType(image.contentType());
+		response.setContentLengthLong(length);
+		if (!HttpMethod.HEAD.matches(request.getMethod())) {
+			transfer(image, start, length, request, response);
+		}
+	}
+
+	/**
+	 * Grava a imagem de um jogo, substituindo a anterior.
+	 * Este endpoint responde a requisições PUT para `/games/{id}/image`, com o conteúdo da imagem no corpo.
+	 *
+	 * @param id O ID do jogo.
+	 * @param contentType O tipo de mídia da imagem.
+	 * @param body O conteúdo da imagem, lido como fluxo.
+	 * @return `201 Created`, com a URL versionada da imagem no cabeçalho `Location`.
+	 */
+	@PutMapping // Mapeia requisições PUT para `/games/{id}/image`.
+	public ResponseEntity<Void> saveImage(@PathVariable Long id, @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+			InputStream body) {
+		StoredImage image = imageStoreService.save(id, contentType, body);
+		return ResponseEntity.created(URI.create("/games/" + id + "/image?v=" + image.version())).eTag(image.etag()).build();
+	}
+
+	/**
+	 * Remove a imagem local de um jogo; a API volta a informar a URL original.
+	 * Este endpoint responde a requisições DELETE para `/games/{id}/image`.
+	 *
+	 * @param id O ID do jogo.
+	 * @return `204 No Content`, ou `404 Not Found` se o jogo não tinha imagem local.
+	 */
+	@DeleteMapping // Mapeia requisições DELETE para `/games/{id}/image`.
+	public ResponseEntity<Void> deleteImage(@PathVariable Long id) {
+		return imageStoreService.delete(id) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+	}
+
+	/**
+	 * Envia o trecho do arquivo sem copiá-lo para a memória da aplicação.
+	 */
+	private static void transfer(StoredImage image, long start, long length, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			// O conector envia o arquivo com sendfile após o retorno do controlador.
+			request.setAttribute(SENDFILE_FILENAME, image.path().toString());
+			request.setAttribute(SENDFILE_START, start);
+			request.setAttribute(SENDFILE_END, start + length);
+			return;
+		}
+		try (FileChannel channel = FileChannel.open(image.path())) {
+			WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+			for (long position = start, end = start + length; position < end;) {
+				position += channel.transferTo(position, end - position, out);
+			}
+		}
+	}
+
+	/**
+	 * Verifica se o cabeçalho `If-None-Match` contém a ETag atual.
+	 */
+	private static boolean matches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			String trimmed = candidate.trim();
+			if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals("W/" + etag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Interpreta o cabeçalho `Range`.
+	 * Retorna o primeiro e o último byte do intervalo; um vetor vazio se o cabeçalho deve ser ignorado
+	 * (unidade desconhecida ou vários intervalos, atendidos com a imagem inteira); ou null se o intervalo
+	 * não pode ser atendido.
+	 */
+	static long[] parseRange(String header, long size) {
+		if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+			return new long[0];
+		}
+		String spec = header.substring("bytes=".length()).trim();
+		int dash = spec.indexOf('-');
+		if (dash < 0) {
+			return new long[0];
+		}
+		try {
+			long first;
+			long last;
+			if (dash == 0) {
+				// Sufixo: os últimos N bytes.
+				long suffix = Long.parseLong(spec.substring(1));
+				if (suffix == 0) {
+					return null;
+				}
+				first = Math.max(0, size - suffix);
+				last = size - 1;
+			}
+			else {
+				first = Long.parseLong(spec.substring(0, dash));
+				last = dash == spec.length() - 1 ? size - 1 : Math.min(size - 1, Long.parseLong(spec.substring(dash + 1)));
+			}
+			return first < size && first <= last ? new long[] { first, last } : null;
+		}
+		catch (NumberFormatException e) {
+			return new long[0];
+		}
+	}
+}
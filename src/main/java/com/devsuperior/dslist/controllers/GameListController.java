@@ -1,28 +1,47 @@
 /**
  * Controlador REST para operações relacionadas a listas de jogos.
  * Esta classe gerencia as requisições HTTP para manipulação e consulta de listas de jogos,
- * incluindo a busca de listas, jogos dentro de uma lista e a movimentação de jogos entre posições.
+ * incluindo a busca de listas (opcionalmente já com os seus jogos), jogos dentro de uma lista, a movimentação de jogos entre posições
+ * e a inclusão e remoção de jogos em lote.
  *
  * @author lacerdagb (mantido como autor original, conforme instrução)
  * @version 1.0.0
  */
 package com.devsuperior.dslist.controllers;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.devsuperior.dslist.config.WireFormatConfig;
+import com.devsuperior.dslist.dto.ForkDTO;
 import com.devsuperior.dslist.dto.GameListDTO;
+import com.devsuperior.dslist.dto.GameListExpandedDTO;
 import com.devsuperior.dslist.dto.GameMinDTO;
+import com.devsuperior.dslist.dto.GameMinStream;
+import com.devsuperior.dslist.dto.InsertionDTO;
+import com.devsuperior.dslist.dto.ListChangeDTO;
+import com.devsuperior.dslist.dto.RemovalDTO;
 import com.devsuperior.dslist.dto.ReplacementDTO;
 import com.devsuperior.dslist.services.GameListService;
 import com.devsuperior.dslist.services.GameService;
+import com.devsuperior.dslist.services.ListChangeService;
+import com.devsuperior.dslist.services.ReorderWriteBehind;
+import com.devsuperior.dslist.services.VersionService;
 
 @RestController // Indica que esta classe é um controlador REST, capaz de lidar com requisições HTTP.
 @RequestMapping(value = "/lists") // Mapeia todas as requisições que começam com "/lists" para este controlador.
@@ -34,6 +53,15 @@ public class GameListController {
 	@Autowired // Realiza a injeção de dependência do GameService.
 	private GameService gameService;
 
+	@Autowired // Realiza a injeção de dependência do VersionService, usado para responder requisições condicionais.
+	private VersionService versionService;
+
+	@Autowired // Realiza a injeção de dependência do ListChangeService, que fornece o histórico de movimentações.
+	private ListChangeService listChangeService;
+
+	@Autowired // Realiza a injeção de dependência do ReorderWriteBehind, que acumula as movimentações quando habilitado.
+	private ReorderWriteBehind reorderWriteBehind;
+
 	/**
 	 * Busca uma lista de jogos específica pelo seu ID.
 	 * Este endpoint responde a requisições GET para `/lists/{id}`.
@@ -61,34 +89,168 @@ public class GameListController {
 		return result;
 	}
 
+	/**
+	 * Busca uma lista de jogos junto com todos os seus jogos, em uma única consulta.
+	 * Este endpoint responde a requisições GET para `/lists/{id}?expand=games`.
+	 * Responde `304 Not Modified`, sem consultar o banco de dados, se a lista não mudou.
+	 *
+	 * @param id O ID único da lista de jogos a ser buscada.
+	 * @param expand A expansão pedida; somente `games` é aceita.
+	 * @param request A requisição corrente, usada para avaliar os cabeçalhos condicionais.
+	 * @return Um objeto {@link GameListExpandedDTO} com a lista e os seus jogos, na ordem das posições.
+	 */
+	@GetMapping(value = "/{id}", params = "expand") // Mapeia requisições GET para `/lists/{id}` que informam o parâmetro `expand`.
+	public GameListExpandedDTO findById(@PathVariable Long id, @RequestParam String expand, WebRequest request) {
+		// Responde 304 se o cliente já possui a versão atual da lista.
+		if (request.checkNotModified(WireFormatConfig.formatETag(versionService.listETag(id), request), versionService.listLastModified(id))) {
+			return null;
+		}
+		return gameListService.findById(id, expand);
+	}
+
+	/**
+	 * Busca todas as listas de jogos junto com os seus primeiros jogos, em uma única consulta.
+	 * Este endpoint responde a requisições GET para `/lists?expand=games&limit=10`.
+	 *
+	 * @param expand A expansão pedida; somente `games` é aceita.
+	 * @param limit A quantidade máxima de jogos por lista.
+	 * @return Uma lista de objetos {@link GameListExpandedDTO}, cada um com até `limit` jogos.
+	 */
+	@GetMapping(params = "expand") // Mapeia requisições GET para `/lists` que informam o parâmetro `expand`.
+	public List<GameListExpandedDTO> findAll(@RequestParam String expand, @RequestParam(defaultValue = "10") int limit) {
+		return gameListService.findAll(expand, limit);
+	}
+
 	/**
 	 * Busca todos os jogos pertencentes a uma lista específica.
 	 * Este endpoint responde a requisições GET para `/lists/{listId}/games`.
+	 * Se o cliente enviar `If-None-Match` ou `If-Modified-Since` com a versão atual da lista,
+	 * a resposta é `304 Not Modified` e o banco de dados não é consultado.
+	 * Os jogos são lidos do ResultSet para colunas compactas e escritos na resposta, com os mesmos campos de {@link GameMinDTO}.
 	 *
 	 * @param listId O ID da lista de jogos da qual os jogos serão buscados.
-	 * @return Uma lista de objetos {@link GameMinDTO} contendo os jogos da lista especificada.
+	 * @param request A requisição corrente, usada para avaliar os cabeçalhos condicionais.
+	 * @return Os jogos da lista especificada, prontos para a escrita da resposta.
 	 */
 	@GetMapping(value = "/{listId}/games") // Mapeia requisições GET para `/lists/{listId}/games`.
-	public List<GameMinDTO> findGames(@PathVariable Long listId) {
-		// Chama o serviço para buscar os jogos de uma lista específica.
-		List<GameMinDTO> result = gameService.findByGameList(listId);
-		return result;
+	public GameMinStream findGames(@PathVariable Long listId, WebRequest request) {
+		// Responde 304 se o cliente já possui a versão atual da lista.
+		if (request.checkNotModified(WireFormatConfig.formatETag(versionService.listETag(listId), request), versionService.listLastModified(listId))) {
+			return null;
+		}
+		// Chama o serviço para preparar a escrita dos jogos de uma lista específica.
+		return gameService.streamByGameList(listId);
+	}
+	
+	/**
+	 * Busca os jogos pertencentes a uma lista específica, retornando apenas os campos pedidos.
+	 * Este endpoint responde a requisições GET para `/lists/{listId}/games?fields=id,title`.
+	 * São aceitos somente os campos presentes no {@link GameMinDTO}.
+	 *
+	 * @param listId O ID da lista de jogos da qual os jogos serão buscados.
+	 * @param fields Os nomes dos campos separados por vírgula.
+	 * @param request A requisição corrente, usada para avaliar os cabeçalhos condicionais.
+	 * @return Uma lista de mapas com os campos pedidos de cada jogo, na ordem da lista.
+	 */
+	@GetMapping(value = "/{listId}/games", params = "fields") // Mapeia requisições GET para `/lists/{listId}/games` que informam o parâmetro `fields`.
+	public List<Map<String, Object>> findGames(@PathVariable Long listId, @RequestParam String fields, WebRequest request) {
+		// Responde 304 se o cliente já possui a versão atual da lista.
+		if (request.checkNotModified(WireFormatConfig.formatETag(versionService.listETag(listId), request), versionService.listLastModified(listId))) {
+			return null;
+		}
+		return gameService.findByGameList(listId, fields);
 	}
 	
 	/**
 	 * Move um jogo dentro de uma lista de jogos, alterando sua posição.
 	 * Este endpoint responde a requisições POST para `/lists/{listId}/replacement`.
 	 * O corpo da requisição deve conter o índice de origem e o índice de destino do jogo.
+	 * Com a gravação adiada habilitada, a movimentação é acumulada com as seguintes da mesma lista e a resposta é
+	 * `202 Accepted` enquanto ela ainda não estiver gravada (reconhecimento `immediate`).
 	 *
 	 * @param listId O ID da lista de jogos onde o jogo será movido.
 	 * @param body Um objeto {@link ReplacementDTO} contendo o índice de origem (sourceIndex)
 	 *             e o índice de destino (destinationIndex) para a movimentação do jogo.
+	 * @return `200 OK` se a movimentação já está gravada, ou `202 Accepted` se ela será gravada em seguida.
 	 */
 	@PostMapping(value = "/{listId}/replacement") // Mapeia requisições POST para `/lists/{listId}/replacement`.
-	public void move(@PathVariable Long listId, @RequestBody ReplacementDTO body) {
+	public ResponseEntity<Void> move(@PathVariable Long listId, @RequestBody ReplacementDTO body) {
+		if (reorderWriteBehind.isEnabled()) {
+			boolean durable = reorderWriteBehind.submit(listId, body.getSourceIndex(), body.getDestinationIndex());
+			return durable ? ResponseEntity.ok().build() : ResponseEntity.accepted().build();
+		}
 		// Chama o serviço para realizar a movimentação do jogo na lista.
 		gameListService.move(listId, body.getSourceIndex(), body.getDestinationIndex());
+		return ResponseEntity.ok().build();
+	}
+
+	/**
+	 * Inclui jogos em uma lista a partir de um índice.
+	 * Este endpoint responde a requisições POST para `/lists/{listId}/insertion`.
+	 * Os jogos posteriores ao índice são deslocados para depois dos jogos incluídos.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param body Um objeto {@link InsertionDTO} com os IDs dos jogos e o índice de inserção
+	 *             (se omitido, os jogos são incluídos no final da lista).
+	 */
+	@PostMapping(value = "/{listId}/insertion") // Mapeia requisições POST para `/lists/{listId}/insertion`.
+	public void insert(@PathVariable Long listId, @RequestBody InsertionDTO body) {
+		gameListService.insert(listId, body.getGameIds(), body.getIndex());
 	}
-}
 
+	/**
+	 * Remove jogos de uma lista, mantendo a ordem dos jogos restantes.
+	 * Este endpoint responde a requisições POST para `/lists/{listId}/removal`.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param body Um objeto {@link RemovalDTO} com os IDs dos jogos a serem removidos.
+	 */
+	@PostMapping(value = "/{listId}/removal") // Mapeia requisições POST para `/lists/{listId}/removal`.
+	public void remove(@PathVariable Long listId, @RequestBody RemovalDTO body) {
+		gameListService.remove(listId, body.getGameIds());
+	}
 
+	/**
+	 * Cria uma cópia de uma lista, que pode ser reordenada e alterada sem afetar a lista copiada.
+	 * Este endpoint responde a requisições POST para `/lists/{listId}/fork`.
+	 * A cópia guarda apenas as suas diferenças em relação à lista base e acompanha as alterações dela.
+	 *
+	 * @param listId O ID da lista a ser copiada.
+	 * @param body Um objeto {@link ForkDTO} com o nome da cópia (opcional).
+	 * @return `201 Created` com a cópia e o endereço dela no cabeçalho `Location`.
+	 */
+	@PostMapping(value = "/{listId}/fork") // Mapeia requisições POST para `/lists/{listId}/fork`.
+	public ResponseEntity<GameListDTO> fork(@PathVariable Long listId, @RequestBody(required = false) ForkDTO body) {
+		GameListDTO fork = gameListService.fork(listId, body != null ? body.getName() : null);
+		return ResponseEntity.created(URI.create("/lists/" + fork.getId())).body(fork);
+	}
+
+	/**
+	 * Busca as movimentações de uma lista posteriores a uma sequência conhecida pelo cliente.
+	 * Este endpoint responde a requisições GET para `/lists/{listId}/changes?since={seq}`.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param since A última sequência já aplicada pelo cliente (0 para todo o histórico).
+	 * @return Uma lista de objetos {@link ListChangeDTO} em ordem crescente de sequência.
+	 */
+	@GetMapping(value = "/{listId}/changes") // Mapeia requisições GET para `/lists/{listId}/changes`.
+	public List<ListChangeDTO> findChanges(@PathVariable Long listId, @RequestParam(defaultValue = "0") long since) {
+		return listChangeService.findSince(listId, since);
+	}
+
+	/**
+	 * Abre um fluxo Server-Sent Events com as movimentações de uma lista.
+	 * Este endpoint responde a requisições GET para `/lists/{listId}/changes/stream`.
+	 * Ao reconectar, o cabeçalho `Last-Event-ID` tem precedência sobre o parâmetro `since`.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param since A última sequência já aplicada pelo cliente.
+	 * @param lastEventId A sequência do último evento recebido antes da reconexão, se houver.
+	 * @return O emissor SSE da conexão.
+	 */
+	@GetMapping(value = "/{listId}/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE) // Mapeia requisições GET para `/lists/{listId}/changes/stream`.
+	public SseEmitter streamChanges(@PathVariable Long listId, @RequestParam(defaultValue = "0") long since,
+			@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+		return listChangeService.subscribe(listId, lastEventId != null ? lastEventId : since);
+	}
+}
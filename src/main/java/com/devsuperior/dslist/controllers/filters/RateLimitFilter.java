@@ -0,0 +1,161 @@
+/**
+ * Filtro que limita a taxa de requisições de cada cliente antes que elas cheguem aos controladores.
+ * O cliente é identificado pelo cabeçalho `X-API-Key`, se a chave estiver entre as configuradas em
+ * `dslist.rate-limit.api-keys`, ou pelo endereço IP: uma chave desconhecida é tratada como ausente, de modo que
+ * trocar de chave a cada requisição não cria baldes novos nem expulsa da tabela os baldes dos demais clientes.
+ * Atrás de um balanceador de carga, o endereço IP é o do cliente original, lido de `X-Forwarded-For` pelo
+ * Tomcat conforme `server.forward-headers-strategy`.
+ * Cada classe de endpoint tem a sua própria {@link TokenBucketTable}: as varreduras completas
+ * (`GET /games` e `GET /lists`, com ou sem `expand`), as demais leituras e as escritas. Acima do limite, a requisição recebe
+ * `429 Too Many Requests` com o cabeçalho `Retry-After`, sem tocar no banco de dados.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.controllers.filters;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.devsuperior.dslist.dto.CustomErrorDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Component // Registra esta classe como um componente do Spring; o Spring Boot a adiciona à cadeia de filtros.
+@ConditionalOnProperty(name = "dslist.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	/**
+	 * Classes de endpoint, cada uma com o seu próprio limite.
+	 */
+	enum EndpointClass {
+		SCANS, READS, WRITES
+	}
+
+	static final String API_KEY_HEADER = "X-API-Key"; // Cabeçalho que identifica o cliente.
+
+	@Autowired // ObjectMapper configurado pelo Spring, usado para escrever o corpo do erro.
+	private ObjectMapper objectMapper;
+
+	@Autowired // Registro de métricas onde o filtro publica as recusas e a quantidade de clientes.
+	private MeterRegistry meterRegistry;
+
+	@Value("${dslist.rate-limit.api-keys:}") // Chaves de API aceitas, separadas por vírgula; as demais são tratadas como ausentes.
+	private Set<String> apiKeys;
+
+	@Value("${dslist.rate-limit.max-clients:100000}") // Quantidade máxima de clientes mantidos por classe de endpoint.
+	private int maxClients;
+
+	@Value("${dslist.rate-limit.scans.capacity:20}") // Rajada máxima de varreduras completas por cliente.
+	private int scansCapacity;
+
+	@Value("${dslist.rate-limit.scans.refill-per-second:5}") // Varreduras completas recarregadas por segundo.
+	private int scansRefill;
+
+	@Value("${dslist.rate-limit.reads.capacity:100}") // Rajada máxima de leituras por cliente.
+	private int readsCapacity;
+
+	@Value("${dslist.rate-limit.reads.refill-per-second:50}") // Leituras recarregadas por segundo.
+	private int readsRefill;
+
+	@Value("${dslist.rate-limit.writes.capacity:50}") // Rajada máxima de escritas por cliente.
+	private int writesCapacity;
+
+	@Value("${dslist.rate-limit.writes.refill-per-second:20}") // Escritas recarregadas por segundo.
+	private int writesRefill;
+
+	private final TokenBucketTable[] tables = new TokenBucketTable[EndpointClass.values().length]; // Baldes de cada classe de endpoint.
+	private final Counter[] rejected = new Counter[EndpointClass.values().length]; // Recusas de cada classe de endpoint.
+
+	/**
+	 * Cria as tabelas de baldes e registra as métricas de cada classe de endpoint.
+	 */
+	@PostConstruct
+	void init() {
+		tables[EndpointClass.SCANS.ordinal()] = new TokenBucketTable(scansCapacity, scansRefill, maxClients);
+		tables[EndpointClass.READS.ordinal()] = new TokenBucketTable(readsCapacity, readsRefill, maxClients);
+		tables[EndpointClass.WRITES.ordinal()] = new TokenBucketTable(writesCapacity, writesRefill, maxClients);
+		for (EndpointClass endpointClass : EndpointClass.values()) {
+			String tag = endpointClass.name().toLowerCase();
+			rejected[endpointClass.ordinal()] = Counter.builder("dslist.ratelimit.rejected")
+					.description("Requisições recusadas pelo limite de taxa")
+					.tag("class", tag)
+					.register(meterRegistry);
+			Gauge.builder("dslist.ratelimit.clients", tables[endpointClass.ordinal()], TokenBucketTable::size)
+					.description("Clientes com balde de fichas ativo")
+					.tag("class", tag)
+					.register(meterRegistry);
+		}
+	}
+
+	/**
+	 * Não limita o console do H2, os endpoints do Actuator nem a leitura das imagens,
+	 * que são enviadas do disco sem acessar o banco de dados.
+	 */
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		String uri = request.getRequestURI();
+		return uri.startsWith("/actuator") || uri.startsWith("/h2-console")
+				|| (HttpMethod.GET.matches(request.getMethod()) && uri.endsWith("/image"));
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		EndpointClass endpointClass = classify(request.getMethod(), request.getRequestURI());
+		long retryAfter = tables[endpointClass.ordinal()].tryAcquire(client(request));
+		if (retryAfter == 0) {
+			chain.doFilter(request, response);
+			return;
+		}
+		rejected[endpointClass.ordinal()].increment();
+		HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+		CustomErrorDTO err = new CustomErrorDTO(Instant.now(), status.value(),
+				"Limite de requisições excedido. Tente novamente em instantes.", request.getRequestURI());
+		response.setStatus(status.value());
+		// O cabeçalho é em segundos inteiros; arredonda para cima para o cliente não voltar antes da próxima ficha.
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((retryAfter + 999) / 1000));
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		objectMapper.writeValue(response.getOutputStream(), err);
+	}
+
+	/**
+	 * Classifica a requisição: varredura completa (do catálogo ou de todas as listas), outra leitura ou escrita.
+	 */
+	static EndpointClass classify(String method, String uri) {
+		if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+			return EndpointClass.WRITES;
+		}
+		return switch (uri) {
+			case "/games", "/games/", "/lists", "/lists/" -> EndpointClass.SCANS;
+			default -> EndpointClass.READS;
+		};
+	}
+
+	/**
+	 * Identifica o cliente pela chave de API, se ela for uma das configuradas, ou pelo endereço IP.
+	 */
+	String client(HttpServletRequest request) {
+		String apiKey = request.getHeader(API_KEY_HEADER);
+		return apiKey != null && apiKeys.contains(apiKey) ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+	}
+}
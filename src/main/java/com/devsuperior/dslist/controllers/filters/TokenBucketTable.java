@@ -0,0 +1,165 @@
+/**
+ * Tabela de baldes de fichas (token buckets), um por cliente, para limitar a taxa de requisições.
+ * A tabela é um vetor de `long` de tamanho fixo, dividido em faixas (stripes) de {@value #WAYS} posições.
+ * Cada posição guarda a impressão digital de 64 bits do cliente e, ao lado, o estado do balde (fichas
+ * disponíveis e instante da última recarga) em um único `long`, atualizado com compare-and-set, sem bloqueios.
+ * Uma consulta lê apenas a faixa do cliente, que ocupa poucas linhas de cache, independentemente da quantidade de clientes.
+ * A tabela é limitada por construção: um cliente novo ocupa uma posição livre da faixa ou substitui o balde
+ * usado há mais tempo, que normalmente já expirou. A substituição toma primeiro o estado da posição, com
+ * compare-and-set, e só então troca a impressão digital e publica o balde novo; durante a troca, as requisições
+ * que encontram a posição aguardam e procuram novamente. Um balde expira quando já teria se recarregado por completo,
+ * pois então equivale a um balde novo e descartá-lo não afrouxa o limite.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.controllers.filters;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class TokenBucketTable {
+
+	private static final int WAYS = 8; // Posições de cada faixa.
+	private static final int TOKEN_BITS = 22; // Bits menos significativos do estado, com as fichas em milésimos.
+	private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+	private static final long MILLI = 1000; // Uma ficha, em milésimos de ficha.
+	private static final long CLAIMED = -1; // Estado de uma posição em substituição; nenhum balde chega a este valor.
+
+	private final long capacity; // Capacidade do balde, em milésimos de ficha.
+	private final long refillPerSecond; // Fichas recarregadas por segundo (= milésimos de ficha por milissegundo).
+	private final int stripeMask; // Máscara que escolhe a faixa a partir da impressão digital.
+	private final AtomicLongArray slots; // Pares (impressão digital, estado); impressão digital 0 indica posição livre.
+	private final long origin = System.nanoTime(); // Referência dos instantes gravados no estado dos baldes.
+
+	/**
+	 * Cria uma tabela de baldes com a capacidade e a taxa de recarga informadas.
+	 *
+	 * @param capacity A quantidade máxima de fichas de um balde (rajada permitida), até 4194.
+	 * @param refillPerSecond A quantidade de fichas recarregadas por segundo.
+	 * @param maxClients A quantidade de clientes mantidos na tabela, arredondada para cima para uma potência de dois.
+	 */
+	public TokenBucketTable(int capacity, int refillPerSecond, int maxClients) {
+		if (capacity < 1 || capacity * MILLI > TOKEN_MASK || refillPerSecond < 1) {
+			throw new IllegalArgumentException("Capacidade deve estar entre 1 e " + TOKEN_MASK / MILLI + " e a recarga deve ser positiva.");
+		}
+		this.capacity = capacity * MILLI;
+		this.refillPerSecond = refillPerSecond;
+		int stripes = Math.max(1, (maxClients + WAYS - 1) / WAYS);
+		stripes = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+		this.stripeMask = stripes - 1;
+		this.slots = new AtomicLongArray(stripes * WAYS * 2);
+	}
+
+	/**
+	 * Consome uma ficha do balde do cliente, criando-o cheio se ainda não existir.
+	 *
+	 * @param client O identificador do cliente.
+	 * @return 0 se a requisição foi admitida, ou o tempo, em milissegundos, até a próxima ficha.
+	 */
+	public long tryAcquire(String client) {
+		long now = (System.nanoTime() - origin) / 1_000_000;
+		long fingerprint = fingerprint(client);
+		int base = ((int) (fingerprint >>> 32) & stripeMask) * WAYS * 2;
+		search:
+		while (true) {
+			int victim = -1;
+			long victimState = 0;
+			long victimTime = Long.MAX_VALUE;
+			for (int i = base; i < base + WAYS * 2; i += 2) {
+				long current = slots.get(i);
+				if (current == fingerprint) {
+					long retryAfter = consume(i, fingerprint, now);
+					if (retryAfter != CLAIMED) {
+						return retryAfter;
+					}
+					// A posição está sendo entregue a outro cliente: procura novamente na faixa.
+					Thread.onSpinWait();
+					continue search;
+				}
+				long state = slots.get(i + 1);
+				if (state == CLAIMED) {
+					continue;
+				}
+				// Candidata a receber o cliente: a posição livre ou, na falta dela, a de recarga mais antiga.
+				long time = current == 0 ? -1 : state >>> TOKEN_BITS;
+				if (time < victimTime) {
+					victim = i;
+					victimState = state;
+					victimTime = time;
+				}
+			}
+			// A posição é tomada pelo estado, marcado como em substituição antes de trocar a impressão digital:
+			// assim nenhum consumo do cliente expulso é aplicado ao balde novo nem sobrescrito por ele.
+			if (victim >= 0 && slots.compareAndSet(victim + 1, victimState, CLAIMED)) {
+				slots.set(victim, fingerprint);
+				// Um balde novo começa cheio; a ficha desta requisição já sai descontada.
+				slots.set(victim + 1, pack(now, capacity - MILLI));
+				return 0;
+			}
+			// Outra requisição tomou a posição ao mesmo tempo: procura novamente na faixa.
+			Thread.onSpinWait();
+		}
+	}
+
+	/**
+	 * Retorna a quantidade de clientes mantidos na tabela.
+	 * @return A quantidade de baldes ocupados.
+	 */
+	public int size() {
+		int size = 0;
+		for (int i = 0; i < slots.length(); i += 2) {
+			size += slots.get(i) != 0 ? 1 : 0;
+		}
+		return size;
+	}
+
+	/**
+	 * Retorna a quantidade máxima de clientes mantidos na tabela.
+	 * @return A quantidade de posições da tabela.
+	 */
+	public int capacity() {
+		return slots.length() / 2;
+	}
+
+	/**
+	 * Recarrega o balde pelo tempo decorrido e consome uma ficha, se houver.
+	 * Retorna {@link #CLAIMED} se a posição deixou de ser do cliente ou está sendo entregue a outro.
+	 */
+	private long consume(int index, long fingerprint, long now) {
+		while (true) {
+			long state = slots.get(index + 1);
+			// O estado só vale para o cliente se a impressão digital ainda for a dele depois da leitura.
+			if (state == CLAIMED || slots.get(index) != fingerprint) {
+				return CLAIMED;
+			}
+			long last = state >>> TOKEN_BITS;
+			long tokens = Math.min(capacity, (state & TOKEN_MASK) + Math.max(0, now - last) * refillPerSecond);
+			if (tokens < MILLI) {
+				// Sem fichas: o estado não muda, e o cliente é informado de quando haverá uma ficha.
+				return (MILLI - tokens + refillPerSecond - 1) / refillPerSecond;
+			}
+			if (slots.compareAndSet(index + 1, state, pack(Math.max(now, last), tokens - MILLI))) {
+				return 0;
+			}
+		}
+	}
+
+	/**
+	 * Calcula a impressão digital de 64 bits do cliente, nunca igual a 0.
+	 */
+	private static long fingerprint(String client) {
+		long hash = 0xCBF29CE484222325L;
+		for (int i = 0; i < client.length(); i++) {
+			hash = (hash ^ client.charAt(i)) * 0x100000001B3L;
+		}
+		// Mistura final, para que todos os bits dependam de todos os caracteres.
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		return hash != 0 ? hash : 1;
+	}
+
+	private static long pack(long millis, long tokens) {
+		return millis << TOKEN_BITS | tokens;
+	}
+}
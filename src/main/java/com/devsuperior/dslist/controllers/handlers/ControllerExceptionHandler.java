@@ -0,0 +1,70 @@
+/**
+ * Tratador global de exceções dos controladores REST.
+ * Converte as exceções da camada de serviço em respostas HTTP com um corpo {@link CustomErrorDTO}.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.controllers.handlers;
+
+import java.time.Instant;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import com.devsuperior.dslist.dto.CustomErrorDTO;
+import com.devsuperior.dslist.services.exceptions.InvalidRequestException;
+import com.devsuperior.dslist.services.exceptions.ResourceNotFoundException;
+import com.devsuperior.dslist.services.exceptions.ServiceUnavailableException;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@ControllerAdvice // Indica que esta classe trata exceções lançadas por todos os controladores.
+public class ControllerExceptionHandler {
+
+	/**
+	 * Trata requisições com parâmetros inválidos, respondendo `400 Bad Request`.
+	 *
+	 * @param e A exceção lançada pela camada de serviço.
+	 * @param request A requisição que originou o erro.
+	 * @return A resposta com os detalhes do erro.
+	 */
+	@ExceptionHandler(InvalidRequestException.class) // Associa este método às exceções do tipo InvalidRequestException.
+	public ResponseEntity<CustomErrorDTO> invalidRequest(InvalidRequestException e, HttpServletRequest request) {
+		HttpStatus status = HttpStatus.BAD_REQUEST;
+		CustomErrorDTO err = new CustomErrorDTO(Instant.now(), status.value(), e.getMessage(), request.getRequestURI());
+		return ResponseEntity.status(status).body(err);
+	}
+
+	/**
+	 * Trata requisições para recursos inexistentes, respondendo `404 Not Found`.
+	 *
+	 * @param e A exceção lançada pela camada de serviço.
+	 * @param request A requisição que originou o erro.
+	 * @return A resposta com os detalhes do erro.
+	 */
+	@ExceptionHandler(ResourceNotFoundException.class) // Associa este método às exceções do tipo ResourceNotFoundException.
+	public ResponseEntity<CustomErrorDTO> resourceNotFound(ResourceNotFoundException e, HttpServletRequest request) {
+		HttpStatus status = HttpStatus.NOT_FOUND;
+		CustomErrorDTO err = new CustomErrorDTO(Instant.now(), status.value(), e.getMessage(), request.getRequestURI());
+		return ResponseEntity.status(status).body(err);
+	}
+
+	/**
+	 * Trata operações recusadas pelo controle de admissão, respondendo `503 Service Unavailable`
+	 * com o cabeçalho `Retry-After`, para que o cliente aguarde antes de tentar novamente.
+	 *
+	 * @param e A exceção lançada pela camada de serviço.
+	 * @param request A requisição que originou o erro.
+	 * @return A resposta com os detalhes do erro.
+	 */
+	@ExceptionHandler(ServiceUnavailableException.class) // Associa este método às exceções do tipo ServiceUnavailableException.
+	public ResponseEntity<CustomErrorDTO> serviceUnavailable(ServiceUnavailableException e, HttpServletRequest request) {
+		HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+		CustomErrorDTO err = new CustomErrorDTO(Instant.now(), status.value(), e.getMessage(), request.getRequestURI());
+		return ResponseEntity.status(status).header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter())).body(err);
+	}
+}
@@ -0,0 +1,64 @@
+/**
+ * Objeto de Transferência de Dados (DTO) que descreve um bloco da importação em lote que falhou.
+ * Um bloco é gravado em uma única transação; se ela falhar, nenhum registro do bloco é gravado
+ * e a importação segue para o próximo bloco.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.dto;
+
+public class BulkFailureDTO {
+
+	private Integer chunk; // Número do bloco, a partir de zero.
+	private Long firstRecord; // Índice, no corpo da requisição, do primeiro registro do bloco.
+	private Integer records; // Quantidade de registros do bloco.
+	private String message; // Motivo da falha.
+
+	/**
+	 * Construtor que inicializa todos os atributos da falha.
+	 *
+	 * @param chunk O número do bloco.
+	 * @param firstRecord O índice do primeiro registro do bloco.
+	 * @param records A quantidade de registros do bloco.
+	 * @param message O motivo da falha.
+	 */
+	public BulkFailureDTO(Integer chunk, Long firstRecord, Integer records, String message) {
+		this.chunk = chunk;
+		this.firstRecord = firstRecord;
+		this.records = records;
+		this.message = message;
+	}
+
+	/**
+	 * Retorna o número do bloco.
+	 * @return O número do bloco.
+	 */
+	public Integer getChunk() {
+		return chunk;
+	}
+
+	/**
+	 * Retorna o índice do primeiro registro do bloco.
+	 * @return O índice do primeiro registro.
+	 */
+	public Long getFirstRecord() {
+		return firstRecord;
+	}
+
+	/**
+	 * Retorna a quantidade de registros do bloco.
+	 * @return A quantidade de registros.
+	 */
+	public Integer getRecords() {
+		return records;
+	}
+
+	/**
+	 * Retorna o motivo da falha.
+	 * @return A mensagem de erro.
+	 */
+	public String getMessage() {
+		return message;
+	}
+}
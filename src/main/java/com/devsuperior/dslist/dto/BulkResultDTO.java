@@ -0,0 +1,89 @@
+/**
+ * Objeto de Transferência de Dados (DTO) com o resultado de uma importação de jogos em lote.
+ * Informa quantos registros foram lidos e gravados e quais blocos falharam.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkResultDTO {
+
+	private long received; // Quantidade de registros lidos do corpo da requisição.
+	private long saved; // Quantidade de registros gravados (inseridos ou atualizados).
+	private int chunks; // Quantidade de blocos processados.
+	private boolean aborted; // Indica se a leitura foi interrompida por um erro no corpo da requisição.
+	private List<BulkFailureDTO> failures = new ArrayList<>(); // Blocos que falharam.
+
+	/**
+	 * Registra um bloco gravado com sucesso.
+	 *
+	 * @param records A quantidade de registros do bloco.
+	 */
+	public void chunkSaved(int records) {
+		received += records;
+		saved += records;
+		chunks++;
+	}
+
+	/**
+	 * Registra um bloco que falhou.
+	 *
+	 * @param failure A descrição da falha.
+	 */
+	public void chunkFailed(BulkFailureDTO failure) {
+		received += failure.getRecords();
+		chunks++;
+		failures.add(failure);
+	}
+
+	/**
+	 * Registra que a leitura do corpo da requisição foi interrompida.
+	 */
+	public void abort() {
+		aborted = true;
+	}
+
+	/**
+	 * Retorna a quantidade de registros lidos.
+	 * @return A quantidade de registros lidos.
+	 */
+	public long getReceived() {
+		return received;
+	}
+
+	/**
+	 * Retorna a quantidade de registros gravados.
+	 * @return A quantidade de registros gravados.
+	 */
+	public long getSaved() {
+		return saved;
+	}
+
+	/**
+	 * Retorna a quantidade de blocos processados.
+	 * @return A quantidade de blocos.
+	 */
+	public int getChunks() {
+		return chunks;
+	}
+
+	/**
+	 * Indica se a leitura foi interrompida por um erro no corpo da requisição.
+	 * @return true se a importação foi interrompida.
+	 */
+	public boolean isAborted() {
+		return aborted;
+	}
+
+	/**
+	 * Retorna os blocos que falharam.
+	 * @return A lista de falhas.
+	 */
+	public List<BulkFailureDTO> getFailures() {
+		return failures;
+	}
+}
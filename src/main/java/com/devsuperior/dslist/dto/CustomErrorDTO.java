@@ -0,0 +1,65 @@
+/**
+ * Objeto de Transferência de Dados (DTO) para representar um erro retornado pela API.
+ * Contém o instante do erro, o código de status HTTP, a mensagem e o caminho da requisição.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.dto;
+
+import java.time.Instant;
+
+public class CustomErrorDTO {
+
+	private Instant timestamp; // Instante em que o erro ocorreu.
+	private Integer status; // Código de status HTTP da resposta.
+	private String error; // Mensagem que descreve o erro.
+	private String path; // Caminho da requisição que originou o erro.
+
+	/**
+	 * Construtor que inicializa todos os atributos do erro.
+	 *
+	 * @param timestamp O instante em que o erro ocorreu.
+	 * @param status O código de status HTTP da resposta.
+	 * @param error A mensagem que descreve o erro.
+	 * @param path O caminho da requisição que originou o erro.
+	 */
+	public CustomErrorDTO(Instant timestamp, Integer status, String error, String path) {
+		this.timestamp = timestamp;
+		this.status = status;
+		this.error = error;
+		this.path = path;
+	}
+
+	/**
+	 * Retorna o instante em que o erro ocorreu.
+	 * @return O instante do erro.
+	 */
+	public Instant getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Retorna o código de status HTTP da resposta.
+	 * @return O código de status.
+	 */
+	public Integer getStatus() {
+		return status;
+	}
+
+	/**
+	 * Retorna a mensagem que descreve o erro.
+	 * @return A mensagem de erro.
+	 */
+	public String getError() {
+		return error;
+	}
+
+	/**
+	 * Retorna o caminho da requisição que originou o erro.
+	 * @return O caminho da requisição.
+	 */
+	public String getPath() {
+		return path;
+	}
+}
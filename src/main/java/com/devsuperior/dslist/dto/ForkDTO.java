@@ -0,0 +1,29 @@
+/**
+ * Objeto de Transferência de Dados (DTO) para representar a criação de uma cópia de uma lista.
+ * Esta classe é utilizada para receber o nome da nova lista.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.dto;
+
+public class ForkDTO {
+
+	private String name; // O nome da cópia (se omitido, é derivado do nome da lista copiada).
+
+	/**
+	 * Retorna o nome da cópia.
+	 * @return O nome da cópia.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Define o nome da cópia.
+	 * @param name O novo nome da cópia.
+	 */
+	public void setName(String name) {
+		this.name = name;
+	}
+}
@@ -1,7 +1,8 @@
 /**
  * Objeto de Transferência de Dados (DTO) para representar uma lista de jogos.
  * Esta classe é utilizada para expor informações resumidas de uma lista de jogos através da API,
- * focando nos dados essenciais como ID e nome da lista.
+ * focando nos dados essenciais como ID e nome da lista, e nos totais dos seus jogos:
+ * quantidade, nota média e faixa de anos de lançamento.
  *
  * @author lacerdagb (mantido como autor original, conforme instrução)
  * @version 1.0.0
@@ -14,6 +15,10 @@ public class GameListDTO {
 
 	private Long id; // Identificador único da lista de jogos.
 	private String name; // Nome da lista de jogos.
+	private int gameCount; // Quantidade de jogos na lista.
+	private Double averageScore; // Nota média dos jogos com nota, ou null se nenhum tiver nota.
+	private Integer minYear; // Menor ano de lançamento entre os jogos da lista.
+	private Integer maxYear; // Maior ano de lançamento entre os jogos da lista.
 	
 	/**
 	 * Construtor padrão vazio.
@@ -24,13 +29,34 @@ public class GameListDTO {
 	
 	/**
 	 * Construtor que inicializa um GameListDTO a partir de uma entidade GameList.
-	 * Copia as propriedades essenciais da entidade para o DTO.
+	 * Copia as propriedades essenciais e os agregados mantidos na entidade para o DTO.
 	 *
 	 * @param entity A entidade {@link GameList} da qual as propriedades serão copiadas.
 	 */
 	public GameListDTO(GameList entity) {
-		id = entity.getId(); // Copia o ID da entidade para o DTO.
-		name = entity.getName(); // Copia o nome da entidade para o DTO.
+		this(entity.getId(), entity.getName(), entity.getGameCount(), entity.getScoreSum(), entity.getScoreCount(),
+				entity.getMinYear(), entity.getMaxYear());
+	}
+
+	/**
+	 * Construtor que inicializa um GameListDTO a partir dos dados e dos agregados da lista.
+	 *
+	 * @param id O ID da lista de jogos.
+	 * @param name O nome da lista de jogos.
+	 * @param gameCount A quantidade de jogos na lista.
+	 * @param scoreSum A soma das notas dos jogos com nota.
+	 * @param scoreCount A quantidade de jogos com nota.
+	 * @param minYear O menor ano de lançamento.
+	 * @param maxYear O maior ano de lançamento.
+	 */
+	public GameListDTO(Long id, String name, int gameCount, double scoreSum, int scoreCount, Integer minYear, Integer maxYear) {
+		this.id = id;
+		this.name = name;
+		this.gameCount = gameCount;
+		// A média é calculada apenas sobre os jogos que possuem nota.
+		this.averageScore = scoreCount > 0 ? scoreSum / scoreCount : null;
+		this.minYear = minYear;
+		this.maxYear = maxYear;
 	}
 
 	/**
@@ -48,6 +74,36 @@ public class GameListDTO {
 	public String getName() {
 		return name;
 	}
-}
 
+	/**
+	 * Retorna a quantidade de jogos na lista.
+	 * @return A quantidade de jogos.
+	 */
+	public int getGameCount() {
+		return gameCount;
+	}
 
+	/**
+	 * Retorna a nota média dos jogos da lista que possuem nota.
+	 * @return A nota média, ou null se nenhum jogo tiver nota.
+	 */
+	public Double getAverageScore() {
+		return averageScore;
+	}
+
+	/**
+	 * Retorna o menor ano de lançamento entre os jogos da lista.
+	 * @return O menor ano.
+	 */
+	public Integer getMinYear() {
+		return minYear;
+	}
+
+	/**
+	 * Retorna o maior ano de lançamento entre os jogos da lista.
+	 * @return O maior ano.
+	 */
+	public Integer getMaxYear() {
+		return maxYear;
+	}
+}
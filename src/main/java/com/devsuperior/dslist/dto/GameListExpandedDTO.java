@@ -0,0 +1,43 @@
+/**
+ * Objeto de Transferência de Dados (DTO) para representar uma lista de jogos acompanhada dos seus jogos.
+ * Retornado pelos endpoints de listas com `expand=games`, permitindo exibir uma lista com uma única requisição.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.devsuperior.dslist.projections.ListGameProjection;
+
+public class GameListExpandedDTO extends GameListDTO {
+
+	private List<GameMinDTO> games = new ArrayList<>(); // Jogos da lista, na ordem das posições.
+
+	/**
+	 * Construtor padrão vazio.
+	 * Necessário para a serialização e desserialização de objetos DTO.
+	 */
+	public GameListExpandedDTO() {
+	}
+
+	/**
+	 * Construtor que inicializa a lista a partir da primeira linha lida, ainda sem jogos.
+	 *
+	 * @param projection Uma linha da lista, da qual são copiados o ID, o nome e os agregados.
+	 */
+	public GameListExpandedDTO(ListGameProjection projection) {
+		super(projection.getListId(), projection.getListName(), projection.getGameCount(), projection.getScoreSum(),
+				projection.getScoreCount(), projection.getMinYear(), projection.getMaxYear());
+	}
+
+	/**
+	 * Retorna os jogos da lista.
+	 * @return Os jogos, na ordem das posições.
+	 */
+	public List<GameMinDTO> getGames() {
+		return games;
+	}
+}
@@ -55,6 +55,20 @@ public class GameMinDTO {
 		shortDescription = projection.getShortDescription();
 	}
 
+	/**
+	 * Construtor que copia os dados de outro GameMinDTO.
+	 * Usado para montar respostas a partir de jogos mantidos em memória, sem alterar o original.
+	 *
+	 * @param other O jogo a ser copiado.
+	 */
+	public GameMinDTO(GameMinDTO other) {
+		id = other.id;
+		title = other.title;
+		year = other.year;
+		imgUrl = other.imgUrl;
+		shortDescription = other.shortDescription;
+	}
+
 	/**
 	 * Retorna o ID do jogo.
 	 * @return O ID do jogo.
@@ -87,6 +101,14 @@ public class GameMinDTO {
 		return imgUrl;
 	}
 
+	/**
+	 * Define a URL da imagem de capa do jogo.
+	 * @param imgUrl A nova URL da imagem de capa do jogo.
+	 */
+	public void setImgUrl(String imgUrl) {
+		this.imgUrl = imgUrl;
+	}
+
 	/**
 	 * Retorna a descrição curta do jogo.
 	 * @return A descrição curta do jogo.
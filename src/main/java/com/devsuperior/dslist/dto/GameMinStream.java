@@ -0,0 +1,27 @@
+/**
+ * Jogos com informações mínimas escritos diretamente em um gerador Jackson, sem DTOs intermediários.
+ * Retornado pelos endpoints `/games` e `/lists/{listId}/games` e escrito na resposta pelo conversor
+ * declarado em {@link com.devsuperior.dslist.config.WireFormatConfig}, no formato negociado pelo cabeçalho `Accept`.
+ * Os jogos já foram lidos quando a resposta é escrita, e o resultado tem a mesma forma de uma lista de {@link GameMinDTO}.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.dto;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+@FunctionalInterface // Implementado pelos serviços como uma expressão lambda.
+public interface GameMinStream {
+
+	/**
+	 * Escreve os jogos no gerador, como um array de objetos.
+	 * Em caso de falha, o gerador não deve ser fechado, para que o conteúdo parcial em buffer seja descartado.
+	 *
+	 * @param generator O gerador associado ao corpo da resposta.
+	 * @throws IOException Se a escrita na resposta falhar.
+	 */
+	void writeTo(JsonGenerator generator) throws IOException;
+}
@@ -0,0 +1,49 @@
+/**
+ * Objeto de Transferência de Dados (DTO) para representar a inclusão de jogos em uma lista.
+ * Esta classe é utilizada para receber os IDs dos jogos, na ordem em que devem aparecer,
+ * e o índice da lista a partir do qual eles serão inseridos.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.dto;
+
+import java.util.List;
+
+public class InsertionDTO {
+
+	private List<Long> gameIds; // Os IDs dos jogos a serem incluídos, na ordem desejada.
+	private Integer index; // O índice onde o primeiro jogo será inserido; se ausente, os jogos vão para o final da lista.
+
+	/**
+	 * Retorna os IDs dos jogos a serem incluídos.
+	 * @return Os IDs dos jogos.
+	 */
+	public List<Long> getGameIds() {
+		return gameIds;
+	}
+
+	/**
+	 * Define os IDs dos jogos a serem incluídos.
+	 * @param gameIds Os novos IDs dos jogos.
+	 */
+	public void setGameIds(List<Long> gameIds) {
+		this.gameIds = gameIds;
+	}
+
+	/**
+	 * Retorna o índice de inserção.
+	 * @return O índice de inserção, ou null para o final da lista.
+	 */
+	public Integer getIndex() {
+		return index;
+	}
+
+	/**
+	 * Define o índice de inserção.
+	 * @param index O novo índice de inserção.
+	 */
+	public void setIndex(Integer index) {
+		this.index = index;
+	}
+}
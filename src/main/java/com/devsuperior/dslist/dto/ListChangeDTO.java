@@ -0,0 +1,80 @@
+/**
+ * Objeto de Transferência de Dados (DTO) para representar uma alteração de ordem em uma lista de jogos.
+ * É usado pelo histórico de alterações (`/lists/{listId}/changes`) e pelo fluxo Server-Sent Events,
+ * permitindo que os clientes apliquem apenas as diferenças em vez de baixar a lista inteira.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.dto;
+
+import com.devsuperior.dslist.entities.ListChange;
+
+public class ListChangeDTO {
+
+	private Long sequence; // Número de sequência crescente da alteração.
+	private Long listId; // Identificador da lista alterada.
+	private Long gameId; // Identificador do jogo movimentado.
+	private Integer from; // Posição de origem do jogo (nula em uma inclusão).
+	private Integer to; // Posição de destino do jogo (nula em uma remoção).
+
+	/**
+	 * Construtor padrão vazio.
+	 * Necessário para a serialização e desserialização de objetos DTO.
+	 */
+	public ListChangeDTO() {
+	}
+
+	/**
+	 * Construtor que inicializa um ListChangeDTO a partir de uma entidade ListChange.
+	 *
+	 * @param entity A entidade {@link ListChange} da qual as propriedades serão copiadas.
+	 */
+	public ListChangeDTO(ListChange entity) {
+		sequence = entity.getSequence();
+		listId = entity.getListId();
+		gameId = entity.getGameId();
+		from = entity.getFrom();
+		to = entity.getTo();
+	}
+
+	/**
+	 * Retorna o número de sequência da alteração.
+	 * @return O número de sequência.
+	 */
+	public Long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * Retorna o identificador da lista alterada.
+	 * @return O ID da lista.
+	 */
+	public Long getListId() {
+		return listId;
+	}
+
+	/**
+	 * Retorna o identificador do jogo movimentado.
+	 * @return O ID do jogo.
+	 */
+	public Long getGameId() {
+		return gameId;
+	}
+
+	/**
+	 * Retorna a posição de origem do jogo.
+	 * @return A posição de origem.
+	 */
+	public Integer getFrom() {
+		return from;
+	}
+
+	/**
+	 * Retorna a posição de destino do jogo.
+	 * @return A posição de destino.
+	 */
+	public Integer getTo() {
+		return to;
+	}
+}
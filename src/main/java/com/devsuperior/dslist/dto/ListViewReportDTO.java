@@ -0,0 +1,58 @@
+/**
+ * Objeto de Transferência de Dados (DTO) com o resultado da reconstrução ou da verificação
+ * da visão materializada das listas de jogos.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.dto;
+
+import java.util.List;
+
+public class ListViewReportDTO {
+
+	private Long rows; // Quantidade de linhas na visão.
+	private List<Long> inconsistentLists; // IDs das listas cuja visão diverge das tabelas normalizadas.
+
+	/**
+	 * Construtor padrão vazio.
+	 * Necessário para a serialização e desserialização de objetos DTO.
+	 */
+	public ListViewReportDTO() {
+	}
+
+	/**
+	 * Construtor que inicializa todos os atributos do relatório.
+	 *
+	 * @param rows A quantidade de linhas na visão.
+	 * @param inconsistentLists Os IDs das listas divergentes.
+	 */
+	public ListViewReportDTO(Long rows, List<Long> inconsistentLists) {
+		this.rows = rows;
+		this.inconsistentLists = inconsistentLists;
+	}
+
+	/**
+	 * Retorna a quantidade de linhas na visão.
+	 * @return A quantidade de linhas.
+	 */
+	public Long getRows() {
+		return rows;
+	}
+
+	/**
+	 * Retorna os IDs das listas cuja visão diverge das tabelas normalizadas.
+	 * @return Os IDs das listas divergentes.
+	 */
+	public List<Long> getInconsistentLists() {
+		return inconsistentLists;
+	}
+
+	/**
+	 * Indica se a visão está consistente com as tabelas normalizadas.
+	 * @return true se nenhuma lista diverge.
+	 */
+	public boolean isConsistent() {
+		return inconsistentLists.isEmpty();
+	}
+}
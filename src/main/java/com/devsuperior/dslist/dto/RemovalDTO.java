@@ -0,0 +1,31 @@
+/**
+ * Objeto de Transferência de Dados (DTO) para representar a remoção de jogos de uma lista.
+ * Esta classe é utilizada para receber os IDs dos jogos que devem deixar a lista.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.dto;
+
+import java.util.List;
+
+public class RemovalDTO {
+
+	private List<Long> gameIds; // Os IDs dos jogos a serem removidos.
+
+	/**
+	 * Retorna os IDs dos jogos a serem removidos.
+	 * @return Os IDs dos jogos.
+	 */
+	public List<Long> getGameIds() {
+		return gameIds;
+	}
+
+	/**
+	 * Define os IDs dos jogos a serem removidos.
+	 * @param gameIds Os novos IDs dos jogos.
+	 */
+	public void setGameIds(List<Long> gameIds) {
+		this.gameIds = gameIds;
+	}
+}
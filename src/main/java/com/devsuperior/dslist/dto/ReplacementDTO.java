@@ -14,6 +14,24 @@ public class ReplacementDTO {
 	private Integer sourceIndex; // O índice atual do jogo na lista (posição de origem).
 	private Integer destinationIndex; // O novo índice para o jogo na lista (posição de destino).
 
+	/**
+	 * Construtor padrão vazio.
+	 * Necessário para a serialização e desserialização de objetos DTO.
+	 */
+	public ReplacementDTO() {
+	}
+
+	/**
+	 * Construtor que inicializa uma movimentação com os índices de origem e de destino.
+	 *
+	 * @param sourceIndex O índice de origem do jogo.
+	 * @param destinationIndex O índice de destino do jogo.
+	 */
+	public ReplacementDTO(Integer sourceIndex, Integer destinationIndex) {
+		this.sourceIndex = sourceIndex;
+		this.destinationIndex = destinationIndex;
+	}
+
 	/**
 	 * Retorna o índice de origem do jogo.
 	 * @return O índice de origem.
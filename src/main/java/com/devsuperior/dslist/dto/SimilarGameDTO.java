@@ -0,0 +1,39 @@
+/**
+ * Objeto de Transferência de Dados (DTO) para representar um jogo recomendado como similar a outro.
+ * Retornado por `GET /games/{id}/similar`, com os dados mínimos do jogo e a pontuação de similaridade.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.dto;
+
+public class SimilarGameDTO extends GameMinDTO {
+
+	private double similarity; // Pontuação de similaridade, entre 0 (nenhuma) e 1 (máxima).
+
+	/**
+	 * Construtor padrão vazio.
+	 * Necessário para a serialização e desserialização de objetos DTO.
+	 */
+	public SimilarGameDTO() {
+	}
+
+	/**
+	 * Construtor que inicializa o jogo recomendado a partir de uma cópia dos seus dados mínimos.
+	 *
+	 * @param game O jogo recomendado.
+	 * @param similarity A pontuação de similaridade.
+	 */
+	public SimilarGameDTO(GameMinDTO game, double similarity) {
+		super(game);
+		this.similarity = similarity;
+	}
+
+	/**
+	 * Retorna a pontuação de similaridade.
+	 * @return A pontuação, entre 0 e 1.
+	 */
+	public double getSimilarity() {
+		return similarity;
+	}
+}
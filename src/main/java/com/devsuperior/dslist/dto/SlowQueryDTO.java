@@ -0,0 +1,133 @@
+/**
+ * Objeto de Transferência de Dados (DTO) para representar um comando SQL lento capturado.
+ * É usado pelo endpoint `/admin/slow-queries`, que lê as capturas mantidas em memória pelo
+ * {@link com.devsuperior.dslist.services.SlowQueryService}.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public class SlowQueryDTO {
+
+	private Instant capturedAt; // Instante em que o comando terminou.
+	private String sql; // Texto do comando, com os marcadores de parâmetro.
+	private List<String> parameters; // Valores dos parâmetros, na ordem dos marcadores (do primeiro conjunto, em lotes).
+	private int batchSize; // Quantidade de conjuntos de parâmetros executados (1 fora de lotes).
+	private long durationMillis; // Duração da execução, em milissegundos.
+	private Long rows; // Linhas retornadas ou alteradas (nulo se desconhecido).
+	private boolean analyzed; // Indica se o plano foi medido com EXPLAIN ANALYZE (consultas) ou apenas estimado (alterações ou fila cheia).
+	private String plan; // Plano de execução informado pelo banco de dados.
+
+	/**
+	 * Construtor padrão vazio.
+	 * Necessário para a serialização e desserialização de objetos DTO.
+	 */
+	public SlowQueryDTO() {
+	}
+
+	/**
+	 * Construtor que inicializa a captura com os dados da execução, antes da obtenção do plano.
+	 *
+	 * @param capturedAt O instante em que o comando terminou.
+	 * @param sql O texto do comando.
+	 * @param parameters Os valores dos parâmetros.
+	 * @param batchSize A quantidade de conjuntos de parâmetros executados.
+	 * @param durationMillis A duração da execução, em milissegundos.
+	 * @param rows As linhas alteradas, ou null se o comando for uma consulta.
+	 */
+	public SlowQueryDTO(Instant capturedAt, String sql, List<String> parameters, int batchSize, long durationMillis, Long rows) {
+		this.capturedAt = capturedAt;
+		this.sql = sql;
+		this.parameters = parameters;
+		this.batchSize = batchSize;
+		this.durationMillis = durationMillis;
+		this.rows = rows;
+	}
+
+	/**
+	 * Retorna o instante em que o comando terminou.
+	 * @return O instante da captura.
+	 */
+	public Instant getCapturedAt() {
+		return capturedAt;
+	}
+
+	/**
+	 * Retorna o texto do comando.
+	 * @return O SQL executado.
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * Retorna os valores dos parâmetros.
+	 * @return Os parâmetros, na ordem dos marcadores.
+	 */
+	public List<String> getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * Retorna a quantidade de conjuntos de parâmetros executados.
+	 * @return O tamanho do lote.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Retorna a duração da execução.
+	 * @return A duração, em milissegundos.
+	 */
+	public long getDurationMillis() {
+		return durationMillis;
+	}
+
+	/**
+	 * Retorna as linhas retornadas ou alteradas.
+	 * @return A quantidade de linhas, ou null se desconhecida.
+	 */
+	public Long getRows() {
+		return rows;
+	}
+
+	/**
+	 * Define as linhas retornadas por uma consulta.
+	 * @param rows A quantidade de linhas.
+	 */
+	public void setRows(Long rows) {
+		this.rows = rows;
+	}
+
+	/**
+	 * Indica se o plano foi medido com EXPLAIN ANALYZE.
+	 * @return true se o plano foi medido.
+	 */
+	public boolean isAnalyzed() {
+		return analyzed;
+	}
+
+	/**
+	 * Retorna o plano de execução.
+	 * @return O plano informado pelo banco de dados.
+	 */
+	public String getPlan() {
+		return plan;
+	}
+
+	/**
+	 * Define o plano de execução.
+	 *
+	 * @param plan O plano informado pelo banco de dados.
+	 * @param analyzed Se o plano foi medido com EXPLAIN ANALYZE.
+	 */
+	public void setPlan(String plan, boolean analyzed) {
+		this.plan = plan;
+		this.analyzed = analyzed;
+	}
+}
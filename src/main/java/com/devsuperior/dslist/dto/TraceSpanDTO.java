@@ -0,0 +1,117 @@
+/**
+ * Objeto de Transferência de Dados (DTO) para representar um span de rastreamento exportado localmente.
+ * É usado pelos endpoints `/admin/traces`, que leem os spans mantidos em memória pelo
+ * {@link com.devsuperior.dslist.config.RecentSpanExporter}.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.dto;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+public class TraceSpanDTO {
+
+	private String traceId; // Identificador do rastreamento ao qual o span pertence.
+	private String spanId; // Identificador do span.
+	private String parentSpanId; // Identificador do span pai (nulo no span raiz).
+	private String name; // Nome do span (ex.: "http get /lists/{listid}/games", "query").
+	private Instant start; // Instante de início do span.
+	private long durationMicros; // Duração do span, em microssegundos.
+	private boolean error; // Indica se a operação terminou com erro.
+	private Map<String, String> attributes; // Atributos do span, em ordem alfabética.
+
+	/**
+	 * Construtor padrão vazio.
+	 * Necessário para a serialização e desserialização de objetos DTO.
+	 */
+	public TraceSpanDTO() {
+	}
+
+	/**
+	 * Construtor que inicializa um TraceSpanDTO a partir de um span exportado.
+	 *
+	 * @param span O span exportado pelo OpenTelemetry.
+	 */
+	public TraceSpanDTO(SpanData span) {
+		traceId = span.getTraceId();
+		spanId = span.getSpanId();
+		parentSpanId = span.getParentSpanContext().isValid() ? span.getParentSpanId() : null;
+		name = span.getName();
+		start = Instant.ofEpochSecond(0, span.getStartEpochNanos());
+		durationMicros = TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos());
+		error = span.getStatus().getStatusCode() == StatusCode.ERROR;
+		attributes = new TreeMap<>();
+		span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+	}
+
+	/**
+	 * Retorna o identificador do rastreamento.
+	 * @return O ID do rastreamento.
+	 */
+	public String getTraceId() {
+		return traceId;
+	}
+
+	/**
+	 * Retorna o identificador do span.
+	 * @return O ID do span.
+	 */
+	public String getSpanId() {
+		return spanId;
+	}
+
+	/**
+	 * Retorna o identificador do span pai.
+	 * @return O ID do span pai, ou null se este for o span raiz.
+	 */
+	public String getParentSpanId() {
+		return parentSpanId;
+	}
+
+	/**
+	 * Retorna o nome do span.
+	 * @return O nome do span.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retorna o instante de início do span.
+	 * @return O instante de início.
+	 */
+	public Instant getStart() {
+		return start;
+	}
+
+	/**
+	 * Retorna a duração do span.
+	 * @return A duração, em microssegundos.
+	 */
+	public long getDurationMicros() {
+		return durationMicros;
+	}
+
+	/**
+	 * Indica se a operação terminou com erro.
+	 * @return true se houve erro.
+	 */
+	public boolean isError() {
+		return error;
+	}
+
+	/**
+	 * Retorna os atributos do span.
+	 * @return Os atributos, em ordem alfabética.
+	 */
+	public Map<String, String> getAttributes() {
+		return attributes;
+	}
+}
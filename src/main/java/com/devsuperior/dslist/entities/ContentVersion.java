@@ -0,0 +1,91 @@
+/**
+ * Representa a versão do catálogo de jogos ou de uma lista de jogos, gravada na tabela `tb_version`.
+ * A versão avança na transação de cada escrita e é lida por todas as instâncias, de modo que todas
+ * geram a mesma `ETag` e o mesmo `Last-Modified` para os mesmos dados.
+ * A linha `epoch` guarda o instante em que as versões começaram a ser contadas neste banco de dados,
+ * que diferencia as versões de um banco recriado.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.entities;
+
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity // Marca esta classe como uma entidade JPA, indicando que ela corresponde a uma tabela no banco de dados.
+@Table(name = "tb_version") // Especifica o nome da tabela no banco de dados para esta entidade.
+public class ContentVersion {
+
+	@Id // Indica que este campo é a chave primária da entidade.
+	private String id; // Dado versionado: "c" para o catálogo, "l" seguido do ID para uma lista, ou "epoch".
+
+	@Column(name = "version_number") // 'number' é o nome de um tipo em alguns bancos.
+	private Long number; // Número da versão, incrementado a cada escrita.
+
+	@Column(name = "modified_at") // Instante, em milissegundos, da última escrita.
+	private Long modified; // Instante da versão atual.
+
+	/**
+	 * Construtor padrão vazio.
+	 * Necessário para a JPA e para a criação de instâncias sem argumentos.
+	 */
+	public ContentVersion() {
+	}
+
+	/**
+	 * Retorna o dado versionado.
+	 * @return A chave do dado versionado.
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Retorna o número da versão.
+	 * @return O número da versão.
+	 */
+	public Long getNumber() {
+		return number;
+	}
+
+	/**
+	 * Retorna o instante da versão.
+	 * @return O instante em milissegundos.
+	 */
+	public Long getModified() {
+		return modified;
+	}
+
+	/**
+	 * Gera um código hash baseado na chave.
+	 *
+	 * @return O código hash do objeto.
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(id);
+	}
+
+	/**
+	 * Compara este objeto ContentVersion com outro objeto, pela chave.
+	 *
+	 * @param obj O objeto a ser comparado.
+	 * @return true se os objetos são iguais, false caso contrário.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ContentVersion other = (ContentVersion) obj;
+		return Objects.equals(id, other.id);
+	}
+}
@@ -11,19 +11,33 @@ package com.devsuperior.dslist.entities;
 
 import java.util.Objects;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 @Entity // Marca esta classe como uma entidade JPA, indicando que ela corresponde a uma tabela no banco de dados.
 @Table(name = "tb_game") // Especifica o nome da tabela no banco de dados para esta entidade.
+@Cacheable // Habilita o cache de segundo nível do Hibernate para esta entidade.
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "game") // Mantém o cache consistente com as escritas feitas pela aplicação.
 public class Game {
 
+	/**
+	 * Quantidade de IDs reservados a cada consulta à sequência `tb_game_seq`. Cada valor obtido da sequência
+	 * é o primeiro ID de um bloco com este tamanho, tanto para o Hibernate quanto para a importação em lote.
+	 */
+	public static final int ID_BLOCK_SIZE = 50;
+
 	@Id // Indica que este campo é a chave primária da entidade.
-	@GeneratedValue(strategy = GenerationType.IDENTITY) // Configura a geração automática de valores para a chave primária, usando a estratégia de identidade do banco de dados.
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game") // Gera a chave primária a partir de uma sequência, reservando blocos de IDs.
+	@SequenceGenerator(name = "game", sequenceName = "tb_game_seq", allocationSize = ID_BLOCK_SIZE) // Sequência compartilhada por todas as instâncias.
 	private Long id; // Identificador único do jogo.
 	private String title; // Título do jogo.
 	
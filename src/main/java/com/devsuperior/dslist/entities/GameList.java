@@ -2,6 +2,11 @@
  * Representa a entidade de uma lista de jogos no sistema.
  * Esta classe mapeia a tabela 'tb_game_list' no banco de dados e contém os atributos
  * que descrevem uma lista de jogos, como seu ID e nome.
+ * Também guarda os agregados dos jogos da lista (quantidade, soma e quantidade de notas e faixa de anos),
+ * mantidos pelo {@link com.devsuperior.dslist.services.ListAggregateService} a cada alteração da lista,
+ * para que as listas possam ser exibidas com os seus totais sem percorrer os jogos.
+ * Uma cópia de outra lista guarda a lista base em `baseListId` e apenas as suas diferenças em `tb_list_delta`,
+ * até ser materializada pelo {@link com.devsuperior.dslist.services.ListForkService}.
  * É a representação de domínio de uma lista de jogos na aplicação.
  *
  * @author lacerdagb (mantido como autor original, conforme instrução)
@@ -11,14 +16,22 @@ package com.devsuperior.dslist.entities;
 
 import java.util.Objects;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity // Marca esta classe como uma entidade JPA, indicando que ela corresponde a uma tabela no banco de dados.
-@Table(name = "tb_game_list") // Especifica o nome da tabela no banco de dados para esta entidade.
+@Table(name = "tb_game_list", indexes = @Index(columnList = "base_list_id")) // Especifica o nome da tabela e indexa as cópias de cada lista base.
+@Cacheable // Habilita o cache de segundo nível do Hibernate para esta entidade.
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "gameList") // Mantém o cache consistente com as escritas feitas pela aplicação.
 public class GameList {
 
 	@Id // Indica que este campo é a chave primária da entidade.
@@ -26,6 +39,17 @@ public class GameList {
 	private Long id; // Identificador único da lista de jogos.
 	private String name; // Nome da lista de jogos.
 
+	@ColumnDefault("0") // As listas são criadas vazias.
+	private int gameCount; // Quantidade de jogos na lista.
+	@ColumnDefault("0")
+	private double scoreSum; // Soma das notas dos jogos da lista que possuem nota.
+	@ColumnDefault("0")
+	private int scoreCount; // Quantidade de jogos da lista que possuem nota.
+	private Integer minYear; // Menor ano de lançamento entre os jogos da lista.
+	private Integer maxYear; // Maior ano de lançamento entre os jogos da lista.
+
+	private Long baseListId; // Lista base de uma cópia ainda não materializada, ou null para uma lista com os próprios jogos.
+
 	/**
 	 * Construtor padrão vazio.
 	 * Necessário para a JPA e para a criação de instâncias sem argumentos.
@@ -44,6 +68,24 @@ public class GameList {
 		this.name = name;
 	}
 
+	/**
+	 * Construtor que inicializa uma cópia de outra lista, ainda sem diferenças em relação a ela.
+	 * A cópia aponta para a lista base da origem (ou para a própria origem, se ela não for uma cópia)
+	 * e começa com os mesmos agregados.
+	 *
+	 * @param name O nome da cópia.
+	 * @param source A lista copiada.
+	 */
+	public GameList(String name, GameList source) {
+		this.name = name;
+		this.baseListId = source.baseListId != null ? source.baseListId : source.id;
+		this.gameCount = source.gameCount;
+		this.scoreSum = source.scoreSum;
+		this.scoreCount = source.scoreCount;
+		this.minYear = source.minYear;
+		this.maxYear = source.maxYear;
+	}
+
 	/**
 	 * Retorna o ID da lista de jogos.
 	 * @return O ID da lista de jogos.
@@ -76,6 +118,54 @@ public class GameList {
 		this.name = name;
 	}
 
+	/**
+	 * Retorna a quantidade de jogos na lista.
+	 * @return A quantidade de jogos.
+	 */
+	public int getGameCount() {
+		return gameCount;
+	}
+
+	/**
+	 * Retorna a soma das notas dos jogos da lista que possuem nota.
+	 * @return A soma das notas.
+	 */
+	public double getScoreSum() {
+		return scoreSum;
+	}
+
+	/**
+	 * Retorna a quantidade de jogos da lista que possuem nota.
+	 * @return A quantidade de notas.
+	 */
+	public int getScoreCount() {
+		return scoreCount;
+	}
+
+	/**
+	 * Retorna o menor ano de lançamento entre os jogos da lista.
+	 * @return O menor ano, ou null se nenhum jogo tiver ano.
+	 */
+	public Integer getMinYear() {
+		return minYear;
+	}
+
+	/**
+	 * Retorna o maior ano de lançamento entre os jogos da lista.
+	 * @return O maior ano, ou null se nenhum jogo tiver ano.
+	 */
+	public Integer getMaxYear() {
+		return maxYear;
+	}
+
+	/**
+	 * Retorna a lista base de uma cópia ainda não materializada.
+	 * @return O ID da lista base, ou null se a lista guarda os próprios jogos.
+	 */
+	public Long getBaseListId() {
+		return baseListId;
+	}
+
 	/**
 	 * Gera um código hash para o objeto GameList.
 	 * Baseia-se no código hash do campo 'id' para garantir a unicidade.
@@ -0,0 +1,120 @@
+/**
+ * Representa uma invalidação gravada na tabela `tb_invalidation` pelo {@code DatabaseInvalidationBus}.
+ * Cada instância grava as suas invalidações na transação da escrita e lê periodicamente as
+ * invalidações gravadas pelas demais, em ordem de sequência.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.entities;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import com.devsuperior.dslist.services.invalidation.Invalidation;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+@Entity // Marca esta classe como uma entidade JPA, indicando que ela corresponde a uma tabela no banco de dados.
+@Table(name = "tb_invalidation") // Especifica o nome da tabela no banco de dados para esta entidade.
+public class InvalidationEvent {
+
+	@Id // Indica que este campo é a chave primária da entidade.
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "invalidation_seq") // Usa uma sequência do banco, compartilhada por todas as instâncias.
+	@SequenceGenerator(name = "invalidation_seq", sequenceName = "tb_invalidation_seq", allocationSize = 1) // Sem pré-alocação, para que a numeração seja crescente entre instâncias.
+	private Long sequence; // Número de sequência da invalidação.
+
+	@Enumerated(EnumType.STRING) // Grava o nome do tipo, e não a sua posição na enumeração.
+	private Invalidation.Kind kind; // Tipo do dado invalidado.
+	private Long targetId; // ID da lista ou do jogo invalidado (nulo para o catálogo).
+	private String node; // Identificador da instância que publicou a invalidação.
+	private Instant createdAt; // Instante da publicação.
+
+	/**
+	 * Construtor padrão vazio.
+	 * Necessário para a JPA e para a criação de instâncias sem argumentos.
+	 */
+	public InvalidationEvent() {
+	}
+
+	/**
+	 * Construtor que inicializa uma invalidação publicada por uma instância. A sequência é gerada pelo banco.
+	 *
+	 * @param invalidation A invalidação publicada.
+	 * @param node O identificador da instância.
+	 * @param createdAt O instante da publicação.
+	 */
+	public InvalidationEvent(Invalidation invalidation, String node, Instant createdAt) {
+		this.kind = invalidation.kind();
+		this.targetId = invalidation.id();
+		this.node = node;
+		this.createdAt = createdAt;
+	}
+
+	/**
+	 * Retorna o número de sequência da invalidação.
+	 * @return O número de sequência.
+	 */
+	public Long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * Retorna o tipo do dado invalidado.
+	 * @return O tipo.
+	 */
+	public Invalidation.Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * Retorna o ID da lista ou do jogo invalidado.
+	 * @return O ID, ou null para o catálogo.
+	 */
+	public Long getTargetId() {
+		return targetId;
+	}
+
+	/**
+	 * Retorna o identificador da instância que publicou a invalidação.
+	 * @return O identificador da instância.
+	 */
+	public String getNode() {
+		return node;
+	}
+
+	/**
+	 * Gera um código hash baseado na sequência.
+	 *
+	 * @return O código hash do objeto.
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(sequence);
+	}
+
+	/**
+	 * Compara este objeto InvalidationEvent com outro objeto, pela sequência.
+	 *
+	 * @param obj O objeto a ser comparado.
+	 * @return true se os objetos são iguais, false caso contrário.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		InvalidationEvent other = (InvalidationEvent) obj;
+		return Objects.equals(sequence, other.sequence);
+	}
+}
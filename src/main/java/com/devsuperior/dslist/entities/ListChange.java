@@ -0,0 +1,150 @@
+/**
+ * Representa um registro do histórico de alterações de ordem de uma lista de jogos.
+ * Cada movimentação de jogo gera um registro com um número de sequência crescente,
+ * permitindo que os clientes sincronizem apenas as alterações ocorridas desde a última leitura.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.entities;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+@Entity // Marca esta classe como uma entidade JPA, indicando que ela corresponde a uma tabela no banco de dados.
+@Table(name = "tb_list_change", indexes = @Index(columnList = "list_id, sequence")) // Índice usado nas buscas de alterações de uma lista.
+public class ListChange {
+
+	@Id // Indica que este campo é a chave primária da entidade.
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "list_change_seq") // Usa uma sequência do banco, compartilhada por todas as instâncias.
+	@SequenceGenerator(name = "list_change_seq", sequenceName = "tb_list_change_seq", allocationSize = 1) // Sem pré-alocação, para que a numeração seja crescente entre instâncias.
+	private Long sequence; // Número de sequência da alteração.
+
+	private Long listId; // Identificador da lista alterada.
+	private Long gameId; // Identificador do jogo movimentado.
+
+	@Column(name = "from_index") // Posição de origem do jogo na lista (nula quando o jogo foi incluído).
+	private Integer from;
+
+	@Column(name = "to_index") // Posição de destino do jogo na lista (nula quando o jogo foi removido).
+	private Integer to;
+
+	private Instant createdAt; // Instante em que a alteração foi registrada.
+
+	/**
+	 * Construtor padrão vazio.
+	 * Necessário para a JPA e para a criação de instâncias sem argumentos.
+	 */
+	public ListChange() {
+	}
+
+	/**
+	 * Construtor que inicializa os atributos de uma alteração. A sequência é gerada pelo banco.
+	 *
+	 * @param listId O identificador da lista alterada.
+	 * @param gameId O identificador do jogo movimentado.
+	 * @param from A posição de origem do jogo.
+	 * @param to A posição de destino do jogo.
+	 * @param createdAt O instante da alteração.
+	 */
+	public ListChange(Long listId, Long gameId, Integer from, Integer to, Instant createdAt) {
+		this.listId = listId;
+		this.gameId = gameId;
+		this.from = from;
+		this.to = to;
+		this.createdAt = createdAt;
+	}
+
+	/**
+	 * Retorna o número de sequência da alteração.
+	 * @return O número de sequência.
+	 */
+	public Long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * Define o número de sequência da alteração, obtido da sequência do banco pela gravação em lote.
+	 * @param sequence O número de sequência.
+	 */
+	public void setSequence(Long sequence) {
+		this.sequence = sequence;
+	}
+
+	/**
+	 * Retorna o identificador da lista alterada.
+	 * @return O ID da lista.
+	 */
+	public Long getListId() {
+		return listId;
+	}
+
+	/**
+	 * Retorna o identificador do jogo movimentado.
+	 * @return O ID do jogo.
+	 */
+	public Long getGameId() {
+		return gameId;
+	}
+
+	/**
+	 * Retorna a posição de origem do jogo.
+	 * @return A posição de origem.
+	 */
+	public Integer getFrom() {
+		return from;
+	}
+
+	/**
+	 * Retorna a posição de destino do jogo.
+	 * @return A posição de destino.
+	 */
+	public Integer getTo() {
+		return to;
+	}
+
+	/**
+	 * Retorna o instante em que a alteração foi registrada.
+	 * @return O instante da alteração.
+	 */
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+
+	/**
+	 * Gera um código hash para o objeto ListChange, baseado na sequência.
+	 *
+	 * @return O código hash do objeto.
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(sequence);
+	}
+
+	/**
+	 * Compara este objeto ListChange com outro objeto, pela sequência.
+	 *
+	 * @param obj O objeto a ser comparado.
+	 * @return true se os objetos são iguais, false caso contrário.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ListChange other = (ListChange) obj;
+		return Objects.equals(sequence, other.sequence);
+	}
+}
@@ -0,0 +1,125 @@
+/**
+ * Representa uma diferença de uma cópia de lista em relação à sua lista base.
+ * As diferenças são gravadas na ordem em que foram feitas e aplicadas sobre os jogos atuais da lista base
+ * para obter os jogos da cópia. Cada diferença identifica o jogo pelo ID, e não pela posição, para que
+ * continue válida quando a lista base muda depois da cópia.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.entities;
+
+import java.util.Objects;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+@Entity // Marca esta classe como uma entidade JPA, indicando que ela corresponde a uma tabela no banco de dados.
+@Table(name = "tb_list_delta", indexes = @Index(columnList = "list_id, id")) // Índice usado na leitura das diferenças de uma cópia.
+public class ListDelta {
+
+	/**
+	 * Tipo de diferença em relação à lista base.
+	 */
+	public enum Operation {
+		MOVE, // O jogo passa para a posição informada.
+		INSERT, // O jogo é incluído na posição informada.
+		REMOVE // O jogo é removido.
+	}
+
+	@Id // Indica que este campo é a chave primária da entidade.
+	@GeneratedValue(strategy = GenerationType.IDENTITY) // A identidade crescente define a ordem de aplicação das diferenças.
+	private Long id;
+
+	private Long listId; // Identificador da cópia.
+	private Long gameId; // Identificador do jogo alterado.
+
+	@Enumerated(EnumType.STRING) // Grava o nome da operação, legível nas consultas nativas.
+	private Operation op;
+
+	private Integer position; // Posição de destino do jogo (nula em uma remoção).
+
+	public ListDelta() {
+	}
+
+	public ListDelta(Long listId, Long gameId, Operation op, Integer position) {
+		this.listId = listId;
+		this.gameId = gameId;
+		this.op = op;
+		this.position = position;
+	}
+
+	/**
+	 * Retorna o identificador da diferença.
+	 * @return O ID da diferença.
+	 */
+	public Long getId() {
+		return id;
+	}
+
+	/**
+	 * Retorna o identificador da cópia.
+	 * @return O ID da lista.
+	 */
+	public Long getListId() {
+		return listId;
+	}
+
+	/**
+	 * Retorna o identificador do jogo alterado.
+	 * @return O ID do jogo.
+	 */
+	public Long getGameId() {
+		return gameId;
+	}
+
+	/**
+	 * Retorna o tipo de diferença.
+	 * @return A operação.
+	 */
+	public Operation getOp() {
+		return op;
+	}
+
+	/**
+	 * Retorna a posição de destino do jogo.
+	 * @return A posição, ou null em uma remoção.
+	 */
+	public Integer getPosition() {
+		return position;
+	}
+
+	/**
+	 * Gera um código hash para o objeto ListDelta, baseado no ID.
+	 *
+	 * @return O código hash do objeto.
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(id);
+	}
+
+	/**
+	 * Compara este objeto ListDelta com outro objeto, pelo ID.
+	 *
+	 * @param obj O objeto a ser comparado.
+	 * @return true se os objetos são iguais, false caso contrário.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ListDelta other = (ListDelta) obj;
+		return Objects.equals(id, other.id);
+	}
+}
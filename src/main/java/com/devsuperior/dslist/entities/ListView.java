@@ -0,0 +1,120 @@
+/**
+ * Representa uma linha da visão materializada das listas de jogos (`tb_list_view`).
+ * Cada linha guarda, já desnormalizados, os dados mínimos de um jogo na posição em que ele aparece
+ * em uma lista, para que a leitura de uma lista seja uma busca por faixa do índice sobre a lista e a posição,
+ * sem a junção entre `tb_game` e `tb_belonging` nem a ordenação.
+ * As linhas são mantidas pelo {@code ListViewService} na mesma transação das escritas nas tabelas normalizadas.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.entities;
+
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+@Entity // Marca esta classe como uma entidade JPA, mapeando-a para uma tabela no banco de dados.
+@Table(name = "tb_list_view", indexes = @Index(columnList = "list_id, position")) // Índice percorrido, na ordem das posições, na leitura de uma lista.
+public class ListView {
+
+	@EmbeddedId // A chave primária é composta pela lista e pelo jogo.
+	private ListViewPK id = new ListViewPK();
+
+	private Integer position; // Posição do jogo na lista.
+	private String title; // Título do jogo.
+
+	@Column(name = "game_year") // Mesma coluna usada em `tb_game`, pois 'year' é uma palavra reservada em alguns bancos.
+	private Integer year; // Ano de lançamento do jogo.
+	private String imgUrl; // URL da imagem de capa do jogo.
+
+	@Column(columnDefinition = "TEXT") // Define o tipo da coluna no banco de dados como TEXT, permitindo textos longos.
+	private String shortDescription; // Descrição curta do jogo.
+
+	/**
+	 * Construtor padrão vazio.
+	 * Necessário para a JPA e para a criação de instâncias sem argumentos.
+	 */
+	public ListView() {
+	}
+
+	/**
+	 * Retorna a chave primária (lista e jogo) desta linha.
+	 * @return A chave primária.
+	 */
+	public ListViewPK getId() {
+		return id;
+	}
+
+	/**
+	 * Retorna a posição do jogo na lista.
+	 * @return A posição do jogo.
+	 */
+	public Integer getPosition() {
+		return position;
+	}
+
+	/**
+	 * Retorna o título do jogo.
+	 * @return O título do jogo.
+	 */
+	public String getTitle() {
+		return title;
+	}
+
+	/**
+	 * Retorna o ano de lançamento do jogo.
+	 * @return O ano de lançamento.
+	 */
+	public Integer getYear() {
+		return year;
+	}
+
+	/**
+	 * Retorna a URL da imagem de capa do jogo.
+	 * @return A URL da imagem.
+	 */
+	public String getImgUrl() {
+		return imgUrl;
+	}
+
+	/**
+	 * Retorna a descrição curta do jogo.
+	 * @return A descrição curta.
+	 */
+	public String getShortDescription() {
+		return shortDescription;
+	}
+
+	/**
+	 * Gera um código hash baseado na chave primária.
+	 *
+	 * @return O código hash do objeto.
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(id);
+	}
+
+	/**
+	 * Compara este objeto ListView com outro objeto, pela chave primária.
+	 *
+	 * @param obj O objeto a ser comparado.
+	 * @return true se os objetos são iguais, false caso contrário.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ListView other = (ListView) obj;
+		return Objects.equals(id, other.id);
+	}
+}
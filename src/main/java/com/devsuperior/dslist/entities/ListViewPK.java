@@ -0,0 +1,72 @@
+/**
+ * Classe que representa a chave primária composta da entidade {@link ListView}.
+ * Uma linha da visão materializada é identificada pela lista e pelo jogo, como em `tb_belonging`, de modo que
+ * posições repetidas por uma falha nas tabelas normalizadas não impedem a gravação da visão.
+ * A ordem dos jogos de uma lista vem do índice sobre a lista e a posição, declarado em {@link ListView}.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.entities;
+
+import java.util.Objects;
+
+import jakarta.persistence.Embeddable;
+
+@Embeddable // Indica que esta classe é embutida como chave primária da entidade ListView.
+public class ListViewPK {
+
+	private Long listId; // Identificador da lista de jogos.
+	private Long gameId; // Identificador do jogo.
+
+	/**
+	 * Construtor padrão vazio.
+	 * Necessário para a JPA e para a criação de instâncias sem argumentos.
+	 */
+	public ListViewPK() {
+	}
+
+	/**
+	 * Retorna o identificador da lista de jogos.
+	 * @return O ID da lista.
+	 */
+	public Long getListId() {
+		return listId;
+	}
+
+	/**
+	 * Retorna o identificador do jogo.
+	 * @return O ID do jogo.
+	 */
+	public Long getGameId() {
+		return gameId;
+	}
+
+	/**
+	 * Gera um código hash baseado na lista e no jogo.
+	 *
+	 * @return O código hash do objeto.
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(listId, gameId);
+	}
+
+	/**
+	 * Compara este objeto ListViewPK com outro objeto, pela lista e pelo jogo.
+	 *
+	 * @param obj O objeto a ser comparado.
+	 * @return true se os objetos são iguais, false caso contrário.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ListViewPK other = (ListViewPK) obj;
+		return Objects.equals(listId, other.listId) && Objects.equals(gameId, other.gameId);
+	}
+}
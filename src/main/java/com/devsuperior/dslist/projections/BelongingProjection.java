@@ -0,0 +1,24 @@
+/**
+ * Interface de projeção com a posição de um jogo em uma lista.
+ * É utilizada em consultas SQL nativas sobre `tb_belonging` quando apenas o jogo e a sua posição
+ * são necessários, sem carregar os demais dados do jogo.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.projections;
+
+public interface BelongingProjection {
+
+	/**
+	 * Retorna o ID do jogo.
+	 * @return O ID do jogo.
+	 */
+	Long getGameId();
+
+	/**
+	 * Retorna a posição do jogo na lista.
+	 * @return A posição do jogo.
+	 */
+	Integer getPosition();
+}
@@ -0,0 +1,24 @@
+/**
+ * Projeção de um jogo com os dados mínimos e os atributos usados no cálculo de similaridade.
+ * O gênero e as plataformas são textos separados por vírgula, divididos em termos pelo
+ * {@link com.devsuperior.dslist.services.SimilarityService}.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.projections;
+
+public interface GameFeatureProjection extends GameMinProjection {
+
+	/**
+	 * Retorna os gêneros do jogo, separados por vírgula.
+	 * @return Os gêneros do jogo.
+	 */
+	String getGenre();
+
+	/**
+	 * Retorna as plataformas do jogo, separadas por vírgula.
+	 * @return As plataformas do jogo.
+	 */
+	String getPlatforms();
+}
@@ -0,0 +1,101 @@
+/**
+ * Enumeração dos campos de um jogo que podem ser selecionados pelo parâmetro `fields`.
+ * Cada campo conhece a coluna correspondente na tabela `tb_game` e o seu tipo Hibernate,
+ * permitindo montar uma projeção SQL apenas com as colunas pedidas pelo cliente.
+ * Campos marcados como mínimos são os que também estão disponíveis nas listagens de uma lista de jogos.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.projections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.type.BasicTypeReference;
+import org.hibernate.type.StandardBasicTypes;
+
+import com.devsuperior.dslist.services.exceptions.InvalidRequestException;
+
+public enum GameField {
+
+	ID("id", "id", StandardBasicTypes.LONG, true),
+	TITLE("title", "title", StandardBasicTypes.STRING, true),
+	YEAR("year", "game_year", StandardBasicTypes.INTEGER, true),
+	GENRE("genre", "genre", StandardBasicTypes.STRING, false),
+	PLATFORMS("platforms", "platforms", StandardBasicTypes.STRING, false),
+	SCORE("score", "score", StandardBasicTypes.DOUBLE, false),
+	IMG_URL("imgUrl", "img_url", StandardBasicTypes.STRING, true),
+	SHORT_DESCRIPTION("shortDescription", "short_description", StandardBasicTypes.STRING, true),
+	LONG_DESCRIPTION("longDescription", "long_description", StandardBasicTypes.STRING, false);
+
+	private final String name; // Nome do campo na API (igual ao atributo do DTO).
+	private final String column; // Nome da coluna na tabela `tb_game`.
+	private final BasicTypeReference<?> type; // Tipo Hibernate usado para ler a coluna.
+	private final boolean min; // Indica se o campo faz parte do GameMinDTO.
+
+	GameField(String name, String column, BasicTypeReference<?> type, boolean min) {
+		this.name = name;
+		this.column = column;
+		this.type = type;
+		this.min = min;
+	}
+
+	/**
+	 * Retorna o nome do campo na API.
+	 * @return O nome do campo.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retorna o nome da coluna correspondente na tabela `tb_game`.
+	 * @return O nome da coluna.
+	 */
+	public String getColumn() {
+		return column;
+	}
+
+	/**
+	 * Retorna o tipo Hibernate usado para ler a coluna.
+	 * @return O tipo da coluna.
+	 */
+	public BasicTypeReference<?> getType() {
+		return type;
+	}
+
+	/**
+	 * Interpreta o valor do parâmetro `fields` (ex.: "id,title,year"), na ordem informada e sem repetições.
+	 *
+	 * @param fields Os nomes dos campos separados por vírgula.
+	 * @param minOnly Se verdadeiro, aceita apenas os campos do GameMinDTO.
+	 * @return Os campos selecionados.
+	 * @throws InvalidRequestException Se nenhum campo for informado ou se algum campo não for permitido.
+	 */
+	public static List<GameField> parse(String fields, boolean minOnly) {
+		List<GameField> result = new ArrayList<>();
+		for (String name : fields.split(",")) {
+			String trimmed = name.trim();
+			if (trimmed.isEmpty()) {
+				continue;
+			}
+			GameField field = Arrays.stream(values())
+					.filter(f -> f.name.equals(trimmed) && (f.min || !minOnly))
+					.findFirst()
+					.orElseThrow(() -> new InvalidRequestException("Campo inválido: " + trimmed + ". Campos permitidos: " + allowed(minOnly)));
+			if (!result.contains(field)) {
+				result.add(field);
+			}
+		}
+		if (result.isEmpty()) {
+			throw new InvalidRequestException("Informe ao menos um campo. Campos permitidos: " + allowed(minOnly));
+		}
+		return result;
+	}
+
+	private static String allowed(boolean minOnly) {
+		return String.join(",", Arrays.stream(values()).filter(f -> f.min || !minOnly).map(GameField::getName).toList());
+	}
+}
@@ -0,0 +1,18 @@
+/**
+ * Projeção de uma diferença de uma cópia de lista, acompanhada dos dados mínimos do jogo alterado.
+ * Os dados do jogo permitem montar os jogos incluídos na cópia sem uma consulta adicional.
+ * A posição é a posição de destino da diferença.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.projections;
+
+public interface ListDeltaProjection extends GameMinProjection {
+
+	/**
+	 * Retorna o tipo de diferença (`MOVE`, `INSERT` ou `REMOVE`).
+	 * @return O nome da operação.
+	 */
+	String getOp();
+}
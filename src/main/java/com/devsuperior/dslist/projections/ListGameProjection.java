@@ -0,0 +1,60 @@
+/**
+ * Projeção de um jogo acompanhado dos dados e dos agregados da lista a que pertence.
+ * Usada para ler uma ou mais listas e os seus jogos em uma única consulta: cada linha repete o ID e o nome
+ * da lista, e uma lista sem jogos aparece em uma linha com os campos do jogo nulos.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.projections;
+
+public interface ListGameProjection extends GameMinProjection {
+
+	/**
+	 * Retorna o ID da lista de jogos.
+	 * @return O ID da lista.
+	 */
+	Long getListId();
+
+	/**
+	 * Retorna o nome da lista de jogos.
+	 * @return O nome da lista.
+	 */
+	String getListName();
+
+	/**
+	 * Retorna a quantidade de jogos na lista.
+	 * @return A quantidade de jogos.
+	 */
+	int getGameCount();
+
+	/**
+	 * Retorna a soma das notas dos jogos da lista que possuem nota.
+	 * @return A soma das notas.
+	 */
+	double getScoreSum();
+
+	/**
+	 * Retorna a quantidade de jogos da lista que possuem nota.
+	 * @return A quantidade de notas.
+	 */
+	int getScoreCount();
+
+	/**
+	 * Retorna o menor ano de lançamento entre os jogos da lista.
+	 * @return O menor ano.
+	 */
+	Integer getMinYear();
+
+	/**
+	 * Retorna o maior ano de lançamento entre os jogos da lista.
+	 * @return O maior ano.
+	 */
+	Integer getMaxYear();
+
+	/**
+	 * Retorna a lista base, se a lista for uma cópia ainda não materializada.
+	 * @return O ID da lista base, ou null se a lista guarda os próprios jogos.
+	 */
+	Long getBaseListId();
+}
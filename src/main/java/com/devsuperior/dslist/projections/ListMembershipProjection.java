@@ -0,0 +1,23 @@
+/**
+ * Interface de projeção com a participação de um jogo em uma lista, sem a posição.
+ * Usada para ler de uma só vez todas as associações entre listas e jogos.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.projections;
+
+public interface ListMembershipProjection {
+
+	/**
+	 * Retorna o ID da lista.
+	 * @return O ID da lista.
+	 */
+	Long getListId();
+
+	/**
+	 * Retorna o ID do jogo.
+	 * @return O ID do jogo.
+	 */
+	Long getGameId();
+}
@@ -0,0 +1,65 @@
+/**
+ * Interface de projeção com o resumo das posições de uma lista em `tb_belonging`.
+ * Permite verificar, com uma única consulta agregada, se as posições formam a sequência
+ * contínua 0..n-1 sem repetições, sem carregar os jogos da lista.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.projections;
+
+public interface PositionSummaryProjection {
+
+	/**
+	 * Retorna a quantidade de jogos da lista.
+	 * @return A quantidade de linhas da lista em `tb_belonging`.
+	 */
+	Long getBelongings();
+
+	/**
+	 * Retorna a quantidade de posições distintas da lista.
+	 * @return A quantidade de posições distintas.
+	 */
+	Long getDistinctPositions();
+
+	/**
+	 * Retorna a menor posição da lista.
+	 * @return A menor posição, ou null se a lista estiver vazia.
+	 */
+	Integer getMinPosition();
+
+	/**
+	 * Retorna a maior posição da lista.
+	 * @return A maior posição, ou null se a lista estiver vazia.
+	 */
+	Integer getMaxPosition();
+
+	/**
+	 * Retorna a quantidade de jogos que repetem a posição de outro jogo.
+	 * @return A quantidade de posições repetidas.
+	 */
+	default long getDuplicates() {
+		return getBelongings() - getDistinctPositions();
+	}
+
+	/**
+	 * Retorna a quantidade de posições ausentes entre 0 e a maior posição da lista.
+	 * Posições negativas também são contadas, pois ficam fora da sequência esperada.
+	 * @return A quantidade de lacunas.
+	 */
+	default long getGaps() {
+		if (getBelongings() == 0) {
+			return 0;
+		}
+		long negatives = getMinPosition() < 0 ? 1 : 0;
+		return Math.max(0, getMaxPosition() + 1L - getDistinctPositions()) + negatives;
+	}
+
+	/**
+	 * Indica se as posições formam a sequência contínua 0..n-1, sem repetições.
+	 * @return true se a lista está íntegra.
+	 */
+	default boolean isDense() {
+		return getBelongings() == 0 || (getDuplicates() == 0 && getMinPosition() == 0 && getMaxPosition() == getBelongings() - 1);
+	}
+}
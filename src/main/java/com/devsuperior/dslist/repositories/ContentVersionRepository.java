@@ -0,0 +1,68 @@
+/**
+ * Repositório para operações de acesso a dados relacionadas a {@link ContentVersion}.
+ * As versões avançam na transação da escrita que as publica, e as leituras são feitas por todas as instâncias.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.repositories;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.devsuperior.dslist.entities.ContentVersion;
+
+public interface ContentVersionRepository extends JpaRepository<ContentVersion, String> {
+
+	/**
+	 * Grava o instante inicial das versões, se ainda não houver um; a primeira instância a iniciar define o valor.
+	 *
+	 * @param now O instante atual, em milissegundos.
+	 */
+	@Transactional // Participa da transação corrente ou cria uma nova.
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@Query(nativeQuery = true, value = """
+			MERGE INTO tb_version v
+			USING (SELECT 'epoch' AS id, CAST(:now AS BIGINT) AS now_at) s ON v.id = s.id
+			WHEN NOT MATCHED THEN INSERT (id, version_number, modified_at) VALUES (s.id, 0, s.now_at)
+			""")
+	void insertEpoch(long now);
+
+	/**
+	 * Retorna o instante mais recente entre as versões informadas.
+	 *
+	 * @param ids As chaves dos dados versionados.
+	 * @return O instante mais recente, ou 0 se nenhuma das versões existir.
+	 */
+	@Transactional(readOnly = true) // Garante que a operação de leitura seja otimizada e executada dentro de uma transação.
+	@Query(nativeQuery = true, value = "SELECT COALESCE(MAX(modified_at), 0) FROM tb_version WHERE id IN :ids")
+	long findLatestModified(Collection<String> ids);
+
+	/**
+	 * Avança a versão de um dado, criando-a se ainda não existir, com um único comando.
+	 * O novo instante fica em um segundo posterior ao da versão atual e ao piso informado: como `Last-Modified`
+	 * tem resolução de um segundo, uma alteração no mesmo segundo da anterior é arredondada para o início do
+	 * segundo seguinte.
+	 *
+	 * @param id A chave do dado versionado.
+	 * @param now O instante atual, em milissegundos.
+	 * @param floor O instante que a nova versão deve ultrapassar, além do da versão atual.
+	 */
+	@Transactional // Avança na transação da escrita, e só é visível às demais instâncias quando ela for confirmada.
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@Query(nativeQuery = true, value = """
+			MERGE INTO tb_version v
+			USING (SELECT CAST(:id AS VARCHAR(255)) AS id, CAST(:now AS BIGINT) AS now_at, CAST(:floor AS BIGINT) AS floor_at) s
+			ON v.id = s.id
+			WHEN MATCHED THEN UPDATE SET version_number = v.version_number + 1,
+				modified_at = CASE WHEN s.now_at / 1000 > GREATEST(v.modified_at, s.floor_at) / 1000 THEN s.now_at
+					ELSE (GREATEST(v.modified_at, s.floor_at) / 1000 + 1) * 1000 END
+			WHEN NOT MATCHED THEN INSERT (id, version_number, modified_at) VALUES (s.id, 1,
+				CASE WHEN s.now_at / 1000 > s.floor_at / 1000 THEN s.now_at ELSE (s.floor_at / 1000 + 1) * 1000 END)
+			""")
+	void advance(String id, long now, long floor);
+}
@@ -2,18 +2,33 @@
  * Repositório para operações de acesso a dados relacionadas a {@link GameList}.
  * Esta interface estende {@link JpaRepository}, fornecendo métodos CRUD básicos
  * e funcionalidades de paginação e ordenação para a entidade GameList.
- * Além disso, define uma consulta nativa para atualizar a posição de um jogo em uma lista.
+ * Além disso, define consultas nativas para atualizar a posição de um jogo em uma lista
+ * e para incluir e remover jogos em lote, recalculando as posições com comandos SQL sobre conjuntos.
+ * Os agregados de cada lista, guardados em `tb_game_list`, também são mantidos por comandos nativos;
+ * como informam a tabela alterada, o Hibernate descarta as listas do cache de segundo nível ao executá-los.
+ * As cópias ainda não materializadas não têm linhas em `tb_belonging` e os seus agregados são substituídos
+ * a partir dos jogos obtidos pelo {@link com.devsuperior.dslist.services.ListForkService}.
+ * O resumo das posições de cada lista é usado pela verificação de integridade feita em segundo plano.
  *
  * @author lacerdagb (mantido como autor original, conforme instrução)
  * @version 1.0.0
  */
 package com.devsuperior.dslist.repositories;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.devsuperior.dslist.entities.GameList;
+import com.devsuperior.dslist.projections.BelongingProjection;
+import com.devsuperior.dslist.projections.PositionSummaryProjection;
+
+import jakarta.persistence.QueryHint;
 
 public interface GameListRepository extends JpaRepository<GameList, Long> {
 
@@ -21,15 +36,327 @@ public interface GameListRepository extends JpaRepository<GameList, Long> {
 	 * Atualiza a posição de um jogo específico dentro de uma lista de jogos no banco de dados.
 	 * Esta é uma consulta SQL nativa que modifica diretamente a tabela de relacionamento `tb_belonging`.
 	 * É marcada com `@Modifying` para indicar que a consulta modifica o estado do banco de dados.
+	 * A tabela alterada é informada ao Hibernate para que apenas as consultas em cache que
+	 * dependem de `tb_belonging` sejam invalidadas.
 	 *
 	 * @param listId O ID da lista de jogos onde a posição do jogo será atualizada.
 	 * @param gameId O ID do jogo cuja posição será atualizada.
 	 * @param newPosition A nova posição (índice) para o jogo dentro da lista.
 	 */
 	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_belonging")) // Invalida o cache das consultas sobre `tb_belonging`.
 	@Query(nativeQuery = true, // Especifica que a consulta é SQL nativa, não JPQL.
 		value = "UPDATE tb_belonging SET position = :newPosition WHERE list_id = :listId AND game_id = :gameId")
 	void updateBelongingPosition(Long listId, Long gameId, Integer newPosition);
-}
 
+	/**
+	 * Busca os IDs dos jogos de uma lista, na ordem das posições, bloqueando as linhas até o fim da transação.
+	 * Usada por toda leitura que decide uma escrita: não passa pelo cache de consultas, que pode estar desatualizado,
+	 * e o bloqueio impede que outra transação altere a ordem lida antes que as novas posições sejam gravadas.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @return Os IDs dos jogos, na ordem das posições.
+	 */
+	@Query(nativeQuery = true, value = "SELECT game_id FROM tb_belonging WHERE list_id = :listId ORDER BY position FOR UPDATE")
+	List<Long> lockGameIds(Long listId);
+
+	/**
+	 * Busca os IDs dos jogos de uma lista, na ordem das posições, sem bloqueá-los e sem passar pelo cache de consultas.
+	 * Usada quando a ordem confirmada mais recente precisa ser lida, mas a escrita que a usará bloqueia a lista depois.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @return Os IDs dos jogos, na ordem das posições.
+	 */
+	@Query(nativeQuery = true, value = "SELECT game_id FROM tb_belonging WHERE list_id = :listId ORDER BY position")
+	List<Long> findGameIds(Long listId);
+
+	/**
+	 * Bloqueia a linha de uma lista até o fim da transação, sem passar pelo cache de segundo nível.
+	 * Serializa as escritas em uma cópia, cujas diferenças não têm outra linha comum a bloquear.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @return O ID da lista, ou null se ela não existir.
+	 */
+	@Query(nativeQuery = true, value = "SELECT id FROM tb_game_list WHERE id = :listId FOR UPDATE")
+	Long lockList(Long listId);
+
+	/**
+	 * Resume as posições de uma lista com uma única consulta agregada: quantidade de jogos,
+	 * quantidade de posições distintas e as posições extremas.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @return O resumo das posições da lista.
+	 */
+	@Query(nativeQuery = true, value = """
+			SELECT COUNT(*) AS belongings, COUNT(DISTINCT position) AS distinctPositions,
+				MIN(position) AS minPosition, MAX(position) AS maxPosition
+			FROM tb_belonging
+			WHERE list_id = :listId
+			""")
+	PositionSummaryProjection summarizePositions(Long listId);
+
+	/**
+	 * Busca, em ordem, os IDs das listas seguintes a um ID, para percorrer as listas em blocos.
+	 *
+	 * @param afterId O último ID já percorrido (0 para começar do início).
+	 * @param limit A quantidade máxima de IDs retornados.
+	 * @return Os IDs das listas seguintes, em ordem crescente.
+	 */
+	@Query(nativeQuery = true, value = "SELECT id FROM tb_game_list WHERE id > :afterId ORDER BY id LIMIT :limit")
+	List<Long> findIdsAfter(long afterId, int limit);
+
+	/**
+	 * Busca a posição dos jogos informados que pertencem a uma lista, da maior para a menor posição.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param gameIds Os IDs dos jogos procurados.
+	 * @return O jogo e a posição de cada jogo encontrado na lista.
+	 */
+	@Query(nativeQuery = true, value = """
+			SELECT game_id AS gameId, position FROM tb_belonging
+			WHERE list_id = :listId AND game_id IN :gameIds
+			ORDER BY position DESC
+			""")
+	List<BelongingProjection> searchBelongings(Long listId, Collection<Long> gameIds);
+
+	/**
+	 * Desloca, com um único comando, todos os jogos de uma lista a partir de uma posição.
+	 * Usado para abrir espaço antes de uma inclusão em lote.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param fromPosition A primeira posição deslocada.
+	 * @param offset A quantidade de posições a somar.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_belonging")) // Invalida o cache das consultas sobre `tb_belonging`.
+	@Query(nativeQuery = true,
+		value = "UPDATE tb_belonging SET position = position + :offset WHERE list_id = :listId AND position >= :fromPosition")
+	void shiftPositions(Long listId, int fromPosition, int offset);
+
+	/**
+	 * Inclui, com um único comando, os jogos informados em posições consecutivas a partir de um índice.
+	 * O vetor é desaninhado pelo banco (`UNNEST ... WITH ORDINALITY`), o que preserva a ordem recebida.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param gameIds Os IDs dos jogos, na ordem em que devem aparecer.
+	 * @param index A posição do primeiro jogo.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_belonging")) // Invalida o cache das consultas sobre `tb_belonging`.
+	@Query(nativeQuery = true, value = """
+			INSERT INTO tb_belonging (list_id, game_id, position)
+			SELECT :listId, t.game_id, :index + t.ord - 1
+			FROM UNNEST(:gameIds) WITH ORDINALITY AS t(game_id, ord)
+			""")
+	void insertBelongings(Long listId, Long[] gameIds, int index);
+
+	/**
+	 * Remove, com um único comando, os jogos informados de uma lista.
+	 * As posições restantes ficam com lacunas até que {@link #renumberPositions(Long)} seja executado.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param gameIds Os IDs dos jogos a serem removidos.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_belonging")) // Invalida o cache das consultas sobre `tb_belonging`.
+	@Query(nativeQuery = true, value = "DELETE FROM tb_belonging WHERE list_id = :listId AND game_id IN :gameIds")
+	void deleteBelongings(Long listId, Collection<Long> gameIds);
+
+	/**
+	 * Renumera as posições de uma lista para a sequência contínua 0..n-1, mantendo a ordem atual.
+	 * A nova posição é calculada com `ROW_NUMBER()` e somente as linhas cuja posição muda são atualizadas.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @return A quantidade de jogos cuja posição foi alterada.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_belonging")) // Invalida o cache das consultas sobre `tb_belonging`.
+	@Query(nativeQuery = true, value = """
+			MERGE INTO tb_belonging b
+			USING (SELECT game_id, ROW_NUMBER() OVER (ORDER BY position, game_id) - 1 AS new_position
+				FROM tb_belonging WHERE list_id = :listId) r
+			ON b.list_id = :listId AND b.game_id = r.game_id
+			WHEN MATCHED AND b.position <> r.new_position THEN UPDATE SET position = r.new_position
+			""")
+	int renumberPositions(Long listId);
+
+	/**
+	 * Grava, com um único comando, as posições de uma faixa contínua de jogos de uma lista.
+	 * O primeiro jogo informado recebe a posição inicial, o segundo a seguinte, e assim por diante.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param gameIds Os IDs dos jogos da faixa, na nova ordem.
+	 * @param fromPosition A posição do primeiro jogo da faixa.
+	 * @return A quantidade de jogos cuja posição foi gravada.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_belonging")) // Invalida o cache das consultas sobre `tb_belonging`.
+	@Query(nativeQuery = true, value = """
+			MERGE INTO tb_belonging b
+			USING (SELECT t.game_id, :fromPosition + t.ord - 1 AS new_position
+				FROM UNNEST(:gameIds) WITH ORDINALITY AS t(game_id, ord)) r
+			ON b.list_id = :listId AND b.game_id = r.game_id
+			WHEN MATCHED THEN UPDATE SET position = r.new_position
+			""")
+	int updatePositions(Long listId, Long[] gameIds, int fromPosition);
+
+	/**
+	 * Soma aos agregados de uma lista os jogos incluídos, sem ler os jogos que já estavam nela.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param gameIds Os IDs dos jogos incluídos.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_game_list")) // Invalida as listas em cache.
+	@Query(nativeQuery = true, value = """
+			UPDATE tb_game_list SET (game_count, score_sum, score_count, min_year, max_year) =
+			(SELECT tb_game_list.game_count + added.game_count, tb_game_list.score_sum + added.score_sum,
+			tb_game_list.score_count + added.score_count, LEAST(tb_game_list.min_year, added.min_year),
+			GREATEST(tb_game_list.max_year, added.max_year)
+			FROM (SELECT COUNT(*) AS game_count, COALESCE(SUM(score), 0) AS score_sum, COUNT(score) AS score_count,
+				MIN(game_year) AS min_year, MAX(game_year) AS max_year
+				FROM tb_game WHERE id IN :gameIds) added)
+			WHERE id = :listId
+			""")
+	void addAggregates(Long listId, Collection<Long> gameIds);
+
+	/**
+	 * Subtrai dos agregados de uma lista a quantidade e as notas dos jogos removidos.
+	 * A faixa de anos não pode ser subtraída e é ajustada por {@link #refreshYearRange(Long, Collection)}.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param gameIds Os IDs dos jogos removidos.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_game_list")) // Invalida as listas em cache.
+	@Query(nativeQuery = true, value = """
+			UPDATE tb_game_list SET (game_count, score_sum, score_count) =
+			(SELECT tb_game_list.game_count - removed.game_count, tb_game_list.score_sum - removed.score_sum,
+			tb_game_list.score_count - removed.score_count
+			FROM (SELECT COUNT(*) AS game_count, COALESCE(SUM(score), 0) AS score_sum, COUNT(score) AS score_count
+				FROM tb_game WHERE id IN :gameIds) removed)
+			WHERE id = :listId
+			""")
+	void subtractAggregates(Long listId, Collection<Long> gameIds);
+
+	/**
+	 * Recalcula a faixa de anos de uma lista a partir dos jogos restantes, somente se algum jogo removido
+	 * estava em um dos extremos da faixa.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param gameIds Os IDs dos jogos removidos, já fora de `tb_belonging`.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_game_list")) // Invalida as listas em cache.
+	@Query(nativeQuery = true, value = """
+			UPDATE tb_game_list SET (min_year, max_year) =
+			(SELECT MIN(tb_game.game_year), MAX(tb_game.game_year)
+			FROM tb_belonging INNER JOIN tb_game ON tb_game.id = tb_belonging.game_id
+			WHERE tb_belonging.list_id = :listId)
+			WHERE id = :listId AND EXISTS (SELECT 1 FROM tb_game WHERE id IN :gameIds
+				AND (game_year = tb_game_list.min_year OR game_year = tb_game_list.max_year))
+			""")
+	void refreshYearRange(Long listId, Collection<Long> gameIds);
+
+	/**
+	 * Recalcula os agregados das listas que contêm algum dos jogos informados, cujos dados foram alterados.
+	 *
+	 * @param gameIds Os IDs dos jogos alterados.
+	 * @return A quantidade de listas recalculadas.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_game_list")) // Invalida as listas em cache.
+	@Query(nativeQuery = true, value = """
+			UPDATE tb_game_list SET (game_count, score_sum, score_count, min_year, max_year) =
+			(SELECT COUNT(*), COALESCE(SUM(tb_game.score), 0), COUNT(tb_game.score), MIN(tb_game.game_year), MAX(tb_game.game_year)
+			FROM tb_belonging INNER JOIN tb_game ON tb_game.id = tb_belonging.game_id
+			WHERE tb_belonging.list_id = tb_game_list.id)
+			WHERE id IN (SELECT list_id FROM tb_belonging WHERE game_id IN :gameIds)
+			""")
+	int refreshAggregatesOfGames(Collection<Long> gameIds);
 
+	/**
+	 * Recalcula os agregados de todas as listas a partir das tabelas normalizadas.
+	 *
+	 * @return A quantidade de listas recalculadas.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_game_list")) // Invalida as listas em cache.
+	@Query(nativeQuery = true, value = """
+			UPDATE tb_game_list SET (game_count, score_sum, score_count, min_year, max_year) =
+			(SELECT COUNT(*), COALESCE(SUM(tb_game.score), 0), COUNT(tb_game.score), MIN(tb_game.game_year), MAX(tb_game.game_year)
+			FROM tb_belonging INNER JOIN tb_game ON tb_game.id = tb_belonging.game_id
+			WHERE tb_belonging.list_id = tb_game_list.id)
+			WHERE base_list_id IS NULL
+			""")
+	int refreshAllAggregates();
+
+	/**
+	 * Substitui os agregados de uma lista pelos dos jogos informados.
+	 * Usado nas cópias, cujos jogos não estão em `tb_belonging` e são obtidos aplicando as diferenças à lista base.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param gameIds Os IDs de todos os jogos da lista.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_game_list")) // Invalida as listas em cache.
+	@Query(nativeQuery = true, value = """
+			UPDATE tb_game_list SET (game_count, score_sum, score_count, min_year, max_year) =
+			(SELECT COUNT(*), COALESCE(SUM(score), 0), COUNT(score), MIN(game_year), MAX(game_year)
+			FROM tb_game WHERE id = ANY(:gameIds))
+			WHERE id = :listId
+			""")
+	void replaceAggregates(Long listId, Long[] gameIds);
+
+	/**
+	 * Busca as cópias ainda não materializadas de uma lista.
+	 *
+	 * @param baseListId O ID da lista base.
+	 * @return Os IDs das cópias.
+	 */
+	@Query(nativeQuery = true, value = "SELECT id FROM tb_game_list WHERE base_list_id = :baseListId")
+	List<Long> findForks(Long baseListId);
+
+	/**
+	 * Busca um bloco das cópias ainda não materializadas de uma lista, a partir de um cursor.
+	 *
+	 * @param baseListId O ID da lista base.
+	 * @param afterId O ID da última cópia do bloco anterior (0 para começar).
+	 * @param limit A quantidade máxima de cópias.
+	 * @return Os IDs das cópias, em ordem crescente.
+	 */
+	@Query(nativeQuery = true, value = "SELECT id FROM tb_game_list WHERE base_list_id = :baseListId AND id > :afterId ORDER BY id LIMIT :limit")
+	List<Long> findForksAfter(Long baseListId, long afterId, int limit);
+
+	/**
+	 * Busca as cópias ainda não materializadas que contêm algum dos jogos informados,
+	 * pela lista base ou pelas próprias diferenças.
+	 *
+	 * @param gameIds Os IDs dos jogos.
+	 * @return Os IDs das cópias.
+	 */
+	@Query(nativeQuery = true, value = """
+			SELECT id FROM tb_game_list
+			WHERE base_list_id IN (SELECT list_id FROM tb_belonging WHERE game_id IN :gameIds)
+			OR id IN (SELECT list_id FROM tb_list_delta WHERE game_id IN :gameIds)
+			""")
+	List<Long> findForksOfGames(Collection<Long> gameIds);
+
+	/**
+	 * Busca todas as cópias ainda não materializadas.
+	 *
+	 * @return Os IDs das cópias.
+	 */
+	@Query(nativeQuery = true, value = "SELECT id FROM tb_game_list WHERE base_list_id IS NOT NULL")
+	List<Long> findAllForks();
+
+	/**
+	 * Desvincula uma cópia da sua lista base, depois que os seus jogos foram gravados em `tb_belonging`.
+	 *
+	 * @param listId O ID da cópia.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_game_list")) // Invalida as listas em cache.
+	@Query(nativeQuery = true, value = "UPDATE tb_game_list SET base_list_id = NULL WHERE id = :listId")
+	void detachFork(Long listId);
+}
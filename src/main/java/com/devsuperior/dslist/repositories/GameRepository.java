@@ -2,33 +2,48 @@
  * Repositório para operações de acesso a dados relacionadas a {@link Game}.
  * Esta interface estende {@link JpaRepository}, fornecendo métodos CRUD básicos
  * e funcionalidades de paginação e ordenação para a entidade Game.
- * Além disso, define uma consulta nativa para buscar jogos por lista, retornando uma projeção mínima.
+ * Além disso, define uma consulta nativa para buscar jogos por lista, retornando uma projeção mínima,
+ * e herda de {@link GameRepositoryCustom} as consultas com seleção dinâmica de colunas.
  *
  * @author lacerdagb (mantido como autor original, conforme instrução)
  * @version 1.0.0
  */
 package com.devsuperior.dslist.repositories;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.devsuperior.dslist.entities.Game;
+import com.devsuperior.dslist.projections.GameFeatureProjection;
 import com.devsuperior.dslist.projections.GameMinProjection;
+import com.devsuperior.dslist.projections.ListMembershipProjection;
 
-public interface GameRepository extends JpaRepository<Game, Long> {
+import jakarta.persistence.QueryHint;
+
+public interface GameRepository extends JpaRepository<Game, Long>, GameRepositoryCustom {
 
 	/**
 	 * Busca uma lista de jogos com informações mínimas, filtrando por uma lista de jogos específica.
 	 * Esta consulta utiliza SQL nativo para unir as tabelas `tb_game` e `tb_belonging`
 	 * e ordenar os resultados pela posição do jogo na lista.
 	 * Os resultados são mapeados para a interface {@link GameMinProjection}.
+	 * O resultado fica no cache de consultas do Hibernate e é invalidado sempre que
+	 * as tabelas `tb_game` ou `tb_belonging` são alteradas pela aplicação.
 	 *
 	 * @param listId O ID da lista de jogos pela qual os jogos serão filtrados.
 	 * @return Uma lista de objetos {@link GameMinProjection} contendo os jogos da lista especificada,
 	 *         com informações mínimas e ordenados pela posição.
 	 */
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), // Armazena o resultado no cache de consultas.
+		@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_game"), // Tabelas das quais o resultado depende,
+		@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_belonging") // usadas para invalidar o cache.
+	})
 	@Query(nativeQuery = true, value = """ 
 			SELECT tb_game.id, tb_game.title, tb_game.game_year AS gameYear, tb_game.img_url AS imgUrl,
 			tb_game.short_description AS shortDescription, tb_belonging.position
@@ -38,6 +53,57 @@ public interface GameRepository extends JpaRepository<Game, Long> {
 			ORDER BY tb_belonging.position
 				""")
 	List<GameMinProjection> searchByList(Long listId);
-}
 
+	/**
+	 * Conta quantos dos IDs informados correspondem a jogos existentes.
+	 *
+	 * @param ids Os IDs procurados.
+	 * @return A quantidade de jogos encontrados.
+	 */
+	long countByIdIn(Collection<Long> ids);
+
+	/**
+	 * Busca todos os jogos com os dados mínimos e os atributos usados no cálculo de similaridade, em ordem de ID.
+	 *
+	 * @return Os jogos do catálogo.
+	 */
+	@Query(nativeQuery = true, value = """
+			SELECT id, title, game_year AS gameYear, img_url AS imgUrl, short_description AS shortDescription, genre, platforms
+			FROM tb_game
+			ORDER BY id
+			""")
+	List<GameFeatureProjection> searchFeatures();
 
+	/**
+	 * Busca os jogos informados com os dados mínimos e os atributos usados no cálculo de similaridade, em ordem de ID.
+	 * Usada para reler somente os jogos alterados desde o último cálculo.
+	 *
+	 * @param ids Os IDs dos jogos.
+	 * @return Os jogos ainda existentes entre os informados.
+	 */
+	@Query(nativeQuery = true, value = """
+			SELECT id, title, game_year AS gameYear, img_url AS imgUrl, short_description AS shortDescription, genre, platforms
+			FROM tb_game
+			WHERE id IN :ids
+			ORDER BY id
+			""")
+	List<GameFeatureProjection> searchFeaturesByIds(Collection<Long> ids);
+
+	/**
+	 * Busca todas as associações entre listas e jogos.
+	 *
+	 * @return As associações, sem ordem definida.
+	 */
+	@Query(nativeQuery = true, value = "SELECT list_id AS listId, game_id AS gameId FROM tb_belonging")
+	List<ListMembershipProjection> searchMemberships();
+
+	/**
+	 * Busca as associações entre jogos e as listas informadas.
+	 * Usada para reler somente as listas alteradas desde o último cálculo de similaridade.
+	 *
+	 * @param listIds Os IDs das listas.
+	 * @return As associações, sem ordem definida.
+	 */
+	@Query(nativeQuery = true, value = "SELECT list_id AS listId, game_id AS gameId FROM tb_belonging WHERE list_id IN :listIds")
+	List<ListMembershipProjection> searchMembershipsByLists(Collection<Long> listIds);
+}
@@ -0,0 +1,90 @@
+/**
+ * Consultas de {@link com.devsuperior.dslist.entities.Game} com projeção dinâmica de colunas.
+ * Apenas as colunas correspondentes aos campos pedidos são lidas do banco de dados,
+ * de modo que colunas grandes como `long_description` não são carregadas quando não solicitadas.
+ * Também define a gravação de jogos em lote via JDBC, usada pela importação de catálogos, e a leitura
+ * dos jogos mínimos linha a linha, sem entidades nem projeções, usada para escrever as respostas diretamente do ResultSet.
+ * Implementada por {@link GameRepositoryCustomImpl} e combinada ao {@link GameRepository} pelo Spring Data.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.repositories;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.devsuperior.dslist.entities.Game;
+import com.devsuperior.dslist.projections.GameField;
+
+public interface GameRepositoryCustom {
+
+	/**
+	 * Busca todos os jogos, lendo apenas as colunas dos campos informados.
+	 *
+	 * @param fields Os campos a serem lidos.
+	 * @return Um mapa por jogo, com os campos na ordem informada, ordenado pelo ID do jogo.
+	 */
+	List<Map<String, Object>> findAllFields(List<GameField> fields);
+
+	/**
+	 * Busca um jogo pelo ID, lendo apenas as colunas dos campos informados.
+	 *
+	 * @param id O ID do jogo.
+	 * @param fields Os campos a serem lidos.
+	 * @return Um mapa com os campos do jogo, se ele existir.
+	 */
+	Optional<Map<String, Object>> findByIdFields(Long id, List<GameField> fields);
+
+	/**
+	 * Busca os jogos de uma lista, ordenados pela posição, lendo apenas as colunas dos campos informados.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param fields Os campos a serem lidos.
+	 * @return Um mapa por jogo, com os campos na ordem informada.
+	 */
+	List<Map<String, Object>> searchByListFields(Long listId, List<GameField> fields);
+
+	/**
+	 * Percorre os jogos de uma lista na visão materializada, na ordem das posições, entregando cada linha ao tratador.
+	 * Executa a mesma consulta de {@link ListViewRepository#searchByList(Long)}, sem passar pelo cache de consultas.
+	 * As colunas são, nesta ordem: id, title, game_year, img_url e short_description.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param handler O tratador chamado para cada linha do ResultSet.
+	 */
+	void streamByList(Long listId, RowCallbackHandler handler);
+
+	/**
+	 * Percorre todos os jogos, ordenados pelo ID, entregando cada linha ao tratador.
+	 * As colunas são as mesmas de {@link #streamByList(Long, RowCallbackHandler)}.
+	 *
+	 * @param handler O tratador chamado para cada linha do ResultSet.
+	 */
+	void streamAll(RowCallbackHandler handler);
+
+	/**
+	 * Percorre os jogos informados, na ordem dos IDs recebidos, entregando cada linha ao tratador.
+	 * Usado para as cópias de listas, cuja ordem não está na visão materializada. IDs sem jogo são ignorados.
+	 * As colunas são as mesmas de {@link #streamByList(Long, RowCallbackHandler)}.
+	 *
+	 * @param gameIds Os IDs dos jogos, na ordem em que devem ser entregues.
+	 * @param handler O tratador chamado para cada linha do ResultSet.
+	 */
+	void streamByIds(Long[] gameIds, RowCallbackHandler handler);
+
+	/**
+	 * Insere ou atualiza um lote de jogos usando comandos JDBC em lote, sem passar pelo Hibernate.
+	 * Jogos com ID são gravados com `MERGE` (atualizados se existirem, inseridos com o mesmo ID caso contrário),
+	 * e a sequência `tb_game_seq` é avançada para além do maior deles; jogos sem ID recebem IDs de blocos
+	 * reservados na sequência. Um jogo novo não pode usar um ID abaixo do valor atual da sequência, cujos blocos
+	 * podem já ter sido reservados. Tudo acontece na transação corrente, sem ajustes após a confirmação.
+	 *
+	 * @param games Os jogos a serem gravados.
+	 * @throws IllegalArgumentException Se um ID abaixo do valor atual da sequência não corresponder a um jogo existente.
+	 */
+	void upsertBatch(List<Game> games);
+}
@@ -0,0 +1,209 @@
+/**
+ * Implementação das consultas com projeção dinâmica de colunas definidas em {@link GameRepositoryCustom}.
+ * Monta SQL nativo contendo somente as colunas pedidas e informa ao Hibernate o tipo de cada uma.
+ * A gravação em lote e a leitura linha a linha dos jogos mínimos usam {@link JdbcTemplate},
+ * que participa da transação JPA corrente.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.devsuperior.dslist.entities.Game;
+import com.devsuperior.dslist.projections.GameField;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class GameRepositoryCustomImpl implements GameRepositoryCustom {
+
+	@PersistenceContext // Injeta o EntityManager associado à transação corrente.
+	private EntityManager entityManager;
+
+	@Autowired // Executa os comandos JDBC em lote na mesma conexão da transação JPA.
+	private JdbcTemplate jdbcTemplate;
+
+	@Override
+	public List<Map<String, Object>> findAllFields(List<GameField> fields) {
+		return query(fields, "FROM tb_game ORDER BY tb_game.id").getResultList().stream()
+				.map(row -> toMap(fields, row))
+				.toList();
+	}
+
+	@Override
+	public Optional<Map<String, Object>> findByIdFields(Long id, List<GameField> fields) {
+		return query(fields, "FROM tb_game WHERE tb_game.id = :id")
+				.setParameter("id", id)
+				.getResultList().stream()
+				.map(row -> toMap(fields, row))
+				.findFirst();
+	}
+
+	@Override
+	public List<Map<String, Object>> searchByListFields(Long listId, List<GameField> fields) {
+		return query(fields, """
+				FROM tb_game
+				INNER JOIN tb_belonging ON tb_game.id = tb_belonging.game_id
+				WHERE tb_belonging.list_id = :listId
+				ORDER BY tb_belonging.position
+				""")
+				.setParameter("listId", listId)
+				.getResultList().stream()
+				.map(row -> toMap(fields, row))
+				.toList();
+	}
+
+	@Override
+	public void streamByList(Long listId, RowCallbackHandler handler) {
+		jdbcTemplate.query("""
+				SELECT game_id, title, game_year, img_url, short_description
+				FROM tb_list_view
+				WHERE list_id = ?
+				ORDER BY position
+				""", handler, listId);
+	}
+
+	@Override
+	public void streamAll(RowCallbackHandler handler) {
+		jdbcTemplate.query("SELECT id, title, game_year, img_url, short_description FROM tb_game ORDER BY id", handler);
+	}
+
+	@Override
+	public void streamByIds(Long[] gameIds, RowCallbackHandler handler) {
+		// O vetor é desaninhado com a sua ordem (`WITH ORDINALITY`), como na inclusão de jogos em uma lista.
+		jdbcTemplate.query("""
+				SELECT g.id, g.title, g.game_year, g.img_url, g.short_description
+				FROM UNNEST(CAST(? AS BIGINT ARRAY)) WITH ORDINALITY AS t(game_id, ord)
+				INNER JOIN tb_game g ON g.id = t.game_id
+				ORDER BY t.ord
+				""", handler, (Object) gameIds);
+	}
+
+	/**
+	 * Cria a consulta nativa com a cláusula SELECT restrita às colunas dos campos informados.
+	 * Os nomes das colunas vêm de {@link GameField}, nunca da requisição, o que evita injeção de SQL.
+	 */
+	private NativeQuery<?> query(List<GameField> fields, String from) {
+		StringBuilder sql = new StringBuilder("SELECT ");
+		for (int i = 0; i < fields.size(); i++) {
+			sql.append(i == 0 ? "" : ", ").append("tb_game.").append(fields.get(i).getColumn()).append(" AS c").append(i);
+		}
+		sql.append(' ').append(from);
+		NativeQuery<?> query = entityManager.createNativeQuery(sql.toString()).unwrap(NativeQuery.class);
+		for (int i = 0; i < fields.size(); i++) {
+			query.addScalar("c" + i, fields.get(i).getType());
+		}
+		return query;
+	}
+
+	/**
+	 * Converte uma linha do resultado em um mapa ordenado de nome do campo para valor.
+	 * Quando há apenas uma coluna, o Hibernate retorna o próprio valor em vez de um array.
+	 */
+	private static Map<String, Object> toMap(List<GameField> fields, Object row) {
+		Object[] values = fields.size() == 1 ? new Object[] { row } : (Object[]) row;
+		Map<String, Object> map = new LinkedHashMap<>();
+		for (int i = 0; i < fields.size(); i++) {
+			map.put(fields.get(i).getName(), values[i]);
+		}
+		return map;
+	}
+
+	@Override
+	public void upsertBatch(List<Game> games) {
+		List<Game> withId = games.stream().filter(g -> g.getId() != null).toList();
+		List<Game> withoutId = games.stream().filter(g -> g.getId() == null).toList();
+		if (!withId.isEmpty()) {
+			// A sequência é avançada antes da gravação, para que nenhum bloco reservado a partir de agora contenha os IDs.
+			advanceSequence(withId.stream().map(Game::getId).toList());
+			jdbcTemplate.batchUpdate("""
+					MERGE INTO tb_game (title, score, game_year, genre, platforms, img_url, short_description, long_description, id)
+					KEY (id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+					""", withId, withId.size(), (ps, game) -> {
+				bind(ps, game);
+				ps.setLong(9, game.getId());
+			});
+		}
+		if (!withoutId.isEmpty()) {
+			// Cada valor da sequência reserva um bloco de IDs; uma única consulta obtém todos os blocos do lote.
+			int blocks = (withoutId.size() + Game.ID_BLOCK_SIZE - 1) / Game.ID_BLOCK_SIZE;
+			List<Long> starts = jdbcTemplate.queryForList(
+					"SELECT NEXT VALUE FOR tb_game_seq FROM SYSTEM_RANGE(1, ?)", Long.class, blocks);
+			for (int i = 0; i < withoutId.size(); i++) {
+				withoutId.get(i).setId(starts.get(i / Game.ID_BLOCK_SIZE) + i % Game.ID_BLOCK_SIZE);
+			}
+			jdbcTemplate.batchUpdate("""
+					INSERT INTO tb_game (title, score, game_year, genre, platforms, img_url, short_description, long_description, id)
+					VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+					""", withoutId, withoutId.size(), (ps, game) -> {
+				bind(ps, game);
+				ps.setLong(9, game.getId());
+			});
+		}
+	}
+
+	/**
+	 * Valida os IDs gravados explicitamente e garante que a sequência continue após o maior deles, para que os
+	 * próximos blocos não colidam. Um ID abaixo do valor atual da sequência está em um bloco que já pode ter sido
+	 * reservado por esta ou outra instância e ainda não usado: só é aceito se identificar um jogo existente, que é
+	 * atualizado. O comando só é executado quando necessário e nunca faz a sequência recuar: o novo valor é o maior
+	 * entre o atual e o informado, calculado pelo próprio comando. Em H2, `ALTER SEQUENCE` não confirma a transação corrente.
+	 *
+	 * @throws IllegalArgumentException Se um ID dentro da faixa da sequência não corresponder a um jogo existente.
+	 */
+	private void advanceSequence(List<Long> ids) {
+		Long current = jdbcTemplate.queryForObject(
+				"SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'TB_GAME_SEQ'", Long.class);
+		List<Long> inRange = ids.stream().filter(id -> id < current).toList();
+		if (!inRange.isEmpty()) {
+			@SuppressWarnings("unchecked")
+			List<Number> existing = entityManager.createNativeQuery("SELECT id FROM tb_game WHERE id IN :ids")
+					.setParameter("ids", inRange)
+					.getResultList();
+			Set<Long> found = existing.stream().map(Number::longValue).collect(Collectors.toSet());
+			List<Long> rejected = inRange.stream().filter(id -> !found.contains(id)).toList();
+			if (!rejected.isEmpty()) {
+				throw new IllegalArgumentException("IDs reservados pela sequência de jogos: " + rejected
+						+ ". Novos jogos devem ser enviados sem ID ou com ID a partir de " + current + ".");
+			}
+		}
+		long maxId = ids.stream().mapToLong(Long::longValue).max().getAsLong();
+		if (current > maxId) {
+			return;
+		}
+		// O valor é numérico e calculado aqui, então pode ser concatenado com segurança (DDL não aceita parâmetros).
+		jdbcTemplate.execute("""
+				ALTER SEQUENCE tb_game_seq RESTART WITH (
+					SELECT GREATEST(BASE_VALUE, %d) FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'TB_GAME_SEQ')
+				""".formatted(maxId + 1));
+	}
+
+	/**
+	 * Associa os atributos de um jogo aos oito primeiros parâmetros do comando.
+	 */
+	private static void bind(PreparedStatement ps, Game game) throws SQLException {
+		ps.setString(1, game.getTitle());
+		ps.setObject(2, game.getScore(), Types.DOUBLE);
+		ps.setObject(3, game.getYear(), Types.INTEGER);
+		ps.setString(4, game.getGenre());
+		ps.setString(5, game.getPlatforms());
+		ps.setString(6, game.getImgUrl());
+		ps.setString(7, game.getShortDescription());
+		ps.setString(8, game.getLongDescription());
+	}
+}
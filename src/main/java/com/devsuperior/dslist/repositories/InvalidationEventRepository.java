@@ -0,0 +1,64 @@
+/**
+ * Repositório para operações de acesso a dados relacionadas a {@link InvalidationEvent}.
+ * As leituras são feitas em transações somente leitura, pois transações de escrita aqui impediriam o uso da
+ * réplica: cada consulta periódica seria tratada como uma escrita recente desta instância. Com o roteamento para
+ * réplicas ativo, o barramento as executa no primário
+ * ({@link com.devsuperior.dslist.config.ReadWriteRoutingDataSource#readFromPrimary}), para receber as
+ * invalidações sem o atraso de replicação.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.repositories;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.devsuperior.dslist.entities.InvalidationEvent;
+
+public interface InvalidationEventRepository extends JpaRepository<InvalidationEvent, Long> {
+
+	/**
+	 * Busca as invalidações com sequência maior que a informada, em ordem crescente.
+	 *
+	 * @param sequence A última sequência já processada.
+	 * @return As invalidações posteriores.
+	 */
+	@Transactional(readOnly = true) // Não conta como escrita desta instância.
+	List<InvalidationEvent> findBySequenceGreaterThanOrderBySequence(Long sequence);
+
+	/**
+	 * Busca as invalidações com as sequências informadas.
+	 *
+	 * @param sequences As sequências procuradas.
+	 * @return As invalidações encontradas, em qualquer ordem.
+	 */
+	@Transactional(readOnly = true) // Não conta como escrita desta instância.
+	List<InvalidationEvent> findBySequenceIn(Collection<Long> sequences);
+
+	/**
+	 * Retorna a maior sequência gravada.
+	 *
+	 * @return A maior sequência, ou 0 se não houver invalidações.
+	 */
+	@Transactional(readOnly = true) // Não conta como escrita desta instância.
+	@Query("SELECT COALESCE(MAX(e.sequence), 0) FROM InvalidationEvent e")
+	long findMaxSequence();
+
+	/**
+	 * Remove as invalidações publicadas antes do instante informado.
+	 *
+	 * @param before O instante limite.
+	 * @return A quantidade de invalidações removidas.
+	 */
+	@Transactional // Executa a remoção em uma transação própria.
+	@Modifying // Indica que esta consulta modificará os dados no banco de dados.
+	@Query("DELETE FROM InvalidationEvent e WHERE e.createdAt < :before")
+	int deleteByCreatedAtBefore(Instant before);
+}
@@ -0,0 +1,37 @@
+/**
+ * Repositório para operações de acesso a dados relacionadas a {@link ListChange}.
+ * Usado como fonte durável do histórico de alterações quando a alteração pedida
+ * já não está no buffer em memória. As alterações são gravadas em lote por {@link ListChangeRepositoryCustom}.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.repositories;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.devsuperior.dslist.entities.ListChange;
+
+public interface ListChangeRepository extends JpaRepository<ListChange, Long>, ListChangeRepositoryCustom {
+
+	/**
+	 * Busca as alterações de uma lista com sequência maior que a informada, em ordem crescente.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param sequence A última sequência já conhecida pelo cliente.
+	 * @return As alterações posteriores à sequência informada.
+	 */
+	List<ListChange> findByListIdAndSequenceGreaterThanOrderBySequence(Long listId, Long sequence);
+
+	/**
+	 * Busca a maior sequência confirmada de uma lista.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @return A maior sequência, ou null se a lista não tiver alterações.
+	 */
+	@Query("SELECT MAX(c.sequence) FROM ListChange c WHERE c.listId = :listId")
+	Long findLatestSequence(Long listId);
+}
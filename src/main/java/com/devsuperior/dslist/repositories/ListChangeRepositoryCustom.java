@@ -0,0 +1,24 @@
+/**
+ * Gravação em lote do histórico de alterações das listas, sem passar pelo Hibernate.
+ * Implementada por {@link ListChangeRepositoryCustomImpl} e combinada ao {@link ListChangeRepository} pelo Spring Data.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.repositories;
+
+import java.util.List;
+
+import com.devsuperior.dslist.entities.ListChange;
+
+public interface ListChangeRepositoryCustom {
+
+	/**
+	 * Grava as alterações, na ordem informada, com uma consulta à sequência `tb_list_change_seq` e um único
+	 * comando JDBC em lote, na transação corrente. As sequências obtidas são atribuídas às alterações em
+	 * ordem crescente, de modo que a ordem de aplicação é preservada.
+	 *
+	 * @param changes As alterações a serem gravadas, que recebem as suas sequências.
+	 */
+	void insertAll(List<ListChange> changes);
+}
@@ -0,0 +1,47 @@
+/**
+ * Implementação da gravação em lote definida em {@link ListChangeRepositoryCustom}.
+ * Usa {@link JdbcTemplate}, que participa da transação JPA corrente.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.repositories;
+
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.devsuperior.dslist.entities.ListChange;
+
+public class ListChangeRepositoryCustomImpl implements ListChangeRepositoryCustom {
+
+	@Autowired // Executa os comandos JDBC em lote na mesma conexão da transação JPA.
+	private JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void insertAll(List<ListChange> changes) {
+		if (changes.isEmpty()) {
+			return;
+		}
+		// Uma única consulta obtém uma sequência por alteração; ordenadas, mantêm a ordem de aplicação.
+		List<Long> sequences = jdbcTemplate.queryForList(
+				"SELECT NEXT VALUE FOR tb_list_change_seq FROM SYSTEM_RANGE(1, ?)", Long.class, changes.size())
+				.stream().sorted().toList();
+		for (int i = 0; i < changes.size(); i++) {
+			changes.get(i).setSequence(sequences.get(i));
+		}
+		jdbcTemplate.batchUpdate("""
+				INSERT INTO tb_list_change (sequence, list_id, game_id, from_index, to_index, created_at)
+				VALUES (?, ?, ?, ?, ?, ?)
+				""", changes, changes.size(), (ps, change) -> {
+			ps.setLong(1, change.getSequence());
+			ps.setLong(2, change.getListId());
+			ps.setLong(3, change.getGameId());
+			ps.setObject(4, change.getFrom(), Types.INTEGER);
+			ps.setObject(5, change.getTo(), Types.INTEGER);
+			ps.setObject(6, change.getCreatedAt());
+		});
+	}
+}
@@ -0,0 +1,88 @@
+/**
+ * Repositório para operações de acesso a dados relacionadas a {@link ListDelta}.
+ * As diferenças de uma cópia são lidas junto com os dados dos jogos, em uma consulta guardada no cache
+ * de consultas e invalidada somente quando as diferenças ou os jogos mudam; as escritas leem as diferenças sem o cache.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.repositories;
+
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.devsuperior.dslist.entities.ListDelta;
+import com.devsuperior.dslist.projections.ListDeltaProjection;
+
+import jakarta.persistence.QueryHint;
+
+public interface ListDeltaRepository extends JpaRepository<ListDelta, Long> {
+
+	/**
+	 * Busca as diferenças de uma cópia, na ordem em que foram feitas, com os dados mínimos de cada jogo.
+	 *
+	 * @param listId O ID da cópia.
+	 * @return As diferenças da cópia.
+	 */
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), // Armazena o resultado no cache de consultas.
+		@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_list_delta"), // Tabelas das quais o resultado depende
+		@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_game") // (uma por dica, pois os valores se acumulam).
+	})
+	@Query(nativeQuery = true, value = """
+			SELECT tb_list_delta.op, tb_game.id, tb_game.title, tb_game.game_year AS gameYear, tb_game.img_url AS imgUrl,
+			tb_game.short_description AS shortDescription, tb_list_delta.position
+			FROM tb_list_delta
+			INNER JOIN tb_game ON tb_game.id = tb_list_delta.game_id
+			WHERE tb_list_delta.list_id = :listId
+			ORDER BY tb_list_delta.id
+			""")
+	List<ListDeltaProjection> searchByList(Long listId);
+
+	/**
+	 * Busca as diferenças de uma cópia, na ordem em que foram feitas, sem passar pelo cache de consultas.
+	 * Usada pelas escritas, que só precisam do tipo, do ID do jogo e da posição de cada diferença.
+	 *
+	 * @param listId O ID da cópia.
+	 * @return As diferenças da cópia, sem os dados dos jogos.
+	 */
+	@Query(nativeQuery = true, value = "SELECT op, game_id AS id, position FROM tb_list_delta WHERE list_id = :listId ORDER BY id")
+	List<ListDeltaProjection> findByListUncached(Long listId);
+
+	/**
+	 * Conta as diferenças de uma cópia.
+	 *
+	 * @param listId O ID da cópia.
+	 * @return A quantidade de diferenças.
+	 */
+	long countByListId(Long listId);
+
+	/**
+	 * Copia, na mesma ordem, as diferenças de uma cópia para outra.
+	 *
+	 * @param targetId O ID da nova cópia.
+	 * @param sourceId O ID da cópia de origem.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_list_delta")) // Invalida o cache das consultas sobre `tb_list_delta`.
+	@Query(nativeQuery = true, value = """
+			INSERT INTO tb_list_delta (list_id, game_id, op, position)
+			SELECT :targetId, game_id, op, position FROM tb_list_delta WHERE list_id = :sourceId ORDER BY id
+			""")
+	void copyDeltas(Long targetId, Long sourceId);
+
+	/**
+	 * Remove as diferenças de uma cópia.
+	 *
+	 * @param listId O ID da cópia.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_list_delta")) // Invalida o cache das consultas sobre `tb_list_delta`.
+	@Query(nativeQuery = true, value = "DELETE FROM tb_list_delta WHERE list_id = :listId")
+	void deleteByList(Long listId);
+}
@@ -0,0 +1,206 @@
+/**
+ * Repositório da visão materializada das listas de jogos ({@link ListView}).
+ * A leitura de uma lista percorre apenas a faixa do índice (list_id, position) da lista, já na ordem das posições.
+ * A manutenção é feita com comandos SQL sobre conjuntos que copiam as linhas a partir de
+ * `tb_game` e `tb_belonging`, sem carregar os jogos na aplicação.
+ * Os comandos informam a tabela alterada ao Hibernate, que invalida as consultas em cache sobre ela.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.devsuperior.dslist.entities.ListView;
+import com.devsuperior.dslist.entities.ListViewPK;
+import com.devsuperior.dslist.projections.GameMinProjection;
+import com.devsuperior.dslist.projections.ListGameProjection;
+
+import jakarta.persistence.QueryHint;
+
+public interface ListViewRepository extends JpaRepository<ListView, ListViewPK> {
+
+	/**
+	 * Busca os jogos de uma lista na visão materializada, na ordem das posições.
+	 * Retorna as mesmas colunas de {@link GameRepository#searchByList(Long)}, sem junção nem ordenação.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @return Os jogos da lista, ordenados pela posição.
+	 */
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), // Armazena o resultado no cache de consultas.
+		@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_list_view") // Tabela da qual o resultado depende.
+	})
+	@Query(nativeQuery = true, value = """
+			SELECT game_id AS id, title, game_year AS gameYear, img_url AS imgUrl, short_description AS shortDescription, position
+			FROM tb_list_view
+			WHERE list_id = :listId
+			ORDER BY position
+			""")
+	List<GameMinProjection> searchByList(Long listId);
+
+	/**
+	 * Busca uma lista e os seus jogos na visão materializada, em uma única consulta, na ordem das posições.
+	 * A junção externa retorna uma linha com os campos do jogo nulos se a lista estiver vazia.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @return As linhas da lista, ou nenhuma se a lista não existir.
+	 */
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), // Armazena o resultado no cache de consultas.
+		@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_list_view"), // Tabelas das quais o resultado depende: os jogos
+		@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_game_list") // e as listas, com os agregados e a lista base.
+	})
+	@Query(nativeQuery = true, value = """
+			SELECT tb_game_list.id AS listId, tb_game_list.name AS listName, tb_game_list.game_count AS gameCount,
+			tb_game_list.score_sum AS scoreSum, tb_game_list.score_count AS scoreCount, tb_game_list.min_year AS minYear,
+			tb_game_list.max_year AS maxYear, tb_game_list.base_list_id AS baseListId, tb_list_view.game_id AS id, tb_list_view.title,
+			tb_list_view.game_year AS gameYear, tb_list_view.img_url AS imgUrl, tb_list_view.short_description AS shortDescription,
+			tb_list_view.position
+			FROM tb_game_list
+			LEFT JOIN tb_list_view ON tb_list_view.list_id = tb_game_list.id
+			WHERE tb_game_list.id = :listId
+			ORDER BY tb_list_view.position
+			""")
+	List<ListGameProjection> searchListWithGames(Long listId);
+
+	/**
+	 * Busca todas as listas e os primeiros jogos de cada uma, em uma única consulta.
+	 * Como as posições são contínuas a partir de 0, os primeiros jogos são lidos pela faixa inicial do
+	 * índice (list_id, position) de cada lista, sem ordenar nem numerar todas as linhas.
+	 * O resultado em cache também depende de `tb_game_list`, de modo que uma lista criada, copiada ou materializada
+	 * aparece na próxima leitura, mesmo sem linhas na visão materializada.
+	 *
+	 * @param limit A quantidade máxima de jogos por lista.
+	 * @return As linhas das listas, ordenadas pelo ID da lista e pela posição.
+	 */
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), // Armazena o resultado no cache de consultas.
+		@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_list_view"), // Tabelas das quais o resultado depende: os jogos
+		@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_game_list") // e as listas, com os agregados e a lista base.
+	})
+	@Query(nativeQuery = true, value = """
+			SELECT tb_game_list.id AS listId, tb_game_list.name AS listName, tb_game_list.game_count AS gameCount,
+			tb_game_list.score_sum AS scoreSum, tb_game_list.score_count AS scoreCount, tb_game_list.min_year AS minYear,
+			tb_game_list.max_year AS maxYear, tb_game_list.base_list_id AS baseListId, tb_list_view.game_id AS id, tb_list_view.title,
+			tb_list_view.game_year AS gameYear, tb_list_view.img_url AS imgUrl, tb_list_view.short_description AS shortDescription,
+			tb_list_view.position
+			FROM tb_game_list
+			LEFT JOIN tb_list_view ON tb_list_view.list_id = tb_game_list.id AND tb_list_view.position < :limit
+			ORDER BY tb_game_list.id, tb_list_view.position
+			""")
+	List<ListGameProjection> searchAllListsWithGames(int limit);
+
+	/**
+	 * Remove as linhas de uma lista entre duas posições (inclusive).
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param fromPosition A primeira posição removida.
+	 * @param toPosition A última posição removida.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_list_view")) // Invalida o cache das consultas sobre `tb_list_view`.
+	@Query(nativeQuery = true, value = "DELETE FROM tb_list_view WHERE list_id = :listId AND position BETWEEN :fromPosition AND :toPosition")
+	void deleteRange(Long listId, int fromPosition, int toPosition);
+
+	/**
+	 * Copia para a visão as linhas de uma lista entre duas posições (inclusive), a partir das tabelas normalizadas.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param fromPosition A primeira posição copiada.
+	 * @param toPosition A última posição copiada.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_list_view")) // Invalida o cache das consultas sobre `tb_list_view`.
+	@Query(nativeQuery = true, value = """
+			INSERT INTO tb_list_view (list_id, position, game_id, title, game_year, img_url, short_description)
+			SELECT tb_belonging.list_id, tb_belonging.position, tb_game.id, tb_game.title, tb_game.game_year,
+			tb_game.img_url, tb_game.short_description
+			FROM tb_belonging
+			INNER JOIN tb_game ON tb_game.id = tb_belonging.game_id
+			WHERE tb_belonging.list_id = :listId AND tb_belonging.position BETWEEN :fromPosition AND :toPosition
+			""")
+	void insertRange(Long listId, int fromPosition, int toPosition);
+
+	/**
+	 * Atualiza, em todas as listas, os dados desnormalizados dos jogos informados.
+	 *
+	 * @param gameIds Os IDs dos jogos alterados.
+	 * @return A quantidade de linhas atualizadas.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_list_view")) // Invalida o cache das consultas sobre `tb_list_view`.
+	@Query(nativeQuery = true, value = """
+			UPDATE tb_list_view SET (title, game_year, img_url, short_description) =
+			(SELECT tb_game.title, tb_game.game_year, tb_game.img_url, tb_game.short_description
+			FROM tb_game WHERE tb_game.id = tb_list_view.game_id)
+			WHERE game_id IN :gameIds
+			""")
+	int updateGames(Collection<Long> gameIds);
+
+	/**
+	 * Remove todas as linhas da visão.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_list_view")) // Invalida o cache das consultas sobre `tb_list_view`.
+	@Query(nativeQuery = true, value = "DELETE FROM tb_list_view")
+	void deleteAllRows();
+
+	/**
+	 * Copia para a visão as linhas de todas as listas, a partir das tabelas normalizadas.
+	 *
+	 * @return A quantidade de linhas copiadas.
+	 */
+	@Modifying // Indica que esta consulta SQL modificará os dados no banco de dados.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_list_view")) // Invalida o cache das consultas sobre `tb_list_view`.
+	@Query(nativeQuery = true, value = """
+			INSERT INTO tb_list_view (list_id, position, game_id, title, game_year, img_url, short_description)
+			SELECT tb_belonging.list_id, tb_belonging.position, tb_game.id, tb_game.title, tb_game.game_year,
+			tb_game.img_url, tb_game.short_description
+			FROM tb_belonging
+			INNER JOIN tb_game ON tb_game.id = tb_belonging.game_id
+			""")
+	int insertAllRows();
+
+	/**
+	 * Compara a visão com as tabelas normalizadas e retorna as listas com alguma divergência:
+	 * linhas faltantes, sobrando, em outra posição ou com dados do jogo desatualizados.
+	 *
+	 * @return Os IDs das listas divergentes, em ordem crescente.
+	 */
+	@Query(nativeQuery = true, value = """
+			SELECT DISTINCT list_id FROM (
+				(SELECT tb_belonging.list_id, tb_belonging.position, tb_game.id, tb_game.title, tb_game.game_year,
+				tb_game.img_url, CAST(tb_game.short_description AS VARCHAR) AS short_description
+				FROM tb_belonging INNER JOIN tb_game ON tb_game.id = tb_belonging.game_id
+				EXCEPT
+				SELECT list_id, position, game_id, title, game_year, img_url, CAST(short_description AS VARCHAR)
+				FROM tb_list_view)
+				UNION ALL
+				(SELECT list_id, position, game_id, title, game_year, img_url, CAST(short_description AS VARCHAR)
+				FROM tb_list_view
+				EXCEPT
+				SELECT tb_belonging.list_id, tb_belonging.position, tb_game.id, tb_game.title, tb_game.game_year,
+				tb_game.img_url, CAST(tb_game.short_description AS VARCHAR)
+				FROM tb_belonging INNER JOIN tb_game ON tb_game.id = tb_belonging.game_id)
+			) divergent
+			ORDER BY list_id
+			""")
+	List<Long> findInconsistentLists();
+
+	/**
+	 * Conta as linhas da visão.
+	 *
+	 * @return A quantidade de linhas.
+	 */
+	@Query(nativeQuery = true, value = "SELECT COUNT(*) FROM tb_list_view")
+	long countRows();
+}
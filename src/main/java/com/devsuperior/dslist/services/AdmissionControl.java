@@ -0,0 +1,95 @@
+/**
+ * Controle de admissão das operações que acessam o banco de dados.
+ * Mantém orçamentos de concorrência independentes para leituras baratas, varreduras completas
+ * (como a listagem de todos os jogos) e escritas, de modo que um pico em um tipo de operação não
+ * degrade a latência dos demais. Cada orçamento é um {@link ConcurrencyLimiter} com limite adaptativo;
+ * as operações acima do orçamento são recusadas com `503 Service Unavailable` antes de ocuparem uma conexão.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+@Component // Registra esta classe como um componente do Spring.
+public class AdmissionControl {
+
+	@Autowired // Registro de métricas onde os limitadores publicam seus contadores.
+	private MeterRegistry meterRegistry;
+
+	@Value("${dslist.admission.retry-after:1}") // Tempo, em segundos, sugerido no cabeçalho Retry-After.
+	private long retryAfter;
+
+	@Value("${dslist.admission.reads.limit:16}") // Limite inicial de leituras simultâneas.
+	private int readsLimit;
+
+	@Value("${dslist.admission.reads.max-limit:64}") // Limite máximo de leituras simultâneas.
+	private int readsMaxLimit;
+
+	@Value("${dslist.admission.reads.latency-target:50}") // Latência alvo das leituras, em milissegundos.
+	private long readsLatencyTarget;
+
+	@Value("${dslist.admission.scans.limit:4}") // Limite inicial de varreduras simultâneas.
+	private int scansLimit;
+
+	@Value("${dslist.admission.scans.max-limit:16}") // Limite máximo de varreduras simultâneas.
+	private int scansMaxLimit;
+
+	@Value("${dslist.admission.scans.latency-target:250}") // Latência alvo das varreduras, em milissegundos.
+	private long scansLatencyTarget;
+
+	@Value("${dslist.admission.writes.limit:8}") // Limite inicial de escritas simultâneas.
+	private int writesLimit;
+
+	@Value("${dslist.admission.writes.max-limit:32}") // Limite máximo de escritas simultâneas.
+	private int writesMaxLimit;
+
+	@Value("${dslist.admission.writes.latency-target:100}") // Latência alvo das escritas, em milissegundos.
+	private long writesLatencyTarget;
+
+	private ConcurrencyLimiter reads; // Orçamento das leituras por chave (um jogo, uma lista).
+	private ConcurrencyLimiter scans; // Orçamento das varreduras completas de uma tabela.
+	private ConcurrencyLimiter writes; // Orçamento das escritas.
+
+	/**
+	 * Cria os limitadores de cada orçamento com a configuração informada.
+	 */
+	@PostConstruct
+	void init() {
+		reads = new ConcurrencyLimiter("reads", readsLimit, readsMaxLimit, Duration.ofMillis(readsLatencyTarget), retryAfter, meterRegistry);
+		scans = new ConcurrencyLimiter("scans", scansLimit, scansMaxLimit, Duration.ofMillis(scansLatencyTarget), retryAfter, meterRegistry);
+		writes = new ConcurrencyLimiter("writes", writesLimit, writesMaxLimit, Duration.ofMillis(writesLatencyTarget), retryAfter, meterRegistry);
+	}
+
+	/**
+	 * Retorna o orçamento das leituras baratas, que buscam um jogo ou uma lista.
+	 * @return O limitador das leituras.
+	 */
+	public ConcurrencyLimiter reads() {
+		return reads;
+	}
+
+	/**
+	 * Retorna o orçamento das varreduras completas, como a listagem de todos os jogos.
+	 * @return O limitador das varreduras.
+	 */
+	public ConcurrencyLimiter scans() {
+		return scans;
+	}
+
+	/**
+	 * Retorna o orçamento das escritas, como a movimentação de jogos em uma lista.
+	 * @return O limitador das escritas.
+	 */
+	public ConcurrencyLimiter writes() {
+		return writes;
+	}
+}
@@ -0,0 +1,163 @@
+/**
+ * Limitador adaptativo de concorrência (AIMD: aumento aditivo, redução multiplicativa).
+ * Mantém um limite de operações simultâneas que cresce lentamente enquanto as operações terminam
+ * dentro da latência alvo e é reduzido por um fator quando a latência passa do alvo ou o pool de
+ * conexões se esgota. Operações acima do limite são recusadas imediatamente, em vez de aguardarem
+ * uma conexão e degradarem a latência de todas as demais.
+ * Expõe métricas com o limite atual, as operações em andamento, as aceitas e as recusadas.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import com.devsuperior.dslist.services.exceptions.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class ConcurrencyLimiter {
+
+	private static final double MIN_LIMIT = 1; // Limite mínimo, para que a carga nunca seja recusada por completo.
+	private static final double BACKOFF = 0.9; // Fator aplicado ao limite quando há sinal de sobrecarga.
+
+	private final String name; // Nome do orçamento, usado nas métricas e na mensagem de recusa.
+	private final double maxLimit; // Limite máximo de operações simultâneas.
+	private final long latencyTarget; // Latência alvo, em nanossegundos.
+	private final long retryAfter; // Tempo sugerido, em segundos, para uma nova tentativa após a recusa.
+
+	private double limit; // Limite atual de operações simultâneas.
+	private int inFlight; // Operações em andamento.
+	private long lastDecrease; // Instante da última redução, que ocorre no máximo uma vez por latência alvo.
+
+	private final Counter accepted; // Quantidade de operações aceitas.
+	private final Counter rejected; // Quantidade de operações recusadas por excesso de carga.
+
+	/**
+	 * Cria um limitador identificado por um nome, registrando suas métricas.
+	 *
+	 * @param name O nome do orçamento, usado como tag nas métricas (ex.: "reads").
+	 * @param initialLimit O limite inicial de operações simultâneas.
+	 * @param maxLimit O limite máximo de operações simultâneas.
+	 * @param latencyTarget A latência acima da qual o limite é reduzido.
+	 * @param retryAfter O tempo, em segundos, sugerido ao cliente recusado.
+	 * @param registry O registro de métricas do Micrometer.
+	 */
+	public ConcurrencyLimiter(String name, int initialLimit, int maxLimit, Duration latencyTarget, long retryAfter, MeterRegistry registry) {
+		this.name = name;
+		this.maxLimit = maxLimit;
+		this.latencyTarget = latencyTarget.toNanos();
+		this.retryAfter = retryAfter;
+		this.limit = Math.max(MIN_LIMIT, Math.min(initialLimit, maxLimit));
+		this.lastDecrease = System.nanoTime() - this.latencyTarget;
+		accepted = Counter.builder("dslist.admission.accepted")
+				.description("Operações aceitas pelo controle de admissão")
+				.tag("budget", name)
+				.register(registry);
+		rejected = Counter.builder("dslist.admission.rejected")
+				.description("Operações recusadas por excesso de carga")
+				.tag("budget", name)
+				.register(registry);
+		Gauge.builder("dslist.admission.limit", this, ConcurrencyLimiter::getLimit)
+				.description("Limite atual de operações simultâneas")
+				.tag("budget", name)
+				.register(registry);
+		Gauge.builder("dslist.admission.inflight", this, ConcurrencyLimiter::getInFlight)
+				.description("Operações em andamento")
+				.tag("budget", name)
+				.register(registry);
+	}
+
+	/**
+	 * Executa a operação se houver espaço no limite atual, medindo sua latência para ajustar o limite.
+	 *
+	 * @param action A operação a ser executada.
+	 * @return O resultado da operação.
+	 * @throws ServiceUnavailableException Se o limite de operações simultâneas foi atingido.
+	 */
+	public <V> V execute(Supplier<V> action) {
+		acquire();
+		long start = System.nanoTime();
+		boolean overloaded = false;
+		try {
+			return action.get();
+		}
+		catch (CannotCreateTransactionException e) {
+			// Tempo esgotado ao obter uma conexão: o banco de dados já está saturado.
+			overloaded = true;
+			throw e;
+		}
+		finally {
+			release(System.nanoTime() - start, overloaded);
+		}
+	}
+
+	/**
+	 * Executa uma operação sem resultado se houver espaço no limite atual.
+	 *
+	 * @param action A operação a ser executada.
+	 * @throws ServiceUnavailableException Se o limite de operações simultâneas foi atingido.
+	 */
+	public void run(Runnable action) {
+		execute(() -> {
+			action.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Retorna o limite atual de operações simultâneas.
+	 * @return O limite atual.
+	 */
+	public synchronized double getLimit() {
+		return limit;
+	}
+
+	/**
+	 * Retorna a quantidade de operações em andamento.
+	 * @return As operações em andamento.
+	 */
+	public synchronized int getInFlight() {
+		return inFlight;
+	}
+
+	/**
+	 * Reserva uma vaga no limite atual ou recusa a operação.
+	 */
+	private void acquire() {
+		synchronized (this) {
+			if (inFlight < (int) limit) {
+				inFlight++;
+				accepted.increment();
+				return;
+			}
+		}
+		rejected.increment();
+		throw new ServiceUnavailableException("Servidor sobrecarregado (" + name + "). Tente novamente em instantes.", retryAfter);
+	}
+
+	/**
+	 * Libera a vaga e ajusta o limite de acordo com a latência observada.
+	 */
+	private synchronized void release(long latency, boolean overloaded) {
+		inFlight--;
+		long now = System.nanoTime();
+		if (overloaded || latency > latencyTarget) {
+			// Reduz uma única vez por janela, para que as operações lentas de uma mesma rajada não zerem o limite.
+			if (now - lastDecrease >= latencyTarget) {
+				limit = Math.max(MIN_LIMIT, limit * BACKOFF);
+				lastDecrease = now;
+			}
+		}
+		else if (inFlight + 1 >= limit / 2) {
+			// Só cresce enquanto o limite está sendo usado; cerca de uma vaga a mais por limite de operações concluídas.
+			limit = Math.min(maxLimit, limit + 1 / limit);
+		}
+	}
+}
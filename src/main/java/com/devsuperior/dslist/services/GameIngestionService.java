@@ -0,0 +1,171 @@
+/**
+ * Serviço de importação de jogos em lote.
+ * Lê o corpo da requisição como um fluxo (array JSON ou NDJSON) sem carregá-lo inteiro em memória,
+ * agrupa os registros em blocos de tamanho fixo e grava cada bloco com comandos JDBC em lote,
+ * em uma transação própria. Um bloco que falha é registrado no resultado e a importação continua.
+ * A gravação não passa pelo Hibernate, então o cache de segundo nível dos jogos é invalidado a cada bloco.
+ * As falhas são informadas ao cliente com mensagens próprias, sem detalhes internos do banco de dados ou do
+ * leitor JSON; a causa completa de cada falha é registrada no log do servidor.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dslist.dto.BulkFailureDTO;
+import com.devsuperior.dslist.dto.BulkResultDTO;
+import com.devsuperior.dslist.dto.GameDTO;
+import com.devsuperior.dslist.entities.Game;
+import com.devsuperior.dslist.repositories.GameRepository;
+import com.devsuperior.dslist.services.invalidation.Invalidation;
+import com.devsuperior.dslist.services.invalidation.InvalidationBus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@Service // Indica que esta classe é um componente de serviço do Spring.
+public class GameIngestionService {
+
+	private static final Logger log = LoggerFactory.getLogger(GameIngestionService.class); // Registra a causa das falhas de cada bloco.
+
+	@Autowired // Realiza a injeção de dependência do GameRepository, que grava os blocos via JDBC.
+	private GameRepository gameRepository;
+
+	@Autowired // ObjectMapper configurado pelo Spring, usado para ler o corpo da requisição como fluxo.
+	private ObjectMapper objectMapper;
+
+	@Autowired // Gerenciador de transações usado para gravar cada bloco em uma transação própria.
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired // Fábrica de EntityManager, usada para invalidar o cache de segundo nível após cada bloco.
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired // Realiza a injeção de dependência do ListViewService, para atualizar os jogos na visão materializada das listas.
+	private ListViewService listViewService;
+
+	@Autowired // Realiza a injeção de dependência do ListAggregateService, para atualizar os totais das listas com jogos alterados.
+	private ListAggregateService listAggregateService;
+
+	@Autowired // Barramento onde as alterações do catálogo são publicadas para esta e as demais instâncias.
+	private InvalidationBus invalidationBus;
+
+	@Value("${dslist.ingest.chunk-size:1000}") // Quantidade de registros gravados por transação.
+	private int chunkSize;
+
+	/**
+	 * Importa os jogos contidos no fluxo informado.
+	 * Se o corpo estiver malformado, os blocos já gravados são mantidos e a importação é interrompida.
+	 *
+	 * @param body O corpo da requisição, contendo um array JSON ou objetos JSON separados por linha (NDJSON).
+	 * @return O resultado da importação, com os totais e os blocos que falharam.
+	 */
+	public BulkResultDTO ingest(InputStream body) {
+		BulkResultDTO result = new BulkResultDTO();
+		List<Game> chunk = new ArrayList<>(chunkSize);
+		long received = 0; // Índice do próximo registro lido do corpo.
+		try (MappingIterator<GameDTO> records = objectMapper.readerFor(GameDTO.class).readValues(body)) {
+			while (records.hasNextValue()) {
+				chunk.add(toEntity(records.nextValue()));
+				received++;
+				if (chunk.size() == chunkSize) {
+					save(chunk, received - chunk.size(), result);
+					chunk.clear();
+				}
+			}
+			if (!chunk.isEmpty()) {
+				save(chunk, received - chunk.size(), result);
+			}
+		}
+		catch (IOException e) {
+			// Corpo malformado: os registros lidos do bloco corrente são descartados e a leitura é interrompida.
+			log.warn("Importação em lote interrompida no registro {}", received, e);
+			if (!chunk.isEmpty()) {
+				result.chunkFailed(new BulkFailureDTO(result.getChunks(), received - chunk.size(), chunk.size(), readFailure(e, received)));
+			}
+			result.abort();
+		}
+		return result;
+	}
+
+	/**
+	 * Grava um bloco em uma transação própria e registra o resultado.
+	 * Depois da confirmação nada mais pode falhar o bloco: ele é contado como gravado e os caches são sempre invalidados.
+	 */
+	private void save(List<Game> chunk, long firstRecord, BulkResultDTO result) {
+		try {
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+				gameRepository.upsertBatch(chunk);
+				// Jogos já existentes podem pertencer a listas: atualiza seus dados na visão e os totais das listas, na mesma transação.
+				List<Long> gameIds = chunk.stream().map(Game::getId).toList();
+				listViewService.refreshGames(gameIds);
+				listAggregateService.refreshGames(gameIds);
+			});
+		}
+		catch (RuntimeException e) {
+			log.warn("Falha ao gravar o bloco {} da importação em lote ({} registros a partir do registro {})",
+					result.getChunks(), chunk.size(), firstRecord, e);
+			result.chunkFailed(new BulkFailureDTO(result.getChunks(), firstRecord, chunk.size(), saveFailure(e)));
+			return;
+		}
+		result.chunkSaved(chunk.size());
+		// A gravação JDBC não é vista pelo Hibernate: invalida os jogos e as consultas em cache.
+		entityManagerFactory.getCache().evict(Game.class);
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+		invalidationBus.publish(Invalidation.catalog());
+	}
+
+	/**
+	 * Descreve ao cliente a falha de leitura do corpo, com a posição do erro quando o JSON é inválido.
+	 */
+	private static String readFailure(IOException e, long record) {
+		if (e instanceof JsonProcessingException json && json.getLocation() != null) {
+			return "Corpo malformado no registro " + record + " (linha " + json.getLocation().getLineNr()
+					+ ", coluna " + json.getLocation().getColumnNr() + "): a importação foi interrompida.";
+		}
+		return "Falha ao ler o corpo da requisição no registro " + record + ": a importação foi interrompida.";
+	}
+
+	/**
+	 * Descreve ao cliente a falha de gravação de um bloco, sem expor os detalhes do banco de dados.
+	 */
+	private static String saveFailure(RuntimeException e) {
+		if (e instanceof IllegalArgumentException) {
+			return e.getMessage(); // Recusa do repositório, já descrita para o cliente (IDs reservados pela sequência).
+		}
+		if (e instanceof DataIntegrityViolationException) {
+			return "Registros do bloco violam uma restrição do catálogo, como um campo obrigatório ausente ou um valor longo demais.";
+		}
+		if (e instanceof DataAccessException) {
+			return "Falha ao gravar o bloco no banco de dados.";
+		}
+		return "Falha inesperada ao gravar o bloco.";
+	}
+
+	/**
+	 * Converte um GameDTO recebido na entidade Game a ser gravada.
+	 */
+	private static Game toEntity(GameDTO dto) {
+		Game game = new Game();
+		BeanUtils.copyProperties(dto, game);
+		return game;
+	}
+}
@@ -1,49 +1,152 @@
 /**
  * Serviço para operações de negócio relacionadas a listas de jogos.
  * Esta classe encapsula a lógica de negócio para gerenciar listas de jogos,
- * incluindo a busca de listas, a busca de jogos dentro de uma lista e a movimentação
- * de jogos entre posições em uma lista.
+ * incluindo a busca de listas, a busca de jogos dentro de uma lista, a movimentação
+ * de jogos entre posições em uma lista e a inclusão e remoção de jogos em lote.
+ * As leituras idênticas e simultâneas são agrupadas por {@link SingleFlight}, desde que vejam a mesma versão
+ * ({@link VersionService}): uma leitura iniciada depois da confirmação de uma escrita nunca recebe o resultado de uma
+ * leitura iniciada antes dela.
+ * Leituras e escritas passam pelo {@link AdmissionControl}, com orçamentos de concorrência separados:
+ * acima do orçamento, a operação é recusada antes de abrir a transação e ocupar uma conexão.
+ * Com `expand=games`, as listas são lidas junto com os seus jogos em uma única consulta à visão materializada.
+ * As alterações de uma cópia de lista são gravadas como diferenças pelo {@link ListForkService}. As cópias acompanham
+ * a versão da lista base, e os seus agregados são recalculados em segundo plano quando os jogos da lista base mudam.
+ * Cada movimentação emite um {@link ListMoveEvent} para o Java Flight Recorder.
  *
  * @author lacerdagb (mantido como autor original, conforme instrução)
  * @version 1.0.0
  */
 package com.devsuperior.dslist.services;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.devsuperior.dslist.config.ReadWriteRoutingDataSource;
 import com.devsuperior.dslist.dto.GameListDTO;
+import com.devsuperior.dslist.dto.GameListExpandedDTO;
+import com.devsuperior.dslist.dto.GameMinDTO;
+import com.devsuperior.dslist.dto.ReplacementDTO;
 import com.devsuperior.dslist.entities.GameList;
-import com.devsuperior.dslist.projections.GameMinProjection;
+import com.devsuperior.dslist.projections.BelongingProjection;
+import com.devsuperior.dslist.projections.ListGameProjection;
 import com.devsuperior.dslist.repositories.GameListRepository;
 import com.devsuperior.dslist.repositories.GameRepository;
+import com.devsuperior.dslist.repositories.ListViewRepository;
+import com.devsuperior.dslist.services.ListChangeService.Change;
+import com.devsuperior.dslist.services.exceptions.InvalidRequestException;
+import com.devsuperior.dslist.services.exceptions.ResourceNotFoundException;
+import com.devsuperior.dslist.services.invalidation.Invalidation;
+import com.devsuperior.dslist.services.invalidation.InvalidationBus;
+import com.devsuperior.dslist.services.profiling.ListMoveEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 
 @Service // Indica que esta classe é um componente de serviço do Spring, gerenciando a lógica de negócio.
 public class GameListService {
 
+	private static final String EXPAND_GAMES = "games"; // Única expansão aceita pelo parâmetro `expand`.
+	private static final int MAX_EXPANDED_GAMES = 100; // Quantidade máxima de jogos por lista ao expandir todas as listas.
+
 	@Autowired // Realiza a injeção de dependência do GameListRepository para acesso aos dados das listas de jogos.
 	private GameListRepository gameListRepository;
 	
 	@Autowired // Realiza a injeção de dependência do GameRepository para acesso aos dados dos jogos.
 	private GameRepository gameRepository;
+
+	@Autowired // Barramento onde as alterações são publicadas, invalidando os caches desta e das demais instâncias.
+	private InvalidationBus invalidationBus;
+
+	@Autowired // Realiza a injeção de dependência do ListChangeService, que registra o histórico de movimentações.
+	private ListChangeService listChangeService;
+
+	@Autowired // Realiza a injeção de dependência do ListViewService, que mantém a visão materializada das listas.
+	private ListViewService listViewService;
+
+	@Autowired // Realiza a injeção de dependência do ListAggregateService, que mantém os totais de cada lista.
+	private ListAggregateService listAggregateService;
+
+	@Autowired // Realiza a injeção de dependência do ListForkService, que mantém as cópias das listas.
+	private ListForkService listForkService;
+
+	@Autowired // Realiza a injeção de dependência do ListViewRepository, usado para ler as listas expandidas.
+	private ListViewRepository listViewRepository;
+
+	@Autowired // Repositório local de imagens, usado para reescrever as URLs das imagens dos jogos expandidos.
+	private ImageStoreService imageStoreService;
+
+	@Autowired // Versões das listas, que identificam as leituras agrupadas.
+	private VersionService versionService;
+
+	@Autowired // Gerenciador de transações usado para abrir a transação somente no chamador que executa a consulta.
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired // Registro de métricas onde os agrupadores de consultas publicam seus contadores.
+	private MeterRegistry meterRegistry;
+
+	@Autowired // Controle de admissão, que limita as operações simultâneas ao banco de dados.
+	private AdmissionControl admissionControl;
+
+	private TransactionTemplate transaction; // Modelo de transação de escrita, aberta somente após a admissão.
+	private TransactionTemplate readOnlyTransaction; // Modelo de transação somente leitura.
+	private SingleFlight<Long, List<GameListDTO>> findAllFlight; // Agrupa buscas simultâneas por todas as listas, na mesma geração.
+	private SingleFlight<String, GameListDTO> findByIdFlight; // Agrupa buscas simultâneas pela mesma versão de uma lista.
+	private SingleFlight<String, GameListExpandedDTO> findByIdExpandedFlight; // Agrupa buscas simultâneas pela mesma versão de uma lista expandida.
+	private SingleFlight<String, List<GameListExpandedDTO>> findAllExpandedFlight; // Agrupa buscas simultâneas por todas as listas expandidas, na mesma geração.
+
+	/**
+	 * Inicializa os modelos de transação e os agrupadores de consultas.
+	 */
+	@PostConstruct
+	void init() {
+		transaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+		findAllFlight = new SingleFlight<>("gameList.findAll", meterRegistry);
+		findByIdFlight = new SingleFlight<>("gameList.findById", meterRegistry);
+		findByIdExpandedFlight = new SingleFlight<>("gameList.findByIdExpanded", meterRegistry);
+		findAllExpandedFlight = new SingleFlight<>("gameList.findAllExpanded", meterRegistry);
+	}
 	
 	/**
 	 * Busca todas as listas de jogos disponíveis.
-	 * A anotação `@Transactional(readOnly = true)` otimiza a transação para operações de leitura.
+	 * A consulta é executada em uma transação somente leitura, compartilhada por chamadores simultâneos.
+	 * Como lê a tabela inteira, passa pelo orçamento das varreduras.
 	 *
 	 * @return Uma lista de objetos {@link GameListDTO} contendo todas as listas de jogos.
 	 */
-	@Transactional(readOnly = true) // Garante que a operação de leitura seja otimizada e executada dentro de uma transação.
 	public List<GameListDTO> findAll() {
-		// Busca todas as entidades GameList do repositório.
-		List<GameList> result = gameListRepository.findAll();
-		// Converte a lista de entidades para uma lista de DTOs usando Stream API.
-		return result.stream().map(GameListDTO::new).toList();
+		return findAllFlight.execute(versionService.generation(), () -> admissionControl.scans().execute(() -> readOnlyTransaction.execute(status -> {
+			// Busca todas as entidades GameList do repositório.
+			List<GameList> result = gameListRepository.findAll();
+			// Converte a lista de entidades para uma lista de DTOs usando Stream API.
+			return result.stream().map(GameListDTO::new).toList();
+		})));
 	}
 	
+	/**
+	 * Busca os IDs dos jogos de uma lista, na ordem das posições, diretamente das tabelas.
+	 * Ao contrário das demais leituras, não usa o cache de consultas nem é compartilhada com chamadores simultâneos,
+	 * e é lida do primário mesmo com o roteamento para réplicas ativo: retorna a última ordem confirmada, inclusive
+	 * por outras instâncias, usada como ponto de partida das movimentações acumuladas em memória.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @return Os IDs dos jogos, na ordem das posições.
+	 * @throws com.devsuperior.dslist.services.exceptions.ServiceUnavailableException Se o orçamento de leituras estiver esgotado.
+	 */
+	public List<Long> findGameIds(Long listId) {
+		return admissionControl.reads().execute(() -> ReadWriteRoutingDataSource.readFromPrimary(() -> readOnlyTransaction.execute(status -> {
+			Long baseListId = listForkService.baseOf(listId);
+			return baseListId != null ? listForkService.resolveIds(listId, baseListId) : gameListRepository.findGameIds(listId);
+		})));
+	}
+
 	/**
 	 * Move um jogo dentro de uma lista de jogos, alterando sua posição.
 	 * Esta operação é transacional para garantir a consistência dos dados.
@@ -51,17 +154,43 @@ public class GameListService {
 	 * @param listId O ID da lista de jogos onde o jogo será movido.
 	 * @param sourceIndex O índice de origem do jogo na lista.
 	 * @param destinationIndex O índice de destino para o jogo na lista.
+	 * @throws com.devsuperior.dslist.services.exceptions.ServiceUnavailableException Se o orçamento de escritas estiver esgotado.
 	 */
-	@Transactional // Garante que todas as operações dentro deste método sejam executadas em uma única transação.
 	public void move(Long listId, int sourceIndex, int destinationIndex) {
+		ListMoveEvent event = new ListMoveEvent();
+		event.begin();
+		// Todas as operações são executadas em uma única transação, aberta somente se a escrita for admitida.
+		int rows = admissionControl.writes().execute(() -> transaction.execute(status -> doMove(listId, sourceIndex, destinationIndex)));
+		event.end();
+		// Os campos só são preenchidos se o evento estiver habilitado e acima do limite de duração da gravação.
+		if (event.shouldCommit()) {
+			event.listId = listId;
+			event.sourceIndex = sourceIndex;
+			event.destinationIndex = destinationIndex;
+			event.rows = rows;
+			event.commit();
+		}
+	}
 
-		// Busca a lista de jogos com informações mínimas, incluindo a posição atual.
-		List<GameMinProjection> list = gameRepository.searchByList(listId);
+	/**
+	 * Reposiciona o jogo e atualiza a faixa afetada, na transação aberta por {@link #move}.
+	 * Retorna a quantidade de linhas gravadas.
+	 */
+	private int doMove(Long listId, int sourceIndex, int destinationIndex) {
+		Long baseListId = listForkService.baseOf(listId);
+		if (baseListId != null) {
+			// Em uma cópia, a movimentação é gravada como uma única diferença em relação à lista base.
+			listForkService.move(listId, baseListId, sourceIndex, destinationIndex);
+			return 1;
+		}
+
+		// Busca os jogos da lista na ordem atual, sem o cache de consultas, bloqueando-os até a confirmação.
+		List<Long> list = new ArrayList<>(gameListRepository.lockGameIds(listId));
 
 		// Remove o jogo da posição de origem e o armazena temporariamente.
-		GameMinProjection obj = list.remove(sourceIndex);
+		Long gameId = list.remove(sourceIndex);
 		// Adiciona o jogo na nova posição de destino.
-		list.add(destinationIndex, obj);
+		list.add(destinationIndex, gameId);
 
 		// Determina o menor e o maior índice afetado pela movimentação para otimizar as atualizações.
 		int min = sourceIndex < destinationIndex ? sourceIndex : destinationIndex;
@@ -69,24 +198,315 @@ public class GameListService {
 
 		// Itera sobre os jogos na faixa afetada e atualiza suas posições no banco de dados.
 		for (int i = min; i <= max; i++) {
-			gameListRepository.updateBelongingPosition(listId, list.get(i).getId(), i);
+			gameListRepository.updateBelongingPosition(listId, list.get(i), i);
+		}
+		// Recalcula a visão materializada somente na faixa de posições alterada.
+		listViewService.refresh(listId, min, max);
+
+		// Registra a movimentação no histórico, para que os clientes possam sincronizar apenas as diferenças.
+		listChangeService.record(listId, gameId, sourceIndex, destinationIndex);
+
+		// Publica a alteração: após a confirmação, as versões e os caches da lista são invalidados em todas as instâncias.
+		// As cópias da lista mostram a nova ordem, pois as suas versões incluem a versão da lista base.
+		invalidationBus.publish(Invalidation.list(listId));
+		return max - min + 1;
+	}
+
+	/**
+	 * Aplica uma sequência de movimentações a uma lista em uma única transação.
+	 * As movimentações são aplicadas em memória, na ordem informada, e apenas a permutação resultante
+	 * é gravada: a faixa de posições alteradas é atualizada com um único comando, independentemente
+	 * da quantidade de movimentações. Cada movimentação continua registrada no histórico da lista.
+	 * Movimentações com índices fora da lista (que pode ter mudado desde que foram aceitas) são ignoradas.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param moves As movimentações, na ordem em que foram feitas.
+	 * @return A quantidade de movimentações aplicadas.
+	 * @throws com.devsuperior.dslist.services.exceptions.ServiceUnavailableException Se o orçamento de escritas estiver esgotado.
+	 */
+	public int moveAll(Long listId, List<ReplacementDTO> moves) {
+		// A gravação das movimentações acumuladas disputa o orçamento de escritas com as demais escritas.
+		return admissionControl.writes().execute(() -> transaction.execute(status -> doMoveAll(listId, moves)));
+	}
+
+	/**
+	 * Aplica as movimentações em memória e grava a permutação resultante, na transação aberta por {@link #moveAll}.
+	 */
+	private int doMoveAll(Long listId, List<ReplacementDTO> moves) {
+		Long baseListId = listForkService.baseOf(listId);
+		if (baseListId != null) {
+			return listForkService.moveAll(listId, baseListId, moves);
+		}
+		// A ordem atual é lida sem o cache de consultas e fica bloqueada até a confirmação.
+		List<Long> before = gameListRepository.lockGameIds(listId);
+		List<Long> order = new ArrayList<>(before);
+		List<ReplacementDTO> applied = new ArrayList<>();
+		List<Long> movedGames = new ArrayList<>();
+		for (ReplacementDTO move : moves) {
+			int source = move.getSourceIndex();
+			int destination = move.getDestinationIndex();
+			if (source < 0 || source >= order.size() || destination < 0 || destination >= order.size()) {
+				continue;
+			}
+			Long gameId = order.remove(source);
+			order.add(destination, gameId);
+			applied.add(move);
+			movedGames.add(gameId);
+		}
+
+		// Faixa de posições cujo jogo mudou; movimentações que se anulam não gravam nada.
+		int min = 0;
+		while (min < order.size() && order.get(min).equals(before.get(min))) {
+			min++;
+		}
+		int max = order.size() - 1;
+		while (max > min && order.get(max).equals(before.get(max))) {
+			max--;
+		}
+		if (min < order.size()) {
+			gameListRepository.updatePositions(listId, order.subList(min, max + 1).toArray(Long[]::new), min);
+			listViewService.refresh(listId, min, max);
+		}
+
+		// Registra as movimentações aplicadas no histórico, com um único comando.
+		List<Change> changes = new ArrayList<>();
+		for (int i = 0; i < applied.size(); i++) {
+			changes.add(new Change(movedGames.get(i), applied.get(i).getSourceIndex(), applied.get(i).getDestinationIndex()));
+		}
+		listChangeService.recordAll(listId, changes);
+		if (!applied.isEmpty()) {
+			invalidationBus.publish(Invalidation.list(listId));
+		}
+		return applied.size();
+	}
+
+	/**
+	 * Inclui jogos em uma lista a partir de um índice, preservando a ordem informada.
+	 * Os jogos a partir do índice são deslocados com um único comando e os novos jogos são
+	 * inseridos com outro, independentemente do tamanho da lista ou da quantidade de jogos.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param gameIds Os IDs dos jogos a serem incluídos, na ordem desejada.
+	 * @param index O índice do primeiro jogo incluído, ou null para incluir no final da lista.
+	 * @throws InvalidRequestException Se algum jogo não existir, se houver IDs repetidos,
+	 *         se algum jogo já pertencer à lista ou se o índice estiver fora da lista.
+	 * @throws ResourceNotFoundException Se a lista não existir.
+	 * @throws com.devsuperior.dslist.services.exceptions.ServiceUnavailableException Se o orçamento de escritas estiver esgotado.
+	 */
+	public void insert(Long listId, List<Long> gameIds, Integer index) {
+		// O deslocamento e a inclusão são confirmados juntos.
+		admissionControl.writes().run(() -> transaction.executeWithoutResult(status -> doInsert(listId, gameIds, index)));
+	}
+
+	/**
+	 * Valida e inclui os jogos, na transação aberta por {@link #insert}.
+	 */
+	private void doInsert(Long listId, List<Long> gameIds, Integer index) {
+		validate(listId, gameIds);
+		Long baseListId = listForkService.baseOf(listId);
+		if (baseListId != null) {
+			listForkService.insert(listId, baseListId, gameIds, index);
+			return;
+		}
+		if (gameRepository.countByIdIn(gameIds) != gameIds.size()) {
+			throw new InvalidRequestException("Jogo não encontrado entre os IDs informados.");
+		}
+		// Bloqueia a ordem atual e depois a linha da lista, na mesma ordem das movimentações: duas inclusões
+		// no final da lista não podem ler o mesmo tamanho. A linha da lista também serializa as inclusões em
+		// listas vazias, e a ordem é lida de novo depois dela, pois o primeiro bloqueio não enxerga os jogos
+		// incluídos por uma transação confirmada durante a espera.
+		gameListRepository.lockGameIds(listId);
+		gameListRepository.lockList(listId);
+		List<Long> ids = gameListRepository.lockGameIds(listId);
+		if (ids.stream().anyMatch(gameIds::contains)) {
+			throw new InvalidRequestException("Jogo já pertence à lista " + listId + ".");
+		}
+		int size = ids.size();
+		int position = index != null ? index : size;
+		if (position < 0 || position > size) {
+			throw new InvalidRequestException("Índice fora da lista: " + position + ". A lista possui " + size + " jogos.");
+		}
+
+		// Abre espaço para os novos jogos somente se a inclusão não for no final da lista.
+		if (position < size) {
+			gameListRepository.shiftPositions(listId, position, gameIds.size());
+		}
+		gameListRepository.insertBelongings(listId, gameIds.toArray(Long[]::new), position);
+		listViewService.refresh(listId, position, Integer.MAX_VALUE);
+		listAggregateService.added(listId, gameIds);
+
+		// Registra as inclusões no histórico (sem posição de origem), na ordem em que devem ser aplicadas, com um único comando.
+		List<Change> changes = new ArrayList<>();
+		for (int i = 0; i < gameIds.size(); i++) {
+			changes.add(new Change(gameIds.get(i), null, position + i));
+		}
+		listChangeService.recordAll(listId, changes);
+		invalidationBus.publish(Invalidation.list(listId));
+		listForkService.baseChanged(listId);
+	}
+
+	/**
+	 * Remove jogos de uma lista e renumera as posições restantes para a sequência contínua 0..n-1.
+	 * A remoção e a renumeração são feitas com um comando cada, sem percorrer a lista jogo a jogo.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param gameIds Os IDs dos jogos a serem removidos.
+	 * @throws InvalidRequestException Se houver IDs repetidos ou se algum jogo não pertencer à lista.
+	 * @throws ResourceNotFoundException Se a lista não existir.
+	 * @throws com.devsuperior.dslist.services.exceptions.ServiceUnavailableException Se o orçamento de escritas estiver esgotado.
+	 */
+	public void remove(Long listId, List<Long> gameIds) {
+		// A remoção e a renumeração são confirmadas juntas.
+		admissionControl.writes().run(() -> transaction.executeWithoutResult(status -> doRemove(listId, gameIds)));
+	}
+
+	/**
+	 * Valida, remove os jogos e renumera a lista, na transação aberta por {@link #remove}.
+	 */
+	private void doRemove(Long listId, List<Long> gameIds) {
+		validate(listId, gameIds);
+		Long baseListId = listForkService.baseOf(listId);
+		if (baseListId != null) {
+			listForkService.remove(listId, baseListId, gameIds);
+			return;
+		}
+		// Bloqueia a ordem atual e a linha da lista, como nas movimentações e inclusões, até a renumeração ser confirmada.
+		gameListRepository.lockGameIds(listId);
+		gameListRepository.lockList(listId);
+		// Posições atuais dos jogos removidos, da maior para a menor.
+		List<BelongingProjection> removed = gameListRepository.searchBelongings(listId, gameIds);
+		if (removed.size() != gameIds.size()) {
+			throw new InvalidRequestException("Jogo não pertence à lista " + listId + ".");
+		}
+
+		gameListRepository.deleteBelongings(listId, gameIds);
+		gameListRepository.renumberPositions(listId);
+		// As posições mudam a partir do primeiro jogo removido (o último da lista ordenada de forma decrescente).
+		listViewService.refresh(listId, removed.get(removed.size() - 1).getPosition(), Integer.MAX_VALUE);
+		listAggregateService.removed(listId, gameIds);
+
+		// Registra as remoções da maior para a menor posição, para que cada origem continue válida ao ser aplicada.
+		listChangeService.recordAll(listId, removed.stream()
+				.map(belonging -> new Change(belonging.getGameId(), belonging.getPosition(), null))
+				.toList());
+		invalidationBus.publish(Invalidation.list(listId));
+		listForkService.baseChanged(listId);
+	}
+
+	/**
+	 * Cria uma cópia de uma lista, que pode ser alterada sem afetar a lista copiada.
+	 * Os jogos não são copiados: a cópia guarda apenas as suas diferenças em relação à lista base.
+	 *
+	 * @param listId O ID da lista copiada.
+	 * @param name O nome da cópia, ou null para derivá-lo do nome da lista copiada.
+	 * @return A cópia criada.
+	 * @throws ResourceNotFoundException Se a lista copiada não existir.
+	 * @throws com.devsuperior.dslist.services.exceptions.ServiceUnavailableException Se o orçamento de escritas estiver esgotado.
+	 */
+	public GameListDTO fork(Long listId, String name) {
+		return admissionControl.writes().execute(() -> transaction.execute(status -> listForkService.fork(listId, name)));
+	}
+
+	/**
+	 * Verifica se a lista existe e se os IDs informados não são vazios nem repetidos.
+	 */
+	private void validate(Long listId, List<Long> gameIds) {
+		if (!gameListRepository.existsById(listId)) {
+			throw new ResourceNotFoundException("Lista não encontrada: " + listId + ".");
+		}
+		if (gameIds == null || gameIds.isEmpty()) {
+			throw new InvalidRequestException("Informe ao menos um jogo.");
+		}
+		if (gameIds.contains(null) || new HashSet<>(gameIds).size() != gameIds.size()) {
+			throw new InvalidRequestException("Os IDs dos jogos não podem ser nulos nem repetidos.");
 		}
 	}
 
 	/**
 	 * Busca uma lista de jogos específica pelo seu ID.
-	 * A anotação `@Transactional(readOnly = true)` otimiza a transação para operações de leitura.
+	 * A consulta é executada em uma transação somente leitura, compartilhada por chamadores simultâneos.
 	 *
 	 * @param id O ID único da lista de jogos a ser buscada.
 	 * @return Um objeto {@link GameListDTO} contendo os detalhes da lista de jogos encontrada.
 	 */
-	@Transactional(readOnly = true) // Garante que a operação de leitura seja otimizada e executada dentro de uma transação.
 	public GameListDTO findById(Long id) {
-		// Busca a entidade GameList pelo ID. O .get() é usado pois findById retorna um Optional.
-		GameList entity = gameListRepository.findById(id).get();
-		// Converte a entidade encontrada para um DTO.
-		return new GameListDTO(entity);
+		return findByIdFlight.execute(versionService.listETag(id), () -> admissionControl.reads().execute(() -> readOnlyTransaction.execute(status -> {
+			// Busca a entidade GameList pelo ID. O .get() é usado pois findById retorna um Optional.
+			GameList entity = gameListRepository.findById(id).get();
+			// Converte a entidade encontrada para um DTO.
+			return new GameListDTO(entity);
+		})));
 	}
-}
 
+	/**
+	 * Busca uma lista de jogos e todos os seus jogos, na ordem das posições.
+	 * A lista e os jogos são lidos com uma única consulta, em uma única transação somente leitura.
+	 *
+	 * @param id O ID da lista de jogos.
+	 * @param expand A expansão pedida; somente `games` é aceita.
+	 * @return A lista com os seus jogos.
+	 * @throws InvalidRequestException Se a expansão for inválida.
+	 * @throws ResourceNotFoundException Se a lista não existir.
+	 */
+	public GameListExpandedDTO findById(Long id, String expand) {
+		validateExpand(expand);
+		return findByIdExpandedFlight.execute(versionService.listETag(id), () -> admissionControl.reads().execute(() -> readOnlyTransaction.execute(status -> {
+			List<GameListExpandedDTO> result = group(listViewRepository.searchListWithGames(id), Integer.MAX_VALUE);
+			if (result.isEmpty()) {
+				throw new ResourceNotFoundException("Lista não encontrada: " + id + ".");
+			}
+			return result.get(0);
+		})));
+	}
 
+	/**
+	 * Busca todas as listas de jogos com os seus primeiros jogos.
+	 * Todas as listas são lidas com uma única consulta, sem uma consulta adicional por lista.
+	 *
+	 * @param expand A expansão pedida; somente `games` é aceita.
+	 * @param limit A quantidade máxima de jogos por lista.
+	 * @return As listas, em ordem de ID, cada uma com até `limit` jogos.
+	 * @throws InvalidRequestException Se a expansão for inválida ou se o limite estiver fora do intervalo permitido.
+	 */
+	public List<GameListExpandedDTO> findAll(String expand, int limit) {
+		validateExpand(expand);
+		if (limit < 1 || limit > MAX_EXPANDED_GAMES) {
+			throw new InvalidRequestException("Limite inválido: " + limit + ". Informe um valor entre 1 e " + MAX_EXPANDED_GAMES + ".");
+		}
+		// Lê todas as listas e as suas primeiras posições: passa pelo orçamento das varreduras.
+		return findAllExpandedFlight.execute(versionService.generation() + "-" + limit, () -> admissionControl.scans().execute(
+				() -> readOnlyTransaction.execute(status -> group(listViewRepository.searchAllListsWithGames(limit), limit))));
+	}
+
+	/**
+	 * Agrupa as linhas lidas, ordenadas por lista, em uma lista expandida por ID de lista.
+	 * Uma cópia não tem linhas na visão materializada: os seus jogos são obtidos da lista base e das suas diferenças.
+	 */
+	private List<GameListExpandedDTO> group(List<ListGameProjection> rows, int limit) {
+		List<GameListExpandedDTO> result = new ArrayList<>();
+		GameListExpandedDTO current = null;
+		for (ListGameProjection row : rows) {
+			if (current == null || !current.getId().equals(row.getListId())) {
+				current = new GameListExpandedDTO(row);
+				result.add(current);
+				if (row.getBaseListId() != null) {
+					listForkService.resolve(row.getListId(), row.getBaseListId()).stream()
+							.limit(limit)
+							.map(imageStoreService::rewrite)
+							.forEach(current.getGames()::add);
+				}
+			}
+			// Uma lista vazia é lida como uma única linha sem jogo.
+			if (row.getId() != null) {
+				current.getGames().add(imageStoreService.rewrite(new GameMinDTO(row)));
+			}
+		}
+		return result;
+	}
+
+	private static void validateExpand(String expand) {
+		if (!EXPAND_GAMES.equals(expand)) {
+			throw new InvalidRequestException("Expansão inválida: " + expand + ". Expansões permitidas: " + EXPAND_GAMES);
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/**
+ * Jogos com informações mínimas lidos do ResultSet para colunas compactas e escritos depois em um gerador Jackson.
+ * A leitura acontece dentro da transação, uma linha por vez, guardando cada campo em um array da sua coluna, sem
+ * criar entidades, projeções ou DTOs por linha. A escrita só acontece depois que a transação, a conexão e a
+ * vaga do {@link AdmissionControl} foram liberadas, de modo que um cliente lento não ocupa recursos do banco de dados.
+ * Depois de lidos, os jogos não mudam: o mesmo objeto pode ser escrito por várias requisições ao mesmo tempo.
+ * Os nomes dos campos são pré-serializados uma única vez, e a saída tem os mesmos campos, na mesma ordem,
+ * que a serialização de {@link GameMinDTO}.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.devsuperior.dslist.dto.GameMinDTO;
+import com.devsuperior.dslist.services.profiling.GameScanEvent;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+class GameMinRows implements RowCallbackHandler {
+
+	private static final SerializableString ID = new SerializedString("id");
+	private static final SerializableString TITLE = new SerializedString("title");
+	private static final SerializableString YEAR = new SerializedString("year");
+	private static final SerializableString IMG_URL = new SerializedString("imgUrl");
+	private static final SerializableString SHORT_DESCRIPTION = new SerializedString("shortDescription");
+	private static final int NO_YEAR = Integer.MIN_VALUE; // Marca um ano nulo na coluna de anos.
+
+	private final ImageStoreService imageStoreService; // Repositório local de imagens, usado para reescrever as URLs.
+	private long[] ids = new long[16]; // IDs dos jogos.
+	private int[] years = new int[16]; // Anos de lançamento, ou NO_YEAR.
+	private String[] titles = new String[16]; // Títulos.
+	private String[] imgUrls = new String[16]; // URLs das imagens, já reescritas.
+	private String[] shortDescriptions = new String[16]; // Descrições curtas.
+	private int rows; // Quantidade de jogos lidos.
+	private long bytes; // Tamanho estimado dos jogos lidos, com o critério de GameScanEvent.
+
+	GameMinRows(ImageStoreService imageStoreService) {
+		this.imageStoreService = imageStoreService;
+	}
+
+	/**
+	 * Guarda a linha corrente do ResultSet, com as colunas id, title, game_year, img_url e short_description.
+	 */
+	@Override
+	public void processRow(ResultSet rs) throws SQLException {
+		long id = rs.getLong(1);
+		String title = rs.getString(2);
+		int year = rs.getInt(3);
+		// O ano é opcional: getInt retorna 0 para uma coluna nula.
+		add(id, title, rs.wasNull() ? NO_YEAR : year, imageStoreService.rewrite(id, rs.getString(4)), rs.getString(5));
+	}
+
+	private void add(long id, String title, int year, String imgUrl, String shortDescription) {
+		if (rows == ids.length) {
+			int capacity = rows * 2;
+			ids = Arrays.copyOf(ids, capacity);
+			years = Arrays.copyOf(years, capacity);
+			titles = Arrays.copyOf(titles, capacity);
+			imgUrls = Arrays.copyOf(imgUrls, capacity);
+			shortDescriptions = Arrays.copyOf(shortDescriptions, capacity);
+		}
+		ids[rows] = id;
+		years[rows] = year;
+		titles[rows] = title;
+		imgUrls[rows] = imgUrl;
+		shortDescriptions[rows] = shortDescription;
+		rows++;
+		bytes += GameScanEvent.estimate(title, imgUrl, shortDescription);
+	}
+
+	/**
+	 * Escreve os jogos no gerador, como um array de objetos.
+	 *
+	 * @param generator O gerador associado ao corpo da resposta.
+	 * @throws IOException Se a escrita na resposta falhar.
+	 */
+	void writeTo(JsonGenerator generator) throws IOException {
+		generator.writeStartArray();
+		for (int i = 0; i < rows; i++) {
+			generator.writeStartObject();
+			generator.writeFieldName(ID);
+			generator.writeNumber(ids[i]);
+			generator.writeFieldName(TITLE);
+			generator.writeString(titles[i]);
+			generator.writeFieldName(YEAR);
+			if (years[i] == NO_YEAR) {
+				generator.writeNull();
+			}
+			else {
+				generator.writeNumber(years[i]);
+			}
+			generator.writeFieldName(IMG_URL);
+			generator.writeString(imgUrls[i]);
+			generator.writeFieldName(SHORT_DESCRIPTION);
+			generator.writeString(shortDescriptions[i]);
+			generator.writeEndObject();
+		}
+		generator.writeEndArray();
+	}
+
+	int getRows() {
+		return rows;
+	}
+
+	long getBytes() {
+		return bytes;
+	}
+}
@@ -3,74 +3,328 @@
  * Esta classe encapsula a lógica de negócio para gerenciar jogos,
  * incluindo a busca de jogos por ID, a busca de todos os jogos e a busca
  * de jogos associados a uma lista específica.
+ * Consultas idênticas e simultâneas são agrupadas por {@link SingleFlight}, de modo que
+ * apenas uma transação de leitura é aberta por rajada de requisições da mesma versão.
+ * Cada consulta passa antes pelo {@link AdmissionControl}: as leituras por chave e as varreduras completas
+ * têm orçamentos de concorrência separados e, acima do orçamento, a consulta é recusada sem abrir a transação.
+ * A URL da imagem de cada jogo aponta para o {@link ImageStoreService} quando há uma imagem local.
+ * Os jogos de uma cópia de lista são obtidos pelo {@link ListForkService}, a partir da lista base e das diferenças da cópia.
+ * As buscas de todos os jogos e dos jogos de uma lista emitem eventos para o Java Flight Recorder.
+ * Essas buscas leem o ResultSet para colunas compactas ({@link GameMinRows}), sem projeções nem DTOs
+ * intermediários, inclusive nas cópias de listas, e só escrevem a resposta depois de liberar a
+ * transação e a vaga da admissão. O resultado fica em cache, associado à ETag da versão lida: o cache guarda
+ * somente a última versão lida do catálogo e de cada lista, e é limitado pelo tamanho estimado dos jogos guardados
+ * (`dslist.games.stream-cache.max-bytes`), não pela quantidade de resultados. As invalidações descartam as
+ * leituras da lista alterada ou, se um jogo mudou, todas as leituras, que não serão mais pedidas.
  *
  * @author lacerdagb (mantido como autor original, conforme instrução)
  * @version 1.0.0
  */
 package com.devsuperior.dslist.services;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.PathVariable;
 
 import com.devsuperior.dslist.dto.GameDTO;
 import com.devsuperior.dslist.dto.GameMinDTO;
+import com.devsuperior.dslist.dto.GameMinStream;
 import com.devsuperior.dslist.entities.Game;
-import com.devsuperior.dslist.projections.GameMinProjection;
+import com.devsuperior.dslist.projections.GameField;
 import com.devsuperior.dslist.repositories.GameRepository;
+import com.devsuperior.dslist.services.profiling.GameScanEvent;
+import com.devsuperior.dslist.services.invalidation.Invalidation;
+import com.devsuperior.dslist.services.invalidation.InvalidationListener;
+import com.devsuperior.dslist.services.profiling.ListReadEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 
 @Service // Indica que esta classe é um componente de serviço do Spring, gerenciando a lógica de negócio.
-public class GameService {
+public class GameService implements InvalidationListener {
 
 	@Autowired // Realiza a injeção de dependência do GameRepository para acesso aos dados dos jogos.
 	private GameRepository gameRepository;
+
+	@Autowired // Gerenciador de transações usado para abrir a transação somente no chamador que executa a consulta.
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired // Registro de métricas onde os agrupadores de consultas publicam seus contadores.
+	private MeterRegistry meterRegistry;
+
+	@Autowired // Controle de admissão, que limita as consultas simultâneas ao banco de dados.
+	private AdmissionControl admissionControl;
+
+	@Autowired // Repositório local de imagens, usado para reescrever as URLs das imagens.
+	private ImageStoreService imageStoreService;
+
+	@Autowired // Realiza a injeção de dependência do ListForkService, que obtém os jogos das cópias de listas.
+	private ListForkService listForkService;
+
+	@Autowired // Versões do catálogo e das listas, que identificam os jogos lidos em cache.
+	private VersionService versionService;
+
+	@Value("${dslist.games.stream-cache.max-bytes:16777216}") // Tamanho estimado máximo, em bytes, dos jogos mantidos no cache das leituras escritas na resposta.
+	private long streamCacheMaxBytes;
+
+	private TransactionTemplate readOnlyTransaction; // Modelo de transação somente leitura.
+	private SingleFlight<String, GameDTO> findByIdFlight; // Agrupa buscas simultâneas pelo mesmo jogo na mesma versão do catálogo.
+	private SingleFlight<String, GameMinRows> streamFlight; // Agrupa leituras simultâneas da mesma versão do catálogo ou de uma lista.
+	private Map<String, CachedRows> streamCache; // Última versão lida do catálogo e de cada lista, da menos à mais recentemente usada.
+	private long streamCacheBytes; // Tamanho estimado dos jogos no cache; acessado somente com o cache sincronizado.
+
+	/**
+	 * Jogos lidos de uma versão do catálogo ou de uma lista, identificada pela ETag.
+	 */
+	private record CachedRows(String etag, GameMinRows rows) {
+	}
+
+	/**
+	 * Inicializa o modelo de transação somente leitura e os agrupadores de consultas.
+	 */
+	@PostConstruct
+	void init() {
+		readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+		findByIdFlight = new SingleFlight<>("game.findById", meterRegistry);
+		streamFlight = new SingleFlight<>("game.stream", meterRegistry);
+		streamCache = new LinkedHashMap<>(16, 0.75f, true);
+	}
 	
 	/**
 	 * Busca um jogo específico pelo seu ID.
-	 * A anotação `@Transactional(readOnly = true)` otimiza a transação para operações de leitura.
+	 * A consulta é executada em uma transação somente leitura, compartilhada por chamadores simultâneos que pedem
+	 * o jogo na mesma versão do catálogo: uma busca iniciada depois de uma escrita não aguarda uma leitura anterior a ela.
 	 *
 	 * @param id O ID único do jogo a ser buscado.
 	 * @return Um objeto {@link GameDTO} contendo os detalhes completos do jogo encontrado.
 	 */
-	@Transactional(readOnly = true) // Garante que a operação de leitura seja otimizada e executada dentro de uma transação.
 	public GameDTO findById(@PathVariable Long id) {
-		// Busca a entidade Game pelo ID. O .get() é usado pois findById retorna um Optional.
-		Game result = gameRepository.findById(id).get();
-		// Converte a entidade encontrada para um DTO.
-		return new GameDTO(result);
+		return findByIdFlight.execute(versionService.catalogETag() + id, () -> admissionControl.reads().execute(() -> readOnlyTransaction.execute(status -> {
+			// Busca a entidade Game pelo ID. O .get() é usado pois findById retorna um Optional.
+			Game result = gameRepository.findById(id).get();
+			// Converte a entidade encontrada para um DTO, apontando a imagem para o repositório local.
+			return imageStoreService.rewrite(new GameDTO(result));
+		})));
 	}
 	
 	/**
-	 * Busca todos os jogos com informações mínimas.
-	 * A anotação `@Transactional(readOnly = true)` otimiza a transação para operações de leitura.
+	 * Lê todos os jogos com informações mínimas, para serem escritos diretamente na resposta.
+	 * A consulta é executada via JDBC em uma transação somente leitura, após a admissão como varredura, e cada linha
+	 * do ResultSet é guardada em colunas compactas. A escrita acontece depois, sem a transação nem a vaga da admissão.
 	 *
-	 * @return Uma lista de objetos {@link GameMinDTO} contendo informações resumidas de todos os jogos.
+	 * @return Os jogos a serem escritos, na ordem dos IDs.
 	 */
-	@Transactional(readOnly = true) // Garante que a operação de leitura seja otimizada e executada dentro de uma transação.
-	public List<GameMinDTO> findAll() {
-		// Busca todas as entidades Game do repositório.
-		List<Game> result = gameRepository.findAll();
-		// Converte a lista de entidades para uma lista de DTOs mínimos usando Stream API.
-		return result.stream().map(GameMinDTO::new).toList();
+	public GameMinStream streamAll() {
+		GameScanEvent event = new GameScanEvent();
+		event.begin();
+		GameMinRows rows = rows("c", versionService.catalogETag(), admissionControl.scans(), gameRepository::streamAll);
+		event.end();
+		if (event.shouldCommit()) {
+			event.rows = rows.getRows();
+			event.bytes = rows.getBytes();
+			event.commit();
+		}
+		return rows::writeTo;
 	}
-	
+
+	/**
+	 * Lê os jogos de uma lista, para serem escritos diretamente na resposta.
+	 * Os jogos são lidos da visão materializada via JDBC, em uma transação somente leitura, e guardados em colunas
+	 * compactas. Os IDs dos jogos de uma cópia de lista são resolvidos pelo {@link ListForkService}, e os jogos são
+	 * lidos na ordem desses IDs pela mesma leitura linha a linha.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @return Os jogos a serem escritos, na ordem da lista.
+	 */
+	public GameMinStream streamByGameList(Long listId) {
+		ListReadEvent event = new ListReadEvent();
+		event.begin();
+		GameMinRows rows = rows("l" + listId, versionService.listETag(listId), admissionControl.reads(), games -> {
+			Long baseListId = listForkService.baseOf(listId);
+			if (baseListId != null) {
+				gameRepository.streamByIds(listForkService.resolveIds(listId, baseListId).toArray(Long[]::new), games);
+			}
+			else {
+				gameRepository.streamByList(listId, games);
+			}
+		});
+		event.end();
+		if (event.shouldCommit()) {
+			event.listId = listId;
+			event.rows = rows.getRows();
+			event.commit();
+		}
+		return rows::writeTo;
+	}
+
+	/**
+	 * Retorna os jogos da versão identificada pela ETag, do cache ou lidos em uma transação somente leitura,
+	 * admitida pelo limitador informado. Leituras simultâneas da mesma versão são agrupadas.
+	 * A ETag é obtida antes da leitura: se uma escrita for confirmada durante a leitura, a versão avança e
+	 * o resultado, possivelmente anterior à escrita, fica associado apenas à versão antiga.
+	 * O cache guarda uma única versão por catálogo ou lista (`scope`): a versão lida substitui a anterior.
+	 */
+	private GameMinRows rows(String scope, String etag, ConcurrencyLimiter limiter, Consumer<GameMinRows> read) {
+		synchronized (streamCache) {
+			CachedRows cached = streamCache.get(scope);
+			if (cached != null && cached.etag().equals(etag)) {
+				return cached.rows();
+			}
+		}
+		GameMinRows rows = streamFlight.execute(etag, () -> limiter.execute(() -> readOnlyTransaction.execute(status -> {
+			GameMinRows result = new GameMinRows(imageStoreService);
+			read.accept(result);
+			return result;
+		})));
+		cache(scope, etag, rows);
+		return rows;
+	}
+
+	/**
+	 * Descarta do cache as leituras que a alteração tornou antigas: as da lista alterada ou, se um jogo mudou,
+	 * todas, pois os jogos aparecem no catálogo e nas listas.
+	 *
+	 * @param invalidation A invalidação confirmada.
+	 */
+	@Override
+	public void onInvalidation(Invalidation invalidation) {
+		synchronized (streamCache) {
+			if (invalidation.kind() == Invalidation.Kind.LIST) {
+				CachedRows removed = streamCache.remove("l" + invalidation.id());
+				if (removed != null) {
+					streamCacheBytes -= removed.rows().getBytes();
+				}
+			}
+			else {
+				streamCache.clear();
+				streamCacheBytes = 0;
+			}
+		}
+	}
+
+	/**
+	 * Guarda os jogos lidos no lugar da versão anterior do mesmo catálogo ou lista e descarta as versões menos
+	 * recentemente usadas até que o tamanho estimado do cache volte ao limite. Um resultado maior que o limite
+	 * não é guardado.
+	 */
+	private void cache(String scope, String etag, GameMinRows rows) {
+		synchronized (streamCache) {
+			if (rows.getBytes() > streamCacheMaxBytes) {
+				return;
+			}
+			CachedRows previous = streamCache.put(scope, new CachedRows(etag, rows));
+			if (previous != null) {
+				streamCacheBytes -= previous.rows().getBytes();
+			}
+			streamCacheBytes += rows.getBytes();
+			Iterator<CachedRows> eldest = streamCache.values().iterator();
+			while (streamCacheBytes > streamCacheMaxBytes) {
+				streamCacheBytes -= eldest.next().rows().getBytes();
+				eldest.remove();
+			}
+		}
+	}
+
+	/**
+	 * Busca um jogo pelo ID, retornando apenas os campos pedidos em `fields` (ex.: "id,title,year").
+	 * Somente as colunas correspondentes são lidas do banco de dados.
+	 *
+	 * @param id O ID único do jogo a ser buscado.
+	 * @param fields Os nomes dos campos separados por vírgula.
+	 * @return Um mapa com os campos pedidos do jogo encontrado.
+	 */
+	public Map<String, Object> findById(Long id, String fields) {
+		// Valida os campos antes de ocupar o orçamento de leituras.
+		List<GameField> selected = GameField.parse(fields, false);
+		// Busca o jogo lendo apenas as colunas selecionadas.
+		Map<String, Object> row = admissionControl.reads().execute(() -> readOnlyTransaction.execute(status -> gameRepository.findByIdFields(id, selected).get()));
+		if (selected.contains(GameField.IMG_URL)) {
+			row.put(GameField.ID.getName(), id);
+			imageStoreService.rewrite(List.of(row), selected.contains(GameField.ID));
+		}
+		return row;
+	}
+
+	/**
+	 * Busca todos os jogos, retornando apenas os campos pedidos em `fields`.
+	 * Somente as colunas correspondentes são lidas do banco de dados.
+	 *
+	 * @param fields Os nomes dos campos separados por vírgula.
+	 * @return Uma lista de mapas com os campos pedidos de cada jogo.
+	 */
+	public List<Map<String, Object>> findAll(String fields) {
+		List<GameField> selected = GameField.parse(fields, false);
+		List<GameField> read = withIdForImage(selected);
+		List<Map<String, Object>> rows = admissionControl.scans().execute(() -> readOnlyTransaction.execute(status -> gameRepository.findAllFields(read)));
+		return rewriteImages(rows, selected);
+	}
+
 	/**
-	 * Busca todos os jogos pertencentes a uma lista de jogos específica.
-	 * A anotação `@Transactional(readOnly = true)` otimiza a transação para operações de leitura.
+	 * Busca os jogos de uma lista, retornando apenas os campos pedidos em `fields`.
+	 * São aceitos somente os campos presentes no {@link GameMinDTO}.
 	 *
 	 * @param listId O ID da lista de jogos da qual os jogos serão buscados.
-	 * @return Uma lista de objetos {@link GameMinDTO} contendo os jogos da lista especificada.
+	 * @param fields Os nomes dos campos separados por vírgula.
+	 * @return Uma lista de mapas com os campos pedidos de cada jogo, na ordem da lista.
 	 */
-	@Transactional(readOnly = true) // Garante que a operação de leitura seja otimizada e executada dentro de uma transação.
-	public List<GameMinDTO> findByGameList(Long listId) {
-		// Busca os jogos da lista especificada usando uma projeção mínima.
-		List<GameMinProjection> games = gameRepository.searchByList(listId);
-		// Converte a lista de projeções para uma lista de DTOs mínimos usando Stream API.
-		return games.stream().map(GameMinDTO::new).toList();
+	public List<Map<String, Object>> findByGameList(Long listId, String fields) {
+		List<GameField> selected = GameField.parse(fields, true);
+		List<GameField> read = withIdForImage(selected);
+		List<Map<String, Object>> rows = admissionControl.reads().execute(() -> readOnlyTransaction.execute(status -> {
+			Long baseListId = listForkService.baseOf(listId);
+			if (baseListId != null) {
+				return listForkService.resolve(listId, baseListId).stream().map(game -> fields(game, read)).toList();
+			}
+			return gameRepository.searchByListFields(listId, read);
+		}));
+		return rewriteImages(rows, selected);
 	}
-}
 
+	/**
+	 * Copia os campos pedidos de um jogo de uma cópia de lista para um mapa, na ordem pedida.
+	 */
+	private static Map<String, Object> fields(GameMinDTO game, List<GameField> fields) {
+		Map<String, Object> row = new LinkedHashMap<>();
+		for (GameField field : fields) {
+			row.put(field.getName(), switch (field) {
+				case ID -> game.getId();
+				case TITLE -> game.getTitle();
+				case YEAR -> game.getYear();
+				case IMG_URL -> game.getImgUrl();
+				case SHORT_DESCRIPTION -> game.getShortDescription();
+				default -> throw new IllegalArgumentException("Campo fora do GameMinDTO: " + field.getName());
+			});
+		}
+		return row;
+	}
 
+	/**
+	 * Inclui o ID entre as colunas lidas quando a URL da imagem é pedida, para localizar a imagem local.
+	 */
+	private static List<GameField> withIdForImage(List<GameField> selected) {
+		if (!selected.contains(GameField.IMG_URL) || selected.contains(GameField.ID)) {
+			return selected;
+		}
+		List<GameField> read = new ArrayList<>(selected);
+		read.add(GameField.ID);
+		return read;
+	}
+
+	/**
+	 * Reescreve as URLs das imagens, se pedidas, removendo o ID quando ele não foi pedido.
+	 */
+	private List<Map<String, Object>> rewriteImages(List<Map<String, Object>> rows, List<GameField> selected) {
+		return selected.contains(GameField.IMG_URL) ? imageStoreService.rewrite(rows, selected.contains(GameField.ID)) : rows;
+	}
+}
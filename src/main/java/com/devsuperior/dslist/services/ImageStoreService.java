@@ -0,0 +1,406 @@
+/**
+ * Serviço que mantém as imagens de capa dos jogos em um diretório local, para que os clientes não
+ * dependam da latência de um servidor externo. Cada imagem é gravada em um arquivo imutável cujo nome
+ * inclui o hash SHA-256 do conteúdo, acompanhado de um arquivo de metadados com o tipo e o hash, que é
+ * substituído atomicamente a cada nova versão. Os metadados ficam também em um índice em memória, de modo
+ * que a leitura de uma imagem e a reescrita das URLs nos DTOs não acessam o disco nem o banco de dados.
+ * As URLs apontam para `/games/{id}/image?v={versão}`: como a versão muda com o conteúdo, a resposta pode
+ * ser armazenada em cache pelo cliente por tempo indeterminado.
+ * O arquivo de uma versão substituída não é removido imediatamente: ele é marcado e só é apagado depois de um
+ * período de carência, no próximo envio de imagem do jogo ou na inicialização, pois uma leitura concorrente pode
+ * abrir o arquivo (inclusive pelo sendfile do Tomcat) depois de ter consultado o índice.
+ * Com várias instâncias, `dslist.images.dir` deve apontar para um diretório compartilhado entre elas: uma instância
+ * avisada pelo {@link InvalidationBus} relê os metadados e serve o arquivo gravado pela instância que recebeu a imagem.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.devsuperior.dslist.dto.GameDTO;
+import com.devsuperior.dslist.dto.GameMinDTO;
+import com.devsuperior.dslist.repositories.GameRepository;
+import com.devsuperior.dslist.services.exceptions.InvalidRequestException;
+import com.devsuperior.dslist.services.invalidation.Invalidation;
+import com.devsuperior.dslist.services.invalidation.InvalidationBus;
+import com.devsuperior.dslist.services.invalidation.InvalidationListener;
+
+import jakarta.annotation.PostConstruct;
+
+@Service // Indica que esta classe é um componente de serviço do Spring.
+public class ImageStoreService implements InvalidationListener {
+
+	// Tipos de mídia aceitos. Formatos que podem conter scripts, como image/svg+xml, são recusados: a imagem é servida
+	// pela própria origem da API e, aberta diretamente no navegador, executaria o script nessa origem.
+	private static final Set<String> CONTENT_TYPES = Set.of("image/png", "image/jpeg", "image/webp", "image/gif");
+
+	/**
+	 * Uma imagem armazenada: o arquivo com o conteúdo e os metadados usados nas respostas HTTP.
+	 *
+	 * @param gameId O ID do jogo.
+	 * @param path O arquivo com o conteúdo da imagem.
+	 * @param contentType O tipo de mídia da imagem.
+	 * @param hash O hash SHA-256 do conteúdo, em hexadecimal.
+	 * @param size O tamanho da imagem em bytes.
+	 */
+	public record StoredImage(Long gameId, Path path, String contentType, String hash, long size) {
+
+		/**
+		 * Retorna a ETag (forte) da imagem, derivada do seu conteúdo.
+		 * @return A ETag entre aspas.
+		 */
+		public String etag() {
+			return "\"" + hash + "\"";
+		}
+
+		/**
+		 * Retorna a versão usada na URL da imagem.
+		 * @return Os primeiros caracteres do hash.
+		 */
+		public String version() {
+			return hash.substring(0, 16);
+		}
+	}
+
+	@Autowired // Realiza a injeção de dependência do GameRepository, para validar o jogo da imagem.
+	private GameRepository gameRepository;
+
+	@Autowired // Barramento onde as novas imagens são publicadas, invalidando as respostas que contêm a URL antiga.
+	private InvalidationBus invalidationBus;
+
+	@Value("${dslist.images.dir:${java.io.tmpdir}/dslist-images}") // Diretório onde as imagens são gravadas.
+	private String directoryName;
+
+	@Value("${dslist.images.max-size:5242880}") // Tamanho máximo, em bytes, de uma imagem.
+	private long maxSize;
+
+	@Value("${dslist.images.grace-period:60000}") // Tempo, em milissegundos, que o arquivo de uma versão substituída é mantido.
+	private long gracePeriod;
+
+	@Value("${dslist.images.base-url:}") // Prefixo das URLs das imagens (ex.: o endereço de uma CDN); vazio para URLs relativas.
+	private String baseUrl;
+
+	private Path directory; // Diretório onde as imagens são gravadas.
+	private final Map<Long, StoredImage> index = new ConcurrentHashMap<>(); // Imagens armazenadas, por ID do jogo.
+
+	/**
+	 * Cria o diretório, se necessário, carrega no índice os metadados das imagens já armazenadas
+	 * e remove os arquivos de versões substituídas cujo período de carência terminou.
+	 */
+	@PostConstruct
+	void init() throws IOException {
+		directory = Path.of(directoryName).toAbsolutePath();
+		Files.createDirectories(directory);
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.properties")) {
+			for (Path file : files) {
+				String name = file.getFileName().toString();
+				reload(Long.valueOf(name.substring(0, name.indexOf('.'))));
+			}
+		}
+		purge("*.img");
+	}
+
+	/**
+	 * Busca a imagem armazenada de um jogo.
+	 *
+	 * @param gameId O ID do jogo.
+	 * @return A imagem, ou vazio se o jogo não tiver imagem local.
+	 */
+	public Optional<StoredImage> find(Long gameId) {
+		return Optional.ofNullable(index.get(gameId));
+	}
+
+	/**
+	 * Grava a imagem de um jogo, substituindo a anterior.
+	 * O conteúdo é lido como fluxo para um arquivo temporário, com o hash calculado durante a leitura,
+	 * e só então publicado: leitores concorrentes veem a imagem anterior ou a nova, nunca uma parcial.
+	 *
+	 * @param gameId O ID do jogo.
+	 * @param contentType O tipo de mídia da imagem: image/png, image/jpeg, image/webp ou image/gif.
+	 * @param body O conteúdo da imagem.
+	 * @return A imagem armazenada.
+	 * @throws InvalidRequestException Se o jogo não existir, se o tipo não for aceito ou se o tamanho exceder o limite.
+	 */
+	public StoredImage save(Long gameId, String contentType, InputStream body) {
+		// Os parâmetros do tipo (ex.: `; charset=...`) são descartados, e somente o tipo normalizado é gravado.
+		String type = contentType != null ? contentType.split(";", 2)[0].trim().toLowerCase() : null;
+		if (type == null || !CONTENT_TYPES.contains(type)) {
+			throw new InvalidRequestException("Tipo de mídia inválido: " + contentType
+					+ ". Envie uma imagem image/png, image/jpeg, image/webp ou image/gif.");
+		}
+		if (!gameRepository.existsById(gameId)) {
+			throw new InvalidRequestException("Jogo não encontrado: " + gameId + ".");
+		}
+		Path temp = null;
+		try {
+			temp = Files.createTempFile(directory, gameId + "-", ".tmp");
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			long size;
+			try (InputStream in = new DigestInputStream(body, digest); OutputStream out = Files.newOutputStream(temp)) {
+				size = copy(in, out);
+			}
+			String hash = HexFormat.of().formatHex(digest.digest());
+			// O nome do arquivo inclui o hash: uma versão nunca é sobrescrita enquanto está sendo enviada a um cliente.
+			Path blob = directory.resolve(gameId + "-" + hash + ".img");
+			Files.move(temp, blob, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			StoredImage image = new StoredImage(gameId, blob, type, hash, size);
+			// A versão anterior é lida do diretório, pois pode ter sido gravada por outra instância.
+			StoredImage previous = readMetadata(gameId);
+			writeMetadata(image);
+			index.put(gameId, image);
+			retire(previous, image);
+			purge(gameId + "-*.img");
+			invalidationBus.publish(Invalidation.game(gameId));
+			return image;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		finally {
+			deleteQuietly(temp);
+		}
+	}
+
+	/**
+	 * Remove a imagem local de um jogo; as respostas voltam a usar a URL original.
+	 *
+	 * @param gameId O ID do jogo.
+	 * @return true se havia uma imagem local.
+	 */
+	public boolean delete(Long gameId) {
+		StoredImage previous = readMetadata(gameId);
+		index.remove(gameId);
+		if (previous == null) {
+			return false;
+		}
+		deleteQuietly(metadata(gameId));
+		retire(previous, null);
+		invalidationBus.publish(Invalidation.game(gameId));
+		return true;
+	}
+
+	/**
+	 * Substitui a URL da imagem pela da imagem local, se houver.
+	 *
+	 * @param dto O jogo a ser ajustado.
+	 * @return O próprio DTO.
+	 */
+	public GameDTO rewrite(GameDTO dto) {
+		StoredImage image = index.get(dto.getId());
+		if (image != null) {
+			dto.setImgUrl(url(image));
+		}
+		return dto;
+	}
+
+	/**
+	 * Substitui a URL da imagem pela da imagem local, se houver.
+	 *
+	 * @param dto O jogo a ser ajustado.
+	 * @return O próprio DTO.
+	 */
+	public GameMinDTO rewrite(GameMinDTO dto) {
+		StoredImage image = index.get(dto.getId());
+		if (image != null) {
+			dto.setImgUrl(url(image));
+		}
+		return dto;
+	}
+
+	/**
+	 * Retorna a URL da imagem local de um jogo, se houver, ou a URL informada.
+	 * Usado na escrita das respostas diretamente do ResultSet, em que não há DTO a ajustar.
+	 *
+	 * @param gameId O ID do jogo.
+	 * @param imgUrl A URL da imagem gravada no banco de dados.
+	 * @return A URL a ser exposta.
+	 */
+	public String rewrite(long gameId, String imgUrl) {
+		if (index.isEmpty()) {
+			return imgUrl; // Caso comum, sem imagens locais: evita criar o Long da busca no índice.
+		}
+		StoredImage image = index.get(gameId);
+		return image != null ? url(image) : imgUrl;
+	}
+
+	/**
+	 * Substitui a URL da imagem nos jogos lidos com o parâmetro `fields`, se o campo foi pedido.
+	 *
+	 * @param rows Os jogos, com o campo `id` presente.
+	 * @param keepId Se falso, remove o campo `id`, incluído apenas para localizar a imagem.
+	 * @return Os próprios mapas.
+	 */
+	public List<Map<String, Object>> rewrite(List<Map<String, Object>> rows, boolean keepId) {
+		for (Map<String, Object> row : rows) {
+			StoredImage image = index.get(((Number) row.get("id")).longValue());
+			if (image != null && row.containsKey("imgUrl")) {
+				row.put("imgUrl", url(image));
+			}
+			if (!keepId) {
+				row.remove("id");
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * Ao ser avisado de que outra instância alterou um jogo, relê do diretório os metadados da sua imagem.
+	 *
+	 * @param invalidation A invalidação recebida.
+	 */
+	@Override
+	public void onInvalidation(Invalidation invalidation) {
+		if (invalidation.remote() && invalidation.kind() == Invalidation.Kind.GAME) {
+			reload(invalidation.id());
+		}
+	}
+
+	private String url(StoredImage image) {
+		return baseUrl + "/games/" + image.gameId() + "/image?v=" + image.version();
+	}
+
+	/**
+	 * Lê os metadados da imagem de um jogo e atualiza o índice.
+	 */
+	private void reload(Long gameId) {
+		StoredImage image = readMetadata(gameId);
+		if (image == null) {
+			index.remove(gameId);
+		}
+		else {
+			index.put(gameId, image);
+		}
+	}
+
+	/**
+	 * Lê do diretório os metadados da imagem atual de um jogo, ou null se o jogo não tiver imagem.
+	 */
+	private StoredImage readMetadata(Long gameId) {
+		Path file = metadata(gameId);
+		if (!Files.exists(file)) {
+			return null;
+		}
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(file)) {
+			properties.load(reader);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		String hash = properties.getProperty("hash");
+		Path blob = directory.resolve(gameId + "-" + hash + ".img");
+		return new StoredImage(gameId, blob, properties.getProperty("contentType"), hash,
+				Long.parseLong(properties.getProperty("size")));
+	}
+
+	/**
+	 * Grava os metadados em um arquivo temporário e o move sobre o anterior, atomicamente.
+	 */
+	private void writeMetadata(StoredImage image) throws IOException {
+		Properties properties = new Properties();
+		properties.setProperty("contentType", image.contentType());
+		properties.setProperty("hash", image.hash());
+		properties.setProperty("size", String.valueOf(image.size()));
+		Path temp = Files.createTempFile(directory, image.gameId() + "-", ".tmp");
+		try (Writer writer = Files.newBufferedWriter(temp)) {
+			properties.store(writer, null);
+		}
+		Files.move(temp, metadata(image.gameId()), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private Path metadata(Long gameId) {
+		return directory.resolve(gameId + ".properties");
+	}
+
+	/**
+	 * Copia o conteúdo respeitando o tamanho máximo.
+	 */
+	private long copy(InputStream in, OutputStream out) throws IOException {
+		byte[] buffer = new byte[64 * 1024];
+		long size = 0;
+		for (int read; (read = in.read(buffer)) != -1;) {
+			size += read;
+			if (size > maxSize) {
+				throw new InvalidRequestException("Imagem maior que o limite de " + maxSize + " bytes.");
+			}
+			out.write(buffer, 0, read);
+		}
+		return size;
+	}
+
+	/**
+	 * Marca o arquivo da versão anterior, se for diferente da atual, como substituído agora: a data de
+	 * modificação passa a contar o período de carência, durante o qual leituras que já consultaram o índice
+	 * (nesta ou em outra instância) ainda podem abrir o arquivo.
+	 */
+	private static void retire(StoredImage previous, StoredImage current) {
+		if (previous != null && (current == null || !previous.path().equals(current.path()))) {
+			try {
+				Files.setLastModifiedTime(previous.path(), FileTime.fromMillis(System.currentTimeMillis()));
+			}
+			catch (IOException e) {
+				// O arquivo já foi removido; não há o que marcar.
+			}
+		}
+	}
+
+	/**
+	 * Remove os arquivos que não são a versão atual do seu jogo e que foram substituídos há mais tempo que
+	 * o período de carência. A versão atual é lida dos metadados no diretório, e não do índice, que pode ainda
+	 * não conhecer a imagem enviada a outra instância; um arquivo recém-gravado, cujos metadados ainda não
+	 * foram publicados, tem a data de modificação recente e também é mantido.
+	 */
+	private void purge(String pattern) throws IOException {
+		long limit = System.currentTimeMillis() - gracePeriod;
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, pattern)) {
+			for (Path file : files) {
+				String name = file.getFileName().toString();
+				StoredImage current = readMetadata(Long.valueOf(name.substring(0, name.indexOf('-'))));
+				if ((current == null || !current.path().equals(file)) && Files.getLastModifiedTime(file).toMillis() < limit) {
+					deleteQuietly(file);
+				}
+			}
+		}
+	}
+
+	private static void deleteQuietly(Path file) {
+		if (file == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(file);
+		}
+		catch (IOException e) {
+			// O arquivo é descartável; uma falha na remoção não afeta a imagem publicada.
+		}
+	}
+}
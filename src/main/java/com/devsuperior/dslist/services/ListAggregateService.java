@@ -0,0 +1,103 @@
+/**
+ * Serviço que mantém os agregados de cada lista de jogos (quantidade de jogos, nota média e faixa de anos),
+ * guardados em colunas de `tb_game_list`. As inclusões e remoções somam ou subtraem dos agregados apenas
+ * os jogos alterados, dentro da própria transação, de modo que `GET /lists` exibe os totais sem percorrer
+ * `tb_belonging`. Somente a faixa de anos exige reler a lista, e apenas quando um jogo removido estava
+ * em um dos seus extremos. Os agregados são recalculados na inicialização da aplicação.
+ * Os agregados das cópias de listas, que não têm linhas em `tb_belonging`, são recalculados pelo {@link ListForkService}.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services;
+
+import java.util.Collection;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dslist.repositories.GameListRepository;
+
+@Service // Indica que esta classe é um componente de serviço do Spring.
+public class ListAggregateService {
+
+	@Autowired // Realiza a injeção de dependência do GameListRepository, que executa os comandos sobre os agregados.
+	private GameListRepository gameListRepository;
+
+	@Autowired // Realiza a injeção de dependência do ListForkService, que recalcula os agregados das cópias de listas.
+	private ListForkService listForkService;
+
+	@Autowired // Gerenciador de transações usado no recálculo feito durante a inicialização, fora do proxy transacional.
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${dslist.list-aggregates.rebuild-on-startup:true}") // Recalcula os agregados quando a aplicação termina de iniciar.
+	private boolean rebuildOnStartup;
+
+	/**
+	 * Soma aos agregados de uma lista os jogos incluídos.
+	 * Deve ser chamado na transação que incluiu os jogos.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param gameIds Os IDs dos jogos incluídos.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY) // Os agregados só podem mudar junto com as tabelas normalizadas.
+	public void added(Long listId, Collection<Long> gameIds) {
+		gameListRepository.addAggregates(listId, gameIds);
+	}
+
+	/**
+	 * Subtrai dos agregados de uma lista os jogos removidos e, se necessário, recalcula a faixa de anos.
+	 * Deve ser chamado na transação que removeu os jogos, depois da remoção em `tb_belonging`.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param gameIds Os IDs dos jogos removidos.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY) // Os agregados só podem mudar junto com as tabelas normalizadas.
+	public void removed(Long listId, Collection<Long> gameIds) {
+		gameListRepository.subtractAggregates(listId, gameIds);
+		gameListRepository.refreshYearRange(listId, gameIds);
+	}
+
+	/**
+	 * Recalcula os agregados das listas que contêm os jogos alterados.
+	 * Deve ser chamado na transação que alterou `tb_game`; como os valores anteriores dos jogos já foram
+	 * sobrescritos, as listas afetadas são recalculadas a partir dos seus jogos.
+	 *
+	 * @param gameIds Os IDs dos jogos alterados.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY) // Os agregados só podem mudar junto com as tabelas normalizadas.
+	public void refreshGames(Collection<Long> gameIds) {
+		if (!gameIds.isEmpty()) {
+			gameListRepository.refreshAggregatesOfGames(gameIds);
+			listForkService.refreshGames(gameIds);
+		}
+	}
+
+	/**
+	 * Recalcula os agregados de todas as listas.
+	 *
+	 * @return A quantidade de listas recalculadas.
+	 */
+	@Transactional // Leitores continuam vendo os agregados anteriores até a confirmação.
+	public int rebuild() {
+		return gameListRepository.refreshAllAggregates() + listForkService.refreshAll();
+	}
+
+	/**
+	 * Recalcula os agregados ao final da inicialização, pois os dados iniciais são gravados diretamente nas tabelas normalizadas.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	void rebuildOnStartup() {
+		if (rebuildOnStartup) {
+			// A chamada interna não passa pelo proxy do Spring, então a transação é aberta explicitamente.
+			new TransactionTemplate(transactionManager).execute(status -> rebuild());
+		}
+	}
+}
@@ -0,0 +1,471 @@
+/**
+ * Serviço que mantém o histórico de alterações de ordem das listas de jogos.
+ * As movimentações de uma escrita são gravadas juntas na tabela `tb_list_change`, com um único comando em lote
+ * dentro da mesma transação e, após a confirmação, adicionadas ao registro em memória da lista e enviadas aos clientes
+ * inscritos via Server-Sent Events. As consultas recentes são atendidas pelo registro em memória;
+ * as mais antigas recorrem ao banco de dados.
+ * As sequências de uma lista são obtidas com a linha da lista em `tb_game_list` bloqueada até a confirmação,
+ * de modo que, em todas as instâncias, as alterações de uma lista são confirmadas na ordem das suas sequências:
+ * um cliente que já leu a sequência 12 nunca deixa de ver a 11. Com o bloqueio, a escrita também lê do banco
+ * as alterações da lista confirmadas por outras instâncias que ainda não estão no registro, e o registro guarda
+ * sempre uma faixa contínua de sequências, sem lacunas. As alterações feitas por outras instâncias também são
+ * carregadas do banco ao chegar a invalidação da lista pelo {@link InvalidationBus}.
+ * No máximo `dslist.changes.max-lists` listas mantêm registro em memória: ao passar do limite, são descartados os
+ * registros das listas usadas há mais tempo que não têm clientes inscritos. Sem registro, as consultas recorrem ao
+ * banco de dados, e a próxima escrita da lista começa um novo registro a partir da última sequência gravada.
+ * Cada cliente inscrito tem a sua própria fila de eventos, limitada a `dslist.changes.subscriber-queue-size`,
+ * esvaziada por um conjunto de `dslist.changes.sender-threads` threads de envio, no máximo uma por cliente.
+ * Um cliente lento ocupa apenas a sua thread e a sua fila: se a fila transborda, a conexão é encerrada, e o
+ * cliente retoma a partir da última sequência recebida (`Last-Event-ID`) lendo o histórico.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.devsuperior.dslist.dto.ListChangeDTO;
+import com.devsuperior.dslist.entities.ListChange;
+import com.devsuperior.dslist.repositories.GameListRepository;
+import com.devsuperior.dslist.repositories.ListChangeRepository;
+import com.devsuperior.dslist.services.invalidation.Invalidation;
+import com.devsuperior.dslist.services.invalidation.InvalidationBus;
+import com.devsuperior.dslist.services.invalidation.InvalidationListener;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Service // Indica que esta classe é um componente de serviço do Spring.
+public class ListChangeService implements InvalidationListener {
+
+	/**
+	 * Uma movimentação a ser registrada: o jogo e as suas posições de origem e de destino.
+	 * Uma inclusão não tem posição de origem e uma remoção não tem posição de destino.
+	 *
+	 * @param gameId O ID do jogo movimentado.
+	 * @param from A posição de origem do jogo, ou null se o jogo foi incluído na lista.
+	 * @param to A posição de destino do jogo, ou null se o jogo foi removido da lista.
+	 */
+	public record Change(Long gameId, Integer from, Integer to) {
+	}
+
+	/**
+	 * Registro em memória das alterações de uma lista: todas as alterações com sequência em (`from`, `last`],
+	 * em ordem crescente. Acessado somente com o próprio registro sincronizado.
+	 */
+	private static final class ListLog {
+
+		private final ArrayDeque<ListChangeDTO> changes = new ArrayDeque<>(); // Alterações, em ordem de sequência.
+		private long from; // Sequência a partir da qual (exclusive) o registro está completo.
+		private long last; // Maior sequência do registro; todas as anteriores, até `from`, estão presentes.
+
+		ListLog(long after) {
+			from = after;
+			last = after;
+		}
+	}
+
+	/**
+	 * Um cliente inscrito, a sua fila de eventos e a última sequência já enviada a ele.
+	 * A fila e o indicador de envio são acessados com o próprio cliente sincronizado; a última sequência,
+	 * somente pela thread que está esvaziando a fila.
+	 */
+	private static final class Subscriber {
+
+		private final SseEmitter emitter; // Conexão SSE do cliente.
+		private final ArrayDeque<ListChangeDTO> queue = new ArrayDeque<>(); // Alterações ainda não enviadas.
+		private boolean sending = true; // Indica que uma thread está esvaziando a fila; começa com o envio do histórico.
+		private boolean closed; // Indica que a conexão foi encerrada e a fila não recebe mais eventos.
+		private long last; // Última sequência enviada, para que nenhuma alteração seja enviada repetida ou fora de ordem.
+
+		Subscriber(SseEmitter emitter, long since) {
+			this.emitter = emitter;
+			this.last = since;
+		}
+	}
+
+	@Autowired // Realiza a injeção de dependência do ListChangeRepository para persistir o histórico.
+	private ListChangeRepository listChangeRepository;
+
+	@Autowired // Realiza a injeção de dependência do GameListRepository, que bloqueia a lista durante o registro.
+	private GameListRepository gameListRepository;
+
+	@Value("${dslist.changes.buffer-size:1024}") // Quantidade de alterações de cada lista mantidas em memória.
+	private int bufferSize;
+
+	@Value("${dslist.changes.max-lists:1024}") // Quantidade de listas com registro em memória.
+	private int maxLists;
+
+	@Value("${dslist.changes.stream-timeout:1800000}") // Tempo máximo, em milissegundos, de uma conexão SSE.
+	private long streamTimeout;
+
+	@Value("${dslist.changes.subscriber-queue-size:256}") // Alterações pendentes de envio por cliente antes de a conexão ser encerrada.
+	private int subscriberQueueSize;
+
+	@Value("${dslist.changes.sender-threads:4}") // Threads que enviam os eventos aos clientes.
+	private int senderThreads;
+
+	// Registro em memória das listas alteradas recentemente, da menos à mais recentemente usada; acessado com o mapa sincronizado.
+	private final Map<Long, ListLog> logs = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>(); // Clientes inscritos por lista.
+	private ExecutorService sender; // Envia os eventos sem bloquear a transação de escrita nem os demais clientes.
+
+	/**
+	 * Cria as threads de envio de eventos.
+	 */
+	@PostConstruct
+	void init() {
+		AtomicInteger count = new AtomicInteger();
+		sender = Executors.newFixedThreadPool(senderThreads, r -> {
+			Thread thread = new Thread(r, "list-changes-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Encerra a thread de envio de eventos.
+	 */
+	@PreDestroy
+	void shutdown() {
+		sender.shutdownNow();
+	}
+
+	/**
+	 * Registra a movimentação de um jogo em uma lista.
+	 * Uma inclusão é registrada sem posição de origem e uma remoção, sem posição de destino.
+	 * Deve ser chamado dentro da transação que altera a lista: o registro é gravado nela e só é
+	 * publicado no buffer e para os clientes inscritos após a confirmação.
+	 *
+	 * @param listId O ID da lista alterada.
+	 * @param gameId O ID do jogo movimentado.
+	 * @param from A posição de origem do jogo, ou null se o jogo foi incluído na lista.
+	 * @param to A posição de destino do jogo, ou null se o jogo foi removido da lista.
+	 */
+	@Transactional // Participa da transação corrente ou cria uma nova.
+	public void record(Long listId, Long gameId, Integer from, Integer to) {
+		recordAll(listId, List.of(new Change(gameId, from, to)));
+	}
+
+	/**
+	 * Registra as movimentações de uma escrita em uma lista, na ordem em que devem ser aplicadas.
+	 * Todas são gravadas com um único comando em lote e publicadas juntas, por um único aviso de confirmação.
+	 * Deve ser chamado dentro da transação que altera a lista.
+	 *
+	 * @param listId O ID da lista alterada.
+	 * @param changes As movimentações, na ordem de aplicação.
+	 */
+	@Transactional // Participa da transação corrente ou cria uma nova.
+	public void recordAll(Long listId, List<Change> changes) {
+		if (changes.isEmpty()) {
+			return;
+		}
+		// Bloqueia a lista até a confirmação: as sequências obtidas a seguir são confirmadas depois de todas as
+		// sequências anteriores da lista, em qualquer instância, e antes de todas as posteriores.
+		gameListRepository.lockList(listId);
+		// Lê as alterações da lista já confirmadas que ainda não estão no registro, para que ele continue contínuo.
+		ListLog log = log(listId);
+		long after;
+		List<ListChangeDTO> published = new ArrayList<>();
+		if (log == null) {
+			Long latest = listChangeRepository.findLatestSequence(listId);
+			after = latest != null ? latest : 0;
+		}
+		else {
+			synchronized (log) {
+				after = log.last;
+			}
+			listChangeRepository.findByListIdAndSequenceGreaterThanOrderBySequence(listId, after).stream()
+					.map(ListChangeDTO::new)
+					.forEach(published::add);
+		}
+		Instant now = Instant.now();
+		List<ListChange> entities = changes.stream()
+				.map(change -> new ListChange(listId, change.gameId(), change.from(), change.to(), now))
+				.toList();
+		// Grava as alterações; as sequências são obtidas do banco e são crescentes entre todas as instâncias.
+		listChangeRepository.insertAll(entities);
+		entities.stream().map(ListChangeDTO::new).forEach(published::add);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				publish(listId, after, published);
+			}
+		});
+	}
+
+	/**
+	 * Busca as alterações de uma lista posteriores à sequência informada.
+	 * Se o registro em memória da lista cobre o intervalo pedido, o banco de dados não é consultado.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param since A última sequência já aplicada pelo cliente.
+	 * @return As alterações posteriores, em ordem crescente de sequência.
+	 */
+	@Transactional(readOnly = true) // Garante que a operação de leitura seja otimizada e executada dentro de uma transação.
+	public List<ListChangeDTO> findSince(Long listId, long since) {
+		List<ListChangeDTO> result = fromLog(listId, since);
+		if (result != null) {
+			return result;
+		}
+		// O intervalo pedido é anterior ao registro: busca o histórico persistido.
+		return listChangeRepository.findByListIdAndSequenceGreaterThanOrderBySequence(listId, since).stream()
+				.map(ListChangeDTO::new)
+				.toList();
+	}
+
+	/**
+	 * Inscreve um cliente para receber as alterações de uma lista via Server-Sent Events.
+	 * As alterações posteriores a `since` são enviadas primeiro; as seguintes, assim que confirmadas.
+	 * O cliente é inscrito antes do envio do histórico, e as alterações publicadas durante o envio ficam na sua
+	 * fila, enviada depois dele: o cliente recebe cada alteração uma única vez e em ordem crescente de sequência.
+	 * O ID de cada evento é a sequência da alteração, o que permite retomar a conexão com `Last-Event-ID`.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param since A última sequência já aplicada pelo cliente.
+	 * @return O emissor SSE associado à conexão.
+	 */
+	public SseEmitter subscribe(Long listId, long since) {
+		SseEmitter emitter = new SseEmitter(streamTimeout);
+		Subscriber subscriber = new Subscriber(emitter, since);
+		emitter.onCompletion(() -> close(listId, subscriber));
+		emitter.onTimeout(() -> close(listId, subscriber));
+		emitter.onError(e -> close(listId, subscriber));
+		// A inclusão é feita dentro do mapa, para não se perder em uma lista de inscritos que a saída do último cliente removeu.
+		subscribers.compute(listId, (id, listSubscribers) -> {
+			List<Subscriber> result = listSubscribers != null ? listSubscribers : new CopyOnWriteArrayList<>();
+			result.add(subscriber);
+			return result;
+		});
+		sender.execute(() -> {
+			try {
+				for (ListChangeDTO change : findSince(listId, since)) {
+					send(subscriber, change);
+				}
+			}
+			catch (RuntimeException e) {
+				emitter.completeWithError(e);
+			}
+			// Os eventos publicados durante o envio do histórico estão na fila do cliente e chegam depois dele.
+			drain(subscriber);
+		});
+		return emitter;
+	}
+
+	/**
+	 * Ao ser avisado de que outra instância alterou uma lista, carrega do banco as alterações dessa lista
+	 * posteriores às já presentes no registro e as publica para os clientes inscritos nesta instância.
+	 *
+	 * @param invalidation A invalidação recebida.
+	 */
+	@Override
+	public void onInvalidation(Invalidation invalidation) {
+		if (!invalidation.remote() || invalidation.kind() != Invalidation.Kind.LIST) {
+			return;
+		}
+		ListLog log = log(invalidation.id());
+		if (log == null) {
+			return; // Lista sem registro: as consultas já recorrem ao banco de dados.
+		}
+		long after;
+		synchronized (log) {
+			after = log.last;
+		}
+		List<ListChangeDTO> changes = listChangeRepository.findByListIdAndSequenceGreaterThanOrderBySequence(invalidation.id(), after)
+				.stream().map(ListChangeDTO::new).toList();
+		publish(invalidation.id(), after, changes);
+	}
+
+	/**
+	 * Adiciona ao registro da lista as alterações confirmadas com sequência em (`after`, última das alterações]
+	 * e envia aos clientes inscritos as que ainda não estavam nele. As alterações já adicionadas por outra
+	 * escrita ou invalidação são ignoradas; se o registro ficou para trás de `after`, ele recomeça em `after`.
+	 */
+	private void publish(Long listId, long after, List<ListChangeDTO> changes) {
+		ListLog log = logFor(listId, after);
+		List<ListChangeDTO> appended = new ArrayList<>();
+		synchronized (log) {
+			if (log.last < after) {
+				// Alterações entre o registro e `after` não foram lidas: o registro passa a cobrir apenas o que se segue.
+				log.changes.clear();
+				log.from = after;
+				log.last = after;
+			}
+			for (ListChangeDTO change : changes) {
+				if (change.getSequence() > log.last) {
+					log.changes.addLast(change);
+					log.last = change.getSequence();
+					appended.add(change);
+				}
+			}
+			while (log.changes.size() > bufferSize) {
+				log.from = log.changes.removeFirst().getSequence();
+			}
+		}
+		List<Subscriber> listSubscribers = subscribers.get(listId);
+		if (!appended.isEmpty() && listSubscribers != null) {
+			listSubscribers.forEach(subscriber -> enqueue(listId, subscriber, appended));
+		}
+	}
+
+	/**
+	 * Acrescenta as alterações à fila do cliente e, se nenhuma thread a estiver esvaziando, agenda o envio.
+	 * Se a fila passar do limite, o cliente ficou para trás: a conexão é encerrada e ele retoma pelo histórico.
+	 */
+	private void enqueue(Long listId, Subscriber subscriber, List<ListChangeDTO> changes) {
+		boolean overflow = false;
+		boolean schedule = false;
+		synchronized (subscriber) {
+			if (subscriber.closed) {
+				return;
+			}
+			if (subscriber.queue.size() + changes.size() > subscriberQueueSize) {
+				subscriber.closed = true;
+				subscriber.queue.clear();
+				overflow = true;
+			}
+			else {
+				subscriber.queue.addAll(changes);
+				schedule = !subscriber.sending;
+				subscriber.sending = true;
+			}
+		}
+		if (overflow) {
+			unsubscribe(listId, subscriber);
+			subscriber.emitter.complete();
+		}
+		else if (schedule) {
+			sender.execute(() -> drain(subscriber));
+		}
+	}
+
+	/**
+	 * Envia as alterações da fila do cliente até esvaziá-la, na thread que a reservou.
+	 */
+	private void drain(Subscriber subscriber) {
+		while (true) {
+			ListChangeDTO change;
+			synchronized (subscriber) {
+				change = subscriber.closed ? null : subscriber.queue.pollFirst();
+				if (change == null) {
+					subscriber.sending = false;
+					return;
+				}
+			}
+			send(subscriber, change);
+		}
+	}
+
+	/**
+	 * Descarta a fila de um cliente cuja conexão terminou e o retira dos inscritos.
+	 */
+	private void close(Long listId, Subscriber subscriber) {
+		synchronized (subscriber) {
+			subscriber.closed = true;
+			subscriber.queue.clear();
+		}
+		unsubscribe(listId, subscriber);
+	}
+
+	/**
+	 * Retira o cliente dos inscritos da lista e remove a entrada da lista quando não resta nenhum inscrito,
+	 * para que o mapa não cresça com as listas já sem clientes.
+	 */
+	private void unsubscribe(Long listId, Subscriber subscriber) {
+		subscribers.computeIfPresent(listId, (id, listSubscribers) -> {
+			listSubscribers.remove(subscriber);
+			return listSubscribers.isEmpty() ? null : listSubscribers;
+		});
+	}
+
+	/**
+	 * Retorna o registro em memória da lista, ou null se ela não tem registro.
+	 */
+	private ListLog log(Long listId) {
+		synchronized (logs) {
+			return logs.get(listId);
+		}
+	}
+
+	/**
+	 * Retorna o registro em memória da lista, criando-o a partir de `after` se ela não tiver registro.
+	 * Ao passar do limite de listas, descarta os registros menos usados das listas sem clientes inscritos.
+	 */
+	private ListLog logFor(Long listId, long after) {
+		synchronized (logs) {
+			ListLog log = logs.get(listId);
+			if (log != null) {
+				return log;
+			}
+			log = new ListLog(after);
+			logs.put(listId, log);
+			Iterator<Map.Entry<Long, ListLog>> eldest = logs.entrySet().iterator();
+			while (logs.size() > maxLists && eldest.hasNext()) {
+				Long candidate = eldest.next().getKey();
+				if (!candidate.equals(listId) && !subscribers.containsKey(candidate)) {
+					eldest.remove();
+				}
+			}
+			return log;
+		}
+	}
+
+	/**
+	 * Lê as alterações do registro da lista, ou retorna null se ele não cobre todo o intervalo pedido.
+	 */
+	private List<ListChangeDTO> fromLog(Long listId, long since) {
+		ListLog log = log(listId);
+		if (log == null) {
+			return null;
+		}
+		synchronized (log) {
+			if (since < log.from) {
+				return null;
+			}
+			List<ListChangeDTO> result = new ArrayList<>();
+			for (ListChangeDTO change : log.changes) {
+				if (change.getSequence() > since) {
+					result.add(change);
+				}
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Envia uma alteração para um cliente, se ela for posterior à última enviada, descartando a conexão em caso de falha.
+	 */
+	private void send(Subscriber subscriber, ListChangeDTO change) {
+		if (change.getSequence() <= subscriber.last) {
+			return;
+		}
+		try {
+			subscriber.emitter.send(SseEmitter.event().id(String.valueOf(change.getSequence())).name("change").data(change));
+			subscriber.last = change.getSequence();
+		}
+		catch (IOException | IllegalStateException e) {
+			subscriber.emitter.completeWithError(e);
+		}
+	}
+}
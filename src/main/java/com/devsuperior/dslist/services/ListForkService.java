@@ -0,0 +1,538 @@
+/**
+ * Serviço que mantém as cópias de listas de jogos (forks) sem duplicar os jogos da lista base.
+ * Uma cópia é uma linha de `tb_game_list` que aponta para a lista base e guarda apenas as suas diferenças
+ * (movimentações, inclusões e remoções) em `tb_list_delta`, na ordem em que foram feitas.
+ * Os jogos da cópia são obtidos aplicando as diferenças aos jogos atuais da lista base, lidos da visão
+ * materializada pela mesma consulta em cache usada pela própria lista base; assim, muitas cópias da mesma
+ * lista compartilham uma única leitura da lista base e só acrescentam a leitura das suas diferenças.
+ * As diferenças identificam os jogos pelo ID, de modo que as cópias acompanham as alterações posteriores
+ * da lista base, com as próprias diferenças aplicadas por cima. O histórico de alterações de uma cópia
+ * registra somente as alterações feitas nela.
+ * As escritas nunca usam as consultas em cache: leem os IDs dos jogos da lista base e as diferenças diretamente
+ * das tabelas, com a cópia bloqueada até a confirmação. Os jogos da lista base são apenas lidos, sem bloqueio:
+ * uma escrita na cópia não altera a lista base, e uma escrita confirmada depois na lista base agenda o recálculo
+ * dos agregados das cópias. Assim, as escritas em muitas cópias não disputam os bloqueios da lista base.
+ * Uma escrita na lista base não percorre as suas cópias: as versões das cópias incluem a versão da lista base
+ * ({@link VersionService}), de modo que a invalidação da lista base basta para as leituras. Se os jogos da lista
+ * base mudaram, os agregados das cópias são recalculados depois da confirmação, por uma thread em segundo plano,
+ * em blocos de `dslist.forks.refresh.batch-size` cópias por transação admitidos pelo orçamento de escritas;
+ * ao final, uma única invalidação da lista base é publicada.
+ * Quando as diferenças de uma cópia passam de `dslist.forks.materialize-threshold`, os jogos da cópia são
+ * gravados em `tb_belonging` e ela passa a ser uma lista independente.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dslist.dto.GameListDTO;
+import com.devsuperior.dslist.dto.GameMinDTO;
+import com.devsuperior.dslist.dto.ReplacementDTO;
+import com.devsuperior.dslist.entities.GameList;
+import com.devsuperior.dslist.entities.ListDelta;
+import com.devsuperior.dslist.entities.ListDelta.Operation;
+import com.devsuperior.dslist.projections.ListDeltaProjection;
+import com.devsuperior.dslist.repositories.GameListRepository;
+import com.devsuperior.dslist.repositories.GameRepository;
+import com.devsuperior.dslist.repositories.ListDeltaRepository;
+import com.devsuperior.dslist.repositories.ListViewRepository;
+import com.devsuperior.dslist.services.ListChangeService.Change;
+import com.devsuperior.dslist.services.exceptions.InvalidRequestException;
+import com.devsuperior.dslist.services.exceptions.ResourceNotFoundException;
+import com.devsuperior.dslist.services.invalidation.Invalidation;
+import com.devsuperior.dslist.services.invalidation.InvalidationBus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Service // Indica que esta classe é um componente de serviço do Spring.
+public class ListForkService {
+
+	/**
+	 * IDs dos jogos de uma cópia, lidos para uma escrita, e a quantidade de diferenças aplicadas para obtê-los.
+	 */
+	private record Locked(List<Long> ids, int deltas) {
+	}
+
+	@Autowired // Realiza a injeção de dependência do GameListRepository, que guarda as cópias e os seus agregados.
+	private GameListRepository gameListRepository;
+
+	@Autowired // Realiza a injeção de dependência do ListDeltaRepository, que guarda as diferenças das cópias.
+	private ListDeltaRepository listDeltaRepository;
+
+	@Autowired // Realiza a injeção de dependência do ListViewRepository, que lê os jogos das listas base.
+	private ListViewRepository listViewRepository;
+
+	@Autowired // Realiza a injeção de dependência do GameRepository, usado para validar os jogos incluídos.
+	private GameRepository gameRepository;
+
+	@Autowired // Realiza a injeção de dependência do ListViewService, que recebe os jogos de uma cópia materializada.
+	private ListViewService listViewService;
+
+	@Autowired // Realiza a injeção de dependência do ListChangeService, que registra o histórico das cópias.
+	private ListChangeService listChangeService;
+
+	@Autowired // Barramento onde as alterações das cópias são publicadas.
+	private InvalidationBus invalidationBus;
+
+	@Autowired // Controle de admissão, que limita os recálculos em segundo plano ao orçamento de escritas.
+	private AdmissionControl admissionControl;
+
+	@Autowired // Gerenciador de transações usado nos recálculos em segundo plano, feitos fora das requisições.
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired // Registro de métricas onde são publicados os contadores de materializações e de recálculos.
+	private MeterRegistry meterRegistry;
+
+	@Value("${dslist.forks.materialize-threshold:64}") // Quantidade de diferenças a partir da qual uma cópia é materializada.
+	private int materializeThreshold;
+
+	@Value("${dslist.forks.refresh.batch-size:100}") // Quantidade de cópias recalculadas por transação.
+	private int refreshBatchSize;
+
+	@Value("${dslist.forks.refresh.retry-delay:1000}") // Espera, em milissegundos, antes de repetir um recálculo recusado ou interrompido.
+	private long refreshRetryDelay;
+
+	private final Set<Long> pending = ConcurrentHashMap.newKeySet(); // Listas base cujas cópias aguardam o recálculo.
+	private TransactionTemplate transaction; // Modelo de transação dos recálculos.
+	private ScheduledExecutorService refresher; // Thread que recalcula os agregados das cópias.
+	private Counter materialized; // Cópias materializadas.
+	private Counter refreshed; // Cópias recalculadas em segundo plano.
+	private Counter refreshFailures; // Recálculos recusados ou interrompidos por erro.
+
+	/**
+	 * Registra os contadores e cria a thread dos recálculos.
+	 */
+	@PostConstruct
+	void init() {
+		transaction = new TransactionTemplate(transactionManager);
+		refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "fork-refresh");
+			thread.setDaemon(true);
+			return thread;
+		});
+		materialized = meterRegistry.counter("dslist.forks.materialized");
+		refreshed = meterRegistry.counter("dslist.forks.refreshed");
+		refreshFailures = meterRegistry.counter("dslist.forks.refresh.failures");
+	}
+
+	/**
+	 * Encerra a thread dos recálculos.
+	 */
+	@PreDestroy
+	void shutdown() {
+		refresher.shutdownNow();
+	}
+
+	/**
+	 * Retorna a lista base de uma lista, se ela for uma cópia ainda não materializada.
+	 * A lista é lida do cache de segundo nível.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @return O ID da lista base, ou null se a lista não for uma cópia ou não existir.
+	 */
+	public Long baseOf(Long listId) {
+		return gameListRepository.findById(listId).map(GameList::getBaseListId).orElse(null);
+	}
+
+	/**
+	 * Retorna os jogos de uma cópia, aplicando as suas diferenças aos jogos atuais da lista base.
+	 *
+	 * @param listId O ID da cópia.
+	 * @param baseListId O ID da lista base.
+	 * @return Os jogos da cópia, na ordem das posições.
+	 */
+	public List<GameMinDTO> resolve(Long listId, Long baseListId) {
+		return load(listId, baseListId);
+	}
+
+	/**
+	 * Retorna os IDs dos jogos de uma cópia, lidos diretamente das tabelas, sem as consultas em cache e sem bloqueios.
+	 *
+	 * @param listId O ID da cópia.
+	 * @param baseListId O ID da lista base.
+	 * @return Os IDs dos jogos da cópia, na ordem das posições.
+	 */
+	public List<Long> resolveIds(Long listId, Long baseListId) {
+		List<Long> ids = new ArrayList<>(gameListRepository.findGameIds(baseListId));
+		apply(ids, listDeltaRepository.findByListUncached(listId), Function.identity(), ListDeltaProjection::getId);
+		return ids;
+	}
+
+	/**
+	 * Cria uma cópia de uma lista, sem copiar os seus jogos.
+	 * A cópia de outra cópia aponta para a mesma lista base e recebe uma cópia das suas diferenças.
+	 * Deve ser chamado dentro de uma transação.
+	 *
+	 * @param sourceId O ID da lista copiada.
+	 * @param name O nome da cópia, ou null para derivá-lo do nome da lista copiada.
+	 * @return A cópia criada.
+	 * @throws ResourceNotFoundException Se a lista copiada não existir.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY) // A cópia e as suas diferenças são confirmadas juntas.
+	public GameListDTO fork(Long sourceId, String name) {
+		GameList source = gameListRepository.findById(sourceId)
+				.orElseThrow(() -> new ResourceNotFoundException("Lista não encontrada: " + sourceId + "."));
+		String forkName = name == null || name.isBlank() ? "Cópia de " + source.getName() : name;
+		GameList fork = gameListRepository.save(new GameList(forkName, source));
+		if (source.getBaseListId() != null) {
+			listDeltaRepository.copyDeltas(fork.getId(), sourceId);
+		}
+		invalidationBus.publish(Invalidation.list(fork.getId()));
+		return new GameListDTO(fork);
+	}
+
+	/**
+	 * Move um jogo de uma cópia, registrando apenas a nova posição do jogo.
+	 * Deve ser chamado na transação que altera a lista.
+	 *
+	 * @param listId O ID da cópia.
+	 * @param baseListId O ID da lista base.
+	 * @param sourceIndex O índice de origem do jogo.
+	 * @param destinationIndex O índice de destino do jogo.
+	 * @throws InvalidRequestException Se algum índice estiver fora da lista.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY) // As diferenças só podem mudar junto com o histórico da lista.
+	public void move(Long listId, Long baseListId, int sourceIndex, int destinationIndex) {
+		Locked locked = lock(listId, baseListId);
+		List<Long> ids = locked.ids();
+		if (sourceIndex < 0 || sourceIndex >= ids.size() || destinationIndex < 0 || destinationIndex >= ids.size()) {
+			throw new InvalidRequestException("Índice fora da lista: a lista " + listId + " possui " + ids.size() + " jogos.");
+		}
+		Long gameId = ids.remove(sourceIndex);
+		ids.add(destinationIndex, gameId);
+		listDeltaRepository.save(new ListDelta(listId, gameId, Operation.MOVE, destinationIndex));
+		listChangeService.record(listId, gameId, sourceIndex, destinationIndex);
+		changed(listId, ids, locked.deltas() + 1, false);
+	}
+
+	/**
+	 * Aplica uma sequência de movimentações a uma cópia, ignorando as que estiverem fora da lista.
+	 * Deve ser chamado na transação que altera a lista.
+	 *
+	 * @param listId O ID da cópia.
+	 * @param baseListId O ID da lista base.
+	 * @param moves As movimentações, na ordem em que foram feitas.
+	 * @return A quantidade de movimentações aplicadas.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY) // As diferenças só podem mudar junto com o histórico da lista.
+	public int moveAll(Long listId, Long baseListId, List<ReplacementDTO> moves) {
+		Locked locked = lock(listId, baseListId);
+		List<Long> ids = locked.ids();
+		List<ListDelta> deltas = new ArrayList<>();
+		List<Change> changes = new ArrayList<>();
+		for (ReplacementDTO move : moves) {
+			int source = move.getSourceIndex();
+			int destination = move.getDestinationIndex();
+			if (source < 0 || source >= ids.size() || destination < 0 || destination >= ids.size()) {
+				continue;
+			}
+			Long gameId = ids.remove(source);
+			ids.add(destination, gameId);
+			deltas.add(new ListDelta(listId, gameId, Operation.MOVE, destination));
+			changes.add(new Change(gameId, source, destination));
+		}
+		if (!deltas.isEmpty()) {
+			listDeltaRepository.saveAll(deltas);
+			listChangeService.recordAll(listId, changes);
+			changed(listId, ids, locked.deltas() + deltas.size(), false);
+		}
+		return deltas.size();
+	}
+
+	/**
+	 * Inclui jogos em uma cópia a partir de um índice, preservando a ordem informada.
+	 * Deve ser chamado na transação que altera a lista, depois de validar a lista e os IDs.
+	 *
+	 * @param listId O ID da cópia.
+	 * @param baseListId O ID da lista base.
+	 * @param gameIds Os IDs dos jogos a serem incluídos.
+	 * @param index O índice do primeiro jogo incluído, ou null para incluir no final da lista.
+	 * @throws InvalidRequestException Se algum jogo não existir ou já pertencer à lista, ou se o índice estiver fora da lista.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY) // As diferenças só podem mudar junto com o histórico da lista.
+	public void insert(Long listId, Long baseListId, List<Long> gameIds, Integer index) {
+		if (gameRepository.countByIdIn(gameIds) != gameIds.size()) {
+			throw new InvalidRequestException("Jogo não encontrado entre os IDs informados.");
+		}
+		Locked locked = lock(listId, baseListId);
+		List<Long> ids = locked.ids();
+		if (ids.stream().anyMatch(gameIds::contains)) {
+			throw new InvalidRequestException("Jogo já pertence à lista " + listId + ".");
+		}
+		int size = ids.size();
+		int position = index != null ? index : size;
+		if (position < 0 || position > size) {
+			throw new InvalidRequestException("Índice fora da lista: " + position + ". A lista possui " + size + " jogos.");
+		}
+
+		List<ListDelta> deltas = new ArrayList<>();
+		List<Change> changes = new ArrayList<>();
+		for (int i = 0; i < gameIds.size(); i++) {
+			deltas.add(new ListDelta(listId, gameIds.get(i), Operation.INSERT, position + i));
+			ids.add(position + i, gameIds.get(i));
+			changes.add(new Change(gameIds.get(i), null, position + i));
+		}
+		listDeltaRepository.saveAll(deltas);
+		listChangeService.recordAll(listId, changes);
+		changed(listId, ids, locked.deltas() + deltas.size(), true);
+	}
+
+	/**
+	 * Remove jogos de uma cópia.
+	 * Deve ser chamado na transação que altera a lista, depois de validar a lista e os IDs.
+	 *
+	 * @param listId O ID da cópia.
+	 * @param baseListId O ID da lista base.
+	 * @param gameIds Os IDs dos jogos a serem removidos.
+	 * @throws InvalidRequestException Se algum jogo não pertencer à lista.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY) // As diferenças só podem mudar junto com o histórico da lista.
+	public void remove(Long listId, Long baseListId, List<Long> gameIds) {
+		Locked locked = lock(listId, baseListId);
+		List<Long> ids = locked.ids();
+		List<Integer> positions = new ArrayList<>();
+		for (int i = 0; i < ids.size(); i++) {
+			if (gameIds.contains(ids.get(i))) {
+				positions.add(i);
+			}
+		}
+		if (positions.size() != gameIds.size()) {
+			throw new InvalidRequestException("Jogo não pertence à lista " + listId + ".");
+		}
+
+		// Registra as remoções da maior para a menor posição, como nas listas com os próprios jogos.
+		positions.sort(Comparator.reverseOrder());
+		List<ListDelta> deltas = new ArrayList<>();
+		List<Change> changes = new ArrayList<>();
+		for (int position : positions) {
+			Long gameId = ids.remove(position);
+			deltas.add(new ListDelta(listId, gameId, Operation.REMOVE, null));
+			changes.add(new Change(gameId, position, null));
+		}
+		listDeltaRepository.saveAll(deltas);
+		listChangeService.recordAll(listId, changes);
+		changed(listId, ids, locked.deltas() + deltas.size(), true);
+	}
+
+	/**
+	 * Agenda o recálculo dos agregados das cópias de uma lista cujos jogos foram incluídos ou removidos.
+	 * Nada é gravado na transação da lista base: o recálculo começa depois da confirmação, em segundo plano,
+	 * e alterações seguidas da mesma lista base são agrupadas em um único recálculo.
+	 * Deve ser chamado na transação que alterou a lista base.
+	 *
+	 * @param baseListId O ID da lista base alterada.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY) // O recálculo só é agendado se a alteração for confirmada.
+	public void baseChanged(Long baseListId) {
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				schedule(baseListId, 0);
+			}
+		});
+	}
+
+	/**
+	 * Agenda o recálculo das cópias de uma lista base, se ainda não houver um pendente.
+	 */
+	private void schedule(Long baseListId, long delay) {
+		if (pending.add(baseListId)) {
+			refresher.schedule(() -> refreshForks(baseListId), delay, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Recalcula, em blocos, os agregados das cópias de uma lista base e publica uma única invalidação da lista base,
+	 * que avança as versões das cópias e descarta os agregados em cache nas demais instâncias.
+	 * Um bloco recusado pelo orçamento de escritas, ou interrompido por erro, faz o recálculo ser repetido depois
+	 * de `dslist.forks.refresh.retry-delay`.
+	 */
+	private void refreshForks(Long baseListId) {
+		// Uma alteração da lista base feita durante o recálculo agenda um novo recálculo.
+		pending.remove(baseListId);
+		try {
+			long after = 0;
+			List<Long> forkIds;
+			do {
+				long cursor = after;
+				forkIds = admissionControl.writes().execute(() -> transaction.execute(status -> refreshBatch(baseListId, cursor)));
+				refreshed.increment(forkIds.size());
+				after = forkIds.isEmpty() ? after : forkIds.get(forkIds.size() - 1);
+			}
+			while (forkIds.size() == refreshBatchSize);
+			invalidationBus.publish(Invalidation.list(baseListId));
+		}
+		catch (RuntimeException e) {
+			refreshFailures.increment();
+			schedule(baseListId, refreshRetryDelay);
+		}
+	}
+
+	/**
+	 * Recalcula os agregados de um bloco de cópias, na transação aberta por {@link #refreshForks}.
+	 * Os jogos da lista base são lidos uma única vez para o bloco, sem bloqueio; uma escrita na lista base
+	 * confirmada depois da leitura agenda um novo recálculo. Uma cópia materializada depois da leitura do bloco
+	 * não é mais encontrada.
+	 */
+	private List<Long> refreshBatch(Long baseListId, long after) {
+		List<Long> baseIds = gameListRepository.findGameIds(baseListId);
+		List<Long> forkIds = gameListRepository.findForksAfter(baseListId, after, refreshBatchSize);
+		for (Long forkId : forkIds) {
+			gameListRepository.replaceAggregates(forkId, lock(forkId, baseIds).ids().toArray(Long[]::new));
+		}
+		return forkIds;
+	}
+
+	/**
+	 * Recalcula os agregados das cópias que contêm algum dos jogos alterados.
+	 * Deve ser chamado na transação que alterou `tb_game`.
+	 *
+	 * @param gameIds Os IDs dos jogos alterados.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY) // Os agregados só podem mudar junto com as tabelas normalizadas.
+	public void refreshGames(Collection<Long> gameIds) {
+		if (!gameIds.isEmpty()) {
+			refresh(gameListRepository.findForksOfGames(gameIds));
+		}
+	}
+
+	/**
+	 * Recalcula os agregados de todas as cópias ainda não materializadas.
+	 *
+	 * @return A quantidade de cópias recalculadas.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY) // Os agregados só podem mudar junto com as tabelas normalizadas.
+	public int refreshAll() {
+		List<Long> forkIds = gameListRepository.findAllForks();
+		refresh(forkIds);
+		return forkIds.size();
+	}
+
+	private void refresh(List<Long> forkIds) {
+		for (Long forkId : forkIds) {
+			Long baseListId = baseOf(forkId);
+			gameListRepository.replaceAggregates(forkId, lock(forkId, baseListId).ids().toArray(Long[]::new));
+		}
+	}
+
+	/**
+	 * Lê os jogos da lista base e aplica, em ordem, as diferenças da cópia, usando as consultas em cache.
+	 * Usado somente nas leituras.
+	 */
+	private List<GameMinDTO> load(Long listId, Long baseListId) {
+		List<GameMinDTO> games = new ArrayList<>(listViewRepository.searchByList(baseListId).stream().map(GameMinDTO::new).toList());
+		apply(games, listDeltaRepository.searchByList(listId), GameMinDTO::getId, GameMinDTO::new);
+		return games;
+	}
+
+	/**
+	 * Lê os IDs dos jogos da cópia para uma escrita, sem as consultas em cache: a cópia fica bloqueada até a
+	 * confirmação, de modo que as diferenças lidas não mudam antes de as novas serem gravadas.
+	 * A cópia é bloqueada antes da leitura dos jogos da lista base, que é uma leitura comum e vê a ordem
+	 * confirmada mais recente sem bloquear as escritas na lista base nem as das outras cópias.
+	 */
+	private Locked lock(Long listId, Long baseListId) {
+		gameListRepository.lockList(listId);
+		return apply(listId, gameListRepository.findGameIds(baseListId));
+	}
+
+	/**
+	 * Bloqueia a cópia e aplica as suas diferenças aos IDs dos jogos da lista base, já lidos pelo chamador.
+	 */
+	private Locked lock(Long listId, List<Long> baseIds) {
+		gameListRepository.lockList(listId);
+		return apply(listId, baseIds);
+	}
+
+	/**
+	 * Aplica as diferenças da cópia, já bloqueada, aos IDs dos jogos da lista base.
+	 */
+	private Locked apply(Long listId, List<Long> baseIds) {
+		List<Long> ids = new ArrayList<>(baseIds);
+		List<ListDeltaProjection> deltas = listDeltaRepository.findByListUncached(listId);
+		apply(ids, deltas, Function.identity(), ListDeltaProjection::getId);
+		return new Locked(ids, deltas.size());
+	}
+
+	/**
+	 * Aplica, em ordem, as diferenças de uma cópia aos jogos da lista base.
+	 * Uma diferença que não se aplica mais à lista base (jogo já removido ou já incluído nela) é ignorada,
+	 * e uma posição além do fim da lista equivale ao fim da lista.
+	 */
+	private static <T> void apply(List<T> games, List<ListDeltaProjection> deltas, Function<T, Long> id, Function<ListDeltaProjection, T> inserted) {
+		for (ListDeltaProjection delta : deltas) {
+			int index = indexOf(games, id, delta.getId());
+			switch (Operation.valueOf(delta.getOp())) {
+				case MOVE -> {
+					if (index >= 0) {
+						T game = games.remove(index);
+						games.add(Math.min(delta.getPosition(), games.size()), game);
+					}
+				}
+				case INSERT -> {
+					if (index < 0) {
+						games.add(Math.min(delta.getPosition(), games.size()), inserted.apply(delta));
+					}
+				}
+				case REMOVE -> {
+					if (index >= 0) {
+						games.remove(index);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Finaliza uma alteração da cópia: atualiza os agregados se os jogos mudaram, publica a alteração e
+	 * materializa a cópia se as suas diferenças passaram do limite. Os agregados também são gravados na
+	 * materialização, pois uma cópia materializada não é mais alcançada pelo recálculo da lista base.
+	 */
+	private void changed(Long listId, List<Long> ids, int deltas, boolean membershipChanged) {
+		if (membershipChanged || deltas > materializeThreshold) {
+			gameListRepository.replaceAggregates(listId, ids.toArray(Long[]::new));
+		}
+		if (deltas > materializeThreshold) {
+			// Grava os jogos da cópia com um único comando e descarta as diferenças.
+			gameListRepository.insertBelongings(listId, ids.toArray(Long[]::new), 0);
+			listDeltaRepository.deleteByList(listId);
+			gameListRepository.detachFork(listId);
+			listViewService.refresh(listId, 0, Integer.MAX_VALUE);
+			materialized.increment();
+		}
+		invalidationBus.publish(Invalidation.list(listId));
+	}
+
+	private static <T> int indexOf(List<T> games, Function<T, Long> id, Long gameId) {
+		for (int i = 0; i < games.size(); i++) {
+			if (id.apply(games.get(i)).equals(gameId)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,119 @@
+/**
+ * Serviço que mantém a visão materializada das listas de jogos (`tb_list_view`).
+ * As escritas em `tb_belonging` e `tb_game` chamam este serviço dentro da própria transação,
+ * recalculando apenas a faixa de posições afetada, de modo que a visão nunca é confirmada
+ * divergente das tabelas normalizadas. Na inicialização, a visão só é reconstruída se estiver vazia; caso contrário,
+ * apenas as listas divergentes são recalculadas, de modo que iniciar mais uma instância não regrava a visão inteira.
+ * A visão pode ser reconstruída ou verificada sob demanda pelos endpoints administrativos.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dslist.dto.ListViewReportDTO;
+import com.devsuperior.dslist.repositories.ListViewRepository;
+import com.devsuperior.dslist.services.invalidation.Invalidation;
+import com.devsuperior.dslist.services.invalidation.InvalidationBus;
+
+@Service // Indica que esta classe é um componente de serviço do Spring.
+public class ListViewService {
+
+	@Autowired // Realiza a injeção de dependência do ListViewRepository, que executa os comandos sobre a visão.
+	private ListViewRepository listViewRepository;
+
+	@Autowired // Gerenciador de transações usado na reconstrução feita durante a inicialização, fora do proxy transacional.
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired // Barramento onde as listas recalculadas na inicialização são publicadas para todas as instâncias.
+	private InvalidationBus invalidationBus;
+
+	@Value("${dslist.list-view.rebuild-on-startup:true}") // Reconstrói a visão, se vazia ou divergente, quando a aplicação termina de iniciar.
+	private boolean rebuildOnStartup;
+
+	/**
+	 * Recalcula a visão de uma lista entre duas posições (inclusive).
+	 * Deve ser chamado na transação que alterou a lista, depois das alterações em `tb_belonging`.
+	 *
+	 * @param listId O ID da lista de jogos alterada.
+	 * @param fromPosition A primeira posição afetada.
+	 * @param toPosition A última posição afetada (use {@link Integer#MAX_VALUE} para ir até o fim da lista).
+	 */
+	@Transactional(propagation = Propagation.MANDATORY) // A visão só pode mudar junto com as tabelas normalizadas.
+	public void refresh(Long listId, int fromPosition, int toPosition) {
+		listViewRepository.deleteRange(listId, fromPosition, toPosition);
+		listViewRepository.insertRange(listId, fromPosition, toPosition);
+	}
+
+	/**
+	 * Atualiza, em todas as listas, os dados dos jogos alterados.
+	 * Deve ser chamado na transação que alterou `tb_game`.
+	 *
+	 * @param gameIds Os IDs dos jogos alterados.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY) // A visão só pode mudar junto com as tabelas normalizadas.
+	public void refreshGames(Collection<Long> gameIds) {
+		if (!gameIds.isEmpty()) {
+			listViewRepository.updateGames(gameIds);
+		}
+	}
+
+	/**
+	 * Reconstrói a visão inteira a partir das tabelas normalizadas.
+	 *
+	 * @return O relatório com a quantidade de linhas gravadas.
+	 */
+	@Transactional // Leitores continuam vendo a visão anterior até a confirmação.
+	public ListViewReportDTO rebuild() {
+		listViewRepository.deleteAllRows();
+		long rows = listViewRepository.insertAllRows();
+		return new ListViewReportDTO(rows, listViewRepository.findInconsistentLists());
+	}
+
+	/**
+	 * Compara a visão com as tabelas normalizadas, sem alterá-la.
+	 *
+	 * @return O relatório com a quantidade de linhas e as listas divergentes.
+	 */
+	@Transactional(readOnly = true) // Garante que a operação de leitura seja otimizada e executada dentro de uma transação.
+	public ListViewReportDTO check() {
+		return new ListViewReportDTO(listViewRepository.countRows(), listViewRepository.findInconsistentLists());
+	}
+
+	/**
+	 * Ao final da inicialização, reconstrói a visão se ela estiver vazia, como depois da carga dos dados iniciais,
+	 * ou recalcula somente as listas divergentes. A verificação só lê a visão, então uma instância que inicia
+	 * ao lado de outras já em execução não regrava nem bloqueia as linhas das listas consistentes.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	void rebuildOnStartup() {
+		if (rebuildOnStartup) {
+			// A chamada interna não passa pelo proxy do Spring, então a transação é aberta explicitamente.
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+				if (listViewRepository.countRows() == 0) {
+					rebuild();
+					return;
+				}
+				List<Long> inconsistent = listViewRepository.findInconsistentLists();
+				for (Long listId : inconsistent) {
+					refresh(listId, Integer.MIN_VALUE, Integer.MAX_VALUE);
+					// Após a confirmação, os caches da lista são invalidados em todas as instâncias.
+					invalidationBus.publish(Invalidation.list(listId));
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,245 @@
+/**
+ * Serviço que verifica, em segundo plano, se as posições de cada lista em `tb_belonging` formam a sequência
+ * contínua 0..n-1 sem repetições. Como a movimentação grava as posições jogo a jogo e a tabela não tem
+ * restrição de unicidade sobre `(list_id, position)`, uma falha ou escritas concorrentes podem deixar lacunas
+ * ou posições repetidas, que só aparecem como uma ordem errada.
+ * As listas são percorridas em blocos, a partir de um cursor, em intervalos fixos. Cada verificação é uma única
+ * consulta agregada e passa pelo {@link AdmissionControl}; se as leituras ou as escritas da aplicação estiverem
+ * ocupando metade do orçamento, o bloco é adiado para o próximo intervalo. Uma lista inconsistente é reparada
+ * com a renumeração feita por um único comando sobre o conjunto, que mantém a ordem atual (desempatada pelo
+ * ID do jogo), e a visão materializada, o histórico de alterações e as versões da lista (e, com elas, as das
+ * suas cópias) são atualizados como em uma escrita comum. O reparo bloqueia a ordem da lista antes de
+ * verificá-la de novo, como as movimentações, inclusões e remoções, para não renumerar uma ordem em alteração.
+ * As verificações, as inconsistências e os reparos são publicados como métricas.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dslist.projections.PositionSummaryProjection;
+import com.devsuperior.dslist.repositories.GameListRepository;
+import com.devsuperior.dslist.services.ListChangeService.Change;
+import com.devsuperior.dslist.services.invalidation.Invalidation;
+import com.devsuperior.dslist.services.invalidation.InvalidationBus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Service // Indica que esta classe é um componente de serviço do Spring.
+public class PositionIntegrityService {
+
+	@Autowired // Realiza a injeção de dependência do GameListRepository, que resume e renumera as posições.
+	private GameListRepository gameListRepository;
+
+	@Autowired // Realiza a injeção de dependência do ListViewService, que mantém a visão materializada das listas.
+	private ListViewService listViewService;
+
+	@Autowired // Realiza a injeção de dependência do ListChangeService, que registra a nova ordem para os clientes inscritos.
+	private ListChangeService listChangeService;
+
+	@Autowired // Barramento onde os reparos são publicados, invalidando os caches desta e das demais instâncias.
+	private InvalidationBus invalidationBus;
+
+	@Autowired // Controle de admissão, que limita as operações simultâneas ao banco de dados.
+	private AdmissionControl admissionControl;
+
+	@Autowired // Gerenciador de transações usado nas verificações e nos reparos, feitos fora das requisições.
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired // Registro de métricas onde as verificações e os reparos são publicados.
+	private MeterRegistry meterRegistry;
+
+	@Value("${dslist.positions.check.enabled:true}") // Habilita a verificação periódica.
+	private boolean enabled;
+
+	@Value("${dslist.positions.check.interval:1000}") // Intervalo, em milissegundos, entre dois blocos de listas.
+	private long interval;
+
+	@Value("${dslist.positions.check.batch-size:10}") // Quantidade de listas verificadas por bloco.
+	private int batchSize;
+
+	private long cursor; // ID da última lista verificada na passagem corrente.
+
+	private TransactionTemplate transaction; // Modelo de transação dos reparos.
+	private TransactionTemplate readOnlyTransaction; // Modelo de transação somente leitura das verificações.
+	private ScheduledExecutorService scheduler; // Thread que percorre as listas.
+	private Counter checked; // Listas verificadas.
+	private Counter gaps; // Posições ausentes encontradas.
+	private Counter duplicates; // Posições repetidas encontradas.
+	private Counter repaired; // Listas reparadas.
+	private Counter renumbered; // Jogos cuja posição foi corrigida.
+	private Counter deferred; // Blocos adiados por carga da aplicação.
+	private Counter passes; // Passagens completas por todas as listas.
+	private Counter failures; // Blocos interrompidos por erro.
+
+	/**
+	 * Inicializa os modelos de transação e registra as métricas.
+	 */
+	@PostConstruct
+	void init() {
+		transaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+		scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "position-integrity");
+			thread.setDaemon(true);
+			return thread;
+		});
+		checked = meterRegistry.counter("dslist.positions.checked");
+		gaps = meterRegistry.counter("dslist.positions.anomalies", "kind", "gap");
+		duplicates = meterRegistry.counter("dslist.positions.anomalies", "kind", "duplicate");
+		repaired = meterRegistry.counter("dslist.positions.repaired");
+		renumbered = meterRegistry.counter("dslist.positions.renumbered");
+		deferred = meterRegistry.counter("dslist.positions.deferred");
+		passes = meterRegistry.counter("dslist.positions.passes");
+		failures = meterRegistry.counter("dslist.positions.failures");
+	}
+
+	/**
+	 * Encerra a thread de verificação.
+	 */
+	@PreDestroy
+	void shutdown() {
+		scheduler.shutdownNow();
+	}
+
+	/**
+	 * Agenda a verificação periódica ao final da inicialização, depois que os dados iniciais foram gravados.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	void start() {
+		if (enabled) {
+			scheduler.scheduleWithFixedDelay(this::run, interval, interval, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Executa um bloco agendado; um erro é contado e o bloco é repetido no próximo intervalo.
+	 */
+	private void run() {
+		try {
+			checkNext();
+		}
+		catch (RuntimeException e) {
+			failures.increment();
+		}
+	}
+
+	/**
+	 * Verifica o próximo bloco de listas a partir do cursor, reparando as que estiverem inconsistentes.
+	 * Ao chegar à última lista, o cursor volta ao início e uma nova passagem começa no bloco seguinte.
+	 * O bloco é adiado se a aplicação estiver ocupando metade do orçamento de leituras ou de escritas.
+	 *
+	 * @return A quantidade de listas reparadas no bloco.
+	 */
+	public synchronized int checkNext() {
+		if (busy(admissionControl.reads()) || busy(admissionControl.writes())) {
+			deferred.increment();
+			return 0;
+		}
+		List<Long> listIds = readOnlyTransaction.execute(status -> gameListRepository.findIdsAfter(cursor, batchSize));
+		if (listIds.isEmpty()) {
+			cursor = 0;
+			passes.increment();
+			return 0;
+		}
+		int result = 0;
+		for (Long listId : listIds) {
+			if (check(listId)) {
+				result++;
+			}
+			cursor = listId;
+		}
+		return result;
+	}
+
+	/**
+	 * Verifica as posições de uma lista e, se houver lacunas ou repetições, renumera a lista.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @return true se a lista estava inconsistente e foi reparada.
+	 * @throws com.devsuperior.dslist.services.exceptions.ServiceUnavailableException Se o orçamento de leituras ou de escritas estiver esgotado.
+	 */
+	public boolean check(Long listId) {
+		PositionSummaryProjection summary = admissionControl.reads().execute(
+				() -> readOnlyTransaction.execute(status -> gameListRepository.summarizePositions(listId)));
+		checked.increment();
+		if (summary.isDense()) {
+			return false;
+		}
+		gaps.increment(summary.getGaps());
+		duplicates.increment(summary.getDuplicates());
+		int rows = admissionControl.writes().execute(() -> transaction.execute(status -> repair(listId)));
+		if (rows > 0) {
+			repaired.increment();
+			renumbered.increment(rows);
+		}
+		return rows > 0;
+	}
+
+	/**
+	 * Renumera a lista e atualiza as estruturas derivadas, na transação aberta por {@link #check}.
+	 * A ordem é bloqueada antes de tudo, na mesma ordem de bloqueio das escritas, e a lista é verificada de novo
+	 * dentro da transação, pois uma escrita concorrente pode tê-la corrigido.
+	 * Retorna a quantidade de jogos cuja posição mudou.
+	 */
+	private int repair(Long listId) {
+		List<Long> before = gameListRepository.lockGameIds(listId);
+		if (gameListRepository.summarizePositions(listId).isDense()) {
+			return 0;
+		}
+		int rows = gameListRepository.renumberPositions(listId);
+		// Registra as movimentações que levam a ordem lida pelos clientes à ordem renumerada (que pode mudar entre
+		// jogos com posições repetidas), para que os inscritos não fiquem com uma ordem diferente da gravada.
+		listChangeService.recordAll(listId, changes(before, gameListRepository.findGameIds(listId)));
+		// Reconstrói toda a visão da lista, inclusive posições negativas, pois as falhas não têm uma única posição de origem.
+		listViewService.refresh(listId, Integer.MIN_VALUE, Integer.MAX_VALUE);
+		// Publica a alteração: após a confirmação, as versões e os caches da lista (e das suas cópias, que passam a ver
+		// a ordem corrigida) são invalidados em todas as instâncias.
+		invalidationBus.publish(Invalidation.list(listId));
+		return rows;
+	}
+
+	/**
+	 * Calcula as movimentações que transformam uma ordem em outra com os mesmos jogos: cada posição, da primeira
+	 * à última, recebe o jogo da ordem final, trazido da posição em que está na ordem corrente.
+	 */
+	private static List<Change> changes(List<Long> before, List<Long> after) {
+		List<Long> order = new ArrayList<>(before);
+		List<Change> changes = new ArrayList<>();
+		for (int i = 0; i < after.size(); i++) {
+			Long gameId = after.get(i);
+			if (!order.get(i).equals(gameId)) {
+				int source = order.indexOf(gameId);
+				order.remove(source);
+				order.add(i, gameId);
+				changes.add(new Change(gameId, source, i));
+			}
+		}
+		return changes;
+	}
+
+	/**
+	 * Indica se as operações da aplicação ocupam ao menos metade do limite atual do orçamento.
+	 */
+	private static boolean busy(ConcurrencyLimiter limiter) {
+		return limiter.getInFlight() * 2 >= limiter.getLimit();
+	}
+}
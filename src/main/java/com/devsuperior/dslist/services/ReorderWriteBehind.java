@@ -0,0 +1,365 @@
+/**
+ * Fila de gravação adiada (write-behind) das movimentações de jogos nas listas.
+ * Quando habilitada, cada movimentação é validada e aplicada a uma ordem da lista mantida em memória e
+ * reconhecida sem abrir uma transação. As movimentações seguidas de uma mesma lista são acumuladas e
+ * gravadas juntas por {@link GameListService#moveAll}, que grava apenas a permutação resultante em uma
+ * única transação, após `dslist.reorder.write-behind.flush-interval` milissegundos ou ao atingir
+ * `dslist.reorder.write-behind.flush-threshold` movimentações, o que ocorrer primeiro.
+ * O reconhecimento é configurável por `dslist.reorder.write-behind.ack`:
+ * com `immediate`, a requisição retorna assim que a movimentação é aceita em memória (e as leituras a veem
+ * depois da gravação); com `durable`, a requisição aguarda a confirmação da transação que a contém,
+ * ainda agrupada com as movimentações simultâneas da mesma lista. Se a confirmação não chegar no tempo limite,
+ * a resposta é a mesma do modo `immediate` (`202 Accepted`): a movimentação continua na fila e será gravada, e
+ * uma resposta de erro levaria o cliente a repeti-la, aplicando-a duas vezes.
+ * A ordem em memória de uma lista é iniciada com uma leitura direta das tabelas, sem o cache de consultas.
+ * Cada gravação passa pelo orçamento de escritas do {@link AdmissionControl}. Se ele estiver esgotado, as
+ * movimentações voltam a ser acumuladas, somadas às que chegarem nesse meio tempo, e a gravação é repetida
+ * após um novo intervalo, sem que a fila ultrapasse o orçamento das demais escritas. Uma falha transitória do banco
+ * de dados (bloqueio, deadlock, tempo limite ou conexão perdida) é repetida da mesma forma, até
+ * `dslist.reorder.write-behind.max-retries` vezes. Uma falha permanente descarta as movimentações da gravação e
+ * também as aceitas depois dela, que foram indexadas sobre uma ordem que não chegou ao banco; a causa é registrada
+ * no log, e as movimentações seguintes partem novamente da ordem gravada.
+ * As métricas `dslist.reorder.*` informam as movimentações aceitas, as gravações, as gravações adiadas e a razão de agrupamento.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import com.devsuperior.dslist.dto.ReplacementDTO;
+import com.devsuperior.dslist.services.exceptions.InvalidRequestException;
+import com.devsuperior.dslist.services.exceptions.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Service // Indica que esta classe é um componente de serviço do Spring.
+public class ReorderWriteBehind {
+
+	private static final Logger log = LoggerFactory.getLogger(ReorderWriteBehind.class); // Registra a causa das gravações que falharam.
+
+	/**
+	 * Momento em que uma movimentação é reconhecida ao cliente.
+	 */
+	public enum Ack {
+		IMMEDIATE, // Assim que aceita em memória.
+		DURABLE // Após a confirmação da transação que a grava.
+	}
+
+	/**
+	 * Movimentações de uma lista ainda não gravadas, com a ordem resultante e os clientes que aguardam a gravação.
+	 */
+	private static final class Pending {
+		List<Long> order; // Ordem da lista após as movimentações acumuladas.
+		final List<ReplacementDTO> moves = new ArrayList<>(); // Movimentações acumuladas, na ordem de chegada.
+		final CompletableFuture<Void> flushed = new CompletableFuture<>(); // Concluído quando as movimentações forem gravadas.
+		boolean closed; // Indica que as movimentações já foram retiradas para gravação.
+		boolean early; // Indica que a gravação antecipada pelo limite de movimentações já foi agendada.
+		int retries; // Tentativas já repetidas após falhas transitórias do banco de dados.
+	}
+
+	@Autowired // Realiza a injeção de dependência do GameListService, que lê a ordem atual e grava as movimentações acumuladas.
+	private GameListService gameListService;
+
+	@Autowired // Registro de métricas onde são publicados os contadores da fila.
+	private MeterRegistry meterRegistry;
+
+	@Value("${dslist.reorder.write-behind.enabled:false}") // Habilita a gravação adiada das movimentações.
+	private boolean enabled;
+
+	@Value("${dslist.reorder.write-behind.ack:immediate}") // Momento do reconhecimento: immediate ou durable.
+	private Ack ack;
+
+	@Value("${dslist.reorder.write-behind.flush-interval:50}") // Tempo máximo, em milissegundos, que uma movimentação aguarda a gravação.
+	private long flushInterval;
+
+	@Value("${dslist.reorder.write-behind.flush-threshold:32}") // Quantidade de movimentações de uma lista que antecipa a gravação.
+	private int flushThreshold;
+
+	@Value("${dslist.reorder.write-behind.max-retries:5}") // Tentativas repetidas de uma gravação após falhas transitórias do banco de dados.
+	private int maxRetries;
+
+	@Value("${dslist.reorder.write-behind.durable-timeout:5000}") // Tempo máximo, em milissegundos, de espera no modo durable.
+	private long durableTimeout;
+
+	private final Map<Long, Pending> pending = new ConcurrentHashMap<>(); // Movimentações acumuladas, por lista.
+	private final Map<Long, List<Long>> flushing = new ConcurrentHashMap<>(); // Ordem das listas em gravação, ainda não confirmada.
+
+	// Uma única thread grava as listas, de modo que as gravações de uma lista são aplicadas na ordem em que foram retiradas.
+	private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread thread = new Thread(r, "reorder-write-behind");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private Counter accepted; // Movimentações aceitas.
+	private Counter applied; // Movimentações gravadas.
+	private Counter dropped; // Movimentações descartadas na gravação por não caberem mais na lista.
+	private Counter failures; // Gravações que falharam.
+	private Counter deferred; // Gravações adiadas por falta de orçamento de escritas.
+	private DistributionSummary coalesced; // Movimentações gravadas por transação.
+
+	/**
+	 * Registra as métricas da fila.
+	 */
+	@PostConstruct
+	void init() {
+		accepted = meterRegistry.counter("dslist.reorder.accepted");
+		applied = meterRegistry.counter("dslist.reorder.applied");
+		dropped = meterRegistry.counter("dslist.reorder.dropped");
+		failures = meterRegistry.counter("dslist.reorder.flush.failures");
+		deferred = meterRegistry.counter("dslist.reorder.flush.deferred");
+		coalesced = DistributionSummary.builder("dslist.reorder.coalesced")
+				.description("Movimentações gravadas por transação")
+				.register(meterRegistry);
+		meterRegistry.gauge("dslist.reorder.pending", pending, Map::size);
+		// Movimentações por transação desde a inicialização: 1 significa nenhum agrupamento.
+		meterRegistry.gauge("dslist.reorder.coalescing.ratio", this,
+				service -> service.coalesced.count() == 0 ? 0 : service.coalesced.totalAmount() / service.coalesced.count());
+	}
+
+	/**
+	 * Grava as movimentações pendentes antes de encerrar, para não perder as já reconhecidas.
+	 */
+	@PreDestroy
+	void shutdown() throws InterruptedException {
+		for (Long listId : List.copyOf(pending.keySet())) {
+			flusher.execute(() -> flush(listId));
+		}
+		flusher.shutdown();
+		flusher.awaitTermination(durableTimeout, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Indica se a gravação adiada está habilitada.
+	 * @return true se as movimentações devem ser enviadas a {@link #submit}.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Aceita uma movimentação, aplicando-a à ordem da lista em memória e agendando a sua gravação.
+	 * No modo `durable`, aguarda a confirmação da transação que grava a movimentação.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @param sourceIndex O índice de origem do jogo.
+	 * @param destinationIndex O índice de destino do jogo.
+	 * @return true se a movimentação já está gravada no retorno (modo `durable`); false se ela foi aceita e ainda
+	 *         será gravada (modo `immediate`, ou tempo limite do modo `durable` esgotado).
+	 * @throws InvalidRequestException Se algum índice estiver fora da lista.
+	 */
+	public boolean submit(Long listId, int sourceIndex, int destinationIndex) {
+		CompletableFuture<Void> flushed = accept(listId, sourceIndex, destinationIndex);
+		if (ack == Ack.IMMEDIATE) {
+			return false;
+		}
+		try {
+			flushed.get(durableTimeout, TimeUnit.MILLISECONDS);
+			return true;
+		}
+		catch (ExecutionException e) {
+			throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+		}
+		catch (TimeoutException e) {
+			// A movimentação continua na fila: é reconhecida como aceita, sem sugerir uma nova tentativa.
+			return false;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Aplica a movimentação às movimentações pendentes da lista e retorna o futuro da sua gravação.
+	 */
+	private CompletableFuture<Void> accept(Long listId, int sourceIndex, int destinationIndex) {
+		while (true) {
+			Pending state = pending.computeIfAbsent(listId, id -> new Pending());
+			synchronized (state) {
+				if (state.closed) {
+					continue; // Retirado para gravação entre a busca e o bloqueio: usa um novo acumulador.
+				}
+				if (state.order == null) {
+					state.order = currentOrder(listId);
+				}
+				int size = state.order.size();
+				if (sourceIndex < 0 || sourceIndex >= size || destinationIndex < 0 || destinationIndex >= size) {
+					if (state.moves.isEmpty()) {
+						pending.remove(listId, state);
+						state.closed = true;
+					}
+					throw new InvalidRequestException("Índice fora da lista: a lista " + listId + " possui " + size + " jogos.");
+				}
+				state.order.add(destinationIndex, state.order.remove(sourceIndex));
+				state.moves.add(new ReplacementDTO(sourceIndex, destinationIndex));
+				accepted.increment();
+				if (state.moves.size() == 1) {
+					flusher.schedule(() -> flush(listId), flushInterval, TimeUnit.MILLISECONDS);
+				}
+				else if (state.moves.size() >= flushThreshold && !state.early) {
+					// As movimentações devolvidas por uma gravação adiada podem fazer a contagem passar do limite de uma vez.
+					state.early = true;
+					flusher.execute(() -> flush(listId));
+				}
+				return state.flushed;
+			}
+		}
+	}
+
+	/**
+	 * Retorna a ordem atual da lista: a de uma gravação ainda em andamento ou, se não houver, a do banco de dados,
+	 * lida sem o cache de consultas, que pode ainda não refletir a última gravação confirmada.
+	 */
+	private List<Long> currentOrder(Long listId) {
+		List<Long> inFlight = flushing.get(listId);
+		if (inFlight != null) {
+			return new ArrayList<>(inFlight);
+		}
+		return new ArrayList<>(gameListService.findGameIds(listId));
+	}
+
+	/**
+	 * Retira as movimentações pendentes de uma lista e as grava em uma única transação.
+	 * Executado somente pela thread de gravação.
+	 */
+	private void flush(Long listId) {
+		Pending state = pending.remove(listId);
+		if (state == null) {
+			return; // Já gravadas ao atingir o limite de movimentações.
+		}
+		List<ReplacementDTO> moves;
+		synchronized (state) {
+			state.closed = true;
+			moves = List.copyOf(state.moves);
+			flushing.put(listId, List.copyOf(state.order));
+		}
+		try {
+			int count = gameListService.moveAll(listId, moves);
+			applied.increment(count);
+			dropped.increment(moves.size() - count);
+			coalesced.record(count);
+			state.flushed.complete(null);
+		}
+		catch (ServiceUnavailableException e) {
+			deferred.increment();
+			requeue(listId, state);
+		}
+		catch (RuntimeException e) {
+			failures.increment();
+			if (isTransient(e) && state.retries < maxRetries) {
+				state.retries++;
+				log.warn("Falha transitória ao gravar {} movimentações da lista {}; tentativa {} de {}",
+						moves.size(), listId, state.retries, maxRetries, e);
+				requeue(listId, state);
+			}
+			else {
+				log.error("Falha ao gravar {} movimentações da lista {}; as movimentações foram descartadas", moves.size(), listId, e);
+				// A ordem em gravação não chegou ao banco: as próximas movimentações partem da ordem gravada.
+				flushing.remove(listId);
+				discard(listId, state, e);
+			}
+		}
+		finally {
+			flushing.remove(listId);
+		}
+	}
+
+	/**
+	 * Indica se a falha da gravação é transitória, de modo que a mesma transação pode ter sucesso em uma nova tentativa.
+	 */
+	private static boolean isTransient(RuntimeException e) {
+		return e instanceof TransientDataAccessException
+				|| e instanceof RecoverableDataAccessException
+				|| e instanceof CannotCreateTransactionException;
+	}
+
+	/**
+	 * Conclui com falha a gravação e descarta as movimentações da lista aceitas durante ela: os índices dessas
+	 * movimentações se referem à ordem que não foi gravada e as aplicariam a outros jogos.
+	 * Executado somente pela thread de gravação, depois de a ordem em gravação ser descartada.
+	 */
+	private void discard(Long listId, Pending state, RuntimeException cause) {
+		state.flushed.completeExceptionally(cause);
+		Pending newer = pending.remove(listId);
+		if (newer == null) {
+			return;
+		}
+		int count;
+		synchronized (newer) {
+			newer.closed = true;
+			count = newer.moves.size();
+		}
+		dropped.increment(count);
+		log.error("{} movimentações da lista {} aceitas durante a gravação que falhou foram descartadas", count, listId);
+		newer.flushed.completeExceptionally(new ServiceUnavailableException("Movimentação aceita, mas não gravada.", 1));
+	}
+
+	/**
+	 * Devolve às pendências da lista as movimentações de uma gravação recusada pelo controle de admissão, ou que
+	 * falhou por um motivo transitório, e agenda uma nova tentativa. As movimentações aceitas durante a tentativa já partiram da ordem em gravação, e por isso
+	 * são aplicadas depois das devolvidas; os clientes das duas aguardam a mesma gravação.
+	 * Executado somente pela thread de gravação, antes de a ordem em gravação ser descartada.
+	 */
+	private void requeue(Long listId, Pending state) {
+		pending.compute(listId, (id, newer) -> {
+			if (newer == null) {
+				synchronized (state) {
+					state.closed = false;
+					state.early = false;
+				}
+				return state;
+			}
+			synchronized (newer) {
+				newer.moves.addAll(0, state.moves);
+				newer.retries = Math.max(newer.retries, state.retries);
+				if (newer.order == null) {
+					newer.order = new ArrayList<>(state.order);
+				}
+			}
+			newer.flushed.whenComplete((result, e) -> {
+				if (e == null) {
+					state.flushed.complete(null);
+				}
+				else {
+					state.flushed.completeExceptionally(e);
+				}
+			});
+			return newer;
+		});
+		try {
+			flusher.schedule(() -> flush(listId), flushInterval, TimeUnit.MILLISECONDS);
+		}
+		catch (RejectedExecutionException e) {
+			// Encerramento em andamento: não há mais tentativas, e as movimentações são perdidas.
+			Pending lost = pending.remove(listId);
+			failures.increment();
+			lost.flushed.completeExceptionally(new ServiceUnavailableException("Movimentação aceita, mas não gravada.", 1));
+		}
+	}
+}
@@ -0,0 +1,542 @@
+/**
+ * Serviço que mantém, em memória, os jogos mais similares a cada jogo do catálogo.
+ * A similaridade combina os termos do gênero e das plataformas (índice de Jaccard), a proximidade do ano
+ * de lançamento e a participação nas mesmas listas (índice de Jaccard). Termos e listas são representados
+ * como conjuntos de bits em vetores de `long`, de modo que a interseção é calculada com `Long.bitCount`.
+ * O cálculo é feito em segundo plano, em um {@link ForkJoinPool} próprio, e o resultado é uma tabela com os
+ * `dslist.similar.top-k` jogos mais similares de cada jogo, publicada de uma só vez; cada requisição apenas
+ * lê a linha do jogo, em O(K).
+ * As invalidações do {@link InvalidationBus} acumulam os IDs dos jogos e das listas alterados e agendam um novo
+ * cálculo, que relê somente esses jogos e as associações dessas listas; apenas uma invalidação do catálogo inteiro
+ * relê tudo. As leituras passam pelo orçamento de varreduras do {@link AdmissionControl} e, se recusadas, são
+ * repetidas no próximo cálculo. Se as listas alteradas mantêm os mesmos jogos (uma movimentação, por exemplo) e
+ * nenhum jogo mudou, nada é recalculado. Caso contrário, somente as linhas afetadas são recalculadas: a linha de
+ * cada jogo alterado e as linhas que o continham; nas demais linhas, as novas pontuações dos jogos alterados são
+ * apenas intercaladas.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dslist.dto.GameMinDTO;
+import com.devsuperior.dslist.dto.SimilarGameDTO;
+import com.devsuperior.dslist.projections.GameFeatureProjection;
+import com.devsuperior.dslist.projections.ListMembershipProjection;
+import com.devsuperior.dslist.repositories.GameRepository;
+import com.devsuperior.dslist.services.exceptions.InvalidRequestException;
+import com.devsuperior.dslist.services.exceptions.ServiceUnavailableException;
+import com.devsuperior.dslist.services.invalidation.Invalidation;
+import com.devsuperior.dslist.services.invalidation.InvalidationBus;
+import com.devsuperior.dslist.services.invalidation.InvalidationListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Service // Indica que esta classe é um componente de serviço do Spring.
+public class SimilarityService implements InvalidationListener {
+
+	private static final double TERM_WEIGHT = 0.5; // Peso dos termos de gênero e plataforma.
+	private static final double YEAR_WEIGHT = 0.2; // Peso da proximidade do ano de lançamento.
+	private static final double LIST_WEIGHT = 0.3; // Peso da participação nas mesmas listas.
+	private static final int YEAR_SPAN = 10; // Diferença de anos a partir da qual a proximidade é nula.
+	private static final int NO_YEAR = Integer.MIN_VALUE; // Marca um jogo sem ano de lançamento.
+
+	/**
+	 * Jogos mais similares a um jogo, da maior para a menor pontuação.
+	 */
+	private record Row(long[] ids, double[] scores) {
+	}
+
+	/**
+	 * Vetores de atributos e tabela de similares de todos os jogos, publicados juntos.
+	 * Os vetores de cada jogo estão no índice do jogo em `ids`.
+	 */
+	private record Snapshot(long[] ids, Map<Long, Integer> index, GameMinDTO[] games, long[][] terms, int[] termCounts,
+			long[][] lists, int[] listCounts, int[] years, Row[] rows) {
+	}
+
+	/**
+	 * Jogos e associações lidos em uma única transação.
+	 */
+	private record Catalog(List<GameFeatureProjection> games, List<ListMembershipProjection> memberships) {
+	}
+
+	@Autowired // Realiza a injeção de dependência do GameRepository, que lê os atributos dos jogos e as associações.
+	private GameRepository gameRepository;
+
+	@Autowired // Repositório local de imagens, usado para reescrever as URLs das imagens dos jogos recomendados.
+	private ImageStoreService imageStoreService;
+
+	@Autowired // Controle de admissão: as leituras do cálculo usam o orçamento das varreduras.
+	private AdmissionControl admissionControl;
+
+	@Autowired // Gerenciador de transações usado na leitura feita pela thread de cálculo.
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired // Registro de métricas onde são publicados os tempos de cálculo.
+	private MeterRegistry meterRegistry;
+
+	@Value("${dslist.similar.top-k:10}") // Quantidade de jogos similares mantidos por jogo.
+	private int topK;
+
+	@Value("${dslist.similar.parallelism:0}") // Threads do cálculo (0 usa a quantidade de processadores).
+	private int parallelism;
+
+	@Value("${dslist.similar.delay:200}") // Tempo, em milissegundos, entre a primeira invalidação e o recálculo.
+	private long delay;
+
+	@Value("${dslist.similar.startup-timeout:10000}") // Tempo máximo, em milissegundos, de espera pelo primeiro cálculo.
+	private long startupTimeout;
+
+	private final Map<String, Integer> termBits = new HashMap<>(); // Bit de cada termo; cresce a cada cálculo.
+	private final Map<Long, Integer> listBits = new HashMap<>(); // Bit de cada lista; cresce a cada cálculo.
+	private final AtomicBoolean scheduled = new AtomicBoolean(); // Indica que há um recálculo agendado.
+	private final Set<Long> changedGames = ConcurrentHashMap.newKeySet(); // Jogos alterados desde o último cálculo.
+	private final Set<Long> changedLists = ConcurrentHashMap.newKeySet(); // Listas alteradas desde o último cálculo.
+	private final AtomicBoolean catalogChanged = new AtomicBoolean(); // Indica que o catálogo inteiro deve ser relido.
+	private final CompletableFuture<Void> ready = new CompletableFuture<>(); // Concluído após o primeiro cálculo.
+	private volatile Snapshot snapshot; // Tabela publicada, lida pelas requisições sem bloqueio.
+	private Catalog catalog; // Jogos e associações do último cálculo; acessado somente pelo cálculo.
+
+	private TransactionTemplate readOnlyTransaction; // Modelo de transação somente leitura.
+	private ScheduledExecutorService scheduler; // Thread que agrupa as invalidações e dispara os recálculos.
+	private ForkJoinPool pool; // Threads do cálculo das linhas.
+	private Timer fullTimer; // Tempo dos cálculos completos.
+	private Timer incrementalTimer; // Tempo dos recálculos incrementais.
+	private Counter rowsComputed; // Linhas calculadas percorrendo todos os jogos.
+	private Counter rowsMerged; // Linhas atualizadas apenas com as pontuações dos jogos alterados.
+	private Counter failures; // Cálculos que falharam.
+	private Counter skipped; // Cálculos descartados porque nenhum jogo nem a composição de nenhuma lista mudou.
+
+	/**
+	 * Cria as threads do cálculo e registra as métricas.
+	 */
+	@PostConstruct
+	void init() {
+		readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+		scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "similarity");
+			thread.setDaemon(true);
+			return thread;
+		});
+		pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+		fullTimer = meterRegistry.timer("dslist.similar.compute", "mode", "full");
+		incrementalTimer = meterRegistry.timer("dslist.similar.compute", "mode", "incremental");
+		rowsComputed = meterRegistry.counter("dslist.similar.rows", "mode", "computed");
+		rowsMerged = meterRegistry.counter("dslist.similar.rows", "mode", "merged");
+		failures = meterRegistry.counter("dslist.similar.failures");
+		skipped = meterRegistry.counter("dslist.similar.skipped");
+	}
+
+	/**
+	 * Encerra as threads do cálculo.
+	 */
+	@PreDestroy
+	void shutdown() {
+		scheduler.shutdownNow();
+		pool.shutdownNow();
+	}
+
+	/**
+	 * Agenda o primeiro cálculo ao final da inicialização, depois que os dados iniciais foram gravados.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	void computeOnStartup() {
+		schedule();
+	}
+
+	/**
+	 * Guarda o jogo ou a lista alterada, desta ou de outra instância, e agenda um recálculo.
+	 * As invalidações recebidas até o início do recálculo são atendidas por ele.
+	 *
+	 * @param invalidation A invalidação recebida.
+	 */
+	@Override
+	public void onInvalidation(Invalidation invalidation) {
+		switch (invalidation.kind()) {
+			case GAME -> changedGames.add(invalidation.id());
+			case LIST -> changedLists.add(invalidation.id());
+			case CATALOG -> catalogChanged.set(true);
+		}
+		schedule();
+	}
+
+	/**
+	 * Busca os jogos mais similares a um jogo, da maior para a menor pontuação.
+	 * A resposta é lida da tabela em memória; antes do primeiro cálculo, aguarda por ele.
+	 *
+	 * @param gameId O ID do jogo.
+	 * @return Até `dslist.similar.top-k` jogos similares.
+	 * @throws InvalidRequestException Se o jogo não estiver na tabela.
+	 * @throws ServiceUnavailableException Se o primeiro cálculo não terminar a tempo.
+	 */
+	public List<SimilarGameDTO> findSimilar(Long gameId) {
+		Snapshot current = snapshot != null ? snapshot : awaitFirst();
+		Integer i = current.index().get(gameId);
+		if (i == null) {
+			throw new InvalidRequestException("Jogo não encontrado: " + gameId + ".");
+		}
+		Row row = current.rows()[i];
+		List<SimilarGameDTO> result = new ArrayList<>(row.ids().length);
+		for (int k = 0; k < row.ids().length; k++) {
+			// Copia os dados do jogo, pois a URL da imagem é reescrita na resposta.
+			SimilarGameDTO similar = new SimilarGameDTO(current.games()[current.index().get(row.ids()[k])], row.scores()[k]);
+			imageStoreService.rewrite(similar);
+			result.add(similar);
+		}
+		return result;
+	}
+
+	private Snapshot awaitFirst() {
+		try {
+			ready.get(startupTimeout, TimeUnit.MILLISECONDS);
+			return snapshot;
+		}
+		catch (TimeoutException | ExecutionException e) {
+			throw new ServiceUnavailableException("As recomendações ainda estão sendo calculadas.", 1);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ServiceUnavailableException("As recomendações ainda estão sendo calculadas.", 1);
+		}
+	}
+
+	private void schedule() {
+		if (scheduled.compareAndSet(false, true)) {
+			scheduler.schedule(this::run, delay, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void run() {
+		// Libera o agendamento antes de ler os dados, para que alterações durante o cálculo agendem outro.
+		scheduled.set(false);
+		try {
+			recompute(false);
+		}
+		catch (RuntimeException e) {
+			// As alterações já retiradas das pendentes se perderam: o próximo cálculo relê tudo.
+			failures.increment();
+			catalogChanged.set(true);
+			schedule();
+		}
+	}
+
+	/**
+	 * Relê os jogos e as associações alterados e publica uma nova tabela de similares.
+	 * Se nenhum jogo mudou e as listas alteradas mantêm os mesmos jogos, a tabela atual é mantida.
+	 * Se a tabela anterior existir, nenhum jogo tiver sido excluído e poucos jogos tiverem mudado, somente
+	 * as linhas afetadas são recalculadas.
+	 *
+	 * @param full Se verdadeiro, relê todos os jogos e associações e recalcula todas as linhas.
+	 * @throws ServiceUnavailableException Se o orçamento de varreduras estiver esgotado.
+	 */
+	synchronized void recompute(boolean full) {
+		long start = System.nanoTime();
+		boolean all = catalogChanged.getAndSet(false) | full || catalog == null;
+		Set<Long> games = drain(changedGames);
+		Set<Long> lists = drain(changedLists);
+		Catalog previousCatalog = catalog;
+		Catalog read = admissionControl.scans().execute(() -> readOnlyTransaction.execute(status -> all
+				? new Catalog(gameRepository.searchFeatures(), gameRepository.searchMemberships())
+				: patch(previousCatalog, games, lists)));
+		if (read == null) {
+			skipped.increment();
+			return;
+		}
+		catalog = read;
+		Snapshot previous = snapshot;
+		Snapshot next = vectorize(read);
+		int n = next.ids().length;
+
+		// Jogos novos ou com algum vetor diferente do cálculo anterior.
+		boolean[] dirty = new boolean[n];
+		List<Integer> dirtyIndexes = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			Integer p = previous != null ? previous.index().get(next.ids()[i]) : null;
+			dirty[i] = p == null || previous.years()[p] != next.years()[i]
+					|| !sameBits(previous.terms()[p], next.terms()[i]) || !sameBits(previous.lists()[p], next.lists()[i]);
+			if (dirty[i]) {
+				dirtyIndexes.add(i);
+			}
+		}
+		boolean removed = previous != null && Arrays.stream(previous.ids()).anyMatch(id -> !next.index().containsKey(id));
+		boolean incremental = !full && previous != null && !removed && dirtyIndexes.size() * 4 <= n;
+
+		LongAdder computed = new LongAdder();
+		LongAdder merged = new LongAdder();
+		if (!incremental) {
+			pool.submit(() -> IntStream.range(0, n).parallel().forEach(i -> next.rows()[i] = top(next, i))).join();
+			computed.add(n);
+		}
+		else {
+			Set<Long> dirtyIds = new HashSet<>();
+			dirtyIndexes.forEach(i -> dirtyIds.add(next.ids()[i]));
+			pool.submit(() -> IntStream.range(0, n).parallel().forEach(i -> {
+				Row old = dirty[i] ? null : previous.rows()[previous.index().get(next.ids()[i])];
+				if (old == null || Arrays.stream(old.ids()).anyMatch(dirtyIds::contains)) {
+					// A pontuação de um jogo da linha mudou e pode ter caído: a linha é recalculada por inteiro.
+					next.rows()[i] = top(next, i);
+					computed.increment();
+				}
+				else {
+					next.rows()[i] = merge(next, i, old, dirtyIndexes);
+					if (!dirtyIndexes.isEmpty()) {
+						merged.increment();
+					}
+				}
+			})).join();
+		}
+
+		snapshot = next;
+		ready.complete(null);
+		rowsComputed.increment(computed.sum());
+		rowsMerged.increment(merged.sum());
+		(incremental ? incrementalTimer : fullTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Retira e retorna os IDs pendentes; os adicionados durante a retirada continuam pendentes.
+	 */
+	private static Set<Long> drain(Set<Long> pending) {
+		Set<Long> ids = new HashSet<>(pending);
+		pending.removeAll(ids);
+		return ids;
+	}
+
+	/**
+	 * Relê somente os jogos e as associações das listas alterados e os aplica ao catálogo anterior.
+	 * Retorna null se nenhum jogo mudou e as listas alteradas mantêm os mesmos jogos.
+	 */
+	private Catalog patch(Catalog previous, Set<Long> games, Set<Long> lists) {
+		List<ListMembershipProjection> memberships = previous.memberships();
+		if (!lists.isEmpty()) {
+			List<ListMembershipProjection> kept = new ArrayList<>();
+			Set<List<Long>> before = new HashSet<>();
+			for (ListMembershipProjection membership : previous.memberships()) {
+				if (lists.contains(membership.getListId())) {
+					before.add(List.of(membership.getListId(), membership.getGameId()));
+				}
+				else {
+					kept.add(membership);
+				}
+			}
+			List<ListMembershipProjection> reread = gameRepository.searchMembershipsByLists(lists);
+			Set<List<Long>> after = new HashSet<>();
+			reread.forEach(membership -> after.add(List.of(membership.getListId(), membership.getGameId())));
+			if (!before.equals(after)) {
+				kept.addAll(reread);
+				memberships = kept;
+			}
+			else if (games.isEmpty()) {
+				return null;
+			}
+		}
+		else if (games.isEmpty()) {
+			return null;
+		}
+		List<GameFeatureProjection> features = previous.games();
+		if (!games.isEmpty()) {
+			// Substitui os jogos relidos e descarta os que não existem mais, mantendo a ordem de ID.
+			Map<Long, GameFeatureProjection> byId = new TreeMap<>();
+			previous.games().forEach(game -> byId.put(game.getId(), game));
+			games.forEach(byId::remove);
+			gameRepository.searchFeaturesByIds(games).forEach(game -> byId.put(game.getId(), game));
+			features = new ArrayList<>(byId.values());
+		}
+		return new Catalog(features, memberships);
+	}
+
+	/**
+	 * Converte os jogos e as associações em vetores de bits, usando os dicionários de termos e de listas.
+	 */
+	private Snapshot vectorize(Catalog catalog) {
+		int n = catalog.games().size();
+		long[] ids = new long[n];
+		Map<Long, Integer> index = new HashMap<>(n * 2);
+		GameMinDTO[] games = new GameMinDTO[n];
+		int[] years = new int[n];
+		List<List<Integer>> termsOf = new ArrayList<>(n);
+		List<List<Integer>> listsOf = new ArrayList<>(n);
+		for (int i = 0; i < n; i++) {
+			GameFeatureProjection game = catalog.games().get(i);
+			ids[i] = game.getId();
+			index.put(game.getId(), i);
+			games[i] = new GameMinDTO(game);
+			years[i] = game.getGameYear() != null ? game.getGameYear() : NO_YEAR;
+			List<Integer> terms = new ArrayList<>();
+			addTerms(terms, "g:", game.getGenre());
+			addTerms(terms, "p:", game.getPlatforms());
+			termsOf.add(terms);
+			listsOf.add(new ArrayList<>());
+		}
+		for (ListMembershipProjection membership : catalog.memberships()) {
+			Integer i = index.get(membership.getGameId());
+			if (i != null) {
+				listsOf.get(i).add(listBits.computeIfAbsent(membership.getListId(), id -> listBits.size()));
+			}
+		}
+
+		long[][] terms = new long[n][];
+		long[][] lists = new long[n][];
+		int[] termCounts = new int[n];
+		int[] listCounts = new int[n];
+		for (int i = 0; i < n; i++) {
+			terms[i] = bits(termsOf.get(i), termBits.size());
+			lists[i] = bits(listsOf.get(i), listBits.size());
+			termCounts[i] = cardinality(terms[i]);
+			listCounts[i] = cardinality(lists[i]);
+		}
+		return new Snapshot(ids, index, games, terms, termCounts, lists, listCounts, years, new Row[n]);
+	}
+
+	private void addTerms(List<Integer> bits, String prefix, String text) {
+		if (text == null) {
+			return;
+		}
+		for (String term : text.split(",")) {
+			String normalized = term.trim().toLowerCase();
+			if (!normalized.isEmpty()) {
+				bits.add(termBits.computeIfAbsent(prefix + normalized, t -> termBits.size()));
+			}
+		}
+	}
+
+	/**
+	 * Calcula a linha de um jogo percorrendo todos os demais jogos.
+	 */
+	private Row top(Snapshot s, int i) {
+		long[] ids = new long[topK];
+		double[] scores = new double[topK];
+		int size = 0;
+		for (int j = 0; j < s.ids().length; j++) {
+			if (j != i) {
+				size = offer(ids, scores, size, s.ids()[j], score(s, i, j));
+			}
+		}
+		return new Row(Arrays.copyOf(ids, size), Arrays.copyOf(scores, size));
+	}
+
+	/**
+	 * Intercala em uma linha as novas pontuações dos jogos alterados, que não estavam nela.
+	 */
+	private Row merge(Snapshot s, int i, Row old, List<Integer> dirtyIndexes) {
+		if (dirtyIndexes.isEmpty()) {
+			return old;
+		}
+		long[] ids = Arrays.copyOf(old.ids(), topK);
+		double[] scores = Arrays.copyOf(old.scores(), topK);
+		int size = old.ids().length;
+		for (int d : dirtyIndexes) {
+			size = offer(ids, scores, size, s.ids()[d], score(s, i, d));
+		}
+		return new Row(Arrays.copyOf(ids, size), Arrays.copyOf(scores, size));
+	}
+
+	/**
+	 * Insere um jogo na linha, mantida em ordem decrescente de pontuação (e crescente de ID nos empates),
+	 * se ele estiver entre os K melhores. Jogos sem nenhuma similaridade são descartados.
+	 *
+	 * @return O novo tamanho da linha.
+	 */
+	private int offer(long[] ids, double[] scores, int size, long id, double score) {
+		if (score <= 0 || (size == topK && !before(score, id, scores[size - 1], ids[size - 1]))) {
+			return size;
+		}
+		int position = size < topK ? size : size - 1;
+		while (position > 0 && before(score, id, scores[position - 1], ids[position - 1])) {
+			ids[position] = ids[position - 1];
+			scores[position] = scores[position - 1];
+			position--;
+		}
+		ids[position] = id;
+		scores[position] = score;
+		return size < topK ? size + 1 : size;
+	}
+
+	private static boolean before(double score, long id, double otherScore, long otherId) {
+		return score > otherScore || (score == otherScore && id < otherId);
+	}
+
+	/**
+	 * Pontuação de similaridade entre dois jogos, entre 0 e 1.
+	 */
+	private static double score(Snapshot s, int i, int j) {
+		double terms = jaccard(s.terms()[i], s.termCounts()[i], s.terms()[j], s.termCounts()[j]);
+		double lists = jaccard(s.lists()[i], s.listCounts()[i], s.lists()[j], s.listCounts()[j]);
+		double year = s.years()[i] == NO_YEAR || s.years()[j] == NO_YEAR ? 0
+				: Math.max(0, 1 - Math.abs(s.years()[i] - s.years()[j]) / (double) YEAR_SPAN);
+		return TERM_WEIGHT * terms + YEAR_WEIGHT * year + LIST_WEIGHT * lists;
+	}
+
+	private static double jaccard(long[] a, int countA, long[] b, int countB) {
+		if (countA == 0 || countB == 0) {
+			return 0;
+		}
+		int intersection = 0;
+		for (int k = 0, length = Math.min(a.length, b.length); k < length; k++) {
+			intersection += Long.bitCount(a[k] & b[k]);
+		}
+		return intersection / (double) (countA + countB - intersection);
+	}
+
+	private static long[] bits(List<Integer> positions, int size) {
+		long[] words = new long[(size + 63) / 64];
+		for (int position : positions) {
+			words[position >>> 6] |= 1L << position;
+		}
+		return words;
+	}
+
+	private static int cardinality(long[] words) {
+		int count = 0;
+		for (long word : words) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	/**
+	 * Compara dois vetores de bits, que podem ter tamanhos diferentes se os dicionários cresceram entre os cálculos.
+	 */
+	private static boolean sameBits(long[] a, long[] b) {
+		for (int k = 0, length = Math.max(a.length, b.length); k < length; k++) {
+			if ((k < a.length ? a[k] : 0) != (k < b.length ? b[k] : 0)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,101 @@
+/**
+ * Agrupador de requisições concorrentes idênticas (single-flight).
+ * Quando vários chamadores pedem a mesma chave ao mesmo tempo, apenas o primeiro
+ * executa a consulta ao banco de dados; os demais aguardam e compartilham o mesmo resultado.
+ * Expõe métricas com o número de execuções reais e de requisições agrupadas.
+ *
+ * @param <K> O tipo da chave que identifica a consulta.
+ * @param <V> O tipo do resultado compartilhado entre os chamadores.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class SingleFlight<K, V> {
+
+	private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>(); // Consultas em andamento, indexadas pela chave.
+	private final Counter executions; // Quantidade de consultas efetivamente executadas.
+	private final Counter coalesced; // Quantidade de requisições que reaproveitaram uma consulta em andamento.
+
+	/**
+	 * Cria um agrupador identificado por um nome, registrando suas métricas.
+	 *
+	 * @param name O nome do agrupador, usado como tag nas métricas (ex.: "game.findById").
+	 * @param registry O registro de métricas do Micrometer.
+	 */
+	public SingleFlight(String name, MeterRegistry registry) {
+		executions = Counter.builder("dslist.singleflight.executions")
+				.description("Consultas executadas no banco de dados")
+				.tag("name", name)
+				.register(registry);
+		coalesced = Counter.builder("dslist.singleflight.coalesced")
+				.description("Requisições atendidas por uma consulta já em andamento")
+				.tag("name", name)
+				.register(registry);
+		Gauge.builder("dslist.singleflight.inflight", inFlight, Map::size)
+				.description("Consultas em andamento")
+				.tag("name", name)
+				.register(registry);
+	}
+
+	/**
+	 * Executa o carregamento para a chave informada, ou aguarda o carregamento já em andamento.
+	 * Se o carregamento falhar, todos os chamadores agrupados recebem a mesma exceção.
+	 *
+	 * @param key A chave que identifica a consulta.
+	 * @param loader A função que realiza a consulta quando não há outra em andamento.
+	 * @return O resultado da consulta.
+	 */
+	public V execute(K key, Supplier<V> loader) {
+		CompletableFuture<V> created = new CompletableFuture<>();
+		CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+		if (existing != null) {
+			// Já existe uma consulta para esta chave: apenas aguarda o resultado.
+			coalesced.increment();
+			return await(existing);
+		}
+		executions.increment();
+		try {
+			V value = loader.get();
+			created.complete(value);
+			return value;
+		}
+		catch (RuntimeException | Error e) {
+			created.completeExceptionally(e);
+			throw e;
+		}
+		finally {
+			// Remove a consulta concluída para que a próxima rajada leia dados atualizados.
+			inFlight.remove(key, created);
+		}
+	}
+
+	/**
+	 * Aguarda o resultado de uma consulta em andamento, repassando a exceção original em caso de falha.
+	 */
+	private V await(CompletableFuture<V> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,302 @@
+/**
+ * Serviço que captura os comandos SQL lentos, com o plano de execução que os produziu.
+ * É registrado como ouvinte do proxy JDBC criado pela instrumentação datasource-micrometer e recebe todos
+ * os comandos executados. Os que demoram pelo menos `dslist.slow-query.threshold` milissegundos têm o texto,
+ * os parâmetros, a duração e as linhas alteradas registrados na própria thread; o plano é obtido em uma thread
+ * separada, com uma nova conexão, para não aumentar a latência da requisição que já foi lenta. As consultas
+ * são medidas com `EXPLAIN ANALYZE`; os comandos de alteração recebem apenas o plano estimado (`EXPLAIN`), pois
+ * `EXPLAIN ANALYZE` os executaria outra vez. O mesmo vale para as consultas com `FOR UPDATE`, que voltariam a
+ * bloquear as linhas lidas e esperariam pelos bloqueios da própria transação lenta. Se metade da fila de capturas estiver ocupada, as consultas também
+ * recebem apenas o plano estimado, para não somar mais execuções de consultas lentas a um banco já sobrecarregado.
+ * As linhas de uma consulta não são obtidas executando-a de novo: o proxy JDBC entrega os ResultSets por meio de
+ * uma lógica que conta as linhas lidas, e a contagem é registrada na captura quando a aplicação fecha o ResultSet
+ * da consulta lenta.
+ * As capturas ficam em um buffer circular em memória, lido por `/admin/slow-queries`. Se a fila de capturas
+ * estiver cheia, a captura é descartada e contada em `dslist.slow-query.dropped`.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.devsuperior.dslist.dto.SlowQueryDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.ProxyLogicSupport;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogic;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import net.ttddyy.observation.boot.autoconfigure.ProxyDataSourceBuilderCustomizer;
+
+@Service // Indica que esta classe é um componente de serviço do Spring.
+public class SlowQueryService implements QueryExecutionListener, ProxyDataSourceBuilderCustomizer {
+
+	/**
+	 * Lógica dos ResultSets entregues pelo proxy JDBC: repassa as chamadas ao ResultSet original e conta as
+	 * linhas lidas, informando a contagem ao serviço quando o ResultSet é fechado.
+	 */
+	private final class RowCountingLogic extends ProxyLogicSupport implements ResultSetProxyLogic {
+
+		private final ResultSet resultSet; // ResultSet original.
+		private final ProxyConfig proxyConfig; // Configuração do proxy, usada nos métodos comuns.
+		private long rows; // Linhas lidas até agora.
+
+		RowCountingLogic(ResultSet resultSet, ProxyConfig proxyConfig) {
+			this.resultSet = resultSet;
+			this.proxyConfig = proxyConfig;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if (isCommonMethod(name)) {
+				return handleCommonMethod(name, resultSet, proxyConfig, args);
+			}
+			Object result = proceedExecution(method, resultSet, args);
+			if (result == Boolean.TRUE && name.equals("next")) {
+				rows++;
+			}
+			else if (name.equals("close")) {
+				read(proxy, rows);
+			}
+			return result;
+		}
+
+		@Override
+		protected Object performProxyLogic(Object proxy, Method method, Object[] args, MethodExecutionContext context) throws Throwable {
+			return proceedExecution(method, resultSet, args);
+		}
+	}
+
+	private static final String EXPLAIN = "EXPLAIN "; // Prefixo dos comandos de obtenção do plano.
+	private static final Pattern FOR_UPDATE = Pattern.compile("\\bFOR\\s+UPDATE\\b"); // Cláusula de bloqueio das linhas lidas.
+
+	@Autowired // DataSource da aplicação, obtido somente na primeira captura, pois este ouvinte é criado junto com ele.
+	private ObjectProvider<DataSource> dataSource;
+
+	@Autowired // Registro de métricas onde são publicadas as contagens de capturas.
+	private MeterRegistry meterRegistry;
+
+	@Value("${dslist.slow-query.threshold:200}") // Duração mínima, em milissegundos, de um comando capturado.
+	private long threshold;
+
+	@Value("${dslist.slow-query.buffer-size:100}") // Quantidade de capturas mantidas em memória.
+	private int bufferSize;
+
+	@Value("${dslist.slow-query.queue-size:16}") // Quantidade de capturas aguardando a obtenção do plano.
+	private int queueSize;
+
+	private SlowQueryDTO[] buffer; // Buffer circular com as capturas mais recentes, em ordem de conclusão.
+	private long appended; // Total de capturas já adicionadas ao buffer.
+	private ThreadPoolExecutor explainer; // Thread que obtém os planos das capturas.
+	private volatile Thread explainerThread; // Thread atual do explainer, cujos próprios comandos não são capturados.
+	private Counter captured; // Comandos capturados com o plano.
+	private Counter dropped; // Comandos lentos descartados por excesso de capturas pendentes.
+
+	// Capturas das consultas cujo ResultSet ainda está aberto, indexadas pelo ResultSet entregue à aplicação.
+	// As referências são fracas para que um ResultSet nunca fechado (ex.: ao fechar a conexão) não fique retido.
+	private final Map<Object, SlowQueryDTO> reading = Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * Inicializa o buffer circular, a thread de obtenção dos planos e as métricas.
+	 */
+	@PostConstruct
+	void init() {
+		buffer = new SlowQueryDTO[bufferSize];
+		captured = meterRegistry.counter("dslist.slow-query.captured");
+		dropped = meterRegistry.counter("dslist.slow-query.dropped");
+		explainer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), r -> {
+			Thread thread = new Thread(r, "slow-query");
+			thread.setDaemon(true);
+			explainerThread = thread;
+			return thread;
+		}, (task, executor) -> dropped.increment());
+	}
+
+	/**
+	 * Encerra a thread de obtenção dos planos.
+	 */
+	@PreDestroy
+	void shutdown() {
+		explainer.shutdownNow();
+	}
+
+	/**
+	 * Faz o proxy JDBC entregar os ResultSets com a lógica que conta as linhas lidas.
+	 */
+	@Override
+	public void customize(ProxyDataSourceBuilder builder, DataSource dataSource, String beanName, String dataSourceName) {
+		builder.proxyResultSet((resultSet, connectionInfo, proxyConfig) -> new RowCountingLogic(resultSet, proxyConfig));
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+	}
+
+	/**
+	 * Registra o comando se ele demorou ao menos o limite configurado e agenda a obtenção do plano.
+	 * Comandos que falharam não são capturados, pois o plano deles não explica a demora.
+	 *
+	 * @param execution Os dados da execução, com a duração e o resultado.
+	 * @param queries Os comandos executados e os seus parâmetros.
+	 */
+	@Override
+	public void afterQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+		if (execution.getElapsedTime() < threshold || !execution.isSuccess() || queries.isEmpty()
+				|| Thread.currentThread() == explainerThread) {
+			return;
+		}
+		QueryInfo query = queries.get(0);
+		List<Object> parameters = query.getParametersList().isEmpty() ? List.of() : parameters(query.getParametersList().get(0));
+		int batchSize = Math.max(queries.size(), query.getParametersList().size());
+		SlowQueryDTO capture = new SlowQueryDTO(Instant.now(), query.getQuery(), parameters.stream().map(SlowQueryService::format).toList(),
+				batchSize, execution.getElapsedTime(), updatedRows(execution.getResult()));
+		if (execution.getResult() instanceof ResultSet resultSet) {
+			// As linhas são contadas enquanto a aplicação lê o ResultSet e registradas quando ele for fechado.
+			reading.put(resultSet, capture);
+		}
+		explainer.execute(() -> explain(capture, parameters));
+	}
+
+	/**
+	 * Registra na captura as linhas lidas de um ResultSet fechado, se ele pertence a uma consulta lenta.
+	 */
+	private void read(Object resultSet, long rows) {
+		SlowQueryDTO capture = reading.isEmpty() ? null : reading.remove(resultSet);
+		if (capture != null) {
+			synchronized (this) {
+				capture.setRows(rows);
+			}
+		}
+	}
+
+	/**
+	 * Busca os comandos lentos capturados, do mais recente para o mais antigo.
+	 *
+	 * @return As capturas mantidas em memória.
+	 */
+	public synchronized List<SlowQueryDTO> findAll() {
+		List<SlowQueryDTO> result = new ArrayList<>(bufferSize);
+		for (long i = appended - 1; i >= Math.max(0, appended - buffer.length); i--) {
+			result.add(buffer[(int) (i % buffer.length)]);
+		}
+		return result;
+	}
+
+	/**
+	 * Obtém o plano do comando com os mesmos parâmetros e adiciona a captura ao buffer.
+	 * As consultas só são medidas com `EXPLAIN ANALYZE`, que as executa, enquanto a fila estiver abaixo da metade.
+	 * Uma consulta com `FOR UPDATE` recebe apenas o plano estimado: executá-la de novo, em outra conexão, bloquearia
+	 * as mesmas linhas e esperaria pela transação que a capturou.
+	 */
+	private void explain(SlowQueryDTO capture, List<Object> parameters) {
+		String keyword = capture.getSql().stripLeading().toUpperCase(Locale.ROOT);
+		boolean select = keyword.startsWith("SELECT") || keyword.startsWith("WITH");
+		boolean analyze = select && !FOR_UPDATE.matcher(keyword).find() && explainer.getQueue().size() * 2 < queueSize;
+		try (Connection connection = dataSource.getObject().getConnection()) {
+			connection.setReadOnly(select);
+			String plan = String.join("\n", execute(connection, EXPLAIN + (analyze ? "ANALYZE " : "") + capture.getSql(), parameters));
+			synchronized (this) {
+				capture.setPlan(plan, analyze);
+			}
+		}
+		catch (SQLException | RuntimeException e) {
+			// O comando pode não admitir EXPLAIN (ex.: DDL); a captura é mantida sem o plano.
+			synchronized (this) {
+				capture.setPlan("Plano indisponível: " + e.getMessage(), false);
+			}
+		}
+		synchronized (this) {
+			buffer[(int) (appended % buffer.length)] = capture;
+			appended++;
+		}
+		captured.increment();
+	}
+
+	/**
+	 * Executa um comando de leitura, retornando a primeira coluna de cada linha.
+	 */
+	private static List<String> execute(Connection connection, String sql, List<Object> parameters) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			for (int i = 0; i < parameters.size(); i++) {
+				statement.setObject(i + 1, parameters.get(i));
+			}
+			List<String> result = new ArrayList<>();
+			try (ResultSet rows = statement.executeQuery()) {
+				while (rows.next()) {
+					result.add(rows.getString(1));
+				}
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Converte as chamadas `setXxx` de um conjunto de parâmetros nos valores, na ordem dos índices.
+	 */
+	private static List<Object> parameters(List<ParameterSetOperation> operations) {
+		List<Object> result = new ArrayList<>();
+		operations.stream()
+				.filter(operation -> operation.getArgs()[0] instanceof Integer)
+				.sorted(Comparator.comparing(operation -> (Integer) operation.getArgs()[0]))
+				.forEach(operation -> result.add(ParameterSetOperation.isSetNullParameterOperation(operation) ? null : operation.getArgs()[1]));
+		return result;
+	}
+
+	/**
+	 * Representa um parâmetro como texto, incluindo o conteúdo dos arrays (ex.: os IDs de `UNNEST`).
+	 */
+	private static String format(Object value) {
+		return value instanceof Object[] array ? Arrays.toString(array) : String.valueOf(value);
+	}
+
+	/**
+	 * Retorna as linhas alteradas por um comando de alteração, ou null se o resultado for uma consulta.
+	 */
+	private static Long updatedRows(Object result) {
+		if (result instanceof Number count) {
+			return count.longValue();
+		}
+		if (result instanceof int[] counts) {
+			return (long) Arrays.stream(counts).sum();
+		}
+		if (result instanceof long[] counts) {
+			return Arrays.stream(counts).sum();
+		}
+		return null;
+	}
+}
@@ -0,0 +1,239 @@
+/**
+ * Serviço que mantém as versões do catálogo de jogos e de cada lista de jogos.
+ * As versões são usadas para gerar os cabeçalhos `ETag` e `Last-Modified` das respostas,
+ * permitindo responder `304 Not Modified` a requisições condicionais sem consultar o banco de dados.
+ * As versões ficam no banco de dados (`tb_version`) e avançam na transação de cada escrita, ao ser publicada a
+ * invalidação ({@link InvalidationListener#onPublish}); assim, todas as instâncias geram a mesma `ETag` e o mesmo
+ * `Last-Modified` para os mesmos dados, e um cliente que passa de uma instância para outra continua recebendo `304`.
+ * Cada instância guarda em memória as versões já lidas e as descarta ao receber as invalidações do
+ * {@link InvalidationBus}, que só as entrega depois da confirmação da escrita, para que uma versão nova nunca seja
+ * associada a dados antigos. Como o barramento também entrega as invalidações das demais instâncias, nenhuma
+ * instância responde `304` para dados alterados em outra. As versões são lidas sempre do primário, mesmo com o
+ * roteamento para réplicas ativo: uma réplica atrasada em relação à invalidação recebida faria a instância
+ * memorizar a versão anterior e responder `304` para dados alterados até a próxima escrita.
+ * A versão de uma cópia de lista inclui a versão da sua lista base, de modo que uma escrita na lista base
+ * invalida as respostas de todas as cópias sem publicar uma invalidação para cada uma.
+ * As versões e as listas base memorizadas são limitadas a `dslist.versions.max-entries` entradas cada, descartando
+ * as usadas há mais tempo; uma entrada descartada custa apenas uma nova leitura no primário.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.devsuperior.dslist.config.ReadWriteRoutingDataSource;
+import com.devsuperior.dslist.entities.ContentVersion;
+import com.devsuperior.dslist.entities.GameList;
+import com.devsuperior.dslist.repositories.ContentVersionRepository;
+import com.devsuperior.dslist.repositories.GameListRepository;
+import com.devsuperior.dslist.services.invalidation.Invalidation;
+import com.devsuperior.dslist.services.invalidation.InvalidationBus;
+import com.devsuperior.dslist.services.invalidation.InvalidationListener;
+
+import jakarta.annotation.PostConstruct;
+
+@Service // Indica que esta classe é um componente de serviço do Spring.
+public class VersionService implements InvalidationListener {
+
+	/**
+	 * Uma versão e o instante (em milissegundos) em que ela foi criada.
+	 */
+	private record Version(long number, long modified) {
+	}
+
+	private static final long NO_BASE = 0; // Marca, no mapa das listas base, uma lista que não é cópia.
+	private static final String CATALOG = "c"; // Chave da versão do catálogo de jogos.
+	private static final String EPOCH = "epoch"; // Chave do instante inicial das versões.
+
+	@Autowired // Realiza a injeção de dependência do GameListRepository, que informa a lista base de uma cópia.
+	private GameListRepository gameListRepository;
+
+	@Autowired // Realiza a injeção de dependência do ContentVersionRepository, que grava e lê as versões compartilhadas.
+	private ContentVersionRepository contentVersionRepository;
+
+	@Value("${dslist.versions.max-entries:10000}") // Quantidade máxima de versões e de listas base memorizadas.
+	private int maxEntries;
+
+	private Map<String, Version> versions; // Versões já lidas do banco de dados.
+	private Map<Long, Long> bases; // Lista base de cada lista já consultada, ou NO_BASE.
+	private final AtomicLong invalidations = new AtomicLong(); // Invalidações recebidas, para não memorizar uma versão lida antes de uma delas.
+	private long epoch; // Instante inicial das versões, o mesmo em todas as instâncias; diferencia as versões de um banco recriado.
+
+	/**
+	 * Cria os mapas limitados das versões e das listas base e lê o instante inicial das versões, gravando-o se esta
+	 * for a primeira instância a iniciar sobre o banco de dados.
+	 */
+	@PostConstruct
+	void init() {
+		versions = bounded(maxEntries);
+		bases = bounded(maxEntries);
+		contentVersionRepository.insertEpoch(System.currentTimeMillis());
+		epoch = contentVersionRepository.findById(EPOCH).map(ContentVersion::getModified).orElseThrow();
+	}
+
+	/**
+	 * Retorna a ETag (fraca) que identifica a versão atual do catálogo de jogos.
+	 * @return A ETag do catálogo.
+	 */
+	public String catalogETag() {
+		return "W/\"c-" + epoch + "-" + version(CATALOG).number() + "\"";
+	}
+
+	/**
+	 * Retorna o instante da última alteração do catálogo de jogos.
+	 * @return O instante em milissegundos.
+	 */
+	public long catalogLastModified() {
+		return version(CATALOG).modified();
+	}
+
+	/**
+	 * Retorna a ETag (fraca) que identifica a versão atual de uma lista de jogos.
+	 * Como a lista exibe dados dos jogos, a ETag também inclui a versão do catálogo e, se a lista for uma cópia,
+	 * a versão da lista base.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @return A ETag da lista.
+	 */
+	public String listETag(Long listId) {
+		Long baseListId = baseOf(listId);
+		return "W/\"l" + listId + "-" + epoch + "-" + version(CATALOG).number() + "-" + version(key(listId)).number()
+				+ (baseListId != null ? "-" + version(key(baseListId)).number() : "") + "\"";
+	}
+
+	/**
+	 * Retorna o instante da última alteração de uma lista de jogos, da sua lista base ou do catálogo,
+	 * o que for mais recente.
+	 *
+	 * @param listId O ID da lista de jogos.
+	 * @return O instante em milissegundos.
+	 */
+	public long listLastModified(Long listId) {
+		Long baseListId = baseOf(listId);
+		long modified = Math.max(version(key(listId)).modified(), version(CATALOG).modified());
+		return baseListId != null ? Math.max(modified, version(key(baseListId)).modified()) : modified;
+	}
+
+	/**
+	 * Retorna a geração desta instância, que avança a cada invalidação confirmada, feita por ela ou recebida de outra.
+	 * Identifica as leituras que dependem de todas as listas, que não têm uma versão própria: uma leitura iniciada
+	 * depois da confirmação de uma escrita sempre vê uma geração maior que a de uma leitura iniciada antes.
+	 * Não é compartilhada entre instâncias e, por isso, não é usada nas ETags.
+	 *
+	 * @return A geração atual.
+	 */
+	public long generation() {
+		return invalidations.get();
+	}
+
+	/**
+	 * Avança, na transação da escrita, a versão do catálogo, para qualquer alteração de jogo, ou a versão da
+	 * lista alterada. O instante da versão de uma lista ultrapassa o `Last-Modified` atual da lista, que pode vir
+	 * do catálogo ou da lista base, para que ele sempre avance.
+	 *
+	 * @param invalidation A invalidação publicada.
+	 */
+	@Override
+	public void onPublish(Invalidation invalidation) {
+		long now = System.currentTimeMillis();
+		if (invalidation.kind() == Invalidation.Kind.LIST) {
+			List<String> floor = new ArrayList<>(List.of(CATALOG, EPOCH));
+			Long baseListId = baseOf(invalidation.id());
+			if (baseListId != null) {
+				floor.add(key(baseListId));
+			}
+			contentVersionRepository.advance(key(invalidation.id()), now, contentVersionRepository.findLatestModified(floor));
+		}
+		else {
+			contentVersionRepository.advance(CATALOG, now, epoch);
+		}
+	}
+
+	/**
+	 * Descarta a versão memorizada do catálogo, para qualquer alteração de jogo, ou a da lista alterada; a próxima
+	 * requisição lê a versão confirmada. Uma invalidação do catálogo inteiro, que também é entregue quando as
+	 * invalidações de outra instância podem ter sido perdidas, descarta todas as versões memorizadas.
+	 *
+	 * @param invalidation A invalidação confirmada.
+	 */
+	@Override
+	public void onInvalidation(Invalidation invalidation) {
+		invalidations.incrementAndGet();
+		switch (invalidation.kind()) {
+			case GAME -> versions.remove(CATALOG);
+			case CATALOG -> versions.clear();
+			case LIST -> versions.remove(key(invalidation.id()));
+		}
+	}
+
+	/**
+	 * Retorna a lista base de uma cópia, lida do cache de segundo nível na primeira consulta e mantida em memória.
+	 * Uma lista existente nunca passa a ser cópia, pois toda cópia é criada com um novo ID; uma cópia materializada
+	 * continua associada à lista base, o que só faz a sua versão avançar também com a lista base, sem nunca
+	 * produzir um `304` indevido. Uma lista inexistente não é memorizada.
+	 */
+	private Long baseOf(Long listId) {
+		Long base = bases.get(listId);
+		if (base == null) {
+			GameList list = gameListRepository.findById(listId).orElse(null);
+			if (list == null) {
+				return null;
+			}
+			base = list.getBaseListId() != null ? list.getBaseListId() : NO_BASE;
+			bases.put(listId, base);
+		}
+		return base != NO_BASE ? base : null;
+	}
+
+	/**
+	 * Retorna a versão memorizada ou, na primeira consulta depois de uma invalidação, a versão confirmada no banco.
+	 * Um dado que nunca foi alterado tem a versão 0, com o instante inicial. A versão lida deixa de ser memorizada
+	 * se alguma invalidação chegou durante a leitura, pois ela poderia ser anterior à escrita invalidada.
+	 * A leitura é feita no primário, que já contém toda escrita cuja invalidação foi recebida.
+	 */
+	private Version version(String key) {
+		Version version = versions.get(key);
+		if (version == null) {
+			long seen = invalidations.get();
+			version = ReadWriteRoutingDataSource.readFromPrimary(() -> contentVersionRepository.findById(key))
+					.map(found -> new Version(found.getNumber(), found.getModified()))
+					.orElse(new Version(0, epoch));
+			versions.put(key, version);
+			// Uma invalidação posterior ao registro já o descartou; uma anterior, chegada durante a leitura, não.
+			if (invalidations.get() != seen) {
+				versions.remove(key, version);
+			}
+		}
+		return version;
+	}
+
+	/**
+	 * Cria um mapa sincronizado que, ao passar de `max` entradas, descarta a usada há mais tempo.
+	 */
+	private static <K, V> Map<K, V> bounded(int max) {
+		return Collections.synchronizedMap(new LinkedHashMap<K, V>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > max;
+			}
+		});
+	}
+
+	private static String key(Long listId) {
+		return "l" + listId;
+	}
+}
@@ -0,0 +1,22 @@
+/**
+ * Exceção lançada quando os parâmetros de uma requisição são inválidos.
+ * É convertida em uma resposta `400 Bad Request` pelo {@code ControllerExceptionHandler}.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services.exceptions;
+
+public class InvalidRequestException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Cria a exceção com uma mensagem que descreve o problema encontrado.
+	 *
+	 * @param message A mensagem de erro retornada ao cliente.
+	 */
+	public InvalidRequestException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,22 @@
+/**
+ * Exceção lançada quando o recurso pedido, como uma lista de jogos, não existe.
+ * É convertida em uma resposta `404 Not Found` pelo {@code ControllerExceptionHandler}.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services.exceptions;
+
+public class ResourceNotFoundException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Cria a exceção com uma mensagem que identifica o recurso não encontrado.
+	 *
+	 * @param message A mensagem de erro retornada ao cliente.
+	 */
+	public ResourceNotFoundException(String message) {
+		super(message);
+	}
+}
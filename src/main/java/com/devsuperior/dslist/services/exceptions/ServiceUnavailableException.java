@@ -0,0 +1,35 @@
+/**
+ * Exceção lançada quando uma operação é recusada por excesso de carga.
+ * É convertida em uma resposta `503 Service Unavailable` com o cabeçalho `Retry-After`
+ * pelo {@code ControllerExceptionHandler}.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services.exceptions;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final long retryAfter; // Tempo sugerido, em segundos, antes de uma nova tentativa.
+
+	/**
+	 * Cria a exceção com uma mensagem e o tempo sugerido para uma nova tentativa.
+	 *
+	 * @param message A mensagem de erro retornada ao cliente.
+	 * @param retryAfter O tempo, em segundos, enviado no cabeçalho `Retry-After`.
+	 */
+	public ServiceUnavailableException(String message, long retryAfter) {
+		super(message);
+		this.retryAfter = retryAfter;
+	}
+
+	/**
+	 * Retorna o tempo sugerido antes de uma nova tentativa.
+	 * @return O tempo em segundos.
+	 */
+	public long getRetryAfter() {
+		return retryAfter;
+	}
+}
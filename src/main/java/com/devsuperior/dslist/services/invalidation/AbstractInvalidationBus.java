@@ -0,0 +1,53 @@
+/**
+ * Base dos barramentos de invalidação: entrega as invalidações aos ouvintes desta instância,
+ * adiando a entrega local para depois da confirmação da transação corrente. Antes disso, ainda na
+ * transação da escrita, os ouvintes são avisados da publicação ({@link InvalidationListener#onPublish}).
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services.invalidation;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public abstract class AbstractInvalidationBus implements InvalidationBus {
+
+	@Autowired // Ouvintes resolvidos a cada entrega, o que evita dependências circulares entre serviços e ouvintes.
+	private ObjectProvider<InvalidationListener> listeners;
+
+	@Override
+	public void publish(Invalidation invalidation) {
+		listeners.orderedStream().forEach(listener -> listener.onPublish(invalidation));
+		send(invalidation);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					deliver(invalidation);
+				}
+			});
+		}
+		else {
+			deliver(invalidation);
+		}
+	}
+
+	/**
+	 * Envia a invalidação às demais instâncias, participando da transação corrente se houver.
+	 *
+	 * @param invalidation A invalidação a ser enviada.
+	 */
+	protected abstract void send(Invalidation invalidation);
+
+	/**
+	 * Entrega uma invalidação aos ouvintes desta instância.
+	 *
+	 * @param invalidation A invalidação a ser entregue.
+	 */
+	protected void deliver(Invalidation invalidation) {
+		listeners.orderedStream().forEach(listener -> listener.onInvalidation(invalidation));
+	}
+}
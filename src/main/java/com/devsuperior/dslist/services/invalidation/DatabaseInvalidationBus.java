@@ -0,0 +1,205 @@
+/**
+ * Barramento de invalidação que usa o próprio banco de dados, sem depender de um broker externo.
+ * Cada invalidação é gravada em `tb_invalidation` na transação da escrita, de modo que só se torna
+ * visível se a escrita for confirmada. Cada instância consulta a tabela a cada `dslist.invalidation.poll-interval`
+ * milissegundos e entrega aos seus ouvintes as invalidações publicadas pelas demais, em ordem de sequência.
+ * O atraso máximo entre uma escrita e a invalidação nas outras instâncias é, portanto, o intervalo de consulta.
+ * Com o roteamento para réplicas ativo, a tabela é lida sempre do primário, sem contar como escrita desta instância;
+ * cada invalidação recebida faz o {@link com.devsuperior.dslist.config.ReplicaLagMonitor} desviar as leituras para
+ * o primário até que a réplica contenha a escrita invalidada.
+ * Sequências ainda não visíveis (transações concorrentes não confirmadas) são aguardadas por até
+ * `dslist.invalidation.gap-timeout` milissegundos. Depois disso, a marca d'água avança e, como a transação pode
+ * ter sido apenas lenta e não revertida, os caches locais são descartados por inteiro (como em uma alteração do
+ * catálogo) e as sequências abandonadas continuam sendo procuradas até o fim da retenção: as que forem
+ * confirmadas mais tarde ainda são entregues aos ouvintes.
+ * As invalidações mais antigas que `dslist.invalidation.retention` são removidas periodicamente.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services.invalidation;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.devsuperior.dslist.config.ReadWriteRoutingDataSource;
+import com.devsuperior.dslist.entities.InvalidationEvent;
+import com.devsuperior.dslist.repositories.InvalidationEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Service // Indica que esta classe é um componente de serviço do Spring.
+@ConditionalOnProperty(name = "dslist.invalidation.bus", havingValue = "database", matchIfMissing = true)
+public class DatabaseInvalidationBus extends AbstractInvalidationBus {
+
+	@Autowired // Realiza a injeção de dependência do InvalidationEventRepository, que grava e lê as invalidações.
+	private InvalidationEventRepository invalidationEventRepository;
+
+	@Autowired // Registro de métricas onde são publicados os contadores de invalidações.
+	private MeterRegistry meterRegistry;
+
+	@Value("${dslist.invalidation.poll-interval:200}") // Intervalo, em milissegundos, entre as consultas de invalidações.
+	private long pollInterval;
+
+	@Value("${dslist.invalidation.gap-timeout:5000}") // Tempo máximo, em milissegundos, de espera por uma sequência ainda não visível.
+	private long gapTimeout;
+
+	@Value("${dslist.invalidation.retention:60000}") // Tempo, em milissegundos, que uma invalidação permanece na tabela.
+	private long retention;
+
+	private final String node = UUID.randomUUID().toString(); // Identificador desta instância.
+	private final TreeSet<Long> processed = new TreeSet<>(); // Sequências já processadas acima da marca d'água.
+	private final TreeMap<Long, Long> abandoned = new TreeMap<>(); // Sequências puladas pela marca d'água e o instante em que foram puladas.
+	private long watermark; // Maior sequência a partir da qual todas as anteriores foram processadas ou descartadas.
+	private long gapSince = -1; // Instante em que a sequência seguinte à marca d'água começou a faltar.
+	private long lastCleanup; // Instante da última remoção de invalidações antigas.
+
+	private Counter published; // Invalidações gravadas por esta instância.
+	private Counter received; // Invalidações de outras instâncias entregues aos ouvintes locais.
+	private Counter gaps; // Lacunas abandonadas após o tempo limite.
+	private Counter late; // Invalidações encontradas depois de a sua sequência ter sido abandonada.
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread thread = new Thread(r, "invalidation-bus");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Registra os contadores de invalidações.
+	 */
+	@PostConstruct
+	void init() {
+		published = meterRegistry.counter("dslist.invalidation.published");
+		received = meterRegistry.counter("dslist.invalidation.received");
+		gaps = meterRegistry.counter("dslist.invalidation.gaps");
+		late = meterRegistry.counter("dslist.invalidation.late");
+	}
+
+	/**
+	 * Começa a consultar as invalidações a partir da maior sequência existente, depois que o esquema foi criado.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	void start() {
+		synchronized (this) {
+			watermark = ReadWriteRoutingDataSource.readFromPrimary(invalidationEventRepository::findMaxSequence);
+			lastCleanup = System.currentTimeMillis();
+		}
+		scheduler.scheduleWithFixedDelay(() -> {
+			try {
+				poll();
+			}
+			catch (RuntimeException e) {
+				// Uma falha momentânea do banco não interrompe as consultas seguintes.
+			}
+		}, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Interrompe as consultas.
+	 */
+	@PreDestroy
+	void shutdown() {
+		scheduler.shutdownNow();
+	}
+
+	@Override
+	protected void send(Invalidation invalidation) {
+		invalidationEventRepository.save(new InvalidationEvent(invalidation, node, Instant.now()));
+		published.increment();
+	}
+
+	/**
+	 * Lê as invalidações novas e as abandonadas, entrega as publicadas por outras instâncias e avança a marca d'água.
+	 */
+	synchronized void poll() {
+		long now = System.currentTimeMillis();
+		if (!abandoned.isEmpty()) {
+			recover(now);
+		}
+		List<InvalidationEvent> events = ReadWriteRoutingDataSource.readFromPrimary(
+				() -> invalidationEventRepository.findBySequenceGreaterThanOrderBySequence(watermark));
+		for (InvalidationEvent event : events) {
+			if (processed.add(event.getSequence())) {
+				receive(event);
+			}
+		}
+		// Avança sobre as sequências contínuas; uma lacuna só é ignorada depois do tempo limite.
+		while (!processed.isEmpty()) {
+			if (processed.first() == watermark + 1) {
+				watermark = processed.pollFirst();
+				gapSince = -1;
+			}
+			else if (gapSince < 0) {
+				gapSince = now;
+				break;
+			}
+			else if (now - gapSince > gapTimeout) {
+				abandon(watermark + 1, processed.first() - 1, now);
+				watermark = processed.first() - 1;
+				gapSince = -1;
+			}
+			else {
+				break;
+			}
+		}
+		if (now - lastCleanup > retention) {
+			invalidationEventRepository.deleteByCreatedAtBefore(Instant.ofEpochMilli(now - retention));
+			lastCleanup = now;
+		}
+	}
+
+	/**
+	 * Entrega aos ouvintes locais uma invalidação lida da tabela, se ela foi publicada por outra instância.
+	 */
+	private void receive(InvalidationEvent event) {
+		if (!node.equals(event.getNode())) {
+			deliver(new Invalidation(event.getKind(), event.getTargetId(), true));
+			received.increment();
+		}
+	}
+
+	/**
+	 * Pula as sequências faltantes de `from` a `to`, que podem pertencer a transações revertidas ou ainda não
+	 * confirmadas. Como não se sabe o que elas invalidariam, todos os caches locais são descartados, e as
+	 * sequências passam a ser procuradas a cada consulta.
+	 */
+	private void abandon(long from, long to, long now) {
+		for (long sequence = from; sequence <= to; sequence++) {
+			abandoned.put(sequence, now);
+		}
+		deliver(new Invalidation(Invalidation.Kind.CATALOG, null, true));
+		gaps.increment();
+	}
+
+	/**
+	 * Entrega as invalidações abandonadas que se tornaram visíveis e esquece as abandonadas há mais tempo que a
+	 * retenção, pois a essa altura já teriam sido removidas da tabela.
+	 */
+	private void recover(long now) {
+		List<InvalidationEvent> found = ReadWriteRoutingDataSource.readFromPrimary(
+				() -> invalidationEventRepository.findBySequenceIn(abandoned.keySet()));
+		for (InvalidationEvent event : found) {
+			abandoned.remove(event.getSequence());
+			receive(event);
+			late.increment();
+		}
+		abandoned.values().removeIf(since -> now - since > retention);
+	}
+}
@@ -0,0 +1,46 @@
+/**
+ * Ouvinte que descarta do cache de segundo nível e do cache de consultas do Hibernate os dados
+ * alterados por outras instâncias. As escritas feitas por esta instância já mantêm o cache local
+ * consistente, por isso as invalidações locais são ignoradas.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services.invalidation;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.devsuperior.dslist.entities.Game;
+import com.devsuperior.dslist.entities.GameList;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@Component // Registra esta classe como um componente do Spring.
+public class HibernateCacheInvalidator implements InvalidationListener {
+
+	@Autowired // Fábrica de EntityManager, da qual se obtém o cache do Hibernate.
+	private EntityManagerFactory entityManagerFactory;
+
+	@Override
+	public void onInvalidation(Invalidation invalidation) {
+		if (!invalidation.remote()) {
+			return;
+		}
+		Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+		switch (invalidation.kind()) {
+			case GAME -> cache.evictEntityData(Game.class, invalidation.id());
+			case CATALOG -> {
+				// Os jogos alterados mudam também os agregados das listas que os contêm.
+				cache.evictEntityData(Game.class);
+				cache.evictEntityData(GameList.class);
+			}
+			// Os agregados da lista mudam com a sua composição, e os das suas cópias são recalculados a partir da lista base.
+			case LIST -> cache.evictEntityData(GameList.class);
+		}
+		// As consultas em cache dependem das tabelas alteradas em outra instância.
+		cache.evictQueryRegions();
+	}
+}
@@ -0,0 +1,54 @@
+/**
+ * Uma invalidação publicada no {@link InvalidationBus}.
+ * Indica que os dados de uma lista, de um jogo ou de todo o catálogo mudaram e que os caches
+ * mantidos em memória por cada instância da aplicação devem ser descartados.
+ *
+ * @param kind O tipo do dado alterado.
+ * @param id O ID da lista ou do jogo alterado (nulo para o catálogo inteiro).
+ * @param remote Indica se a alteração foi feita por outra instância.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services.invalidation;
+
+public record Invalidation(Kind kind, Long id, boolean remote) {
+
+	/**
+	 * Tipos de dado que podem ser invalidados.
+	 */
+	public enum Kind {
+		LIST, // A ordem ou os jogos de uma lista.
+		GAME, // Os dados de um jogo.
+		CATALOG // Os dados de qualquer jogo do catálogo.
+	}
+
+	/**
+	 * Cria a invalidação local de uma lista.
+	 *
+	 * @param listId O ID da lista alterada.
+	 * @return A invalidação.
+	 */
+	public static Invalidation list(Long listId) {
+		return new Invalidation(Kind.LIST, listId, false);
+	}
+
+	/**
+	 * Cria a invalidação local de um jogo.
+	 *
+	 * @param gameId O ID do jogo alterado.
+	 * @return A invalidação.
+	 */
+	public static Invalidation game(Long gameId) {
+		return new Invalidation(Kind.GAME, gameId, false);
+	}
+
+	/**
+	 * Cria a invalidação local do catálogo inteiro.
+	 *
+	 * @return A invalidação.
+	 */
+	public static Invalidation catalog() {
+		return new Invalidation(Kind.CATALOG, null, false);
+	}
+}
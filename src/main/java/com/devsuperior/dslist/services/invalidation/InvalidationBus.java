@@ -0,0 +1,22 @@
+/**
+ * Barramento de invalidação entre as instâncias da aplicação.
+ * Os serviços de escrita publicam aqui o que alteraram; o barramento entrega a invalidação aos
+ * {@link InvalidationListener} desta instância depois da confirmação e às demais instâncias
+ * com atraso limitado. A implementação é escolhida por `dslist.invalidation.bus`:
+ * `database` (padrão, {@link DatabaseInvalidationBus}) ou `local` ({@link LocalInvalidationBus}, instância única).
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services.invalidation;
+
+public interface InvalidationBus {
+
+	/**
+	 * Publica uma invalidação. Se houver uma transação ativa, ela só é entregue após a confirmação
+	 * e descartada em caso de reversão.
+	 *
+	 * @param invalidation A invalidação a ser publicada.
+	 */
+	void publish(Invalidation invalidation);
+}
@@ -0,0 +1,29 @@
+/**
+ * Componente que mantém dados em memória e precisa ser avisado das invalidações.
+ * Todos os beans que implementam esta interface são notificados pelo {@link InvalidationBus},
+ * tanto das alterações feitas pela própria instância quanto das recebidas de outras instâncias.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services.invalidation;
+
+public interface InvalidationListener {
+
+	/**
+	 * Trata uma invalidação. É chamado somente depois que a alteração foi confirmada.
+	 *
+	 * @param invalidation A invalidação recebida.
+	 */
+	void onInvalidation(Invalidation invalidation);
+
+	/**
+	 * Trata uma invalidação publicada por esta instância, na transação da escrita, antes da confirmação.
+	 * O que for gravado aqui é confirmado (ou revertido) junto com a alteração. Não é chamado para as
+	 * invalidações recebidas de outras instâncias.
+	 *
+	 * @param invalidation A invalidação publicada.
+	 */
+	default void onPublish(Invalidation invalidation) {
+	}
+}
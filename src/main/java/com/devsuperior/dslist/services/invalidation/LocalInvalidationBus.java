@@ -0,0 +1,21 @@
+/**
+ * Barramento de invalidação para uma única instância: apenas entrega as invalidações aos ouvintes locais.
+ * Ativado com `dslist.invalidation.bus=local`.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services.invalidation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service // Indica que esta classe é um componente de serviço do Spring.
+@ConditionalOnProperty(name = "dslist.invalidation.bus", havingValue = "local")
+public class LocalInvalidationBus extends AbstractInvalidationBus {
+
+	@Override
+	protected void send(Invalidation invalidation) {
+		// Não há outras instâncias.
+	}
+}
@@ -0,0 +1,50 @@
+/**
+ * Evento do Java Flight Recorder emitido a cada busca de todos os jogos do catálogo.
+ * Além da quantidade de jogos, registra o tamanho estimado do resultado, calculado somente
+ * quando o evento será de fato gravado.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("dslist.GameScan") // Nome usado nas configurações da gravação e na leitura dos eventos.
+@Label("Game Scan")
+@Category({ "DSList", "Games" })
+@Description("Busca de todos os jogos do catálogo")
+@StackTrace(false) // A origem é sempre a mesma: dispensar a pilha reduz o custo de cada evento.
+public class GameScanEvent extends Event {
+
+	@Label("Rows")
+	public int rows; // Quantidade de jogos retornados.
+
+	@Label("Bytes")
+	@Description("Tamanho estimado dos jogos retornados")
+	@DataAmount // Exibido como quantidade de dados nas ferramentas de análise.
+	public long bytes; // Soma dos textos (um byte por caractere) e dos campos numéricos.
+
+	/**
+	 * Estima o tamanho de um jogo retornado: os textos são contados com um byte por caractere,
+	 * o que corresponde ao UTF-8 dos títulos e URLs em ASCII, e os campos numéricos pelo seu tamanho binário.
+	 *
+	 * @param title O título do jogo.
+	 * @param imgUrl A URL da imagem do jogo.
+	 * @param shortDescription A descrição curta do jogo.
+	 * @return O tamanho estimado, em bytes.
+	 */
+	public static long estimate(String title, String imgUrl, String shortDescription) {
+		return Long.BYTES + Integer.BYTES + length(title) + length(imgUrl) + length(shortDescription);
+	}
+
+	private static int length(String value) {
+		return value == null ? 0 : value.length();
+	}
+}
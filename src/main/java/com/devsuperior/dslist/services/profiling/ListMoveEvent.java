@@ -0,0 +1,38 @@
+/**
+ * Evento do Java Flight Recorder emitido a cada movimentação de um jogo em uma lista.
+ * A duração do evento cobre a admissão, a transação e a confirmação da escrita.
+ * Como todo evento JFR, pode ser habilitado, desabilitado ou filtrado por duração nas configurações
+ * da gravação (ex.: `dslist.ListMove#threshold=10 ms`); sem gravação ativa, o custo é desprezível.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("dslist.ListMove") // Nome usado nas configurações da gravação e na leitura dos eventos.
+@Label("List Move")
+@Category({ "DSList", "Lists" })
+@Description("Movimentação de um jogo dentro de uma lista")
+@StackTrace(false) // A origem é sempre a mesma: dispensar a pilha reduz o custo de cada evento.
+public class ListMoveEvent extends Event {
+
+	@Label("List Id")
+	public long listId; // ID da lista alterada.
+
+	@Label("Source Index")
+	public int sourceIndex; // Índice de origem do jogo.
+
+	@Label("Destination Index")
+	public int destinationIndex; // Índice de destino do jogo.
+
+	@Label("Rows Touched")
+	@Description("Linhas gravadas pela movimentação")
+	public int rows; // Posições atualizadas, ou a diferença gravada em uma cópia de lista.
+}
@@ -0,0 +1,30 @@
+/**
+ * Evento do Java Flight Recorder emitido a cada busca dos jogos de uma lista.
+ * A duração do evento é a percebida pelo chamador, incluindo a espera por uma consulta
+ * idêntica em andamento e a fila do controle de admissão.
+ *
+ * @author lacerdagb (mantido como autor original, conforme instrução)
+ * @version 1.0.0
+ */
+package com.devsuperior.dslist.services.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("dslist.ListRead") // Nome usado nas configurações da gravação e na leitura dos eventos.
+@Label("List Read")
+@Category({ "DSList", "Lists" })
+@Description("Busca dos jogos de uma lista")
+@StackTrace(false) // A origem é sempre a mesma: dispensar a pilha reduz o custo de cada evento.
+public class ListReadEvent extends Event {
+
+	@Label("List Id")
+	public long listId; // ID da lista lida.
+
+	@Label("Rows")
+	public int rows; // Quantidade de jogos retornados.
+}
@@ -0,0 +1,136 @@
+package com.devsuperior.dslist.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dslist.services.GameListService;
+import com.devsuperior.dslist.services.GameService;
+import com.devsuperior.dslist.services.VersionService;
+import com.devsuperior.dslist.services.invalidation.Invalidation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:routing",
+		"dslist.datasource.replica.url=jdbc:h2:mem:routing_replica",
+		"dslist.datasource.replica.stand-in=true",
+		// Intervalos longos: as cópias e as medições são disparadas pelo próprio teste.
+		"dslist.datasource.replica.heartbeat-interval=3600000",
+		"dslist.datasource.replica.stand-in-interval=3600000",
+		"dslist.datasource.replica.max-lag=60000"
+})
+class ReadWriteRoutingDataSourceTests {
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	@Qualifier("replicaDataSource")
+	private DataSource replicaDataSource;
+
+	@Autowired
+	private ReplicaLagMonitor monitor;
+
+	@Autowired
+	private StandInReplicaSynchronizer synchronizer;
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private GameListService gameListService;
+
+	@Autowired
+	private VersionService versionService;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@BeforeEach
+	void catchUp() {
+		// Um batimento posterior às escritas, replicado e lido de volta, libera a réplica.
+		monitor.check();
+		synchronizer.synchronize();
+		monitor.check();
+	}
+
+	@Test
+	void readOnlyTransactionsShouldUseReplicaAndWritesPrimary() {
+		assertThat(database(true)).isEqualTo("ROUTING_REPLICA");
+		assertThat(database(false)).isEqualTo("ROUTING");
+		assertThat(gameService.findByGameList(1L, "id")).hasSize(5);
+
+		assertThat(meterRegistry.get("dslist.datasource.routed").tag("pool", "replica").counter().count()).isPositive();
+		assertThat(meterRegistry.get("hikaricp.connections.active").tag("pool", "replica").gauge()).isNotNull();
+		assertThat(meterRegistry.get("hikaricp.connections.active").tag("pool", "primary").gauge()).isNotNull();
+	}
+
+	@Test
+	void readsShouldFallBackToPrimaryAfterWriteUntilReplicaCatchesUp() {
+		gameListService.move(2L, 0, 1);
+		try {
+			// A réplica ainda não contém a movimentação.
+			assertThat(database(true)).isEqualTo("ROUTING");
+			catchUp();
+			assertThat(database(true)).isEqualTo("ROUTING_REPLICA");
+		}
+		finally {
+			gameListService.move(2L, 1, 0);
+		}
+	}
+
+	@Test
+	void readsShouldFallBackToPrimaryAfterRemoteInvalidationUntilReplicaCatchesUp() {
+		monitor.onInvalidation(new Invalidation(Invalidation.Kind.LIST, 2L, true));
+		// Uma escrita de outra instância ainda pode não estar na réplica.
+		assertThat(database(true)).isEqualTo("ROUTING");
+		catchUp();
+		assertThat(database(true)).isEqualTo("ROUTING_REPLICA");
+	}
+
+	@Test
+	void primaryReadsShouldUsePrimaryWithoutDivertingOtherReads() {
+		assertThat(ReadWriteRoutingDataSource.readFromPrimary(() -> database(true))).isEqualTo("ROUTING");
+		assertThat(database(true)).isEqualTo("ROUTING_REPLICA");
+	}
+
+	@Test
+	void versionsShouldBeReadFromPrimary() {
+		// A réplica passa a conter uma versão que o primário não tem.
+		new JdbcTemplate(replicaDataSource).update("MERGE INTO tb_version (id, version_number, modified_at) KEY (id) VALUES ('l2', 999, 0)");
+		versionService.onInvalidation(Invalidation.list(2L));
+
+		assertThat(versionService.listETag(2L)).doesNotContain("-999");
+	}
+
+	@Test
+	void readsShouldFallBackToPrimaryWhenReplicaLags() {
+		double fallbacks = meterRegistry.get("dslist.datasource.routed").tag("pool", "primary").tag("readOnly", "true").counter().count();
+		new JdbcTemplate(replicaDataSource).update("UPDATE tb_replica_heartbeat SET beat = beat - 120000");
+		monitor.check();
+
+		assertThat(monitor.lag()).isGreaterThan(60000);
+		assertThat(database(true)).isEqualTo("ROUTING");
+		assertThat(meterRegistry.get("dslist.datasource.routed").tag("pool", "primary").tag("readOnly", "true").counter().count())
+				.isGreaterThan(fallbacks);
+	}
+
+	private String database(boolean readOnly) {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.setReadOnly(readOnly);
+		return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+	}
+}
@@ -0,0 +1,77 @@
+package com.devsuperior.dslist.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.devsuperior.dslist.dto.TraceSpanDTO;
+
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "management.tracing.sampling.probability=1.0")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(metrics = false)
+class TracingConfigTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private RecentSpanExporter recentSpanExporter;
+
+	@Autowired
+	private SdkTracerProvider tracerProvider;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void listGamesShouldBeTracedAcrossControllerTransactionSqlAndSerialization() throws Exception {
+		// Garante que a leitura chegue ao banco de dados.
+		entityManagerFactory.getCache().evictAll();
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+
+		mockMvc.perform(get("/lists/1/games")).andExpect(status().isOk());
+		tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+
+		TraceSpanDTO root = recentSpanExporter.findRoots(100).stream()
+				.filter(span -> span.getName().contains("/lists/{listId}/games"))
+				.findFirst().orElseThrow();
+		List<TraceSpanDTO> trace = recentSpanExporter.findByTraceId(root.getTraceId());
+		Map<String, TraceSpanDTO> byId = trace.stream().collect(Collectors.toMap(TraceSpanDTO::getSpanId, Function.identity()));
+		// O nome dos spans é convertido para minúsculas separadas por hífen.
+		assertThat(trace).extracting(TraceSpanDTO::getName)
+				.anyMatch(name -> name.startsWith("game-list-controller."))
+				.anyMatch(name -> name.startsWith("tx "))
+				.contains("connection", "query", "serialize json");
+
+		// Todos os spans pertencem à mesma árvore, e a serialização ocorre depois do método do controlador.
+		assertThat(trace).allMatch(span -> span.getSpanId().equals(root.getSpanId()) || byId.containsKey(span.getParentSpanId()));
+		TraceSpanDTO serialization = trace.stream().filter(span -> span.getName().equals("serialize json")).findFirst().orElseThrow();
+		assertThat(byId.get(serialization.getParentSpanId()).getName()).doesNotStartWith("game-list-controller.");
+		TraceSpanDTO query = trace.stream().filter(span -> span.getName().equals("query")).findFirst().orElseThrow();
+		// O comando é executado na conexão, obtida dentro da transação.
+		TraceSpanDTO connection = byId.get(query.getParentSpanId());
+		assertThat(connection.getName()).isEqualTo("connection");
+		assertThat(byId.get(connection.getParentSpanId()).getName()).startsWith("tx ");
+
+		// Os comandos periódicos feitos fora das requisições não geram rastreamentos próprios.
+		assertThat(recentSpanExporter.findRoots(4096)).extracting(TraceSpanDTO::getName)
+				.noneMatch(name -> name.equals("query") || name.equals("connection") || name.startsWith("tx "));
+	}
+}
@@ -0,0 +1,123 @@
+package com.devsuperior.dslist.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.devsuperior.dslist.dto.GameDTO;
+import com.devsuperior.dslist.dto.GameMinDTO;
+import com.devsuperior.dslist.dto.GameMinStream;
+import com.devsuperior.dslist.services.GameService;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compara JSON, CBOR e Smile nos conversores que servem as respostas: o tamanho, o tempo de escrita no servidor
+ * e o custo de leitura no cliente, para a listagem de jogos ({@link GameMinStream}) e para um jogo completo ({@link GameDTO}).
+ * Fica fora da suíte de testes, por depender da máquina; execute com mvn -Pbenchmark test.
+ */
+@SpringBootTest
+class WireFormatBenchmark {
+
+	private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+	private static final int WARMUP = 2_000;
+	private static final int ITERATIONS = 2_000;
+
+	@Autowired
+	private HttpMessageConverter<GameMinStream> streamConverter;
+
+	@Autowired
+	private MappingJackson2HttpMessageConverter jsonConverter;
+
+	@Autowired
+	private MappingJackson2CborHttpMessageConverter cborConverter;
+
+	@Autowired
+	private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+	@Autowired
+	private GameService gameService;
+
+	@Test
+	void binaryFormatsShouldBeSmallerThanJson() throws Exception {
+		GameMinStream page = gameService.streamAll();
+		GameDTO game = gameService.findById(1L);
+
+		System.out.printf("%-6s %12s %12s %12s %12s %12s %12s%n", "",
+				"lista bytes", "escrita us", "leitura us", "jogo bytes", "escrita us", "leitura us");
+		int json = measure("json", MediaType.APPLICATION_JSON, jsonConverter, page, game);
+		int cbor = measure("cbor", MediaType.APPLICATION_CBOR, cborConverter, page, game);
+		int smile = measure("smile", SMILE, smileConverter, page, game);
+
+		assertThat(cbor).isLessThan(json);
+		assertThat(smile).isLessThan(json);
+	}
+
+	/**
+	 * Mede um formato: a listagem escrita pelo conversor de {@link GameMinStream} e o jogo escrito pelo conversor Jackson,
+	 * lidos de volta com o ObjectMapper do mesmo formato, como faria um cliente. Retorna o tamanho da listagem.
+	 */
+	private int measure(String name, MediaType type, AbstractJackson2HttpMessageConverter dtoConverter, GameMinStream page, GameDTO game)
+			throws Exception {
+		ObjectMapper mapper = dtoConverter.getObjectMapper();
+		JavaType pageType = mapper.getTypeFactory().constructCollectionType(List.class, GameMinDTO.class);
+		byte[] encodedPage = writePage(page, type);
+		byte[] encodedGame = writeGame(dtoConverter, game, type);
+		assertThat(mapper.<List<GameMinDTO>>readValue(encodedPage, pageType)).isNotEmpty();
+		assertThat(mapper.readValue(encodedGame, GameDTO.class)).usingRecursiveComparison().isEqualTo(game);
+
+		// Aquecimento, para que o JIT compile os caminhos de escrita e leitura antes da medição.
+		for (int i = 0; i < WARMUP; i++) {
+			writePage(page, type);
+			mapper.readValue(encodedPage, pageType);
+			writeGame(dtoConverter, game, type);
+			mapper.readValue(encodedGame, GameDTO.class);
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			writePage(page, type);
+		}
+		long encodePage = (System.nanoTime() - start) / ITERATIONS;
+		start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			mapper.readValue(encodedPage, pageType);
+		}
+		long decodePage = (System.nanoTime() - start) / ITERATIONS;
+		start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			writeGame(dtoConverter, game, type);
+		}
+		long encodeGame = (System.nanoTime() - start) / ITERATIONS;
+		start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			mapper.readValue(encodedGame, GameDTO.class);
+		}
+		long decodeGame = (System.nanoTime() - start) / ITERATIONS;
+		System.out.printf("%-6s %12d %12.1f %12.1f %12d %12.1f %12.1f%n", name, encodedPage.length, encodePage / 1e3,
+				decodePage / 1e3, encodedGame.length, encodeGame / 1e3, decodeGame / 1e3);
+		return encodedPage.length;
+	}
+
+	private byte[] writePage(GameMinStream page, MediaType type) throws Exception {
+		MockHttpOutputMessage message = new MockHttpOutputMessage();
+		streamConverter.write(page, type, message);
+		return message.getBodyAsBytes();
+	}
+
+	private static byte[] writeGame(AbstractJackson2HttpMessageConverter converter, GameDTO game, MediaType type) throws Exception {
+		MockHttpOutputMessage message = new MockHttpOutputMessage();
+		converter.write(game, type, message);
+		return message.getBodyAsBytes();
+	}
+}
@@ -0,0 +1,99 @@
+package com.devsuperior.dslist.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.devsuperior.dslist.dto.GameMinDTO;
+import com.devsuperior.dslist.dto.GameMinStream;
+import com.devsuperior.dslist.services.GameService;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class WireFormatConfigTests {
+
+	private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+	@Autowired
+	private ObjectMapper jsonMapper;
+
+	@Autowired
+	private MappingJackson2CborHttpMessageConverter cborConverter;
+
+	@Autowired
+	private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+	@Autowired
+	private HttpMessageConverter<GameMinStream> streamConverter;
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void binaryFormatsShouldBeSmallerAndRoundTrip() throws Exception {
+		// O catálogo escrito pelo conversor que serve /games, como nas respostas da API.
+		JavaType pageType = jsonMapper.getTypeFactory().constructCollectionType(List.class, GameMinDTO.class);
+		byte[] json = write(MediaType.APPLICATION_JSON);
+		byte[] cbor = write(MediaType.APPLICATION_CBOR);
+		byte[] smile = write(SMILE);
+
+		List<GameMinDTO> page = jsonMapper.readValue(json, pageType);
+		assertThat(page).hasSizeGreaterThan(5);
+		assertThat(cborConverter.getObjectMapper().<List<GameMinDTO>>readValue(cbor, pageType))
+				.usingRecursiveFieldByFieldElementComparator().isEqualTo(page);
+		assertThat(smileConverter.getObjectMapper().<List<GameMinDTO>>readValue(smile, pageType))
+				.usingRecursiveFieldByFieldElementComparator().isEqualTo(page);
+
+		assertThat(cbor.length).isLessThan(json.length);
+		assertThat(smile.length).isLessThan(json.length);
+	}
+
+	@Test
+	void eTagFormatShouldFollowNegotiatedContentType() throws Exception {
+		// A qualidade pesa mais que a ordem e que a especificidade; no empate, vale a ordem do Accept.
+		Map<String, String> cases = Map.of(
+				"application/json;q=0.5, application/cbor", "cbor",
+				"application/cbor;q=0.2, application/x-jackson-smile;q=0.8", "smile",
+				"application/x-jackson-smile, application/cbor", "smile",
+				"application/cbor;q=0.5, */*", "json",
+				"*/*;q=0.1, application/cbor;q=0.4", "cbor");
+		for (Map.Entry<String, String> entry : cases.entrySet()) {
+			MvcResult result = mockMvc.perform(get("/lists/1/games").header("Accept", entry.getKey()))
+					.andExpect(status().isOk())
+					.andReturn();
+			MediaType negotiated = MediaType.parseMediaType(result.getResponse().getContentType());
+			assertThat(format(negotiated)).as(entry.getKey()).isEqualTo(entry.getValue());
+			assertThat(result.getResponse().getHeader("ETag")).as(entry.getKey()).endsWith("-" + entry.getValue() + "\"");
+		}
+	}
+
+	private byte[] write(MediaType type) throws Exception {
+		MockHttpOutputMessage message = new MockHttpOutputMessage();
+		streamConverter.write(gameService.streamAll(), type, message);
+		return message.getBodyAsBytes();
+	}
+
+	private static String format(MediaType type) {
+		return MediaType.APPLICATION_CBOR.includes(type) ? "cbor" : SMILE.includes(type) ? "smile" : "json";
+	}
+}
@@ -0,0 +1,183 @@
+package com.devsuperior.dslist.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.devsuperior.dslist.dto.GameDTO;
+import com.devsuperior.dslist.dto.GameMinDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {
+		// Chaves de API com limite próprio, para que os testes não disputem o balde do IP local.
+		"dslist.rate-limit.api-keys=rate-limited,another-client,binary,fork",
+		// As escritas da cópia passam da rajada padrão de escritas.
+		"dslist.rate-limit.writes.capacity=200" })
+@AutoConfigureMockMvc
+class GameControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void findAllShouldReturnOnlyRequestedFields() throws Exception {
+		mockMvc.perform(get("/games").param("fields", "id,title"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].id").value(1))
+				.andExpect(jsonPath("$[0].title").value("Mass Effect Trilogy"))
+				.andExpect(jsonPath("$[0].*", hasSize(2)));
+	}
+
+	@Test
+	void findByIdShouldReadLongDescriptionOnlyWhenRequested() throws Exception {
+		mockMvc.perform(get("/games/1").param("fields", "longDescription"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.*", hasSize(1)))
+				.andExpect(jsonPath("$.longDescription").isString());
+	}
+
+	@Test
+	void findGamesShouldRejectFieldsOutsideGameMinDTO() throws Exception {
+		mockMvc.perform(get("/lists/1/games").param("fields", "id,longDescription"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.status").value(400));
+	}
+
+	@Test
+	void bulkInsertShouldUpsertNdjsonAndReportMalformedChunk() throws Exception {
+		String ndjson = """
+				{"id": 1000, "title": "Hollow Knight", "year": 2017, "score": 4.6}
+				{"title": "Celeste", "year": 2018}
+				{"title": "Hades", "year": 2020}
+				""";
+		try {
+			mockMvc.perform(post("/games/bulk").contentType(MediaType.APPLICATION_NDJSON).content(ndjson))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.received").value(3))
+					.andExpect(jsonPath("$.saved").value(3))
+					.andExpect(jsonPath("$.aborted").value(false));
+			mockMvc.perform(get("/games/1000"))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.title").value("Hollow Knight"));
+			// Os jogos sem ID recebem IDs posteriores ao maior ID explícito.
+			mockMvc.perform(get("/games").param("fields", "id,title"))
+					.andExpect(jsonPath("$[?(@.title == 'Hades')].id").value(org.hamcrest.Matchers.contains(1002)));
+			// Um jogo novo com ID abaixo da sequência poderia colidir com um bloco já reservado e é recusado;
+			// um jogo existente continua podendo ser atualizado pelo ID.
+			mockMvc.perform(post("/games/bulk").contentType(MediaType.APPLICATION_NDJSON).content("{\"id\": 999, \"title\": \"Inside\"}"))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.saved").value(0))
+					.andExpect(jsonPath("$.failures[0].records").value(1))
+					.andExpect(jsonPath("$.failures[0].message").value(org.hamcrest.Matchers.startsWith("IDs reservados pela sequência de jogos")));
+			mockMvc.perform(post("/games/bulk").contentType(MediaType.APPLICATION_NDJSON).content("{\"id\": 1000, \"title\": \"Hollow Knight\", \"year\": 2017}"))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.saved").value(1));
+
+			mockMvc.perform(post("/games/bulk").contentType(MediaType.APPLICATION_JSON).content("[{\"title\": \"Ok\"}, {\"title\": "))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.saved").value(0))
+					.andExpect(jsonPath("$.aborted").value(true))
+					.andExpect(jsonPath("$.failures[0].records").value(1))
+					// O cliente recebe a posição do erro, e não a mensagem interna do leitor JSON.
+					.andExpect(jsonPath("$.failures[0].message").value(org.hamcrest.Matchers.startsWith("Corpo malformado no registro 1")));
+		}
+		finally {
+			jdbcTemplate.update("DELETE FROM tb_game WHERE id > 10");
+		}
+	}
+
+	@Test
+	void findAllShouldBeRateLimitedPerClient() throws Exception {
+		// A rajada padrão de varreduras completas é de 20 requisições por cliente, recarregadas a 5 por segundo.
+		int admitted = 0;
+		MvcResult result;
+		do {
+			result = mockMvc.perform(get("/games").header("X-API-Key", "rate-limited")).andReturn();
+		} while (result.getResponse().getStatus() == 200 && ++admitted < 100);
+		assertThat(admitted).isBetween(20, 40);
+		assertThat(result.getResponse().getStatus()).isEqualTo(429);
+		assertThat(result.getResponse().getHeader("Retry-After")).isEqualTo("1");
+		assertThat(result.getResponse().getContentAsString()).contains("\"status\":429");
+
+		// As demais classes de endpoint e os demais clientes têm limites próprios.
+		mockMvc.perform(get("/games/1").header("X-API-Key", "rate-limited"))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/games").header("X-API-Key", "another-client"))
+				.andExpect(status().isOk());
+
+		// Uma chave desconhecida usa o balde do IP: trocar de chave a cada requisição não cria baldes novos.
+		double clients = meterRegistry.get("dslist.ratelimit.clients").tag("class", "reads").gauge().value();
+		for (int i = 0; i < 5; i++) {
+			mockMvc.perform(get("/games/1").header("X-API-Key", "unknown-" + i))
+					.andExpect(status().isOk());
+		}
+		assertThat(meterRegistry.get("dslist.ratelimit.clients").tag("class", "reads").gauge().value()).isLessThanOrEqualTo(clients + 1);
+	}
+
+	@Test
+	void readsShouldNegotiateBinaryFormats() throws Exception {
+		MvcResult cbor = mockMvc.perform(get("/games/1").header("X-API-Key", "binary").accept("application/cbor"))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Type", "application/cbor"))
+				.andExpect(header().stringValues("Vary", hasItem("Accept")))
+				.andReturn();
+		GameDTO game = new CBORMapper().readValue(cbor.getResponse().getContentAsByteArray(), GameDTO.class);
+		assertThat(game.getTitle()).isEqualTo("Mass Effect Trilogy");
+		assertThat(game.getLongDescription()).isNotBlank();
+
+		MvcResult smile = mockMvc.perform(get("/lists/1/games").header("X-API-Key", "binary").accept("application/x-jackson-smile"))
+				.andExpect(status().isOk())
+				.andReturn();
+		List<GameMinDTO> games = new SmileMapper().readValue(smile.getResponse().getContentAsByteArray(), new TypeReference<List<GameMinDTO>>() {});
+		assertThat(games).hasSize(5);
+
+		// Os mapas do parâmetro `fields` usam o mesmo modelo de campos.
+		MvcResult fields = mockMvc.perform(get("/games").param("fields", "id,title").header("X-API-Key", "binary").accept("application/cbor"))
+				.andExpect(status().isOk())
+				.andReturn();
+		List<Map<String, Object>> rows = new CBORMapper().readValue(fields.getResponse().getContentAsByteArray(), new TypeReference<List<Map<String, Object>>>() {});
+		assertThat(rows.get(0)).containsOnlyKeys("id", "title");
+
+		// As listas também variam pelo Accept, e a ETag de um formato não revalida a cópia de outro.
+		mockMvc.perform(get("/lists").header("X-API-Key", "binary").accept("application/cbor"))
+				.andExpect(status().isOk())
+				.andExpect(header().stringValues("Vary", hasItem("Accept")));
+		String json = mockMvc.perform(get("/lists/1").param("expand", "games").header("X-API-Key", "binary"))
+				.andExpect(header().stringValues("Vary", hasItem("Accept")))
+				.andReturn().getResponse().getHeader("ETag");
+		String binary = mockMvc.perform(get("/lists/1").param("expand", "games").header("X-API-Key", "binary").accept("application/cbor"))
+				.andReturn().getResponse().getHeader("ETag");
+		assertThat(binary).isNotEqualTo(json);
+		mockMvc.perform(get("/lists/1").param("expand", "games").header("X-API-Key", "binary").accept("application/cbor").header("If-None-Match", json))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/lists/1").param("expand", "games").header("X-API-Key", "binary").accept("application/cbor").header("If-None-Match", binary))
+				.andExpect(status().isNotModified());
+	}
+}
@@ -0,0 +1,148 @@
+package com.devsuperior.dslist.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class GameImageControllerTests {
+
+	private static final int IMAGE_SIZE = 256 * 1024;
+
+	@TempDir
+	static Path images;
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		registry.add("dslist.images.dir", images::toString);
+	}
+
+	@LocalServerPort
+	private int port;
+
+	private final HttpClient client = HttpClient.newHttpClient();
+
+	@AfterEach
+	void deleteImage() throws Exception {
+		client.send(request("/games/2/image").DELETE().build(), HttpResponse.BodyHandlers.discarding());
+	}
+
+	@Test
+	void uploadedImageShouldBeServedWithValidatorsAndRanges() throws Exception {
+		byte[] image = image();
+		HttpResponse<Void> created = upload(image);
+		assertThat(created.statusCode()).isEqualTo(201);
+		String location = created.headers().firstValue("Location").orElseThrow();
+		String etag = created.headers().firstValue("ETag").orElseThrow();
+
+		// A URL versionada é imutável; a resposta pode ficar em cache indefinidamente.
+		HttpResponse<byte[]> full = client.send(request(location).build(), HttpResponse.BodyHandlers.ofByteArray());
+		assertThat(full.statusCode()).isEqualTo(200);
+		assertThat(full.body()).isEqualTo(image);
+		assertThat(full.headers().firstValue("ETag")).contains(etag);
+		assertThat(full.headers().firstValue("Cache-Control")).hasValueSatisfying(value -> assertThat(value).contains("immutable"));
+		assertThat(full.headers().firstValue("Content-Type")).contains("image/png");
+		assertThat(full.headers().firstValue("X-Content-Type-Options")).contains("nosniff");
+
+		HttpResponse<byte[]> notModified = client.send(request("/games/2/image").header("If-None-Match", etag).build(),
+				HttpResponse.BodyHandlers.ofByteArray());
+		assertThat(notModified.statusCode()).isEqualTo(304);
+		assertThat(notModified.headers().firstValue("Cache-Control")).contains("public, no-cache");
+
+		HttpResponse<byte[]> partial = client.send(request("/games/2/image").header("Range", "bytes=100-1099").build(),
+				HttpResponse.BodyHandlers.ofByteArray());
+		assertThat(partial.statusCode()).isEqualTo(206);
+		assertThat(partial.headers().firstValue("Content-Range")).contains("bytes 100-1099/" + IMAGE_SIZE);
+		assertThat(partial.body()).isEqualTo(Arrays.copyOfRange(image, 100, 1100));
+
+		HttpResponse<byte[]> suffix = client.send(request("/games/2/image").header("Range", "bytes=-10").build(),
+				HttpResponse.BodyHandlers.ofByteArray());
+		assertThat(suffix.body()).isEqualTo(Arrays.copyOfRange(image, IMAGE_SIZE - 10, IMAGE_SIZE));
+
+		// Um If-Range desatualizado faz o intervalo ser ignorado.
+		HttpResponse<byte[]> stale = client.send(request("/games/2/image").header("Range", "bytes=0-9").header("If-Range", "\"outra\"").build(),
+				HttpResponse.BodyHandlers.ofByteArray());
+		assertThat(stale.statusCode()).isEqualTo(200);
+		assertThat(stale.body()).hasSize(IMAGE_SIZE);
+
+		HttpResponse<byte[]> unsatisfiable = client.send(request("/games/2/image").header("Range", "bytes=" + IMAGE_SIZE + "-").build(),
+				HttpResponse.BodyHandlers.ofByteArray());
+		assertThat(unsatisfiable.statusCode()).isEqualTo(416);
+		assertThat(unsatisfiable.headers().firstValue("Content-Range")).contains("bytes */" + IMAGE_SIZE);
+	}
+
+	@Test
+	void gameShouldPointToLocalImageUntilItIsDeleted() throws Exception {
+		String location = upload(image()).headers().firstValue("Location").orElseThrow();
+
+		assertThat(get("/games/2").body()).contains("\"imgUrl\":\"" + location + "\"");
+		assertThat(get("/games?fields=title,imgUrl").body()).contains("\"imgUrl\":\"" + location + "\"").doesNotContain("\"id\"");
+		assertThat(get("/lists/1/games").body()).contains("\"imgUrl\":\"" + location + "\"");
+
+		HttpResponse<Void> deleted = client.send(request("/games/2/image").DELETE().build(), HttpResponse.BodyHandlers.discarding());
+		assertThat(deleted.statusCode()).isEqualTo(204);
+		assertThat(get("/games/2").body()).doesNotContain("/games/2/image");
+		assertThat(get(location).statusCode()).isEqualTo(404);
+	}
+
+	@Test
+	void replacedImageShouldBeKeptDuringGracePeriod() throws Exception {
+		byte[] first = image();
+		byte[] second = image();
+		second[0]++;
+		String etag = upload(first).headers().firstValue("ETag").orElseThrow();
+		upload(second);
+
+		// Uma leitura que consultou o índice antes da substituição ainda encontra o arquivo anterior.
+		Path previous = images.resolve("2-" + etag.replace("\"", "") + ".img");
+		assertThat(previous).exists();
+		assertThat(Files.readAllBytes(previous)).isEqualTo(first);
+		assertThat(client.send(request("/games/2/image").build(), HttpResponse.BodyHandlers.ofByteArray()).body()).isEqualTo(second);
+	}
+
+	@Test
+	void uploadShouldRejectNonImageContent() throws Exception {
+		HttpResponse<Void> response = client.send(request("/games/2/image").header("Content-Type", "text/plain")
+				.PUT(HttpRequest.BodyPublishers.ofString("texto")).build(), HttpResponse.BodyHandlers.discarding());
+		assertThat(response.statusCode()).isEqualTo(400);
+		// Uma imagem SVG pode conter scripts e também é recusada.
+		HttpResponse<Void> svg = client.send(request("/games/2/image").header("Content-Type", "image/svg+xml")
+				.PUT(HttpRequest.BodyPublishers.ofString("<svg xmlns=\"http://www.w3.org/2000/svg\"><script>alert(1)</script></svg>")).build(),
+				HttpResponse.BodyHandlers.discarding());
+		assertThat(svg.statusCode()).isEqualTo(400);
+	}
+
+	private HttpResponse<Void> upload(byte[] image) throws Exception {
+		return client.send(request("/games/2/image").header("Content-Type", "image/png")
+				.PUT(HttpRequest.BodyPublishers.ofByteArray(image)).build(), HttpResponse.BodyHandlers.discarding());
+	}
+
+	private HttpResponse<String> get(String path) throws Exception {
+		return client.send(request(path).build(), HttpResponse.BodyHandlers.ofString());
+	}
+
+	private HttpRequest.Builder request(String path) {
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+	}
+
+	private static byte[] image() {
+		byte[] image = new byte[IMAGE_SIZE];
+		new Random(42).nextBytes(image);
+		return image;
+	}
+}
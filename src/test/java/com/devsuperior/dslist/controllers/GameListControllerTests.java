@@ -0,0 +1,379 @@
+package com.devsuperior.dslist.controllers;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jayway.jsonpath.JsonPath;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = {
+		// Chaves de API com limite próprio, para que os testes não disputem o balde do IP local.
+		"dslist.rate-limit.api-keys=rate-limited,another-client,binary,fork",
+		// As escritas da cópia passam da rajada padrão de escritas.
+		"dslist.rate-limit.writes.capacity=200" })
+@AutoConfigureMockMvc
+class GameListControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void findGamesShouldReturnNotModifiedUntilListIsReordered() throws Exception {
+		String etag = mockMvc.perform(get("/lists/2/games"))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/lists/2/games").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+
+		mockMvc.perform(post("/lists/2/replacement").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"sourceIndex\": 0, \"destinationIndex\": 1}"))
+				.andExpect(status().isOk());
+		String lastModified;
+		try {
+			mockMvc.perform(get("/lists/2/games").header(HttpHeaders.IF_NONE_MATCH, etag))
+					.andExpect(status().isOk());
+			lastModified = mockMvc.perform(get("/lists/2/games")).andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+		}
+		finally {
+			mockMvc.perform(post("/lists/2/replacement").contentType(MediaType.APPLICATION_JSON)
+					.content("{\"sourceIndex\": 1, \"destinationIndex\": 0}"));
+		}
+		// A segunda movimentação, em geral no mesmo segundo, ainda produz um Last-Modified posterior.
+		mockMvc.perform(get("/lists/2/games").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void findChangesShouldReturnMovesAfterSequence() throws Exception {
+		String changes = mockMvc.perform(get("/lists/1/changes")).andReturn().getResponse().getContentAsString();
+		List<Integer> sequences = JsonPath.read(changes, "$[*].sequence");
+		long since = sequences.isEmpty() ? 0 : sequences.get(sequences.size() - 1);
+
+		mockMvc.perform(post("/lists/1/replacement").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"sourceIndex\": 3, \"destinationIndex\": 0}"));
+		mockMvc.perform(post("/lists/1/replacement").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"sourceIndex\": 0, \"destinationIndex\": 3}"));
+
+		mockMvc.perform(get("/lists/1/changes").param("since", String.valueOf(since)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$", hasSize(2)))
+				.andExpect(jsonPath("$[0].gameId").value(4))
+				.andExpect(jsonPath("$[0].from").value(3))
+				.andExpect(jsonPath("$[0].to").value(0))
+				.andExpect(jsonPath("$[1].gameId").value(4))
+				.andExpect(jsonPath("$[1].from").value(0));
+	}
+
+	@Test
+	void insertAndRemoveShouldKeepPositionsDense() throws Exception {
+		// Coloca a lista expandida no cache de consultas, que deve ser invalidado pelos agregados alterados.
+		mockMvc.perform(get("/lists/1").param("expand", "games")).andExpect(status().isOk());
+		List<Integer> sequences = JsonPath.read(mockMvc.perform(get("/lists/1/changes")).andReturn().getResponse().getContentAsString(), "$[*].sequence");
+		long since = sequences.isEmpty() ? 0 : sequences.get(sequences.size() - 1);
+		try {
+			mockMvc.perform(post("/lists/1/insertion").contentType(MediaType.APPLICATION_JSON)
+					.content("{\"gameIds\": [6, 7, 8], \"index\": 2}"))
+					.andExpect(status().isOk());
+			// As três inclusões são registradas juntas, em ordem de aplicação.
+			mockMvc.perform(get("/lists/1/changes").param("since", String.valueOf(since)))
+					.andExpect(jsonPath("$[*].gameId").value(contains(6, 7, 8)))
+					.andExpect(jsonPath("$[*].to").value(contains(2, 3, 4)));
+			assertThat(gameIds(1)).containsExactly(1L, 2L, 6L, 7L, 8L, 3L, 4L, 5L);
+			assertDense(1);
+			assertAggregates(1);
+			mockMvc.perform(get("/lists/1/games"))
+					.andExpect(jsonPath("$", hasSize(8)))
+					.andExpect(jsonPath("$[2].id").value(6));
+
+			mockMvc.perform(post("/lists/1/removal").contentType(MediaType.APPLICATION_JSON)
+					.content("{\"gameIds\": [7, 1, 5]}"))
+					.andExpect(status().isOk());
+			assertThat(gameIds(1)).containsExactly(2L, 6L, 8L, 3L, 4L);
+			assertDense(1);
+			assertAggregates(1);
+
+			mockMvc.perform(post("/lists/1/insertion").contentType(MediaType.APPLICATION_JSON)
+					.content("{\"gameIds\": [9]}"))
+					.andExpect(status().isOk());
+			assertThat(gameIds(1)).containsExactly(2L, 6L, 8L, 3L, 4L, 9L);
+			assertDense(1);
+			assertAggregates(1);
+
+			mockMvc.perform(post("/lists/1/insertion").contentType(MediaType.APPLICATION_JSON)
+					.content("{\"gameIds\": [2], \"index\": 0}"))
+					.andExpect(status().isBadRequest());
+			mockMvc.perform(post("/lists/1/insertion").contentType(MediaType.APPLICATION_JSON)
+					.content("{\"gameIds\": [1], \"index\": 7}"))
+					.andExpect(status().isBadRequest());
+		}
+		finally {
+			// Restaura a lista original.
+			mockMvc.perform(post("/lists/1/removal").contentType(MediaType.APPLICATION_JSON)
+					.content("{\"gameIds\": [6, 8, 9]}"));
+			mockMvc.perform(post("/lists/1/insertion").contentType(MediaType.APPLICATION_JSON)
+					.content("{\"gameIds\": [1], \"index\": 0}"));
+			mockMvc.perform(post("/lists/1/insertion").contentType(MediaType.APPLICATION_JSON)
+					.content("{\"gameIds\": [5]}"));
+		}
+		assertThat(gameIds(1)).containsExactly(1L, 2L, 3L, 4L, 5L);
+		assertDense(1);
+		assertAggregates(1);
+	}
+
+	private List<Long> gameIds(long listId) {
+		return jdbcTemplate.queryForList("SELECT game_id FROM tb_belonging WHERE list_id = ? ORDER BY position", Long.class, listId);
+	}
+
+	/**
+	 * Compara os agregados mantidos incrementalmente, expostos em `GET /lists` e `GET /lists/{id}?expand=games`,
+	 * com os recalculados a partir dos jogos.
+	 */
+	private void assertAggregates(long listId) throws Exception {
+		Map<String, Object> expected = jdbcTemplate.queryForMap("""
+				SELECT COUNT(*) AS game_count, AVG(tb_game.score) AS average_score, MIN(tb_game.game_year) AS min_year,
+				MAX(tb_game.game_year) AS max_year
+				FROM tb_belonging INNER JOIN tb_game ON tb_game.id = tb_belonging.game_id
+				WHERE tb_belonging.list_id = ?
+				""", listId);
+		String lists = mockMvc.perform(get("/lists")).andReturn().getResponse().getContentAsString();
+		Map<String, Object> list = JsonPath.<List<Map<String, Object>>>read(lists, "$[?(@.id == " + listId + ")]").get(0);
+		assertThat(((Number) list.get("gameCount")).longValue()).isEqualTo(((Number) expected.get("GAME_COUNT")).longValue());
+		assertThat((Double) list.get("averageScore")).isCloseTo(((Number) expected.get("AVERAGE_SCORE")).doubleValue(), within(1e-9));
+		assertThat(list.get("minYear")).isEqualTo(expected.get("MIN_YEAR"));
+		assertThat(list.get("maxYear")).isEqualTo(expected.get("MAX_YEAR"));
+		String expanded = mockMvc.perform(get("/lists/" + listId).param("expand", "games")).andReturn().getResponse().getContentAsString();
+		assertThat(JsonPath.<Number>read(expanded, "$.gameCount").longValue()).isEqualTo(((Number) expected.get("GAME_COUNT")).longValue());
+		assertThat(JsonPath.<Object>read(expanded, "$.minYear")).isEqualTo(expected.get("MIN_YEAR"));
+	}
+
+	private void assertDense(long listId) {
+		List<Integer> positions = jdbcTemplate.queryForList("SELECT position FROM tb_belonging WHERE list_id = ? ORDER BY position", Integer.class, listId);
+		for (int i = 0; i < positions.size(); i++) {
+			assertThat(positions.get(i)).isEqualTo(i);
+		}
+	}
+
+	@Test
+	void listViewShouldStayConsistentAndBeRebuilt() throws Exception {
+		mockMvc.perform(get("/admin/list-views/check"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.consistent").value(true));
+
+		// Uma escrita fora da aplicação deixa a visão divergente até a reconstrução.
+		jdbcTemplate.update("UPDATE tb_list_view SET position = position + 100 WHERE list_id = 2 AND position = 0");
+		mockMvc.perform(get("/admin/list-views/check"))
+				.andExpect(jsonPath("$.inconsistentLists", hasSize(1)))
+				.andExpect(jsonPath("$.inconsistentLists[0]").value(2));
+
+		mockMvc.perform(post("/admin/list-views/rebuild"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.rows").value(10))
+				.andExpect(jsonPath("$.consistent").value(true));
+	}
+
+	@Test
+	void forkShouldStoreOnlyDeltasUntilMaterialized() throws Exception {
+		// Coloca as listas expandidas no cache de consultas antes de criar a cópia.
+		mockMvc.perform(get("/lists").param("expand", "games")).andExpect(status().isOk());
+		String created = mockMvc.perform(post("/lists/2/fork").header("X-API-Key", "fork").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"name\": \"Minha lista\"}"))
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.name").value("Minha lista"))
+				.andExpect(jsonPath("$.gameCount").value(5))
+				.andReturn().getResponse().getContentAsString();
+		long forkId = ((Number) JsonPath.read(created, "$.id")).longValue();
+		try {
+			assertThat(forkGames(forkId)).containsExactly(6L, 7L, 8L, 9L, 10L);
+			String all = mockMvc.perform(get("/lists").param("expand", "games")).andReturn().getResponse().getContentAsString();
+			assertThat(JsonPath.<List<Integer>>read(all, "$[?(@.id == " + forkId + ")].games[*].id")).containsExactly(6, 7, 8, 9, 10);
+			mockMvc.perform(get("/lists/" + forkId).param("expand", "games"))
+					.andExpect(jsonPath("$.gameCount").value(5));
+
+			mockMvc.perform(post("/lists/" + forkId + "/replacement").header("X-API-Key", "fork").contentType(MediaType.APPLICATION_JSON)
+					.content("{\"sourceIndex\": 0, \"destinationIndex\": 4}"))
+					.andExpect(status().isOk());
+			mockMvc.perform(post("/lists/" + forkId + "/removal").header("X-API-Key", "fork").contentType(MediaType.APPLICATION_JSON)
+					.content("{\"gameIds\": [8]}"))
+					.andExpect(status().isOk());
+			// Os agregados da cópia mudam sem alterar a visão materializada; a lista expandida em cache é invalidada.
+			mockMvc.perform(get("/lists/" + forkId).param("expand", "games"))
+					.andExpect(jsonPath("$.gameCount").value(4));
+			mockMvc.perform(post("/lists/" + forkId + "/insertion").header("X-API-Key", "fork").contentType(MediaType.APPLICATION_JSON)
+					.content("{\"gameIds\": [1], \"index\": 0}"))
+					.andExpect(status().isOk());
+			assertThat(forkGames(forkId)).containsExactly(1L, 7L, 9L, 10L, 6L);
+			assertThat(gameIds(2)).containsExactly(6L, 7L, 8L, 9L, 10L);
+			// A cópia não duplica os jogos da lista base: guarda somente as três diferenças.
+			assertThat(gameIds(forkId)).isEmpty();
+			assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_list_delta WHERE list_id = ?", Long.class, forkId)).isEqualTo(3);
+			String lists = mockMvc.perform(get("/lists")).andReturn().getResponse().getContentAsString();
+			assertThat(JsonPath.<List<Integer>>read(lists, "$[?(@.id == " + forkId + ")].gameCount")).containsExactly(5);
+			String expanded = mockMvc.perform(get("/lists/" + forkId).param("expand", "games"))
+					.andReturn().getResponse().getContentAsString();
+			assertThat(JsonPath.<List<Integer>>read(expanded, "$.games[*].id")).containsExactly(1, 7, 9, 10, 6);
+
+			// As diferenças são aplicadas sobre a ordem atual da lista base.
+			String etag = mockMvc.perform(get("/lists/" + forkId + "/games")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+			mockMvc.perform(post("/lists/2/replacement").header("X-API-Key", "fork").contentType(MediaType.APPLICATION_JSON)
+					.content("{\"sourceIndex\": 4, \"destinationIndex\": 0}"));
+			try {
+				mockMvc.perform(get("/lists/" + forkId + "/games").header(HttpHeaders.IF_NONE_MATCH, etag))
+						.andExpect(status().isOk());
+				assertThat(forkGames(forkId)).containsExactly(1L, 10L, 7L, 9L, 6L);
+			}
+			finally {
+				mockMvc.perform(post("/lists/2/replacement").header("X-API-Key", "fork").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"sourceIndex\": 0, \"destinationIndex\": 4}"));
+			}
+
+			// Os agregados da cópia acompanham os jogos da lista base, recalculados em segundo plano após a confirmação.
+			String before = mockMvc.perform(get("/lists/" + forkId + "/games")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+			mockMvc.perform(post("/lists/2/insertion").header("X-API-Key", "fork").contentType(MediaType.APPLICATION_JSON)
+					.content("{\"gameIds\": [2]}"))
+					.andExpect(status().isOk());
+			try {
+				mockMvc.perform(get("/lists/" + forkId + "/games").header(HttpHeaders.IF_NONE_MATCH, before))
+						.andExpect(status().isOk());
+				awaitGameCount(forkId, 6);
+			}
+			finally {
+				mockMvc.perform(post("/lists/2/removal").header("X-API-Key", "fork").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"gameIds\": [2]}"));
+			}
+			awaitGameCount(forkId, 5);
+
+			// Ao passar do limite de diferenças, a cópia passa a guardar os próprios jogos.
+			for (int i = 0; i < 62; i++) {
+				mockMvc.perform(post("/lists/" + forkId + "/replacement").header("X-API-Key", "fork").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"sourceIndex\": 0, \"destinationIndex\": 4}"))
+						.andExpect(status().isOk());
+			}
+			List<Long> expected = forkGames(forkId);
+			assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_list_delta WHERE list_id = ?", Long.class, forkId)).isEqualTo(0);
+			assertThat(gameIds(forkId)).isEqualTo(expected);
+			assertDense(forkId);
+			assertAggregates(forkId);
+			mockMvc.perform(get("/admin/list-views/check"))
+					.andExpect(jsonPath("$.consistent").value(true));
+		}
+		finally {
+			// Remove a cópia, que não existe nos dados iniciais.
+			jdbcTemplate.update("DELETE FROM tb_list_delta WHERE list_id = ?", forkId);
+			jdbcTemplate.update("DELETE FROM tb_list_view WHERE list_id = ?", forkId);
+			jdbcTemplate.update("DELETE FROM tb_belonging WHERE list_id = ?", forkId);
+			jdbcTemplate.update("DELETE FROM tb_game_list WHERE id = ?", forkId);
+			entityManagerFactory.getCache().evictAll();
+			entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+		}
+	}
+
+	private void awaitGameCount(long listId, int expected) throws Exception {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (true) {
+			String lists = mockMvc.perform(get("/lists")).andReturn().getResponse().getContentAsString();
+			List<Integer> count = JsonPath.read(lists, "$[?(@.id == " + listId + ")].gameCount");
+			if (count.equals(List.of(expected))) {
+				return;
+			}
+			assertThat(System.nanoTime()).as("agregados da cópia não recalculados").isLessThan(deadline);
+			Thread.sleep(20);
+		}
+	}
+
+	private List<Long> forkGames(long listId) throws Exception {
+		String games = mockMvc.perform(get("/lists/" + listId + "/games")).andReturn().getResponse().getContentAsString();
+		return JsonPath.<List<Integer>>read(games, "$[*].id").stream().map(Integer::longValue).toList();
+	}
+
+	@Test
+	void expandShouldReturnListsWithGamesInSingleQuery() throws Exception {
+		String games = mockMvc.perform(get("/lists/1/games")).andReturn().getResponse().getContentAsString();
+		List<Integer> ids = JsonPath.read(games, "$[*].id");
+
+		// Sem o cache de consultas, mede os comandos efetivamente enviados ao banco.
+		SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+		sessionFactory.getCache().evictQueryRegions();
+		Statistics statistics = sessionFactory.getStatistics();
+		long queries = requestQueries(statistics);
+		long fetches = statistics.getEntityFetchCount() + statistics.getCollectionFetchCount();
+		mockMvc.perform(get("/lists").param("expand", "games").param("limit", "2"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$", hasSize(2)))
+				.andExpect(jsonPath("$[0].name").value("Aventura e RPG"))
+				.andExpect(jsonPath("$[0].games", hasSize(2)))
+				.andExpect(jsonPath("$[0].games[0].id").value(ids.get(0)))
+				.andExpect(jsonPath("$[1].games", hasSize(2)));
+		// Uma única consulta, sem buscas adicionais de entidades ou coleções por lista.
+		assertThat(requestQueries(statistics) - queries).isEqualTo(1);
+		assertThat(statistics.getEntityFetchCount() + statistics.getCollectionFetchCount()).isEqualTo(fetches);
+
+		String expanded = mockMvc.perform(get("/lists/1").param("expand", "games"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.id").value(1))
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andReturn().getResponse().getContentAsString();
+		assertThat(JsonPath.<List<Integer>>read(expanded, "$.games[*].id")).isEqualTo(ids);
+
+		mockMvc.perform(get("/lists/1").param("expand", "owner"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/lists/99").param("expand", "games"))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void missingListShouldReturnNotFound() throws Exception {
+		mockMvc.perform(post("/lists/99/insertion").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"gameIds\": [1]}"))
+				.andExpect(status().isNotFound())
+				.andExpect(jsonPath("$.status").value(404));
+		mockMvc.perform(post("/lists/99/fork").header("X-API-Key", "fork").contentType(MediaType.APPLICATION_JSON)
+				.content("{}"))
+				.andExpect(status().isNotFound());
+	}
+
+	/**
+	 * Conta as consultas executadas, desconsiderando as consultas periódicas do barramento de invalidação
+	 * e da verificação das posições, que rodam em segundo plano.
+	 */
+	private static long requestQueries(Statistics statistics) {
+		long count = 0;
+		for (String query : statistics.getQueries()) {
+			if (!query.contains("InvalidationEvent") && !query.contains("tb_invalidation")
+					&& !query.contains("distinctPositions") && !query.contains("FROM tb_game_list WHERE id > ")) {
+				count += statistics.getQueryStatistics(query).getExecutionCount();
+			}
+		}
+		return count;
+	}
+}
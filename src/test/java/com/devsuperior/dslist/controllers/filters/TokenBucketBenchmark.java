@@ -0,0 +1,49 @@
+package com.devsuperior.dslist.controllers.filters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Mede o custo da decisão do filtro de limite de taxa por requisição, com 100 mil clientes distintos.
+ * Fica fora da suíte de testes, por depender da máquina; execute com mvn -Pbenchmark test.
+ */
+class TokenBucketBenchmark {
+
+	private static final int CLIENTS = 100_000;
+	private static final int CALLS = 2_000_000;
+
+	@Test
+	void filterDecisionShouldCostWellUnderOneMicrosecondWith100kClients() {
+		TokenBucketTable table = new TokenBucketTable(100, 50, CLIENTS * 2);
+		// Aquecimento, que também cria os baldes dos clientes, para medir o código já compilado pelo JIT.
+		for (int round = 0; round < 3; round++) {
+			run(table, CALLS);
+		}
+
+		long start = System.nanoTime();
+		long admitted = run(table, CALLS);
+		long perCall = (System.nanoTime() - start) / CALLS;
+		System.out.println("RateLimitFilter: " + perCall + " ns/requisição com " + CLIENTS + " clientes");
+
+		assertThat(admitted).isEqualTo(CALLS);
+		assertThat(perCall).isLessThan(1000);
+	}
+
+	/**
+	 * Executa o caminho do filtro para cada requisição (classificação, chave do cliente e consumo da ficha),
+	 * alternando entre os clientes em uma ordem que não favorece o cache do processador.
+	 */
+	private static long run(TokenBucketTable table, int calls) {
+		long admitted = 0;
+		int index = 0;
+		for (int i = 0; i < calls; i++) {
+			index = (index + 7919) % CLIENTS;
+			RateLimitFilter.classify("GET", "/lists/1/games");
+			// A chave é montada a cada requisição, como o filtro faz a partir do endereço remoto.
+			String client = "ip:10." + (index >> 16) + "." + ((index >> 8) & 255) + "." + (index & 255);
+			admitted += table.tryAcquire(client) == 0 ? 1 : 0;
+		}
+		return admitted;
+	}
+}
@@ -0,0 +1,113 @@
+package com.devsuperior.dslist.controllers.filters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTableTests {
+
+	private static final int CLIENTS = 100_000;
+	private static final int THREADS = 4;
+	private static final int CALLS = 2_000_000;
+
+	@Test
+	void bucketShouldAllowBurstThenRefillAtConfiguredRate() throws Exception {
+		TokenBucketTable table = new TokenBucketTable(5, 10, 1000);
+		long[] results = new long[6];
+		for (int i = 0; i < results.length; i++) {
+			results[i] = table.tryAcquire("a");
+		}
+		assertThat(results).startsWith(0, 0, 0, 0, 0);
+		// Rajada esgotada: a próxima ficha chega em até 100 ms (10 por segundo).
+		assertThat(results[5]).isBetween(1L, 100L);
+		// Outro cliente tem o seu próprio balde.
+		assertThat(table.tryAcquire("b")).isZero();
+
+		Thread.sleep(150);
+		assertThat(table.tryAcquire("a")).isZero();
+	}
+
+	@Test
+	void tableShouldStayBounded() {
+		TokenBucketTable table = new TokenBucketTable(10, 1, 1000);
+		for (int i = 0; i < 10_000; i++) {
+			table.tryAcquire("client-" + i);
+		}
+		assertThat(table.capacity()).isEqualTo(1024);
+		assertThat(table.size()).isEqualTo(table.capacity());
+		// O cliente mais recente continua na tabela e tem o seu balde preservado.
+		for (int i = 0; i < 9; i++) {
+			assertThat(table.tryAcquire("client-9999")).isZero();
+		}
+		assertThat(table.tryAcquire("client-9999")).isPositive();
+	}
+
+	@Test
+	void concurrentCallersShouldNeverExceedCapacity() throws Exception {
+		// Recarga lenta: durante o teste só a capacidade inicial pode ser consumida.
+		TokenBucketTable table = new TokenBucketTable(1000, 1, 8);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<Integer>> admitted = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				admitted.add(executor.submit(() -> {
+					int count = 0;
+					for (int i = 0; i < 1000; i++) {
+						count += table.tryAcquire("shared") == 0 ? 1 : 0;
+					}
+					return count;
+				}));
+			}
+			int total = 0;
+			for (Future<Integer> result : admitted) {
+				total += result.get(10, TimeUnit.SECONDS);
+			}
+			// Na criação simultânea do balde, cada thread pode ter a primeira ficha admitida.
+			assertThat(total).isBetween(1000, 1000 + THREADS - 1);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void tableShouldKeepBucketsOf100kClients() {
+		TokenBucketTable table = new TokenBucketTable(100, 50, CLIENTS * 2);
+		// A primeira rodada cria os baldes dos clientes; a segunda os encontra com fichas.
+		run(table, CALLS);
+		assertThat(run(table, CALLS)).isEqualTo(CALLS);
+		// Com faixas de tamanho fixo, alguns clientes de faixas mais cheias podem ter sido substituídos.
+		assertThat(table.size()).isGreaterThan(CLIENTS * 99 / 100);
+	}
+
+	@Test
+	void fullListReadsShouldBeClassifiedAsScans() {
+		assertThat(RateLimitFilter.classify("GET", "/games")).isEqualTo(RateLimitFilter.EndpointClass.SCANS);
+		assertThat(RateLimitFilter.classify("GET", "/lists")).isEqualTo(RateLimitFilter.EndpointClass.SCANS);
+		assertThat(RateLimitFilter.classify("HEAD", "/lists/")).isEqualTo(RateLimitFilter.EndpointClass.SCANS);
+		assertThat(RateLimitFilter.classify("GET", "/lists/1/games")).isEqualTo(RateLimitFilter.EndpointClass.READS);
+		assertThat(RateLimitFilter.classify("POST", "/lists/1/fork")).isEqualTo(RateLimitFilter.EndpointClass.WRITES);
+	}
+
+	/**
+	 * Executa o consumo da ficha para cada requisição, com a chave do cliente montada como o filtro faz,
+	 * alternando entre os clientes.
+	 */
+	private static long run(TokenBucketTable table, int calls) {
+		long admitted = 0;
+		int index = 0;
+		for (int i = 0; i < calls; i++) {
+			index = (index + 7919) % CLIENTS;
+			String client = "ip:10." + (index >> 16) + "." + ((index >> 8) & 255) + "." + (index & 255);
+			admitted += table.tryAcquire(client) == 0 ? 1 : 0;
+		}
+		return admitted;
+	}
+}
@@ -0,0 +1,105 @@
+package com.devsuperior.dslist.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.devsuperior.dslist.services.exceptions.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConcurrencyLimiterTests {
+
+	private static final int CONNECTIONS = 4; // Tamanho do pool simulado.
+	private static final long QUERY_MILLIS = 10; // Duração de cada consulta simulada.
+	private static final int CALLERS = 64; // Chamadores simultâneos, bem acima da capacidade do pool.
+	private static final long RUN_MILLIS = 1500;
+
+	@Test
+	void p99ShouldStayBoundedUnderOverload() throws Exception {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter("reads", 16, 64, Duration.ofMillis(30), 1, registry);
+
+		// Sem limite, os chamadores aguardam na fila do pool e a latência cresce com a carga (~ CALLERS / CONNECTIONS consultas).
+		long unlimited = p99(overload(new Semaphore(CONNECTIONS, true), query -> query.get()));
+		// Com o limite, o excesso é recusado imediatamente e as requisições aceitas mantêm a latência próxima da consulta.
+		long limited = p99(overload(new Semaphore(CONNECTIONS, true), limiter::execute));
+
+		// Comparação relativa entre as duas cargas na mesma máquina, sem limite absoluto de tempo.
+		assertThat(limited).isLessThan(unlimited / 2);
+		assertThat(registry.get("dslist.admission.rejected").tag("budget", "reads").counter().count()).isPositive();
+		assertThat(registry.get("dslist.admission.limit").tag("budget", "reads").gauge().value()).isLessThan(16);
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	private interface Admission {
+		Object execute(Supplier<Object> query);
+	}
+
+	/**
+	 * Executa a carga por um tempo fixo e retorna as latências das requisições aceitas, em nanossegundos.
+	 */
+	private static List<Long> overload(Semaphore pool, Admission admission) throws Exception {
+		List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+		long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RUN_MILLIS);
+		ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+		for (int i = 0; i < CALLERS; i++) {
+			executor.execute(() -> {
+				while (System.nanoTime() < end) {
+					long start = System.nanoTime();
+					try {
+						admission.execute(() -> query(pool));
+						latencies.add(System.nanoTime() - start);
+					}
+					catch (ServiceUnavailableException e) {
+						// O cliente recusado aguarda antes de tentar novamente, como indicado pelo Retry-After.
+						sleep(5);
+					}
+				}
+			});
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+		return latencies;
+	}
+
+	/**
+	 * Simula uma consulta: aguarda uma conexão do pool e a ocupa por um tempo fixo.
+	 */
+	private static Object query(Semaphore pool) {
+		pool.acquireUninterruptibly();
+		try {
+			sleep(QUERY_MILLIS);
+			return null;
+		}
+		finally {
+			pool.release();
+		}
+	}
+
+	private static long p99(List<Long> latencies) {
+		List<Long> sorted = new ArrayList<>(latencies);
+		Collections.sort(sorted);
+		return sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.devsuperior.dslist.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dslist.entities.Game;
+import com.devsuperior.dslist.repositories.GameRepository;
+import com.devsuperior.dslist.repositories.ListViewRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Compara o tempo das leituras servidas pelo cache de segundo nível e pelo cache de consultas com o das faltas.
+ * Fica fora da suíte de testes, por depender da máquina; execute com mvn -Pbenchmark test.
+ */
+@SpringBootTest
+class GameListCacheBenchmark {
+
+	private static final int WARMUP = 2_000;
+	private static final int ITERATIONS = 2_000;
+
+	@Autowired
+	private GameRepository gameRepository;
+
+	@Autowired
+	private ListViewRepository listViewRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void cacheHitsShouldBeFasterThanMisses() {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.setReadOnly(true);
+		// Cada leitura usa uma nova sessão, para que o jogo não venha do contexto de persistência da anterior.
+		Supplier<Object> entity = () -> transaction.execute(status -> gameRepository.findById(1L).orElseThrow());
+		Supplier<Object> query = () -> transaction.execute(status -> listViewRepository.searchByList(1L));
+		Runnable evictEntities = () -> entityManagerFactory.getCache().evict(Game.class);
+		Runnable evictQueries = () -> entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+		Runnable none = () -> { };
+
+		for (Runnable evict : List.of(none, evictEntities)) {
+			nanosPerRead(entity, evict, WARMUP);
+		}
+		for (Runnable evict : List.of(none, evictQueries)) {
+			nanosPerRead(query, evict, WARMUP);
+		}
+
+		long entityHit = nanosPerRead(entity, none, ITERATIONS);
+		long entityMiss = nanosPerRead(entity, evictEntities, ITERATIONS);
+		long queryHit = nanosPerRead(query, none, ITERATIONS);
+		long queryMiss = nanosPerRead(query, evictQueries, ITERATIONS);
+		System.out.printf("Cache de segundo nível: acerto %d ns, falta %d ns; cache de consultas: acerto %d ns, falta %d ns%n",
+				entityHit, entityMiss, queryHit, queryMiss);
+
+		// A transação e a sessão custam o mesmo nos dois caminhos, e o acerto dispensa a ida ao banco
+		// (entre um quarto e dois quintos do tempo da falta para a entidade, e cerca de metade para a consulta, medido em H2).
+		assertThat(entityHit).isLessThan(entityMiss / 2);
+		assertThat(queryHit).isLessThan(queryMiss);
+	}
+
+	/**
+	 * Retorna o tempo médio, em nanossegundos, de cada leitura, sem contar o descarte feito antes dela.
+	 */
+	private static long nanosPerRead(Supplier<Object> read, Runnable evict, int iterations) {
+		long total = 0;
+		for (int i = 0; i < iterations; i++) {
+			evict.run();
+			long start = System.nanoTime();
+			assertThat(read.get()).isNotNull();
+			total += System.nanoTime() - start;
+		}
+		return total / iterations;
+	}
+}
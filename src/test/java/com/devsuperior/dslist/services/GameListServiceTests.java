@@ -0,0 +1,199 @@
+package com.devsuperior.dslist.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dslist.dto.GameMinStream;
+import com.devsuperior.dslist.entities.Game;
+import com.devsuperior.dslist.repositories.GameListRepository;
+import com.devsuperior.dslist.repositories.GameRepository;
+import com.devsuperior.dslist.repositories.ListViewRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class GameListServiceTests {
+
+	private static final int READS = 20;
+
+	@Autowired
+	private GameListService gameListService;
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private GameListRepository gameListRepository;
+
+	@Autowired
+	private GameRepository gameRepository;
+
+	@Autowired
+	private ListViewRepository listViewRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		entityManagerFactory.getCache().evictAll();
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void findByIdShouldBeServedFromSecondLevelCache() {
+		gameListService.findById(1L);
+		gameListService.findById(1L);
+		gameService.findById(1L);
+		gameService.findById(1L);
+
+		assertThat(statistics.getDomainDataRegionStatistics("gameList").getHitCount()).isEqualTo(1);
+		assertThat(statistics.getDomainDataRegionStatistics("game").getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void moveShouldInvalidateCachedListStream() {
+		List<Long> before = ids(gameService.streamByGameList(2L));
+		double executions = streamExecutions();
+		ids(gameService.streamByGameList(2L));
+		assertThat(streamExecutions()).isEqualTo(executions);
+
+		gameListService.move(2L, 0, 4);
+		try {
+			List<Long> after = ids(gameService.streamByGameList(2L));
+			assertThat(streamExecutions()).isEqualTo(executions + 1);
+			assertThat(after.get(4)).isEqualTo(before.get(0));
+			assertThat(after.subList(0, 4)).isEqualTo(before.subList(1, 5));
+		}
+		finally {
+			gameListService.move(2L, 4, 0);
+		}
+		assertThat(ids(gameService.streamByGameList(2L))).isEqualTo(before);
+	}
+
+	@Test
+	void concurrentAppendsShouldKeepPositionsDense() throws Exception {
+		List<Long> appended = new ArrayList<>(List.of(6L, 7L, 8L, 9L));
+		CountDownLatch start = new CountDownLatch(1);
+		List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+		List<Thread> threads = new ArrayList<>();
+		for (Long gameId : appended) {
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				try {
+					gameListService.insert(1L, new ArrayList<>(List.of(gameId)), null);
+				}
+				catch (RuntimeException e) {
+					errors.add(e);
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		try {
+			assertThat(errors).isEmpty();
+			// Cada inclusão no final lê o tamanho com a ordem bloqueada, e nenhuma posição se repete.
+			assertThat(gameListRepository.summarizePositions(1L).isDense()).isTrue();
+			assertThat(ids(gameService.streamByGameList(1L))).hasSize(9).containsAll(appended);
+		}
+		finally {
+			gameListService.remove(1L, appended);
+		}
+	}
+
+	@Test
+	void cacheReadsShouldBeCountedAsHitsAndMisses() {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.setReadOnly(true);
+		// Cada leitura usa uma nova sessão, para que o jogo não venha do contexto de persistência da anterior.
+		Supplier<Object> entity = () -> transaction.execute(status -> gameRepository.findById(1L).orElseThrow());
+		Supplier<Object> query = () -> transaction.execute(status -> listViewRepository.searchByList(1L));
+		Runnable evictEntities = () -> entityManagerFactory.getCache().evict(Game.class);
+		Runnable evictQueries = () -> entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+		Runnable none = () -> { };
+		// Carrega os caches, para que as leituras sem descarte sejam todas acertos.
+		entity.get();
+		query.get();
+
+		// O tempo de cada caminho é comparado em GameListCacheBenchmark (mvn -Pbenchmark test).
+		statistics.clear();
+		read(entity, none);
+		assertThat(statistics.getDomainDataRegionStatistics("game").getHitCount()).isEqualTo(READS);
+		statistics.clear();
+		read(entity, evictEntities);
+		assertThat(statistics.getDomainDataRegionStatistics("game").getMissCount()).isEqualTo(READS);
+		statistics.clear();
+		read(query, none);
+		assertThat(statistics.getQueryCacheHitCount()).isEqualTo(READS);
+		statistics.clear();
+		read(query, evictQueries);
+		assertThat(statistics.getQueryCacheMissCount()).isEqualTo(READS);
+	}
+
+	private static void read(Supplier<Object> read, Runnable evict) {
+		for (int i = 0; i < READS; i++) {
+			evict.run();
+			assertThat(read.get()).isNotNull();
+		}
+	}
+
+	private double streamExecutions() {
+		return meterRegistry.counter("dslist.singleflight.executions", "name", "game.stream").count();
+	}
+
+	private List<Long> ids(GameMinStream games) {
+		try {
+			TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+			games.writeTo(buffer);
+			JsonNode tree = objectMapper.readTree(buffer.asParser());
+			List<Long> ids = new ArrayList<>();
+			tree.forEach(game -> ids.add(game.get("id").asLong()));
+			return ids;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package com.devsuperior.dslist.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dslist.dto.GameListDTO;
+import com.devsuperior.dslist.dto.GameMinDTO;
+import com.devsuperior.dslist.dto.GameMinStream;
+import com.devsuperior.dslist.repositories.ListViewRepository;
+import com.devsuperior.dslist.services.invalidation.Invalidation;
+import com.devsuperior.dslist.services.invalidation.InvalidationBus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.ThreadMXBean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class GameServiceStreamingTests {
+
+	private static final int WARMUP = 2_000;
+	private static final int ITERATIONS = 2_000;
+	private static final String MIN_FIELDS = "id,title,year,imgUrl,shortDescription"; // Campos de GameMinDTO, na ordem da serialização.
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private InvalidationBus invalidationBus;
+
+	@Autowired
+	private AdmissionControl admissionControl;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private GameListService gameListService;
+
+	@Autowired
+	private ListViewRepository listViewRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void streamsShouldWriteSameJsonAsAllFields() throws Exception {
+		assertThat(write(gameService.streamByGameList(1L))).isEqualTo(objectMapper.writeValueAsString(gameService.findByGameList(1L, MIN_FIELDS)));
+		assertThat(write(gameService.streamAll())).isEqualTo(objectMapper.writeValueAsString(gameService.findAll(MIN_FIELDS)));
+	}
+
+	@Test
+	void forkStreamShouldFollowForkOrder() throws Exception {
+		GameListDTO fork = gameListService.fork(2L, null);
+		gameListService.move(fork.getId(), 0, 2);
+		gameListService.remove(fork.getId(), List.of(gameListService.findGameIds(fork.getId()).get(1)));
+
+		assertThat(write(gameService.streamByGameList(fork.getId())))
+				.isEqualTo(objectMapper.writeValueAsString(gameService.findByGameList(fork.getId(), MIN_FIELDS)));
+	}
+
+	@Test
+	void streamShouldBeReadBeforeWritingAndCachedByVersion() throws Exception {
+		invalidationBus.publish(Invalidation.list(1L));
+		double executions = meterRegistry.counter("dslist.singleflight.executions", "name", "game.stream").count();
+		GameMinStream first = gameService.streamByGameList(1L);
+		// A vaga da admissão já foi devolvida antes da escrita.
+		assertThat(admissionControl.reads().getInFlight()).isZero();
+		GameMinStream second = gameService.streamByGameList(1L);
+		assertThat(write(second)).isEqualTo(write(first));
+		assertThat(meterRegistry.counter("dslist.singleflight.executions", "name", "game.stream").count()).isEqualTo(executions + 1);
+
+		// Uma nova versão da lista é lida novamente.
+		invalidationBus.publish(Invalidation.list(1L));
+		gameService.streamByGameList(1L);
+		assertThat(meterRegistry.counter("dslist.singleflight.executions", "name", "game.stream").count()).isEqualTo(executions + 2);
+	}
+
+	@Test
+	void streamShouldAllocateLessThanDtosOnCacheMiss() throws Exception {
+		// Ambos os caminhos leem do banco a cada iteração, como em uma falta no cache de consultas;
+		// a leitura escrita na resposta é descartada do seu cache, como ao chegar uma invalidação da lista.
+		// A referência é a leitura por projeções convertidas em DTOs, serializados pelo ObjectMapper.
+		Action dtos = () -> {
+			evictQueries();
+			List<GameMinDTO> games = readOnlyTransaction().execute(status -> listViewRepository.searchByList(1L).stream().map(GameMinDTO::new).toList());
+			objectMapper.writeValue(OutputStream.nullOutputStream(), games);
+		};
+		Action stream = () -> {
+			gameService.onInvalidation(Invalidation.list(1L));
+			evictQueries();
+			JsonGenerator generator = objectMapper.createGenerator(OutputStream.nullOutputStream());
+			gameService.streamByGameList(1L).writeTo(generator);
+			generator.close();
+		};
+		allocated(dtos, WARMUP);
+		allocated(stream, WARMUP);
+
+		long dtosBytes = allocated(dtos, ITERATIONS);
+		long streamBytes = allocated(stream, ITERATIONS);
+		// Sem projeções, DTOs nem reflexão por linha, a escrita direta aloca menos da metade (cerca de um terço, medido em H2).
+		assertThat(streamBytes).isLessThan(dtosBytes / 2);
+	}
+
+	private String write(GameMinStream stream) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		JsonGenerator generator = objectMapper.createGenerator(out);
+		stream.writeTo(generator);
+		generator.close();
+		return out.toString();
+	}
+
+	private TransactionTemplate readOnlyTransaction() {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.setReadOnly(true);
+		return transaction;
+	}
+
+	private void evictQueries() {
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+	}
+
+	/**
+	 * Retorna os bytes alocados pela thread corrente ao executar a ação repetidas vezes.
+	 */
+	private static long allocated(Action action, int iterations) throws Exception {
+		ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long before = threads.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < iterations; i++) {
+			action.run();
+		}
+		return threads.getCurrentThreadAllocatedBytes() - before;
+	}
+
+	private interface Action {
+		void run() throws Exception;
+	}
+}
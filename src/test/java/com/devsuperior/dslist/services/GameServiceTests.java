@@ -0,0 +1,139 @@
+package com.devsuperior.dslist.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.devsuperior.dslist.dto.GameDTO;
+import com.devsuperior.dslist.dto.GameMinStream;
+import com.devsuperior.dslist.repositories.GameRepository;
+import com.devsuperior.dslist.services.invalidation.Invalidation;
+import com.devsuperior.dslist.services.invalidation.InvalidationBus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+class GameServiceTests {
+
+	private static final int CALLERS = 16;
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private InvalidationBus invalidationBus;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@MockitoSpyBean
+	private GameRepository gameRepository;
+
+	@Test
+	void streamByGameListShouldRunSingleQueryPerBurst() throws Exception {
+		// O repositório é um proxy JDK, então a chamada real é feita pela resposta padrão do espião, que delega ao bean original.
+		Answer<?> delegate = mockingDetails(gameRepository).getMockCreationSettings().getDefaultAnswer();
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			// Segura a primeira consulta até que todos os outros chamadores estejam aguardando por ela.
+			release.await(10, TimeUnit.SECONDS);
+			return delegate.answer(invocation);
+		}).when(gameRepository).streamByList(eq(1L), any());
+		// Descarta a leitura em cache, para que a rajada chegue ao banco de dados.
+		gameService.onInvalidation(Invalidation.list(1L));
+
+		double coalescedBefore = coalesced("game.stream");
+		ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+		try {
+			List<Future<GameMinStream>> results = new ArrayList<>();
+			for (int i = 0; i < CALLERS; i++) {
+				results.add(executor.submit(() -> gameService.streamByGameList(1L)));
+			}
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (coalesced("game.stream") - coalescedBefore < CALLERS - 1 && System.nanoTime() < deadline) {
+				Thread.sleep(5);
+			}
+			release.countDown();
+
+			String first = write(results.get(0).get(10, TimeUnit.SECONDS));
+			for (Future<GameMinStream> result : results) {
+				assertThat(write(result.get(10, TimeUnit.SECONDS))).isEqualTo(first);
+			}
+			assertThat(objectMapper.readTree(first)).hasSize(5);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		verify(gameRepository, times(1)).streamByList(eq(1L), any());
+		assertThat(coalesced("game.stream") - coalescedBefore).isEqualTo(CALLERS - 1);
+	}
+
+	@Test
+	void findByIdShouldNotJoinReadStartedBeforeWrite() throws Exception {
+		Answer<?> delegate = mockingDetails(gameRepository).getMockCreationSettings().getDefaultAnswer();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		// Somente a primeira consulta é segurada; as seguintes são delegadas diretamente.
+		doAnswer(invocation -> {
+			started.countDown();
+			release.await(10, TimeUnit.SECONDS);
+			return delegate.answer(invocation);
+		}).doAnswer(delegate).when(gameRepository).findById(1L);
+
+		double coalescedBefore = coalesced("game.findById");
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<GameDTO> before = executor.submit(() -> gameService.findById(1L));
+			assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+			// Uma escrita no catálogo é confirmada enquanto a primeira leitura está em andamento.
+			invalidationBus.publish(Invalidation.game(1L));
+			GameDTO after = gameService.findById(1L);
+			release.countDown();
+
+			assertThat(before.get(10, TimeUnit.SECONDS)).isNotSameAs(after);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		verify(gameRepository, times(2)).findById(1L);
+		assertThat(coalesced("game.findById") - coalescedBefore).isZero();
+	}
+
+	private String write(GameMinStream stream) throws Exception {
+		StringWriter out = new StringWriter();
+		JsonGenerator generator = objectMapper.createGenerator(out);
+		stream.writeTo(generator);
+		generator.close();
+		return out.toString();
+	}
+
+	private double coalesced(String name) {
+		return meterRegistry.get("dslist.singleflight.coalesced").tag("name", name).counter().count();
+	}
+}
@@ -0,0 +1,54 @@
+package com.devsuperior.dslist.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.devsuperior.dslist.dto.ListChangeDTO;
+
+// Um único registro em memória, para que a escrita em uma lista descarte o registro da outra.
+@SpringBootTest(properties = "dslist.changes.max-lists=1")
+class ListChangeServiceTests {
+
+	@Autowired
+	private ListChangeService listChangeService;
+
+	@Autowired
+	private GameListService gameListService;
+
+	@Test
+	void evictedLogShouldFallBackToDatabaseAndRestartOnNextWrite() {
+		long since = latest(1L);
+		gameListService.move(1L, 3, 0);
+		boolean restored = false;
+		try {
+			// Cria o registro da lista 2, descartando o da lista 1, que não tem clientes inscritos.
+			gameListService.move(2L, 0, 1);
+			gameListService.move(2L, 1, 0);
+
+			assertThat(listChangeService.findSince(1L, since)).extracting(ListChangeDTO::getGameId).containsExactly(4L);
+
+			// A próxima escrita recomeça o registro da lista 1 a partir da última sequência gravada, sem lacunas.
+			gameListService.move(1L, 0, 3);
+			restored = true;
+			assertThat(listChangeService.findSince(1L, since))
+					.extracting(ListChangeDTO::getFrom, ListChangeDTO::getTo)
+					.containsExactly(tuple(3, 0), tuple(0, 3));
+		}
+		finally {
+			if (!restored) {
+				gameListService.move(1L, 0, 3);
+			}
+		}
+	}
+
+	private long latest(Long listId) {
+		List<ListChangeDTO> changes = listChangeService.findSince(listId, 0);
+		return changes.isEmpty() ? 0 : changes.get(changes.size() - 1).getSequence();
+	}
+}
@@ -0,0 +1,82 @@
+package com.devsuperior.dslist.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = { "dslist.positions.check.enabled=false", "dslist.invalidation.bus=local" })
+class PositionIntegrityServiceTests {
+
+	@Autowired
+	private PositionIntegrityService positionIntegrityService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void checkShouldRenumberGapsAndDuplicatesKeepingOrder() {
+		List<Long> order = gameIds("tb_belonging");
+		// Par de jogos vizinhos em ordem crescente de ID: ao repetir a posição, o desempate pelo ID mantém a ordem.
+		int pair = 0;
+		while (order.get(pair) > order.get(pair + 1)) {
+			pair++;
+		}
+		double gapsBefore = count("dslist.positions.anomalies", "gap");
+		double duplicatesBefore = count("dslist.positions.anomalies", "duplicate");
+		double repairedBefore = meterRegistry.get("dslist.positions.repaired").counter().count();
+
+		// O banco é compartilhado com os demais contextos de teste, cujas verificações em segundo plano estão ativas:
+		// a corrupção e o reparo ficam na mesma transação, invisível a elas até a confirmação.
+		int finalPair = pair;
+		boolean repaired = new TransactionTemplate(transactionManager).execute(status -> {
+			for (int i = 0; i < order.size(); i++) {
+				int position = (i == finalPair + 1 ? i - 1 : i) * 3 + 1;
+				jdbcTemplate.update("UPDATE tb_belonging SET position = ? WHERE list_id = 1 AND game_id = ?", position, order.get(i));
+			}
+			return positionIntegrityService.check(1L);
+		});
+
+		assertThat(repaired).isTrue();
+		assertThat(positions("tb_belonging")).isEqualTo(IntStream.range(0, order.size()).boxed().toList());
+		assertThat(gameIds("tb_belonging")).isEqualTo(order);
+		assertThat(gameIds("tb_list_view")).isEqualTo(order);
+		assertThat(count("dslist.positions.anomalies", "duplicate") - duplicatesBefore).isEqualTo(1);
+		assertThat(count("dslist.positions.anomalies", "gap") - gapsBefore).isPositive();
+		assertThat(meterRegistry.get("dslist.positions.repaired").counter().count() - repairedBefore).isEqualTo(1);
+
+		// Uma lista íntegra não é alterada, e a passagem completa não encontra mais nada a reparar.
+		assertThat(positionIntegrityService.check(1L)).isFalse();
+		double passes = meterRegistry.get("dslist.positions.passes").counter().count();
+		while (meterRegistry.get("dslist.positions.passes").counter().count() == passes) {
+			assertThat(positionIntegrityService.checkNext()).isZero();
+		}
+	}
+
+	private List<Long> gameIds(String table) {
+		return jdbcTemplate.queryForList("SELECT game_id FROM " + table + " WHERE list_id = 1 ORDER BY position", Long.class);
+	}
+
+	private List<Integer> positions(String table) {
+		return jdbcTemplate.queryForList("SELECT position FROM " + table + " WHERE list_id = 1 ORDER BY position", Integer.class);
+	}
+
+	private double count(String name, String kind) {
+		return meterRegistry.get(name).tag("kind", kind).counter().count();
+	}
+}
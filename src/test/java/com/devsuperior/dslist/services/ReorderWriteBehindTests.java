@@ -0,0 +1,265 @@
+package com.devsuperior.dslist.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.devsuperior.dslist.dto.GameMinStream;
+import com.devsuperior.dslist.dto.ReplacementDTO;
+import com.devsuperior.dslist.services.exceptions.InvalidRequestException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+class ReorderWriteBehindTests {
+
+	private static final int MOVES = 200;
+
+	@Autowired
+	private ReorderWriteBehind reorderWriteBehind;
+
+	@MockitoSpyBean
+	private GameListService gameListService;
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private AdmissionControl admissionControl;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void burstOfMovesShouldBeCoalescedIntoFewTransactions() throws Exception {
+		List<Long> before = ids(gameService.streamByGameList(2L));
+		List<Long> expected = new ArrayList<>(before);
+		double flushesBefore = flushes();
+		double coalescedBefore = coalesced();
+		double appliedBefore = applied();
+
+		Random random = new Random(42);
+		for (int i = 0; i < MOVES; i++) {
+			int source = random.nextInt(expected.size());
+			int destination = random.nextInt(expected.size());
+			expected.add(destination, expected.remove(source));
+			assertThat(reorderWriteBehind.submit(2L, source, destination)).isFalse();
+		}
+		assertThatThrownBy(() -> reorderWriteBehind.submit(2L, 0, expected.size())).isInstanceOf(InvalidRequestException.class);
+
+		try {
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (applied() - appliedBefore < MOVES && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+			assertThat(applied() - appliedBefore).isEqualTo(MOVES);
+			assertThat(ids(gameService.streamByGameList(2L))).isEqualTo(expected);
+
+			// Cada transação registra as movimentações que gravou: todas as da rajada, em poucas transações.
+			double flushes = flushes() - flushesBefore;
+			assertThat(coalesced() - coalescedBefore).isEqualTo(MOVES);
+			assertThat(flushes).isLessThanOrEqualTo(MOVES / 32.0 + 1);
+			assertThat(meterRegistry.get("dslist.reorder.coalescing.ratio").gauge().value()).isGreaterThan(1);
+		}
+		finally {
+			restore(before);
+		}
+	}
+
+	@Test
+	void flushShouldWaitForWriteBudget() throws Exception {
+		List<Long> before = ids(gameService.streamByGameList(2L));
+		List<Long> expected = new ArrayList<>(before);
+		double appliedBefore = applied();
+
+		// Ocupa todo o orçamento de escritas com operações que só terminam quando liberadas.
+		ConcurrencyLimiter writes = admissionControl.writes();
+		CountDownLatch release = new CountDownLatch(1);
+		List<Thread> holders = new ArrayList<>();
+		int slots = (int) writes.getLimit() - writes.getInFlight();
+		for (int i = 0; i < slots; i++) {
+			Thread holder = new Thread(() -> writes.run(() -> {
+				try {
+					release.await();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}));
+			holder.start();
+			holders.add(holder);
+		}
+		try {
+			while (writes.getInFlight() < (int) writes.getLimit()) {
+				Thread.sleep(1);
+			}
+			double deferredBefore = meterRegistry.get("dslist.reorder.flush.deferred").counter().count();
+			expected.add(1, expected.remove(0));
+			reorderWriteBehind.submit(2L, 0, 1);
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (meterRegistry.get("dslist.reorder.flush.deferred").counter().count() - deferredBefore < 2 && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+			// A gravação é recusada e repetida, sem descartar a movimentação, que ainda se soma às seguintes.
+			assertThat(meterRegistry.get("dslist.reorder.flush.deferred").counter().count() - deferredBefore).isGreaterThanOrEqualTo(2);
+			assertThat(applied()).isEqualTo(appliedBefore);
+			expected.add(2, expected.remove(1));
+			reorderWriteBehind.submit(2L, 1, 2);
+		}
+		finally {
+			release.countDown();
+			for (Thread holder : holders) {
+				holder.join();
+			}
+		}
+		try {
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (applied() - appliedBefore < 2 && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+			assertThat(applied() - appliedBefore).isEqualTo(2);
+			assertThat(ids(gameService.streamByGameList(2L))).isEqualTo(expected);
+		}
+		finally {
+			restore(before);
+		}
+	}
+
+	@Test
+	void transientFailureShouldBeRetried() throws Exception {
+		List<Long> before = ids(gameService.streamByGameList(2L));
+		double appliedBefore = applied();
+		double failuresBefore = failures();
+		// A primeira gravação encontra a ordem bloqueada; a seguinte é feita normalmente.
+		doThrow(new CannotAcquireLockException("bloqueio")).doCallRealMethod().when(gameListService).moveAll(eq(2L), any());
+
+		reorderWriteBehind.submit(2L, 0, 1);
+		try {
+			awaitApplied(appliedBefore + 1);
+			assertThat(failures() - failuresBefore).isEqualTo(1);
+			List<Long> after = ids(gameService.streamByGameList(2L));
+			assertThat(after.subList(0, 2)).containsExactly(before.get(1), before.get(0));
+		}
+		finally {
+			restore(before);
+		}
+	}
+
+	@Test
+	void permanentFailureShouldDiscardMovesIndexedOnFailedOrder() throws Exception {
+		List<Long> before = ids(gameService.streamByGameList(2L));
+		double appliedBefore = applied();
+		double droppedBefore = dropped();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			started.countDown();
+			release.await(10, TimeUnit.SECONDS);
+			throw new IllegalStateException("falha permanente");
+		}).doCallRealMethod().when(gameListService).moveAll(eq(2L), any());
+
+		try {
+			reorderWriteBehind.submit(2L, 0, 1);
+			assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+			// Aceita sobre a ordem em gravação, que não chegará ao banco de dados.
+			reorderWriteBehind.submit(2L, 1, 2);
+			release.countDown();
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (dropped() - droppedBefore < 1 && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+			assertThat(dropped() - droppedBefore).isEqualTo(1);
+			assertThat(ids(gameService.streamByGameList(2L))).isEqualTo(before);
+
+			// A movimentação seguinte parte da ordem gravada.
+			reorderWriteBehind.submit(2L, 0, 1);
+			awaitApplied(appliedBefore + 1);
+			List<Long> after = ids(gameService.streamByGameList(2L));
+			assertThat(after.subList(0, 2)).containsExactly(before.get(1), before.get(0));
+			assertThat(after.subList(2, after.size())).isEqualTo(before.subList(2, before.size()));
+		}
+		finally {
+			release.countDown();
+			restore(before);
+		}
+	}
+
+	private void awaitApplied(double expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (applied() < expected && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(applied()).isEqualTo(expected);
+	}
+
+	/**
+	 * Devolve a lista à ordem original com uma movimentação por posição.
+	 */
+	private void restore(List<Long> original) {
+		List<Long> current = new ArrayList<>(ids(gameService.streamByGameList(2L)));
+		List<ReplacementDTO> moves = new ArrayList<>();
+		for (int i = 0; i < original.size(); i++) {
+			int source = current.indexOf(original.get(i));
+			current.add(i, current.remove(source));
+			moves.add(new ReplacementDTO(source, i));
+		}
+		gameListService.moveAll(2L, moves);
+	}
+
+	private double flushes() {
+		return meterRegistry.get("dslist.reorder.coalesced").summary().count();
+	}
+
+	private double coalesced() {
+		return meterRegistry.get("dslist.reorder.coalesced").summary().totalAmount();
+	}
+
+	private double applied() {
+		return meterRegistry.get("dslist.reorder.applied").counter().count();
+	}
+
+	private double dropped() {
+		return meterRegistry.get("dslist.reorder.dropped").counter().count();
+	}
+
+	private double failures() {
+		return meterRegistry.get("dslist.reorder.flush.failures").counter().count();
+	}
+
+	private List<Long> ids(GameMinStream games) {
+		try {
+			TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+			games.writeTo(buffer);
+			JsonNode tree = objectMapper.readTree(buffer.asParser());
+			List<Long> ids = new ArrayList<>();
+			tree.forEach(game -> ids.add(game.get("id").asLong()));
+			return ids;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.devsuperior.dslist.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.devsuperior.dslist.dto.SimilarGameDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+class SimilarityServiceTests {
+
+	@Autowired
+	private SimilarityService similarityService;
+
+	@Autowired
+	private GameListService gameListService;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void incrementalRecomputeShouldMatchFullRecompute() {
+		similarityService.recompute(true);
+		List<SimilarGameDTO> before = similarityService.findSimilar(1L);
+		assertThat(before).isNotEmpty().hasSizeLessThanOrEqualTo(10);
+		assertThat(before).extracting(SimilarGameDTO::getId).doesNotContain(1L);
+		assertThat(before).extracting(SimilarGameDTO::getSimilarity).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+		// Os jogos da mesma lista (1 a 5) compartilham gêneros e plataformas e ficam à frente dos demais.
+		assertThat(before.subList(0, 4)).extracting(SimilarGameDTO::getId).containsExactlyInAnyOrder(2L, 3L, 4L, 5L);
+		double scoreOf6 = scoreOf(before, 6L);
+
+		long incrementalBefore = meterRegistry.get("dslist.similar.compute").tag("mode", "incremental").timer().count();
+		gameListService.insert(1L, Arrays.asList(6L), null);
+		try {
+			similarityService.recompute(false);
+			assertThat(meterRegistry.get("dslist.similar.compute").tag("mode", "incremental").timer().count()).isGreaterThan(incrementalBefore);
+			assertThat(scoreOf(similarityService.findSimilar(1L), 6L)).isGreaterThan(scoreOf6);
+
+			// A tabela atualizada apenas nas linhas afetadas deve ser igual à recalculada por inteiro.
+			List<List<SimilarGameDTO>> incremental = table();
+			similarityService.recompute(true);
+			List<List<SimilarGameDTO>> full = table();
+			for (int i = 0; i < full.size(); i++) {
+				assertThat(incremental.get(i)).usingRecursiveFieldByFieldElementComparator().isEqualTo(full.get(i));
+			}
+		}
+		finally {
+			gameListService.remove(1L, Arrays.asList(6L));
+			similarityService.recompute(false);
+		}
+	}
+
+	@Test
+	void moveWithinListShouldNotRecompute() {
+		similarityService.recompute(true);
+		List<List<SimilarGameDTO>> before = table();
+		double skippedBefore = meterRegistry.get("dslist.similar.skipped").counter().count();
+		long incrementalBefore = meterRegistry.get("dslist.similar.compute").tag("mode", "incremental").timer().count();
+		gameListService.move(1L, 0, 1);
+		try {
+			// A movimentação publica a invalidação da lista, mas a lista mantém os mesmos jogos.
+			similarityService.recompute(false);
+			assertThat(meterRegistry.get("dslist.similar.skipped").counter().count()).isGreaterThan(skippedBefore);
+			assertThat(meterRegistry.get("dslist.similar.compute").tag("mode", "incremental").timer().count()).isEqualTo(incrementalBefore);
+			assertThat(table()).usingRecursiveComparison().isEqualTo(before);
+		}
+		finally {
+			gameListService.move(1L, 1, 0);
+			similarityService.recompute(false);
+		}
+	}
+
+	private List<List<SimilarGameDTO>> table() {
+		List<List<SimilarGameDTO>> result = new ArrayList<>();
+		for (long id = 1; id <= 10; id++) {
+			result.add(similarityService.findSimilar(id));
+		}
+		return result;
+	}
+
+	private static double scoreOf(List<SimilarGameDTO> similar, Long gameId) {
+		return similar.stream().filter(s -> s.getId().equals(gameId)).mapToDouble(SimilarGameDTO::getSimilarity).findFirst().orElse(0);
+	}
+}
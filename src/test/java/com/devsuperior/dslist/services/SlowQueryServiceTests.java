@@ -0,0 +1,73 @@
+package com.devsuperior.dslist.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.devsuperior.dslist.dto.SlowQueryDTO;
+import com.devsuperior.dslist.services.invalidation.Invalidation;
+
+@SpringBootTest(properties = {
+		// Captura todos os comandos, sem descartes, para que os do teste estejam no buffer.
+		"dslist.slow-query.threshold=0",
+		"dslist.slow-query.buffer-size=10000",
+		"dslist.slow-query.queue-size=10000",
+		"dslist.invalidation.bus=local"
+})
+class SlowQueryServiceTests {
+
+	@Autowired
+	private SlowQueryService slowQueryService;
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private GameListService gameListService;
+
+	@Test
+	void slowStatementsShouldBeCapturedWithParametersRowsAndPlan() throws Exception {
+		// Garante que a leitura chegue ao banco de dados.
+		gameService.onInvalidation(Invalidation.list(1L));
+		gameService.streamByGameList(1L);
+		gameListService.move(2L, 0, 1);
+		gameListService.move(2L, 1, 0);
+
+		SlowQueryDTO select = await("SELECT game_id, title, game_year, img_url, short_description");
+		assertThat(select.getParameters()).containsExactly("1");
+		assertThat(select.getRows()).isEqualTo(5);
+		assertThat(select.isAnalyzed()).isTrue();
+		assertThat(select.getPlan()).contains("scanCount");
+
+		SlowQueryDTO update = await("UPDATE tb_belonging SET position");
+		// Parâmetros na ordem dos marcadores: nova posição, lista e jogo.
+		assertThat(update.getParameters()).hasSize(3).element(1).isEqualTo("2");
+		assertThat(update.getRows()).isEqualTo(1);
+		assertThat(update.isAnalyzed()).isFalse();
+		assertThat(update.getPlan()).contains("UPDATE \"PUBLIC\".\"TB_BELONGING\"");
+
+		// A leitura com bloqueio da movimentação não é executada de novo pelo EXPLAIN ANALYZE.
+		SlowQueryDTO locked = await("ORDER BY position FOR UPDATE");
+		assertThat(locked.isAnalyzed()).isFalse();
+		assertThat(locked.getPlan()).contains("FOR UPDATE");
+	}
+
+	private SlowQueryDTO await(String sql) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (System.nanoTime() < deadline) {
+			List<SlowQueryDTO> captures = slowQueryService.findAll();
+			Optional<SlowQueryDTO> capture = captures.stream().filter(c -> c.getSql().contains(sql)).findFirst();
+			if (capture.isPresent()) {
+				return capture.get();
+			}
+			Thread.sleep(20);
+		}
+		throw new AssertionError("Comando não capturado: " + sql);
+	}
+}
@@ -0,0 +1,221 @@
+package com.devsuperior.dslist.services.invalidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dslist.DslistApplication;
+import com.devsuperior.dslist.dto.GameDTO;
+import com.devsuperior.dslist.dto.GameMinStream;
+import com.devsuperior.dslist.dto.ListChangeDTO;
+import com.devsuperior.dslist.services.GameIngestionService;
+import com.devsuperior.dslist.services.GameListService;
+import com.devsuperior.dslist.services.GameService;
+import com.devsuperior.dslist.services.ListChangeService;
+import com.devsuperior.dslist.services.VersionService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+class DatabaseInvalidationBusTests {
+
+	private static final int NODES = 3;
+	private static final long POLL_INTERVAL = 50;
+	private static final long GAP_TIMEOUT = POLL_INTERVAL * 4;
+	private static final ObjectMapper MAPPER = new ObjectMapper(); // Lê os IDs dos jogos escritos pelas leituras.
+
+	private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+	@TempDir
+	private Path cacheConfigs;
+
+	@BeforeEach
+	void startNodes() throws IOException {
+		for (int i = 0; i < NODES; i++) {
+			// Cada instância tem o seu próprio cache de segundo nível, como em máquinas separadas,
+			// identificado por um arquivo de configuração próprio com as mesmas regiões da aplicação.
+			Path cacheConfig = Files.writeString(cacheConfigs.resolve("node-" + i + ".conf"), "include classpath(\"application.conf\")\n");
+			// Os argumentos de linha de comando têm precedência sobre o application.properties.
+			nodes.add(new SpringApplicationBuilder(DslistApplication.class).run(
+					"--spring.main.web-application-type=none",
+					"--spring.jmx.enabled=false",
+					"--spring.datasource.url=jdbc:h2:mem:cluster",
+					// Somente a primeira instância cria o esquema e os dados iniciais.
+					"--spring.jpa.hibernate.ddl-auto=" + (i == 0 ? "create-drop" : "none"),
+					"--spring.jpa.properties.hibernate.javax.cache.uri=" + cacheConfig.toUri(),
+					"--dslist.invalidation.poll-interval=" + POLL_INTERVAL,
+					"--dslist.invalidation.gap-timeout=" + GAP_TIMEOUT));
+		}
+	}
+
+	@AfterEach
+	void stopNodes() {
+		Collections.reverse(nodes);
+		nodes.forEach(ConfigurableApplicationContext::close);
+	}
+
+	@Test
+	void moveOnOneNodeShouldInvalidateListOnOtherNodes() {
+		List<Long> before = ids(nodes.get(0).getBean(GameService.class).streamByGameList(2L));
+		List<String> etags = new ArrayList<>();
+		for (ConfigurableApplicationContext node : nodes) {
+			// Aquece o cache das leituras de cada instância.
+			node.getBean(GameService.class).streamByGameList(2L);
+			assertThat(ids(node.getBean(GameService.class).streamByGameList(2L))).isEqualTo(before);
+			etags.add(node.getBean(VersionService.class).listETag(2L));
+		}
+
+		nodes.get(0).getBean(GameListService.class).move(2L, 0, 1);
+		try {
+			List<Long> expected = new ArrayList<>(before);
+			Collections.swap(expected, 0, 1);
+			for (int i = 1; i < NODES; i++) {
+				ConfigurableApplicationContext node = nodes.get(i);
+				String etag = etags.get(i);
+				awaitWithinStalenessBound(() -> ids(node.getBean(GameService.class).streamByGameList(2L)).equals(expected)
+						&& !node.getBean(VersionService.class).listETag(2L).equals(etag));
+			}
+			// As versões vêm do banco de dados: todas as instâncias geram a mesma ETag, antes e depois da escrita.
+			assertThat(etags).containsOnly(etags.get(0));
+			for (ConfigurableApplicationContext node : nodes) {
+				assertThat(node.getBean(VersionService.class).listETag(2L)).isEqualTo(nodes.get(0).getBean(VersionService.class).listETag(2L));
+			}
+		}
+		finally {
+			nodes.get(0).getBean(GameListService.class).move(2L, 1, 0);
+		}
+	}
+
+	@Test
+	void changesFromOtherNodesShouldBeServedInSequenceOrder() {
+		ListChangeService changes = nodes.get(1).getBean(ListChangeService.class);
+		List<ListChangeDTO> existing = changes.findSince(2L, 0);
+		long since = existing.isEmpty() ? 0 : existing.get(existing.size() - 1).getSequence();
+
+		nodes.get(1).getBean(GameListService.class).move(2L, 0, 1);
+		nodes.get(0).getBean(GameListService.class).move(2L, 1, 0);
+		nodes.get(1).getBean(GameListService.class).move(2L, 0, 1);
+		try {
+			// A alteração da outra instância é lida com a lista bloqueada, antes da própria, sem esperar a invalidação.
+			List<Long> sequences = changes.findSince(2L, since).stream().map(ListChangeDTO::getSequence).toList();
+			assertThat(sequences).hasSize(3).isSorted();
+		}
+		finally {
+			nodes.get(1).getBean(GameListService.class).move(2L, 1, 0);
+		}
+	}
+
+	@Test
+	void invalidationCommittedAfterGapTimeoutShouldStillBeDelivered() throws Exception {
+		VersionService versions = nodes.get(2).getBean(VersionService.class);
+		MeterRegistry meterRegistry = nodes.get(2).getBean(MeterRegistry.class);
+		double gaps = meterRegistry.get("dslist.invalidation.gaps").counter().count();
+		CountDownLatch sent = new CountDownLatch(1);
+		CountDownLatch commit = new CountDownLatch(1);
+		TransactionTemplate transaction = new TransactionTemplate(nodes.get(0).getBean(PlatformTransactionManager.class));
+		// Uma transação lenta reserva uma sequência e só é confirmada depois do tempo limite da lacuna.
+		Thread slow = new Thread(() -> transaction.executeWithoutResult(status -> {
+			nodes.get(0).getBean(InvalidationBus.class).publish(Invalidation.list(3L));
+			sent.countDown();
+			try {
+				commit.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}));
+		slow.start();
+		try {
+			assertThat(sent.await(5, TimeUnit.SECONDS)).isTrue();
+			nodes.get(1).getBean(InvalidationBus.class).publish(Invalidation.list(1L));
+			// A outra instância abandona a lacuna e descarta todos os seus caches.
+			awaitWithinStalenessBound(() -> meterRegistry.get("dslist.invalidation.gaps").counter().count() > gaps);
+			String list = versions.listETag(3L);
+			commit.countDown();
+			slow.join();
+			awaitWithinStalenessBound(() -> !versions.listETag(3L).equals(list));
+		}
+		finally {
+			commit.countDown();
+			slow.join();
+		}
+	}
+
+	@Test
+	void catalogChangeOnOneNodeShouldEvictGamesOnOtherNodes() throws Exception {
+		ObjectMapper objectMapper = nodes.get(0).getBean(ObjectMapper.class);
+		GameDTO original = nodes.get(0).getBean(GameService.class).findById(1L);
+		for (ConfigurableApplicationContext node : nodes) {
+			// Coloca o jogo no cache de segundo nível de cada instância.
+			assertThat(node.getBean(GameService.class).findById(1L).getTitle()).isEqualTo(original.getTitle());
+		}
+
+		String renamed = objectMapper.writeValueAsString(original).replace(original.getTitle(), "Renamed");
+		ingest(objectMapper, renamed);
+		try {
+			for (int i = 1; i < NODES; i++) {
+				GameService gameService = nodes.get(i).getBean(GameService.class);
+				awaitWithinStalenessBound(() -> gameService.findById(1L).getTitle().equals("Renamed"));
+			}
+		}
+		finally {
+			ingest(objectMapper, objectMapper.writeValueAsString(original));
+		}
+	}
+
+	private void ingest(ObjectMapper objectMapper, String json) {
+		nodes.get(0).getBean(GameIngestionService.class).ingest(new ByteArrayInputStream(json.getBytes()));
+	}
+
+	/**
+	 * Aguarda a condição por até vinte intervalos de consulta, margem para a execução em máquinas lentas.
+	 */
+	private static void awaitWithinStalenessBound(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(POLL_INTERVAL * 20);
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).as("invalidação não recebida dentro do limite").isLessThan(deadline);
+			try {
+				Thread.sleep(10);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private static List<Long> ids(GameMinStream games) {
+		try {
+			TokenBuffer buffer = new TokenBuffer(MAPPER, false);
+			games.writeTo(buffer);
+			JsonNode tree = MAPPER.readTree(buffer.asParser());
+			List<Long> ids = new ArrayList<>();
+			tree.forEach(game -> ids.add(game.get("id").asLong()));
+			return ids;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
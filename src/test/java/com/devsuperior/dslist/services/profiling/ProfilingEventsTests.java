@@ -0,0 +1,79 @@
+package com.devsuperior.dslist.services.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.devsuperior.dslist.services.GameListService;
+import com.devsuperior.dslist.services.GameService;
+import com.devsuperior.dslist.services.invalidation.Invalidation;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@SpringBootTest(properties = "dslist.invalidation.bus=local")
+class ProfilingEventsTests {
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private GameListService gameListService;
+
+	@Test
+	void hotPathsShouldEmitEnabledEventsOnly() throws Exception {
+		List<RecordedEvent> events;
+		try (Recording recording = new Recording()) {
+			recording.enable("dslist.ListMove").withoutThreshold();
+			recording.enable("dslist.ListRead").withoutThreshold();
+			// dslist.GameScan fica desabilitado nesta gravação.
+			recording.disable("dslist.GameScan");
+			recording.start();
+			// As leituras em cache também emitem eventos; a invalidação garante que a lista seja lida do banco.
+			gameService.onInvalidation(Invalidation.list(1L));
+			gameService.streamByGameList(1L);
+			gameService.streamAll();
+			gameListService.move(2L, 0, 3);
+			gameListService.move(2L, 3, 0);
+			recording.stop();
+
+			Path file = Files.createTempFile("dslist", ".jfr");
+			try {
+				recording.dump(file);
+				events = RecordingFile.readAllEvents(file);
+			}
+			finally {
+				Files.delete(file);
+			}
+		}
+
+		List<RecordedEvent> reads = named(events, "dslist.ListRead");
+		assertThat(reads).hasSize(1);
+		assertThat(reads.get(0).getLong("listId")).isEqualTo(1L);
+		assertThat(reads.get(0).getInt("rows")).isEqualTo(5);
+
+		List<RecordedEvent> moves = named(events, "dslist.ListMove");
+		assertThat(moves).hasSize(2);
+		assertThat(moves.get(0).getLong("listId")).isEqualTo(2L);
+		assertThat(moves.get(0).getInt("sourceIndex")).isZero();
+		assertThat(moves.get(0).getInt("destinationIndex")).isEqualTo(3);
+		assertThat(moves.get(0).getInt("rows")).isEqualTo(4);
+		assertThat(moves.get(0).getDuration()).isPositive();
+
+		assertThat(named(events, "dslist.GameScan")).isEmpty();
+	}
+
+	private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+		return events.stream()
+				.filter(event -> event.getEventType().getName().equals(name))
+				.sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+				.toList();
+	}
+}